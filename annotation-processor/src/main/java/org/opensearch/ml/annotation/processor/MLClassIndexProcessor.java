@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes an index of the classes annotated with the ML Commons class mapping annotations, so the class loaders can
+ * load the mappings without scanning the classpath at startup.
+ * <p>
+ * The index has one resource per annotation, {@code META-INF/ml-commons/class-index/<annotation class name>}, listing
+ * the binary names of the annotated classes of the compiled module, one per line. The annotations are matched by
+ * name, so this processor doesn't depend on the modules it runs for.
+ */
+public class MLClassIndexProcessor extends AbstractProcessor {
+    // keep in sync with org.opensearch.ml.common.MLClassIndex
+    static final String INDEX_LOCATION = "META-INF/ml-commons/class-index/";
+
+    static final Set<String> ANNOTATIONS = Set
+        .of(
+            "org.opensearch.ml.common.annotation.Connector",
+            "org.opensearch.ml.common.annotation.ExecuteInput",
+            "org.opensearch.ml.common.annotation.ExecuteOutput",
+            "org.opensearch.ml.common.annotation.InputDataSet",
+            "org.opensearch.ml.common.annotation.MLAlgoOutput",
+            "org.opensearch.ml.common.annotation.MLAlgoParameter",
+            "org.opensearch.ml.common.annotation.MLInput",
+            "org.opensearch.ml.engine.annotation.ConnectorExecutor",
+            "org.opensearch.ml.engine.annotation.Function",
+            "org.opensearch.ml.engine.annotation.Ingester"
+        );
+
+    // annotation name -> annotated classes, collected over all rounds and written in the last one
+    private final Map<String, Set<String>> index = new HashMap<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return ANNOTATIONS;
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Set<String> classes = index.computeIfAbsent(annotation.getQualifiedName().toString(), name -> new TreeSet<>());
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind().isClass()) {
+                    classes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // other processors, like lombok, may still need the annotations
+        return false;
+    }
+
+    private void writeIndex() {
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+            try {
+                FileObject file = processingEnv
+                    .getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_LOCATION + entry.getKey());
+                try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                    for (String className : entry.getValue()) {
+                        writer.write(className);
+                        writer.write('\n');
+                    }
+                }
+            } catch (IOException e) {
+                processingEnv
+                    .getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Failed to write class index for " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MLClassIndexProcessorTests {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void process_WritesIndexPerAnnotation() throws IOException {
+        Path output = compile(
+            source(
+                "org.opensearch.ml.common.annotation.Connector",
+                "package org.opensearch.ml.common.annotation;\n"
+                    + "@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n"
+                    + "public @interface Connector { String value(); }"
+            ),
+            source(
+                "org.opensearch.ml.common.connector.TestConnector",
+                "package org.opensearch.ml.common.connector;\n"
+                    + "@org.opensearch.ml.common.annotation.Connector(\"test\")\n"
+                    + "public class TestConnector {\n"
+                    + "    @org.opensearch.ml.common.annotation.Connector(\"nested\") public static class Nested {}\n"
+                    + "}"
+            ),
+            source(
+                "org.opensearch.ml.common.connector.AnotherConnector",
+                "package org.opensearch.ml.common.connector;\n"
+                    + "@org.opensearch.ml.common.annotation.Connector(\"another\")\n"
+                    + "public class AnotherConnector {}"
+            )
+        );
+
+        Path index = output.resolve(MLClassIndexProcessor.INDEX_LOCATION + "org.opensearch.ml.common.annotation.Connector");
+        Assert.assertEquals(
+            List
+                .of(
+                    "org.opensearch.ml.common.connector.AnotherConnector",
+                    "org.opensearch.ml.common.connector.TestConnector",
+                    "org.opensearch.ml.common.connector.TestConnector$Nested"
+                ),
+            Files.readAllLines(index, StandardCharsets.UTF_8)
+        );
+        // no index for annotations the module doesn't use
+        Path functionIndex = output.resolve(MLClassIndexProcessor.INDEX_LOCATION + "org.opensearch.ml.engine.annotation.Function");
+        Assert.assertFalse(Files.exists(functionIndex));
+    }
+
+    private Path compile(JavaFileObject... sources) throws IOException {
+        File output = temporaryFolder.newFolder();
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            fileManager.setLocation(StandardLocation.CLASS_OUTPUT, List.of(output));
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, List.of("-proc:only"), null, List.of(sources));
+            task.setProcessors(List.of(new MLClassIndexProcessor()));
+            Assert.assertTrue(task.call());
+        }
+        return output.toPath();
+    }
+
+    private static JavaFileObject source(String className, String code) {
+        URI uri = URI.create("string:///" + className.replace('.', '/') + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return code;
+            }
+        };
+    }
+}
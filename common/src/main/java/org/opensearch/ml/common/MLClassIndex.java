@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.reflections.Reflections;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Lookup of the classes annotated with the class mapping annotations.
+ * <p>
+ * The index is written at compile time by the ml-commons annotation processor, one resource per annotation listing
+ * the annotated classes of each module. Without an index on the classpath, for example when the classes were
+ * compiled without the annotation processor, the package is scanned with {@link Reflections}.
+ */
+@Log4j2
+public class MLClassIndex {
+    // keep in sync with org.opensearch.ml.annotation.processor.MLClassIndexProcessor
+    static final String INDEX_LOCATION = "META-INF/ml-commons/class-index/";
+
+    /**
+     * Get the classes annotated with an annotation in a package.
+     * @param annotation the annotation
+     * @param packageName package of the annotated classes, including sub packages
+     * @param classLoader class loader of the annotated classes
+     * @return the annotated classes
+     */
+    public static Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName, ClassLoader classLoader) {
+        Set<String> classNames = readIndex(annotation, classLoader);
+        if (classNames == null) {
+            log.debug("No class index for {}, scanning package {}", annotation.getName(), packageName);
+            return new Reflections(packageName).getTypesAnnotatedWith(annotation);
+        }
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : classNames) {
+            if (!className.startsWith(packageName + ".")) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException e) {
+                throw new IllegalStateException("Can't load class " + className + " from the class index", e);
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * @return names of the indexed classes of all modules, or null if there is no index
+     */
+    static Set<String> readIndex(Class<? extends Annotation> annotation, ClassLoader classLoader) {
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION + annotation.getName());
+            if (!resources.hasMoreElements()) {
+                return null;
+            }
+            Set<String> classNames = new LinkedHashSet<>();
+            while (resources.hasMoreElements()) {
+                try (
+                    BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(resources.nextElement().openStream(), StandardCharsets.UTF_8)
+                    )
+                ) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty()) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+            return classNames;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the class index for " + annotation.getName(), e);
+        }
+    }
+}
@@ -6,13 +6,18 @@
 package org.opensearch.ml.common;
 
 import java.io.IOException;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.ml.common.annotation.Connector;
@@ -26,7 +31,6 @@ import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLOutputType;
-import org.reflections.Reflections;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -39,6 +43,8 @@ public class MLCommonsClassLoader {
     private static Map<Enum<?>, Class<?>> executeOutputClassMap = new HashMap<>();
     private static Map<Enum<?>, Class<?>> mlInputClassMap = new HashMap<>();
     private static Map<String, Class<?>> connectorClassMap = new HashMap<>();
+    // class and constructor parameter types -> constructor
+    private static final Map<List<Class<?>>, Constructor<?>> constructorCache = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -67,9 +73,12 @@ public class MLCommonsClassLoader {
         }
     }
 
+    private static Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName) {
+        return MLClassIndex.getTypesAnnotatedWith(annotation, packageName, MLCommonsClassLoader.class.getClassLoader());
+    }
+
     private static void loadConnectorClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.connector");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(Connector.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(Connector.class, "org.opensearch.ml.common.connector");
         for (Class<?> clazz : classes) {
             Connector connector = clazz.getAnnotation(Connector.class);
             if (connector != null) {
@@ -85,9 +94,7 @@ public class MLCommonsClassLoader {
      * Load ML algorithm parameter and ML output class.
      */
     private static void loadMLAlgoParameterClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.parameter");
-
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoParameter.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLAlgoParameter.class, "org.opensearch.ml.common.input.parameter");
         // Load ML algorithm parameter class
         for (Class<?> clazz : classes) {
             MLAlgoParameter mlAlgoParameter = clazz.getAnnotation(MLAlgoParameter.class);
@@ -102,7 +109,7 @@ public class MLCommonsClassLoader {
         }
 
         // Load ML output class
-        classes = reflections.getTypesAnnotatedWith(MLAlgoOutput.class);
+        classes = getTypesAnnotatedWith(MLAlgoOutput.class, "org.opensearch.ml.common.input.parameter");
         for (Class<?> clazz : classes) {
             MLAlgoOutput mlAlgoOutput = clazz.getAnnotation(MLAlgoOutput.class);
             MLOutputType mlOutputType = mlAlgoOutput.value();
@@ -116,9 +123,7 @@ public class MLCommonsClassLoader {
      * Load ML algorithm parameter and ML output class.
      */
     private static void loadMLOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output");
-
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoOutput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLAlgoOutput.class, "org.opensearch.ml.common.output");
         for (Class<?> clazz : classes) {
             MLAlgoOutput mlAlgoOutput = clazz.getAnnotation(MLAlgoOutput.class);
             if (mlAlgoOutput != null) {
@@ -134,8 +139,7 @@ public class MLCommonsClassLoader {
      * Load ML input data set class
      */
     private static void loadMLInputDataSetClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.dataset");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(InputDataSet.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(InputDataSet.class, "org.opensearch.ml.common.dataset");
         for (Class<?> clazz : classes) {
             InputDataSet inputDataSet = clazz.getAnnotation(InputDataSet.class);
             if (inputDataSet != null) {
@@ -151,8 +155,7 @@ public class MLCommonsClassLoader {
      * Load execute input output class.
      */
     private static void loadExecuteInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.execute");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteInput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(ExecuteInput.class, "org.opensearch.ml.common.input.execute");
         for (Class<?> clazz : classes) {
             ExecuteInput executeInput = clazz.getAnnotation(ExecuteInput.class);
             if (executeInput != null) {
@@ -170,8 +173,7 @@ public class MLCommonsClassLoader {
      * Load execute input output class.
      */
     private static void loadExecuteOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output.execute");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteOutput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(ExecuteOutput.class, "org.opensearch.ml.common.output.execute");
         for (Class<?> clazz : classes) {
             ExecuteOutput executeOutput = clazz.getAnnotation(ExecuteOutput.class);
             if (executeOutput != null) {
@@ -186,8 +188,7 @@ public class MLCommonsClassLoader {
     }
 
     private static void loadMLInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLInput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLInput.class, "org.opensearch.ml.common.input");
         for (Class<?> clazz : classes) {
             MLInput mlInput = clazz.getAnnotation(MLInput.class);
             if (mlInput != null) {
@@ -238,7 +239,7 @@ public class MLCommonsClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParamClass);
+            Constructor<?> constructor = getConstructor(clazz, constructorParamClass);
             return (S) constructor.newInstance(in);
         } catch (Exception e) {
             Throwable cause = e.getCause();
@@ -270,7 +271,7 @@ public class MLCommonsClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParameterTypes);
+            Constructor<?> constructor = getConstructor(clazz, constructorParameterTypes);
             return (S) constructor.newInstance(initArgs);
         } catch (Exception e) {
             Throwable cause = e.getCause();
@@ -284,4 +285,16 @@ public class MLCommonsClassLoader {
             }
         }
     }
+
+    private static Constructor<?> getConstructor(Class<?> clazz, Class<?>... parameterTypes) throws NoSuchMethodException {
+        List<Class<?>> key = new ArrayList<>(parameterTypes.length + 1);
+        key.add(clazz);
+        key.addAll(Arrays.asList(parameterTypes));
+        Constructor<?> constructor = constructorCache.get(key);
+        if (constructor == null) {
+            constructor = clazz.getConstructor(parameterTypes);
+            constructorCache.put(key, constructor);
+        }
+        return constructor;
+    }
 }
@@ -43,6 +43,8 @@ public class ConnectorAction implements ToXContentObject, Writeable {
     private String requestBody;
     private String preProcessFunction;
     private String postProcessFunction;
+    @EqualsAndHashCode.Exclude
+    private transient volatile ConnectorRequestTemplate requestTemplate;
 
     @Builder(toBuilder = true)
     public ConnectorAction(
@@ -127,6 +129,22 @@ public class ConnectorAction implements ToXContentObject, Writeable {
         return builder.endObject();
     }
 
+    /**
+     * Get the request body compiled into a template. The template is compiled on first use and reused afterwards.
+     * @return request body template, null if this action has no request body
+     */
+    public ConnectorRequestTemplate getRequestTemplate() {
+        if (requestBody == null) {
+            return null;
+        }
+        ConnectorRequestTemplate template = requestTemplate;
+        if (template == null) {
+            template = new ConnectorRequestTemplate(requestBody);
+            requestTemplate = template;
+        }
+        return template;
+    }
+
     public static ConnectorAction fromStream(StreamInput in) throws IOException {
         ConnectorAction action = new ConnectorAction(in);
         return action;
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.apache.commons.text.StringSubstitutor;
+
+import lombok.Getter;
+
+/**
+ * Connector request body compiled into literal text and parameter slots, so a payload is rendered with one pass
+ * over the slots instead of scanning the whole request body with regular expressions on every request.
+ * <p>
+ * Rendering gives the same payload as replacing the quoted {@code "${parameters.xxx:-null}"} placeholders of missing
+ * parameters with {@code null} and then substituting the request body with a {@link StringSubstitutor} using the
+ * {@code ${parameters.} prefix. Parameter values which contain placeholders themselves are still substituted
+ * recursively. Request bodies using escaped placeholders or placeholders nested in placeholders are not compiled,
+ * {@link #isCompiled()} is false and the caller should substitute the request body as before.
+ */
+public class ConnectorRequestTemplate {
+    static final String PARAMETER_PREFIX = "${parameters.";
+    static final String PARAMETER_SUFFIX = "}";
+    static final String DEFAULT_VALUE_DELIMITER = ":-";
+    static final String NULL_VALUE = "null";
+    private static final Pattern NULLABLE_PARAMETER_NAME = Pattern.compile("\\w+");
+
+    @Getter
+    private final String requestBody;
+    @Getter
+    private final boolean compiled;
+    private final List<Slot> slots = new ArrayList<>();
+    // literal text after the last slot
+    private String tail;
+
+    private static class Slot {
+        // literal text before this slot
+        private final String prefix;
+        private final String placeholder;
+        private final String name;
+        private final String defaultValue;
+        // "${parameters.xxx:-null}" in double quotes, rendered as null without quotes if the parameter is missing
+        private final boolean quotedNullable;
+
+        Slot(String prefix, String placeholder, String name, String defaultValue, boolean quotedNullable) {
+            this.prefix = prefix;
+            this.placeholder = placeholder;
+            this.name = name;
+            this.defaultValue = defaultValue;
+            this.quotedNullable = quotedNullable;
+        }
+    }
+
+    public ConnectorRequestTemplate(String requestBody) {
+        this.requestBody = requestBody;
+        this.compiled = compile(requestBody);
+    }
+
+    private boolean compile(String body) {
+        if (body.contains("$" + PARAMETER_PREFIX)) {
+            return false;
+        }
+        int start = 0;
+        int literalStart = 0;
+        boolean previousSlotQuoted = false;
+        while ((start = body.indexOf(PARAMETER_PREFIX, start)) >= 0) {
+            int end = body.indexOf(PARAMETER_SUFFIX, start + PARAMETER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            String variable = body.substring(start + PARAMETER_PREFIX.length(), end);
+            if (variable.contains(PARAMETER_PREFIX)) {
+                return false;
+            }
+            String name = variable;
+            String defaultValue = null;
+            int delimiterIndex = variable.indexOf(DEFAULT_VALUE_DELIMITER);
+            if (delimiterIndex >= 0) {
+                name = variable.substring(0, delimiterIndex);
+                defaultValue = variable.substring(delimiterIndex + DEFAULT_VALUE_DELIMITER.length());
+            }
+            int slotStart = start;
+            int slotEnd = end + PARAMETER_SUFFIX.length();
+            boolean quotedNullable = NULL_VALUE.equals(defaultValue)
+                && NULLABLE_PARAMETER_NAME.matcher(name).matches()
+                && start > literalStart
+                && body.charAt(start - 1) == '"'
+                && slotEnd < body.length()
+                && body.charAt(slotEnd) == '"'
+                && !(start - 1 == literalStart && previousSlotQuoted);
+            if (quotedNullable) {
+                slotStart--;
+                slotEnd++;
+            }
+            slots.add(new Slot(body.substring(literalStart, slotStart), body.substring(slotStart, slotEnd), name, defaultValue, quotedNullable));
+            previousSlotQuoted = quotedNullable;
+            literalStart = slotEnd;
+            start = slotEnd;
+        }
+        tail = body.substring(literalStart);
+        return true;
+    }
+
+    /**
+     * Render the payload with the given parameters.
+     * @param parameters parameters to fill in the request body, can be null
+     * @return payload
+     */
+    public String render(Map<String, String> parameters) {
+        if (!compiled) {
+            throw new IllegalStateException("Request body is not compiled");
+        }
+        StringBuilder payload = new StringBuilder(requestBody.length() + 64);
+        StringSubstitutor substitutor = null;
+        for (Slot slot : slots) {
+            payload.append(slot.prefix);
+            String value = parameters == null ? null : parameters.get(slot.name);
+            if (value == null && slot.quotedNullable) {
+                payload.append(NULL_VALUE);
+                continue;
+            }
+            if (value == null) {
+                value = slot.defaultValue;
+            }
+            if (value == null) {
+                // leave the placeholder as it is, same as StringSubstitutor does for an unknown variable
+                payload.append(slot.placeholder);
+                continue;
+            }
+            if (value.contains(PARAMETER_PREFIX)) {
+                if (substitutor == null) {
+                    substitutor = new StringSubstitutor(parameters, PARAMETER_PREFIX, PARAMETER_SUFFIX);
+                }
+                value = substitutor.replace(value);
+            }
+            if (slot.quotedNullable) {
+                payload.append('"').append(value).append('"');
+            } else {
+                payload.append(value);
+            }
+        }
+        payload.append(tail);
+        return payload.toString();
+    }
+}
@@ -48,6 +48,7 @@ public class HttpConnector extends AbstractConnector {
     public static final String PARAMETERS_FIELD = "parameters";
     public static final String SERVICE_NAME_FIELD = "service_name";
     public static final String REGION_FIELD = "region";
+    private static final Pattern NULL_DEFAULT_PARAMETER_PATTERN = Pattern.compile("\"\\$\\{parameters\\.(\\w+):-null}\"");
 
     // TODO: add RequestConfig like request time out,
 
@@ -321,11 +322,16 @@ public class HttpConnector extends AbstractConnector {
     public <T> T createPayload(String action, Map<String, String> parameters) {
         Optional<ConnectorAction> connectorAction = findAction(action);
         if (connectorAction.isPresent() && connectorAction.get().getRequestBody() != null) {
-            String payload = connectorAction.get().getRequestBody();
-            payload = fillNullParameters(parameters, payload);
+            ConnectorRequestTemplate template = connectorAction.get().getRequestTemplate();
             parseParameters(parameters);
-            StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
-            payload = substitutor.replace(payload);
+            String payload;
+            if (template.isCompiled()) {
+                payload = template.render(parameters);
+            } else {
+                payload = fillNullParameters(parameters, template.getRequestBody());
+                StringSubstitutor substitutor = new StringSubstitutor(parameters, "${parameters.", "}");
+                payload = substitutor.replace(payload);
+            }
 
             if (!isJson(payload)) {
                 throw new IllegalArgumentException("Invalid payload: " + payload);
@@ -347,9 +353,7 @@ public class HttpConnector extends AbstractConnector {
     }
 
     private List<String> findStringParametersWithNullDefaultValue(String input) {
-        String regex = "\"\\$\\{parameters\\.(\\w+):-null}\"";
-        Pattern pattern = Pattern.compile(regex);
-        Matcher matcher = pattern.matcher(input);
+        Matcher matcher = NULL_DEFAULT_PARAMETER_PATTERN.matcher(input);
 
         List<String> paramList = new ArrayList<>();
         while (matcher.find()) {
@@ -6,6 +6,7 @@
 package org.opensearch.ml.common.model;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.opensearch.commons.ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT;
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.CommonValue.stopWordsIndices;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
@@ -18,16 +19,22 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
 import org.opensearch.action.LatchedActionListener;
+import org.opensearch.action.admin.indices.get.GetIndexRequest;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
@@ -37,8 +44,11 @@ import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.search.SearchHit;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -51,11 +61,24 @@ import lombok.extern.log4j.Log4j2;
 public class LocalRegexGuardrail extends Guardrail {
     public static final String STOP_WORDS_FIELD = "stop_words";
     public static final String REGEX_FIELD = "regex";
+    // stop words indices are reloaded in the background once they are older than this
+    static final long STOP_WORDS_RELOAD_INTERVAL_MILLIS = 60_000;
+    // bigger stop words indices are percolated
+    static final int MAX_STOP_WORDS_QUERIES = 10_000;
+    private static final String PERCOLATOR_QUERY_FIELD = "query";
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(?:[1-9]|k<)");
 
     private List<StopWords> stopWords;
     private String[] regex;
     private List<Pattern> regexPattern;
+    // all regexes in one alternation, null if they can't be combined
+    @EqualsAndHashCode.Exclude
+    private Pattern combinedRegexPattern;
     private Map<String, List<String>> stopWordsIndicesInput;
+    // keyed by index, and by user for the indices read with the permissions of the user
+    @EqualsAndHashCode.Exclude
+    @Getter(AccessLevel.NONE)
+    private final Map<String, LoadedStopWords> loadedStopWords = new ConcurrentHashMap<>();
     private NamedXContentRegistry xContentRegistry;
     private Client client;
 
@@ -105,7 +128,10 @@ public class LocalRegexGuardrail extends Guardrail {
 
     @Override
     public Boolean validate(String input, Map<String, String> parameters) {
-        return validateRegexList(input, regexPattern) && validateStopWords(input, stopWordsIndicesInput);
+        Boolean validRegex = combinedRegexPattern == null
+            ? validateRegexList(input, regexPattern)
+            : validateRegex(input, combinedRegexPattern);
+        return validRegex && validateStopWords(input, stopWordsIndicesInput);
     }
 
     @Override
@@ -160,6 +186,26 @@ public class LocalRegexGuardrail extends Guardrail {
         stopWordsIndicesInput = stopWordsToMap();
         List<String> regexList = regex == null ? new ArrayList<>() : Arrays.asList(regex);
         regexPattern = regexList.stream().map(reg -> Pattern.compile(reg)).collect(Collectors.toList());
+        combinedRegexPattern = combineRegex(regexList);
+    }
+
+    /**
+     * Combine the regexes into one alternation, so the input is matched once instead of once per regex.
+     * @param regexList regexes to combine
+     * @return the combined pattern, null if there is nothing to combine or the regexes use back references, whose
+     * group numbers would change
+     */
+    static Pattern combineRegex(List<String> regexList) {
+        if (regexList.size() < 2 || regexList.stream().anyMatch(reg -> BACK_REFERENCE.matcher(reg).find())) {
+            return null;
+        }
+        try {
+            return Pattern.compile(regexList.stream().map(reg -> "(?:" + reg + ")").collect(Collectors.joining("|")));
+        } catch (PatternSyntaxException e) {
+            // e.g. the same group name in two regexes
+            log.debug("Failed to combine regex list, matching them one by one", e);
+            return null;
+        }
     }
 
     private Map<String, List<String>> stopWordsToMap() {
@@ -211,6 +257,18 @@ public class LocalRegexGuardrail extends Guardrail {
      * @return true if no stop words matching, otherwise false.
      */
     public Boolean validateStopWordsSingleIndex(String input, String indexName, List<String> fieldNames) {
+        LoadedStopWords loaded = loadedStopWords.computeIfAbsent(loadedStopWordsKey(indexName), key -> new LoadedStopWords());
+        if (loaded.isStale()) {
+            loadStopWords(indexName, fieldNames, loaded);
+        }
+        StopWordsMatcher matcher = loaded.matcher;
+        if (matcher != null) {
+            return !matcher.matches(input);
+        }
+        return percolateStopWords(input, indexName, fieldNames);
+    }
+
+    private Boolean percolateStopWords(String input, String indexName, List<String> fieldNames) {
         SearchRequest searchRequest;
         AtomicBoolean hitStopWords = new AtomicBoolean(false);
         String queryBody;
@@ -271,7 +329,118 @@ public class LocalRegexGuardrail extends Guardrail {
         return hitStopWords.get();
     }
 
+    /**
+     * Load the percolator queries of a stop words index in the background, inputs are percolated until they are loaded.
+     * The queries are only loaded if the mapping of the source fields lets the matcher reproduce the percolation.
+     */
+    private void loadStopWords(String indexName, List<String> fieldNames, LoadedStopWords loaded) {
+        if (!loaded.loading.compareAndSet(false, true)) {
+            return;
+        }
+        Consumer<Exception> onFailure = e -> {
+            log.warn("Failed to load stop words index {}, percolating inputs", indexName, e);
+            loaded.loaded(null);
+        };
+        try {
+            ActionListener<GetIndexResponse> getIndexListener = ActionListener.wrap(r -> {
+                if (!supportsStopWordsMatcher(r, fieldNames)) {
+                    log.debug("Fields {} of stop words index {} are not default analyzed text, percolating inputs", fieldNames, indexName);
+                    loaded.loaded(null);
+                    return;
+                }
+                SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+                    .query(QueryBuilders.matchAllQuery())
+                    .size(MAX_STOP_WORDS_QUERIES)
+                    .fetchSource(PERCOLATOR_QUERY_FIELD, null);
+                SearchRequest searchRequest = new SearchRequest().source(searchSourceBuilder).indices(indexName);
+                executeOnStopWordsIndex(
+                    indexName,
+                    ActionListener.<SearchResponse>wrap(response -> loaded.loaded(buildStopWordsMatcher(response, fieldNames)), onFailure),
+                    listener -> client.search(searchRequest, listener)
+                );
+            }, onFailure);
+            executeOnStopWordsIndex(
+                indexName,
+                getIndexListener,
+                listener -> client.admin().indices().getIndex(new GetIndexRequest().indices(indexName), listener)
+            );
+        } catch (Exception e) {
+            onFailure.accept(e);
+        }
+    }
+
+    private <T> void executeOnStopWordsIndex(String indexName, ActionListener<T> listener, Consumer<ActionListener<T>> action) {
+        if (isStopWordsSystemIndex(indexName)) {
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                action.accept(ActionListener.runBefore(listener, context::restore));
+            }
+        } else {
+            action.accept(listener);
+        }
+    }
+
+    private boolean supportsStopWordsMatcher(GetIndexResponse response, List<String> fieldNames) {
+        if (response == null || response.indices().length == 0) {
+            return false;
+        }
+        // the index name can be an alias or a pattern, all the indices have to be mapped the same way
+        for (String index : response.indices()) {
+            MappingMetadata mapping = response.mappings().get(index);
+            if (mapping == null || !StopWordsMatcher.supportsFields(mapping.sourceAsMap(), response.settings().get(index), fieldNames)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private StopWordsMatcher buildStopWordsMatcher(SearchResponse response, List<String> fieldNames) {
+        if (response == null || response.getHits() == null) {
+            return null;
+        }
+        SearchHit[] hits = response.getHits().getHits();
+        if (response.getHits().getTotalHits() == null || response.getHits().getTotalHits().value > hits.length) {
+            return null;
+        }
+        List<Map<String, Object>> queries = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Object query = hit.getSourceAsMap() == null ? null : hit.getSourceAsMap().get(PERCOLATOR_QUERY_FIELD);
+            if (!(query instanceof Map)) {
+                return null;
+            }
+            queries.add((Map<String, Object>) query);
+        }
+        return StopWordsMatcher.build(queries, fieldNames);
+    }
+
+    private String loadedStopWordsKey(String indexName) {
+        if (isStopWordsSystemIndex(indexName)) {
+            // read with the context of the plugin, the same stop words for every user
+            return indexName;
+        }
+        // read with the permissions of the user, like the percolation, a user must not match the stop words another
+        // user loaded
+        String userInfo = client.threadPool().getThreadContext().getTransient(OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        return userInfo == null ? indexName : indexName + "|" + userInfo;
+    }
+
     private boolean isStopWordsSystemIndex(String index) {
         return stopWordsIndices.contains(index);
     }
+
+    private static class LoadedStopWords {
+        // null until loaded, or if the index has queries the matcher doesn't support
+        private volatile StopWordsMatcher matcher;
+        private volatile long loadedAtMillis = -1;
+        private final AtomicBoolean loading = new AtomicBoolean();
+
+        private boolean isStale() {
+            return loadedAtMillis < 0 || System.currentTimeMillis() - loadedAtMillis > STOP_WORDS_RELOAD_INTERVAL_MILLIS;
+        }
+
+        private void loaded(StopWordsMatcher matcher) {
+            this.matcher = matcher;
+            this.loadedAtMillis = System.currentTimeMillis();
+            this.loading.set(false);
+        }
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharArraySet;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.opensearch.common.settings.Settings;
+
+/**
+ * In memory matcher for the percolator queries of a stop words index.
+ * <p>
+ * Stop words are percolator queries matching phrases in the source fields: match_phrase, match, term and query_string
+ * queries of the form {@code field: "phrase"}. The phrases are analyzed like text fields with the default standard
+ * analyzer and matched against the analyzed input with an Aho-Corasick automaton over tokens, so checking an input
+ * takes one pass over its tokens regardless of the number of stop words. The matcher only reproduces the percolation
+ * when the source fields are mapped that way, see {@link #supportsFields}, other indices are percolated.
+ */
+class StopWordsMatcher {
+    private static final Analyzer ANALYZER = new StandardAnalyzer(CharArraySet.EMPTY_SET);
+    private static final String[] ANALYZER_FIELDS = new String[] { "analyzer", "search_analyzer", "search_quote_analyzer" };
+    private static final String[] DEFAULT_ANALYZER_SETTINGS = new String[] {
+        "index.analysis.analyzer.default.",
+        "index.analysis.analyzer.default_search.",
+        "index.analysis.analyzer.default_search_quoted." };
+    private static final Pattern QUERY_STRING_PHRASE = Pattern.compile("^\\s*([\\w.\\-]+)\\s*:\\s*\"([^\"\\\\]*)\"\\s*$");
+
+    private final Node root = new Node();
+
+    private StopWordsMatcher(Collection<List<String>> phrases) {
+        for (List<String> phrase : phrases) {
+            Node node = root;
+            for (String token : phrase) {
+                node = node.children.computeIfAbsent(token, t -> new Node());
+            }
+            node.terminal = true;
+        }
+        // breadth first, so the failure link of a node's parent is set before the node's
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children.values()) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (Map.Entry<String, Node> entry : node.children.entrySet()) {
+                Node child = entry.getValue();
+                Node fail = node.fail;
+                while (fail != root && !fail.children.containsKey(entry.getKey())) {
+                    fail = fail.fail;
+                }
+                child.fail = fail.children.getOrDefault(entry.getKey(), root);
+                child.terminal |= child.fail.terminal;
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * Build a matcher from the percolator queries of a stop words index.
+     * @param queries percolator queries
+     * @param fields fields the input is percolated as
+     * @return the matcher, or null if a query isn't supported and the index has to be percolated
+     */
+    static StopWordsMatcher build(List<Map<String, Object>> queries, Collection<String> fields) {
+        List<List<String>> phrases = new ArrayList<>();
+        for (Map<String, Object> query : queries) {
+            if (!addPhrases(query, fields, phrases)) {
+                return null;
+            }
+        }
+        return new StopWordsMatcher(phrases);
+    }
+
+    /**
+     * Check if the input is percolated as text analyzed with the standard analyzer in all the source fields, so the
+     * matcher finds the same stop words as the percolation. Keyword fields, for example, match the whole input.
+     * @param mapping mapping source of the stop words index
+     * @param indexSettings settings of the stop words index
+     * @param fields fields the input is percolated as
+     * @return true if the matcher can be used for the index
+     */
+    static boolean supportsFields(Map<String, Object> mapping, Settings indexSettings, Collection<String> fields) {
+        if (mapping == null || indexSettings == null) {
+            return false;
+        }
+        for (String prefix : DEFAULT_ANALYZER_SETTINGS) {
+            if (!indexSettings.getByPrefix(prefix).isEmpty()) {
+                return false;
+            }
+        }
+        for (String field : fields) {
+            Map<?, ?> fieldMapping = getFieldMapping(mapping, field);
+            if (fieldMapping == null || !"text".equals(fieldMapping.get("type"))) {
+                return false;
+            }
+            for (String analyzerField : ANALYZER_FIELDS) {
+                Object analyzer = fieldMapping.get(analyzerField);
+                if (analyzer != null && !"standard".equals(analyzer)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static Map<?, ?> getFieldMapping(Map<?, ?> mapping, String field) {
+        // object properties and multi-fields, e.g. title.keyword
+        for (String children : new String[] { "properties", "fields" }) {
+            if (!(mapping.get(children) instanceof Map)) {
+                continue;
+            }
+            Map<?, ?> childMappings = (Map<?, ?>) mapping.get(children);
+            if (childMappings.get(field) instanceof Map) {
+                return (Map<?, ?>) childMappings.get(field);
+            }
+            int dot = field.indexOf('.');
+            while (dot > 0) {
+                Object childMapping = childMappings.get(field.substring(0, dot));
+                if (childMapping instanceof Map) {
+                    Map<?, ?> fieldMapping = getFieldMapping((Map<?, ?>) childMapping, field.substring(dot + 1));
+                    if (fieldMapping != null) {
+                        return fieldMapping;
+                    }
+                }
+                dot = field.indexOf('.', dot + 1);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param input the input to validate
+     * @return true if the input matches a stop words query
+     */
+    boolean matches(String input) {
+        Node node = root;
+        for (String token : tokenize(input)) {
+            while (node != root && !node.children.containsKey(token)) {
+                node = node.fail;
+            }
+            node = node.children.getOrDefault(token, root);
+            if (node.terminal) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean addPhrases(Map<String, Object> query, Collection<String> fields, List<List<String>> phrases) {
+        if (query == null || query.size() != 1) {
+            return false;
+        }
+        Map.Entry<String, Object> entry = query.entrySet().iterator().next();
+        if ("query_string".equals(entry.getKey())) {
+            if (!(entry.getValue() instanceof Map) || ((Map<?, ?>) entry.getValue()).size() != 1) {
+                return false;
+            }
+            Object queryString = ((Map<?, ?>) entry.getValue()).get("query");
+            Matcher matcher = queryString instanceof String ? QUERY_STRING_PHRASE.matcher((String) queryString) : null;
+            if (matcher == null || !matcher.matches()) {
+                return false;
+            }
+            addPhrase(fields, matcher.group(1), tokenize(matcher.group(2)), phrases);
+            return true;
+        }
+        if (!(entry.getValue() instanceof Map) || ((Map<?, ?>) entry.getValue()).size() != 1) {
+            return false;
+        }
+        Map.Entry<?, ?> fieldQuery = ((Map<?, ?>) entry.getValue()).entrySet().iterator().next();
+        String field = (String) fieldQuery.getKey();
+        Object value = fieldQuery.getValue();
+        String valueKey = "term".equals(entry.getKey()) ? "value" : "query";
+        if (value instanceof Map) {
+            // only the plain form, options like slop, operator or analyzer change what matches
+            if (((Map<?, ?>) value).size() != 1 || !((Map<?, ?>) value).containsKey(valueKey)) {
+                return false;
+            }
+            value = ((Map<?, ?>) value).get(valueKey);
+        }
+        if (!(value instanceof String)) {
+            return false;
+        }
+        switch (entry.getKey()) {
+            case "match_phrase":
+                addPhrase(fields, field, tokenize((String) value), phrases);
+                return true;
+            case "match":
+                // any of the terms matches
+                for (String token : tokenize((String) value)) {
+                    addPhrase(fields, field, List.of(token), phrases);
+                }
+                return true;
+            case "term":
+                // terms are not analyzed
+                addPhrase(fields, field, List.of((String) value), phrases);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void addPhrase(Collection<String> fields, String field, List<String> phrase, List<List<String>> phrases) {
+        // queries on other fields or without terms never match the percolated input
+        if (fields.contains(field) && !phrase.isEmpty()) {
+            phrases.add(phrase);
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        try (TokenStream stream = ANALYZER.tokenStream("", text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new HashMap<>();
+        private Node fail;
+        private boolean terminal;
+    }
+}
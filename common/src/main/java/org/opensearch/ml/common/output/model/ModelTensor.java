@@ -28,6 +28,8 @@ import org.opensearch.core.xcontent.XContentParser;
 
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 public class ModelTensor implements Writeable, ToXContentObject {
@@ -43,28 +45,50 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
 
     private String name;
-    private Number[] data;
+    private Number[] data;// boxed view, materialized from floatData/intData on first access
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private float[] floatData;// primitive storage of floating data
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private int[] intData;// primitive storage of integer and boolean data
     private long[] shape;
     private MLResultDataType dataType;
     private ByteBuffer byteBuffer;// whole result in bytes
     private String result;// whole result in string
     private Map<String, ?> dataAsMap;// whole result in Map
 
+    public ModelTensor(
+        String name,
+        Number[] data,
+        long[] shape,
+        MLResultDataType dataType,
+        ByteBuffer byteBuffer,
+        String result,
+        Map<String, ?> dataAsMap
+    ) {
+        this(name, data, null, null, shape, dataType, byteBuffer, result, dataAsMap);
+    }
+
     @Builder
     public ModelTensor(
         String name,
         Number[] data,
+        float[] floatData,
+        int[] intData,
         long[] shape,
         MLResultDataType dataType,
         ByteBuffer byteBuffer,
         String result,
         Map<String, ?> dataAsMap
     ) {
-        if (data != null && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
+        if ((data != null || floatData != null || intData != null) && (dataType == null || dataType == MLResultDataType.UNKNOWN)) {
             throw new IllegalArgumentException("data type is null");
         }
         this.name = name;
         this.data = data;
+        this.floatData = floatData;
+        this.intData = intData;
         this.shape = shape;
         this.dataType = dataType;
         this.byteBuffer = byteBuffer;
@@ -77,6 +101,48 @@ public class ModelTensor implements Writeable, ToXContentObject {
         this.result = result;
     }
 
+    /**
+     * Returns the tensor data as boxed numbers. Tensors created from primitive arrays, including every tensor read
+     * from a stream, box their values on the first call only.
+     * @return tensor data, or null if the tensor has no data
+     */
+    public Number[] getData() {
+        if (data == null) {
+            if (floatData != null) {
+                Number[] boxed = new Number[floatData.length];
+                for (int i = 0; i < floatData.length; i++) {
+                    boxed[i] = floatData[i];
+                }
+                data = boxed;
+            } else if (intData != null) {
+                Number[] boxed = new Number[intData.length];
+                for (int i = 0; i < intData.length; i++) {
+                    boxed[i] = intData[i];
+                }
+                data = boxed;
+            }
+        }
+        return data;
+    }
+
+    public void setData(Number[] data) {
+        this.data = data;
+        this.floatData = null;
+        this.intData = null;
+    }
+
+    public void setFloatData(float[] floatData) {
+        this.data = null;
+        this.floatData = floatData;
+        this.intData = null;
+    }
+
+    public void setIntData(int[] intData) {
+        this.data = null;
+        this.floatData = null;
+        this.intData = intData;
+    }
+
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
         builder.startObject();
@@ -89,7 +155,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
         if (shape != null) {
             builder.field(SHAPE_FIELD, shape);
         }
-        if (data != null) {
+        if (floatData != null) {
+            builder.field(DATA_FIELD, floatData);
+        } else if (intData != null) {
+            builder.field(DATA_FIELD, intData);
+        } else if (data != null) {
             builder.field(DATA_FIELD, data);
         }
         if (byteBuffer != null) {
@@ -202,17 +272,16 @@ public class ModelTensor implements Writeable, ToXContentObject {
         }
         if (in.readBoolean()) {
             int size = in.readInt();
-            data = new Number[size];
             if (dataType.isFloating()) {
+                floatData = new float[size];
                 for (int i = 0; i < size; i++) {
-                    data[i] = in.readFloat();
+                    floatData[i] = in.readFloat();
                 }
             } else if (dataType.isInteger() || dataType.isBoolean()) {
+                intData = new int[size];
                 for (int i = 0; i < size; i++) {
-                    data[i] = in.readInt();
+                    intData[i] = in.readInt();
                 }
-            } else {
-                data = null;
             }
         }
         if (in.readBoolean()) {
@@ -252,7 +321,31 @@ public class ModelTensor implements Writeable, ToXContentObject {
         } else {
             out.writeBoolean(false);
         }
-        if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+        if (floatData != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+            out.writeBoolean(true);
+            out.writeInt(floatData.length);
+            if (dataType.isFloating()) {
+                for (float f : floatData) {
+                    out.writeFloat(f);
+                }
+            } else if (dataType.isInteger() || dataType.isBoolean()) {
+                for (float f : floatData) {
+                    out.writeInt((int) f);
+                }
+            }
+        } else if (intData != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
+            out.writeBoolean(true);
+            out.writeInt(intData.length);
+            if (dataType.isFloating()) {
+                for (int i : intData) {
+                    out.writeFloat(i);
+                }
+            } else if (dataType.isInteger() || dataType.isBoolean()) {
+                for (int i : intData) {
+                    out.writeInt(i);
+                }
+            }
+        } else if (data != null && dataType != null && dataType != MLResultDataType.UNKNOWN) {
             out.writeBoolean(true);
             out.writeInt(data.length);
             if (dataType.isFloating()) {
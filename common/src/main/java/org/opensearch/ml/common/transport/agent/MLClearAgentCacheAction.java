@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.agent;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
+
+/**
+ * Invalidates an agent in the agent cache of every node, once it is deleted.
+ */
+public class MLClearAgentCacheAction extends ActionType<MLClearCacheNodesResponse> {
+    public static final MLClearAgentCacheAction INSTANCE = new MLClearAgentCacheAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/agents/clear_cache";
+
+    private MLClearAgentCacheAction() {
+        super(NAME, MLClearCacheNodesResponse::new);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.clear_cache;
+
+import java.io.IOException;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.transport.TransportRequest;
+
+import lombok.Getter;
+
+public class MLClearCacheNodeRequest extends TransportRequest {
+    @Getter
+    private MLClearCacheNodesRequest clearCacheNodesRequest;
+
+    public MLClearCacheNodeRequest(StreamInput in) throws IOException {
+        super(in);
+        this.clearCacheNodesRequest = new MLClearCacheNodesRequest(in);
+    }
+
+    public MLClearCacheNodeRequest(MLClearCacheNodesRequest request) {
+        this.clearCacheNodesRequest = request;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        clearCacheNodesRequest.writeTo(out);
+    }
+}
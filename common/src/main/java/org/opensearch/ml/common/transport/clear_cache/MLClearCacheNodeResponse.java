@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.clear_cache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+public class MLClearCacheNodeResponse extends BaseNodeResponse {
+
+    public MLClearCacheNodeResponse(DiscoveryNode node) {
+        super(node);
+    }
+
+    public MLClearCacheNodeResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.clear_cache;
+
+import java.io.IOException;
+
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import lombok.Getter;
+
+/**
+ * Clears entries from a per-node cache, by the ids they are cached under.
+ */
+public class MLClearCacheNodesRequest extends BaseNodesRequest<MLClearCacheNodesRequest> {
+
+    @Getter
+    private String[] ids;
+
+    public MLClearCacheNodesRequest(StreamInput in) throws IOException {
+        super(in);
+        this.ids = in.readOptionalStringArray();
+    }
+
+    /**
+     * @param nodeIds ids of the nodes to clear the cache of, all nodes if empty
+     * @param ids ids of the cached entries, all entries if null or empty
+     */
+    public MLClearCacheNodesRequest(String[] nodeIds, String[] ids) {
+        super(nodeIds);
+        this.ids = ids;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeOptionalStringArray(ids);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.clear_cache;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+public class MLClearCacheNodesResponse extends BaseNodesResponse<MLClearCacheNodeResponse> {
+
+    public MLClearCacheNodesResponse(StreamInput in) throws IOException {
+        super(new ClusterName(in), in.readList(MLClearCacheNodeResponse::new), in.readList(FailedNodeException::new));
+    }
+
+    public MLClearCacheNodesResponse(ClusterName clusterName, List<MLClearCacheNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public void writeNodesTo(StreamOutput out, List<MLClearCacheNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public List<MLClearCacheNodeResponse> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(MLClearCacheNodeResponse::new);
+    }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.query_cache;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
+
+/**
+ * Invalidates models in the inference query cache of every node, once they are undeployed.
+ */
+public class MLClearQueryCacheAction extends ActionType<MLClearCacheNodesResponse> {
+    public static final MLClearQueryCacheAction INSTANCE = new MLClearQueryCacheAction();
+    public static final String NAME = "cluster:admin/opensearch/ml/models/clear_query_cache";
+
+    private MLClearQueryCacheAction() {
+        super(NAME, MLClearCacheNodesResponse::new);
+    }
+}
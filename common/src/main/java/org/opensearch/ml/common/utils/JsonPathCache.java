@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Bounded cache of compiled {@link JsonPath} expressions.
+ * <p>
+ * Input and output maps of connectors, processors and ingestion are fixed per request or pipeline, so the same few
+ * expressions are compiled over and over for every document. A compiled path can be read against any parsed
+ * document, so callers should parse a document once and read all compiled paths from it.
+ */
+public final class JsonPathCache {
+    static final int MAX_CACHED_PATHS = 1024;
+
+    private static final Map<String, JsonPath> COMPILED_PATHS = new ConcurrentHashMap<>();
+
+    private JsonPathCache() {}
+
+    /**
+     * Get the compiled JsonPath of the expression, compiling it on first use.
+     * @param path JsonPath expression
+     * @return compiled JsonPath
+     * @throws com.jayway.jsonpath.InvalidPathException if the expression is not a valid JsonPath
+     * @throws IllegalArgumentException if the expression is null or empty
+     */
+    public static JsonPath compile(String path) {
+        if (path == null) {
+            return JsonPath.compile(path);
+        }
+        JsonPath compiled = COMPILED_PATHS.get(path);
+        if (compiled != null) {
+            return compiled;
+        }
+        compiled = JsonPath.compile(path);
+        if (COMPILED_PATHS.size() >= MAX_CACHED_PATHS) {
+            // paths come from configurations, so overflowing means they are generated; start over rather than track usage
+            COMPILED_PATHS.clear();
+        }
+        COMPILED_PATHS.put(path, compiled);
+        return compiled;
+    }
+
+    static int size() {
+        return COMPILED_PATHS.size();
+    }
+
+    static void clear() {
+        COMPILED_PATHS.clear();
+    }
+}
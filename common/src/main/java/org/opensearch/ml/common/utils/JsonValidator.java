@@ -0,0 +1,261 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Validates a JSON document with a single pass over its characters, without building any object tree.
+ * <p>
+ * {@link StringUtils#isJson(String)} accepts what both the org.json parser and the lenient Gson parser accept, which
+ * is a superset of standard JSON. This validator only recognizes standard JSON objects and arrays without duplicate
+ * keys, which both parsers always accept, and text which doesn't start with an object or array, which org.json
+ * always rejects. Anything else, like unquoted strings or trailing commas, is {@link Result#UNKNOWN} and has to be
+ * checked by parsing.
+ */
+final class JsonValidator {
+    // Deeper documents are left to the parsers.
+    static final int MAX_DEPTH = 512;
+
+    enum Result {
+        VALID,
+        INVALID,
+        UNKNOWN
+    }
+
+    private final String json;
+    private final int length;
+    private int pos;
+
+    private JsonValidator(String json) {
+        this.json = json;
+        this.length = json.length();
+    }
+
+    static Result validate(String json) {
+        if (json == null) {
+            return Result.UNKNOWN;
+        }
+        int start = 0;
+        // org.json skips any control character before the first token
+        while (start < json.length() && json.charAt(start) > 0 && json.charAt(start) <= ' ') {
+            start++;
+        }
+        if (start == json.length() || (json.charAt(start) != '{' && json.charAt(start) != '[')) {
+            return Result.INVALID;
+        }
+        JsonValidator validator = new JsonValidator(json);
+        validator.skipWhitespace();
+        // other control characters before the document are up to the parsers
+        if (validator.pos == start && validator.value(0)) {
+            validator.skipWhitespace();
+            if (validator.pos == validator.length) {
+                return Result.VALID;
+            }
+        }
+        return Result.UNKNOWN;
+    }
+
+    private boolean value(int depth) {
+        if (pos >= length) {
+            return false;
+        }
+        char c = json.charAt(pos);
+        switch (c) {
+            case '{':
+                return depth < MAX_DEPTH && object(depth + 1);
+            case '[':
+                return depth < MAX_DEPTH && array(depth + 1);
+            case '"':
+                return string() >= 0;
+            case 't':
+                return literal("true");
+            case 'f':
+                return literal("false");
+            case 'n':
+                return literal("null");
+            default:
+                return (c == '-' || (c >= '0' && c <= '9')) && number();
+        }
+    }
+
+    private boolean object(int depth) {
+        pos++;
+        skipWhitespace();
+        if (pos < length && json.charAt(pos) == '}') {
+            pos++;
+            return true;
+        }
+        Set<String> keys = null;
+        String firstKey = null;
+        while (true) {
+            if (pos >= length || json.charAt(pos) != '"') {
+                return false;
+            }
+            int keyStart = pos + 1;
+            int escapes = string();
+            // keys with escapes could equal other keys once unescaped
+            if (escapes != 0) {
+                return false;
+            }
+            String key = json.substring(keyStart, pos - 1);
+            if (firstKey == null) {
+                firstKey = key;
+            } else {
+                if (keys == null) {
+                    keys = new HashSet<>();
+                    keys.add(firstKey);
+                }
+                if (!keys.add(key)) {
+                    return false;
+                }
+            }
+            skipWhitespace();
+            if (pos >= length || json.charAt(pos) != ':') {
+                return false;
+            }
+            pos++;
+            skipWhitespace();
+            if (!value(depth)) {
+                return false;
+            }
+            skipWhitespace();
+            if (pos >= length) {
+                return false;
+            }
+            char c = json.charAt(pos++);
+            if (c == '}') {
+                return true;
+            }
+            if (c != ',') {
+                return false;
+            }
+            skipWhitespace();
+        }
+    }
+
+    private boolean array(int depth) {
+        pos++;
+        skipWhitespace();
+        if (pos < length && json.charAt(pos) == ']') {
+            pos++;
+            return true;
+        }
+        while (true) {
+            if (!value(depth)) {
+                return false;
+            }
+            skipWhitespace();
+            if (pos >= length) {
+                return false;
+            }
+            char c = json.charAt(pos++);
+            if (c == ']') {
+                return true;
+            }
+            if (c != ',') {
+                return false;
+            }
+            skipWhitespace();
+        }
+    }
+
+    /**
+     * Scan a string starting at the opening quote.
+     * @return number of escape sequences in the string, -1 if the string is not valid
+     */
+    private int string() {
+        pos++;
+        int escapes = 0;
+        while (pos < length) {
+            char c = json.charAt(pos++);
+            if (c == '"') {
+                return escapes;
+            }
+            if (c == '\\') {
+                if (pos >= length) {
+                    return -1;
+                }
+                escapes++;
+                char escaped = json.charAt(pos++);
+                if (escaped == 'u') {
+                    if (pos + 4 > length) {
+                        return -1;
+                    }
+                    for (int i = 0; i < 4; i++) {
+                        if (!isHexDigit(json.charAt(pos++))) {
+                            return -1;
+                        }
+                    }
+                } else if ("\"\\/bfnrt".indexOf(escaped) < 0) {
+                    return -1;
+                }
+            } else if (c < ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private boolean number() {
+        if (json.charAt(pos) == '-') {
+            pos++;
+        }
+        if (pos >= length) {
+            return false;
+        }
+        if (json.charAt(pos) == '0') {
+            pos++;
+        } else if (!digits()) {
+            return false;
+        }
+        if (pos < length && json.charAt(pos) == '.') {
+            pos++;
+            if (!digits()) {
+                return false;
+            }
+        }
+        if (pos < length && (json.charAt(pos) == 'e' || json.charAt(pos) == 'E')) {
+            pos++;
+            if (pos < length && (json.charAt(pos) == '+' || json.charAt(pos) == '-')) {
+                pos++;
+            }
+            return digits();
+        }
+        return true;
+    }
+
+    private static boolean isHexDigit(char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private boolean digits() {
+        int start = pos;
+        while (pos < length && json.charAt(pos) >= '0' && json.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos > start;
+    }
+
+    private boolean literal(String literal) {
+        if (!json.startsWith(literal, pos)) {
+            return false;
+        }
+        pos += literal.length();
+        return true;
+    }
+
+    private void skipWhitespace() {
+        while (pos < length) {
+            char c = json.charAt(pos);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            pos++;
+        }
+    }
+}
@@ -28,7 +28,6 @@ import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
-import com.jayway.jsonpath.JsonPath;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -52,6 +51,7 @@ public class StringUtils {
         gson = new Gson();
     }
     public static final String TO_STRING_FUNCTION_NAME = ".toString()";
+    private static final Pattern TO_STRING_PARAMETER_PATTERN = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
 
     public static boolean isValidJsonString(String Json) {
         try {
@@ -66,7 +66,24 @@ public class StringUtils {
         return true;
     }
 
+    /**
+     * Check if the string is a JSON object or array. Standard JSON is validated in a single pass without parsing,
+     * the org.json and Gson parsers are only used for the lenient JSON they also accept.
+     * @param json string to check
+     * @return true if the string is a JSON object or array
+     */
     public static boolean isJson(String json) {
+        switch (JsonValidator.validate(json)) {
+            case VALID:
+                return true;
+            case INVALID:
+                return false;
+            default:
+                return isJsonByParsing(json);
+        }
+    }
+
+    static boolean isJsonByParsing(String json) {
         try {
             if (!isValidJsonString(json)) {
                 return false;
@@ -246,9 +263,8 @@ public class StringUtils {
         List<String> prefixes = new ArrayList<>();
         for (String key : map.keySet()) {
             String value = map.get(key);
-            if (value != null) {
-                Pattern pattern = Pattern.compile("\\$\\{parameters\\.(.+?)\\.toString\\(\\)\\}");
-                Matcher matcher = pattern.matcher(value);
+            if (value != null && value.contains(TO_STRING_FUNCTION_NAME)) {
+                Matcher matcher = TO_STRING_PARAMETER_PATTERN.matcher(value);
                 while (matcher.find()) {
                     String prefix = matcher.group(1);
                     prefixes.add(prefix);
@@ -312,7 +328,7 @@ public class StringUtils {
             return false;
         }
         try {
-            JsonPath.compile(input); // This will throw an exception if the path is invalid
+            JsonPathCache.compile(input); // This will throw an exception if the path is invalid
             return true;
         } catch (Exception e) {
             return false;
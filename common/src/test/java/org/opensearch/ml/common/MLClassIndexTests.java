@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+
+import org.junit.Test;
+import org.opensearch.ml.common.annotation.Connector;
+import org.opensearch.ml.common.connector.AwsConnector;
+import org.opensearch.ml.common.connector.HttpConnector;
+
+public class MLClassIndexTests {
+
+    private final ClassLoader classLoader = MLClassIndexTests.class.getClassLoader();
+
+    @Test
+    public void getTypesAnnotatedWith() {
+        Set<Class<?>> classes = MLClassIndex.getTypesAnnotatedWith(Connector.class, "org.opensearch.ml.common.connector", classLoader);
+        assertEquals(Set.of(HttpConnector.class, AwsConnector.class), classes);
+    }
+
+    @Test
+    public void getTypesAnnotatedWith_OtherPackage() {
+        Set<Class<?>> classes = MLClassIndex.getTypesAnnotatedWith(Connector.class, "org.opensearch.ml.common.conn", classLoader);
+        assertTrue(classes.isEmpty());
+    }
+
+    @Test
+    public void readIndex_NoIndex() throws IOException {
+        try (URLClassLoader emptyClassLoader = new URLClassLoader(new URL[0], null)) {
+            assertNull(MLClassIndex.readIndex(Connector.class, emptyClassLoader));
+        }
+    }
+}
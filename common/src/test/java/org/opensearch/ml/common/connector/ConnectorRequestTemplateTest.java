@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.connector;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.text.StringSubstitutor;
+import org.junit.Test;
+
+public class ConnectorRequestTemplateTest {
+
+    private String substitute(String requestBody, Map<String, String> parameters) {
+        String payload = requestBody;
+        for (String key : new String[] { "input", "nullable" }) {
+            if (parameters.get(key) == null) {
+                payload = payload.replace("\"${parameters." + key + ":-null}\"", "null");
+            }
+        }
+        return new StringSubstitutor(parameters, "${parameters.", "}").replace(payload);
+    }
+
+    private void assertSameAsSubstitutor(String requestBody, Map<String, String> parameters) {
+        ConnectorRequestTemplate template = new ConnectorRequestTemplate(requestBody);
+        assertTrue(template.isCompiled());
+        assertEquals(substitute(requestBody, parameters), template.render(parameters));
+    }
+
+    @Test
+    public void render_Parameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test input");
+        parameters.put("model", "embedding");
+        assertSameAsSubstitutor("{\"input\": \"${parameters.input}\", \"model\": \"${parameters.model}\"}", parameters);
+        assertEquals(
+            "{\"input\": \"test input\", \"model\": \"embedding\"}",
+            new ConnectorRequestTemplate("{\"input\": \"${parameters.input}\", \"model\": \"${parameters.model}\"}").render(parameters)
+        );
+    }
+
+    @Test
+    public void render_MissingParameterKeepsPlaceholder() {
+        assertSameAsSubstitutor("{\"input\": ${parameters.input} }", new HashMap<>());
+        assertEquals("{\"input\": ${parameters.input} }", new ConnectorRequestTemplate("{\"input\": ${parameters.input} }").render(null));
+    }
+
+    @Test
+    public void render_NullDefaultValue() {
+        String requestBody = "{\"input\": \"${parameters.input:-null}\", \"nullable\": \"${parameters.nullable:-null}\"}";
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("input", "test input");
+        assertSameAsSubstitutor(requestBody, parameters);
+        assertEquals("{\"input\": \"test input\", \"nullable\": null}", new ConnectorRequestTemplate(requestBody).render(parameters));
+    }
+
+    @Test
+    public void render_DefaultValue() {
+        assertSameAsSubstitutor("{\"top_k\": ${parameters.top_k:-5}, \"input\": ${parameters.input:-null}}", new HashMap<>());
+    }
+
+    @Test
+    public void render_RecursiveParameters() {
+        Map<String, String> parameters = new HashMap<>();
+        parameters.put("prompt", "Question: ${parameters.question}");
+        parameters.put("question", "what is opensearch");
+        assertSameAsSubstitutor("{\"prompt\": \"${parameters.prompt}\", \"text\": \"${parameters.text:-default}\"}", parameters);
+    }
+
+    @Test
+    public void compile_EscapedPlaceholderNotCompiled() {
+        ConnectorRequestTemplate template = new ConnectorRequestTemplate("{\"input\": \"$${parameters.input}\"}");
+        assertFalse(template.isCompiled());
+    }
+}
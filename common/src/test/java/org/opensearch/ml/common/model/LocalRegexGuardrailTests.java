@@ -6,9 +6,13 @@
 package org.opensearch.ml.common.model;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -21,9 +25,15 @@ import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.admin.indices.get.GetIndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.client.AdminClient;
 import org.opensearch.client.Client;
+import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.metadata.MappingMetadata;
 import org.opensearch.common.action.ActionFuture;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.Settings;
@@ -31,7 +41,11 @@ import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.ConfigConstants;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
@@ -52,6 +66,12 @@ public class LocalRegexGuardrailTests {
     Client client;
     @Mock
     ThreadPool threadPool;
+    @Mock
+    AdminClient adminClient;
+    @Mock
+    IndicesAdminClient indicesAdminClient;
+    @Mock
+    GetIndexResponse getIndexResponse;
     ThreadContext threadContext;
 
     StopWords stopWords;
@@ -67,6 +87,8 @@ public class LocalRegexGuardrailTests {
         this.threadContext = new ThreadContext(settings);
         when(this.client.threadPool()).thenReturn(this.threadPool);
         when(this.threadPool.getThreadContext()).thenReturn(this.threadContext);
+        when(this.client.admin()).thenReturn(this.adminClient);
+        when(this.adminClient.indices()).thenReturn(this.indicesAdminClient);
 
         stopWords = new StopWords("test_index", List.of("test_field").toArray(new String[0]));
         regex = List.of("(.|\n)*stop words(.|\n)*").toArray(new String[0]);
@@ -220,12 +242,117 @@ public class LocalRegexGuardrailTests {
         Assert.assertTrue(res);
     }
 
+    @Test
+    public void validateStopWordsSingleIndex_LoadedStopWords() {
+        SearchHit[] hits = new SearchHit[] {
+            new SearchHit(0).sourceRef(new BytesArray("{\"query\": {\"match_phrase\": {\"test_field\": \"stop words\"}}}")),
+            new SearchHit(1).sourceRef(new BytesArray("{\"query\": {\"query_string\": {\"query\": \"test_field: \\\"bad-word\\\"\"}}}")) };
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            Assert.assertArrayEquals(new String[] { "test_index" }, request.indices());
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(createSearchResponse(hits));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        mockStopWordsFieldType("text");
+        localRegexGuardrail.init(xContentRegistry, client);
+
+        Assert.assertFalse(localRegexGuardrail.validateStopWordsSingleIndex("hello Stop Words!", "test_index", List.of("test_field")));
+        Assert.assertFalse(localRegexGuardrail.validateStopWordsSingleIndex("a BAD word", "test_index", List.of("test_field")));
+        Assert.assertTrue(localRegexGuardrail.validateStopWordsSingleIndex("stop, then words", "test_index", List.of("test_field")));
+        Assert.assertTrue(localRegexGuardrail.validate("hello world", Map.of()));
+        // loaded once, inputs are not percolated
+        verify(client, times(1)).search(any(SearchRequest.class), any());
+    }
+
+    @Test
+    public void validateStopWordsSingleIndex_KeywordField_Percolated() {
+        List<SearchRequest> searchRequests = new ArrayList<>();
+        doAnswer(invocation -> {
+            SearchRequest request = invocation.getArgument(0);
+            searchRequests.add(request);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            // the keyword field only matches the whole input
+            listener.onResponse(createSearchResponse(new SearchHit[0]));
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        mockStopWordsFieldType("keyword");
+        localRegexGuardrail.init(xContentRegistry, client);
+
+        Assert.assertTrue(localRegexGuardrail.validateStopWordsSingleIndex("hello stop words", "test_index", List.of("test_field")));
+        // the stop words queries are not loaded, the input is percolated
+        Assert.assertEquals(1, searchRequests.size());
+        Assert.assertTrue(searchRequests.get(0).source().query().toString().contains("percolate"));
+    }
+
+    @Test
+    public void validateStopWordsSingleIndex_LoadedPerUser() {
+        SearchHit[] hits = new SearchHit[] {
+            new SearchHit(0).sourceRef(new BytesArray("{\"query\": {\"match_phrase\": {\"test_field\": \"stop words\"}}}")) };
+        List<String> searchUsers = new ArrayList<>();
+        doAnswer(invocation -> {
+            String user = threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+            searchUsers.add(user);
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            if (user.startsWith("alice")) {
+                listener.onResponse(createSearchResponse(hits));
+            } else {
+                listener.onFailure(new OpenSearchStatusException("no permissions for test_index", RestStatus.FORBIDDEN));
+            }
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+        mockStopWordsFieldType("text");
+        localRegexGuardrail.init(xContentRegistry, client);
+
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "alice|role1|role1");
+            Assert.assertFalse(localRegexGuardrail.validateStopWordsSingleIndex("hello stop words", "test_index", List.of("test_field")));
+        }
+        try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+            threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, "bob|role2|role2");
+            // bob can't read the index, the stop words alice loaded are not used for bob
+            Assert.assertTrue(localRegexGuardrail.validateStopWordsSingleIndex("hello stop words", "test_index", List.of("test_field")));
+        }
+        // alice loaded the stop words, bob failed to load them and then to percolate the input
+        Assert.assertEquals(List.of("alice|role1|role1", "bob|role2|role2", "bob|role2|role2"), searchUsers);
+    }
+
+    @Test
+    public void combineRegex() {
+        Pattern combined = LocalRegexGuardrail.combineRegex(List.of("(.|\n)*stop words(.|\n)*", "(?i)hello.*"));
+        Assert.assertNotNull(combined);
+        Assert.assertFalse(localRegexGuardrail.validateRegex("some stop words here", combined));
+        Assert.assertFalse(localRegexGuardrail.validateRegex("HELLO there", combined));
+        Assert.assertTrue(localRegexGuardrail.validateRegex("say hello", combined));
+
+        Assert.assertNull(LocalRegexGuardrail.combineRegex(List.of("(.|\n)*stop words(.|\n)*")));
+        Assert.assertNull(LocalRegexGuardrail.combineRegex(List.of("(a)\\1", "b")));
+        Assert.assertNull(LocalRegexGuardrail.combineRegex(List.of("(?<word>a)", "(?<word>b)")));
+    }
+
+    private void mockStopWordsFieldType(String type) {
+        MappingMetadata mapping = new MappingMetadata("test_index", Map.of("properties", Map.of("test_field", Map.of("type", type))));
+        when(getIndexResponse.indices()).thenReturn(new String[] { "test_index" });
+        when(getIndexResponse.mappings()).thenReturn(Map.of("test_index", mapping));
+        when(getIndexResponse.settings()).thenReturn(Map.of("test_index", Settings.EMPTY));
+        doAnswer(invocation -> {
+            ActionListener<GetIndexResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getIndexResponse);
+            return null;
+        }).when(indicesAdminClient).getIndex(any(), any());
+    }
+
     private SearchResponse createSearchResponse(int size) throws IOException {
         XContentBuilder content = localRegexGuardrail.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS);
         SearchHit[] hits = new SearchHit[size];
         if (size > 0) {
             hits[0] = new SearchHit(0).sourceRef(BytesReference.bytes(content));
         }
+        return createSearchResponse(hits);
+    }
+
+    private SearchResponse createSearchResponse(SearchHit[] hits) {
+        int size = hits.length;
         return new SearchResponse(
             new InternalSearchResponse(
                 new SearchHits(hits, new TotalHits(size, TotalHits.Relation.EQUAL_TO), 1.0f),
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.model;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.opensearch.common.settings.Settings;
+
+public class StopWordsMatcherTests {
+
+    @Test
+    public void matches_Phrases() {
+        StopWordsMatcher matcher = StopWordsMatcher
+            .build(
+                List
+                    .of(
+                        Map.of("match_phrase", Map.of("title", "stop word")),
+                        Map.of("match_phrase", Map.of("title", Map.of("query", "word stop stop"))),
+                        Map.of("query_string", Map.of("query", "title: \"stop & go\""))
+                    ),
+                List.of("title")
+            );
+        Assert.assertNotNull(matcher);
+        Assert.assertTrue(matcher.matches("a Stop-Word here"));
+        // overlapping phrases are found through the failure links
+        Assert.assertTrue(matcher.matches("word stop word"));
+        Assert.assertTrue(matcher.matches("word word stop stop"));
+        Assert.assertTrue(matcher.matches("STOP and go? no, stop GO"));
+        Assert.assertFalse(matcher.matches("stop, and word"));
+        Assert.assertFalse(matcher.matches(""));
+    }
+
+    @Test
+    public void matches_TermsAndOtherFields() {
+        StopWordsMatcher matcher = StopWordsMatcher
+            .build(
+                List
+                    .of(
+                        Map.of("match", Map.of("title", "foo bar")),
+                        Map.of("term", Map.of("title", Map.of("value", "baz"))),
+                        Map.of("term", Map.of("title", "Qux")),
+                        Map.of("match_phrase", Map.of("other_field", "hello"))
+                    ),
+                List.of("title")
+            );
+        Assert.assertNotNull(matcher);
+        Assert.assertTrue(matcher.matches("only BAR"));
+        Assert.assertTrue(matcher.matches("baz"));
+        // term queries are not analyzed, the indexed tokens are lowercase
+        Assert.assertFalse(matcher.matches("Qux"));
+        Assert.assertFalse(matcher.matches("hello"));
+    }
+
+    @Test
+    public void build_UnsupportedQuery() {
+        Map<String, Object> sloppyPhrase = Map.of("match_phrase", Map.of("title", Map.of("query", "a b", "slop", 2)));
+        Assert.assertNull(StopWordsMatcher.build(List.of(sloppyPhrase), List.of("title")));
+        Assert.assertNull(StopWordsMatcher.build(List.of(Map.of("query_string", Map.of("query", "title: a OR b"))), List.of("title")));
+        Assert.assertNull(StopWordsMatcher.build(List.of(Map.of("wildcard", Map.of("title", "st*"))), List.of("title")));
+    }
+
+    @Test
+    public void supportsFields() {
+        Map<String, Object> mapping = Map
+            .of(
+                "properties",
+                Map
+                    .of(
+                        "title",
+                        Map.of("type", "text", "fields", Map.of("keyword", Map.of("type", "keyword"))),
+                        "body",
+                        Map.of("type", "text", "analyzer", "standard"),
+                        "tag",
+                        Map.of("type", "keyword"),
+                        "french",
+                        Map.of("type", "text", "analyzer", "french"),
+                        "meta",
+                        Map.of("properties", Map.of("summary", Map.of("type", "text")))
+                    )
+            );
+        Assert.assertTrue(StopWordsMatcher.supportsFields(mapping, Settings.EMPTY, List.of("title", "body", "meta.summary")));
+        Assert.assertFalse(StopWordsMatcher.supportsFields(mapping, Settings.EMPTY, List.of("title", "tag")));
+        Assert.assertFalse(StopWordsMatcher.supportsFields(mapping, Settings.EMPTY, List.of("title.keyword")));
+        Assert.assertFalse(StopWordsMatcher.supportsFields(mapping, Settings.EMPTY, List.of("french")));
+        Assert.assertFalse(StopWordsMatcher.supportsFields(mapping, Settings.EMPTY, List.of("missing")));
+
+        Settings defaultAnalyzer = Settings.builder().put("index.analysis.analyzer.default.type", "whitespace").build();
+        Assert.assertFalse(StopWordsMatcher.supportsFields(mapping, defaultAnalyzer, List.of("title")));
+    }
+}
@@ -5,7 +5,9 @@
 
 package org.opensearch.ml.common.output.model;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
 import java.io.IOException;
@@ -57,6 +59,50 @@ public class ModelTensorTest {
         assertEquals(modelTensor, parsedTensor);
     }
 
+    @Test
+    public void test_StreamInAndOut_FloatData() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.1f, 0.2f, 0.3f })
+            .shape(new long[] { 3 })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        tensor.writeTo(bytesStreamOutput);
+
+        StreamInput streamInput = bytesStreamOutput.bytes().streamInput();
+        ModelTensor parsedTensor = new ModelTensor(streamInput);
+        assertArrayEquals(new float[] { 0.1f, 0.2f, 0.3f }, parsedTensor.getFloatData(), 0.0f);
+        assertNull(parsedTensor.getIntData());
+        assertArrayEquals(new Number[] { 0.1f, 0.2f, 0.3f }, parsedTensor.getData());
+        assertEquals(tensor, parsedTensor);
+    }
+
+    @Test
+    public void test_FloatData_ToXContent() throws IOException {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 0.5f, 1.5f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, EMPTY_PARAMS);
+        assertEquals(
+            "{\"name\":\"sentence_embedding\",\"data_type\":\"FLOAT32\",\"data\":[0.5,1.5]}",
+            TestHelper.xContentBuilderToString(builder)
+        );
+    }
+
+    @Test
+    public void test_SetData_ClearsPrimitiveData() {
+        ModelTensor tensor = ModelTensor.builder().intData(new int[] { 1, 2 }).dataType(MLResultDataType.INT32).build();
+        tensor.setData(null);
+        assertNull(tensor.getIntData());
+        assertNull(tensor.getData());
+    }
+
     @Test
     public void test_ModelTensorSuccess() throws IOException {
         XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
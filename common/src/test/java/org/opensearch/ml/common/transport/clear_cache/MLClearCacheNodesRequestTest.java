@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.clear_cache;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.transport.TransportAddress;
+
+public class MLClearCacheNodesRequestTest {
+
+    @Test
+    public void testNodeRequestSerialization() throws IOException {
+        MLClearCacheNodeRequest request = new MLClearCacheNodeRequest(
+            new MLClearCacheNodesRequest(new String[] { "nodeId1", "nodeId2" }, new String[] { "id1", "id2" })
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+
+        MLClearCacheNodeRequest parsedRequest = new MLClearCacheNodeRequest(output.bytes().streamInput());
+        assertArrayEquals(new String[] { "id1", "id2" }, parsedRequest.getClearCacheNodesRequest().getIds());
+        assertEquals(2, parsedRequest.getClearCacheNodesRequest().nodesIds().length);
+    }
+
+    @Test
+    public void testNodeRequestSerialization_AllIds() throws IOException {
+        MLClearCacheNodeRequest request = new MLClearCacheNodeRequest(new MLClearCacheNodesRequest(new String[0], null));
+        BytesStreamOutput output = new BytesStreamOutput();
+        request.writeTo(output);
+
+        MLClearCacheNodeRequest parsedRequest = new MLClearCacheNodeRequest(output.bytes().streamInput());
+        assertNull(parsedRequest.getClearCacheNodesRequest().getIds());
+    }
+
+    @Test
+    public void testNodesResponseSerialization() throws IOException {
+        DiscoveryNode node = new DiscoveryNode(
+            "foo1",
+            "foo1",
+            new TransportAddress(InetAddress.getLoopbackAddress(), 9300),
+            Collections.emptyMap(),
+            Collections.singleton(CLUSTER_MANAGER_ROLE),
+            Version.CURRENT
+        );
+        MLClearCacheNodesResponse response = new MLClearCacheNodesResponse(
+            ClusterName.DEFAULT,
+            List.of(new MLClearCacheNodeResponse(node)),
+            Collections.emptyList()
+        );
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+
+        StreamInput input = output.bytes().streamInput();
+        MLClearCacheNodesResponse parsedResponse = new MLClearCacheNodesResponse(input);
+        assertEquals(1, parsedResponse.getNodes().size());
+        assertEquals("foo1", parsedResponse.getNodes().get(0).getNode().getId());
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.jayway.jsonpath.InvalidPathException;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+
+public class JsonPathCacheTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Before
+    public void setUp() {
+        JsonPathCache.clear();
+    }
+
+    @Test
+    public void compile_ReuseCompiledPath() {
+        JsonPath path = JsonPathCache.compile("$.data[*].embedding");
+        assertSame(path, JsonPathCache.compile("$.data[*].embedding"));
+        assertEquals(1, JsonPathCache.size());
+    }
+
+    @Test
+    public void compile_ReadFromParsedDocument() {
+        ReadContext document = JsonPath.parse("{\"text\": \"hello\", \"data\": [{\"embedding\": [1, 2]}, {\"embedding\": [3]}]}");
+        assertEquals("hello", document.read(JsonPathCache.compile("$.text")));
+        List<List<Integer>> embeddings = document.read(JsonPathCache.compile("$.data[*].embedding"));
+        assertEquals(List.of(List.of(1, 2), List.of(3)), embeddings);
+    }
+
+    @Test
+    public void compile_Bounded() {
+        for (int i = 0; i <= JsonPathCache.MAX_CACHED_PATHS; i++) {
+            JsonPathCache.compile("$.field_" + i);
+        }
+        assertTrue(JsonPathCache.size() <= JsonPathCache.MAX_CACHED_PATHS);
+    }
+
+    @Test
+    public void compile_InvalidPath() {
+        exceptionRule.expect(InvalidPathException.class);
+        try {
+            JsonPathCache.compile("foo.bar.");
+        } finally {
+            assertEquals(0, JsonPathCache.size());
+            assertFalse(StringUtils.isValidJSONPath("foo.bar."));
+        }
+    }
+
+    @Test
+    public void compile_NullPath() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        JsonPathCache.compile(null);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+public class JsonValidatorTest {
+
+    private static final List<String> DOCUMENTS = Arrays
+        .asList(
+            "{}",
+            "[]",
+            " \n{\"key\": \"value\"}\n ",
+            "{\"input\": [\"hello\", \"world\"], \"top_k\": 5, \"score\": -1.5e-3, \"stream\": false, \"user\": null}",
+            "{\"messages\": [{\"role\": \"user\", \"content\": \"line\\nbreak \\\"quoted\\\" \\u00e9\"}]}",
+            "[[[[1]]], {\"a\": {\"b\": {\"c\": []}}}]",
+            "{\"key\": \"value\", \"key\": 123}",
+            "{\"key\": \"value\", \"k\\u0065y\": 123}",
+            "{\"key\": \"raw\ttab\"}",
+            "{\"key\": \"raw\nline\"}",
+            "[1, 2, ]",
+            "[,]",
+            "[abc]",
+            "[abc\n123]",
+            "[]\"",
+            "{\"key\": 01}",
+            "{\"key\": \"value}",
+            "{\"key\" \"value\"}",
+            "{key: \"value\"}",
+            "\"just a string\"",
+            "plain text with {braces}",
+            "123",
+            "",
+            "   "
+        );
+
+    @Test
+    public void validate_ConsistentWithParsing() {
+        for (String document : DOCUMENTS) {
+            JsonValidator.Result result = JsonValidator.validate(document);
+            if (result != JsonValidator.Result.UNKNOWN) {
+                assertEquals(document, StringUtils.isJsonByParsing(document), result == JsonValidator.Result.VALID);
+            }
+        }
+    }
+
+    @Test
+    public void validate_StandardJson() {
+        assertEquals(JsonValidator.Result.VALID, JsonValidator.validate(DOCUMENTS.get(3)));
+        assertEquals(JsonValidator.Result.VALID, JsonValidator.validate(DOCUMENTS.get(4)));
+        assertEquals(JsonValidator.Result.VALID, JsonValidator.validate(DOCUMENTS.get(5)));
+    }
+
+    @Test
+    public void validate_NotObjectOrArray() {
+        assertEquals(JsonValidator.Result.INVALID, JsonValidator.validate("\"just a string\""));
+        assertEquals(JsonValidator.Result.INVALID, JsonValidator.validate("plain text with {braces}"));
+        assertEquals(JsonValidator.Result.INVALID, JsonValidator.validate(""));
+    }
+
+    @Test
+    public void validate_LenientJsonLeftToParsers() {
+        assertEquals(JsonValidator.Result.UNKNOWN, JsonValidator.validate("[,]"));
+        assertEquals(JsonValidator.Result.UNKNOWN, JsonValidator.validate("[abc]"));
+        assertEquals(JsonValidator.Result.UNKNOWN, JsonValidator.validate("{\"key\": \"value\", \"key\": 123}"));
+    }
+
+    @Test
+    public void validate_LargeDocument() {
+        StringBuilder builder = new StringBuilder("{\"inputs\": [");
+        for (int i = 0; i < 10000; i++) {
+            builder.append(i == 0 ? "" : ", ").append("\"passage ").append(i).append(" of a retrieved document\"");
+        }
+        String document = builder.append("]}").toString();
+        assertEquals(JsonValidator.Result.VALID, JsonValidator.validate(document));
+        assertEquals(StringUtils.isJsonByParsing(document), StringUtils.isJson(document));
+    }
+}
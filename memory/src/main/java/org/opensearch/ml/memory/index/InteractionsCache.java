@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.opensearch.ml.common.conversation.Interaction;
+
+/**
+ * Node-local read-your-writes cache for the interactions index.
+ * <p>
+ * Interactions written through this node are kept until a refresh makes them searchable, so a conversation can be
+ * read right after a write without refreshing the index: the search results are merged with the pending
+ * interactions of the conversation. A conversation is tracked once it was read after a refresh, from then on every
+ * interaction written to it through this node is either searchable or pending here. Conversations are evicted least
+ * recently used first, and a conversation with too many pending interactions is dropped, so the next read refreshes.
+ * <p>
+ * Interactions of a conversation can be written through any node. Creating an interaction updates its conversation,
+ * so a tracked conversation remembers the version of its conversation document: the version read before the
+ * refresh, bumped by the updates made through this node. A read that finds another version refreshes the index.
+ */
+class InteractionsCache {
+    static final int MAX_CONVERSATIONS = 1000;
+    static final int MAX_PENDING_INTERACTIONS = 100;
+
+    static final Comparator<Interaction> CREATE_TIME_ORDER = Comparator.comparing(Interaction::getCreateTime);
+    static final Comparator<Interaction> TRACE_NUMBER_ORDER = Comparator.comparing(Interaction::getTraceNum);
+
+    private final Map<String, ConversationEntry> conversations = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ConversationEntry> eldest) {
+            return size() > MAX_CONVERSATIONS;
+        }
+    };
+    // number of writes recorded so far, refreshes make every write recorded before they started searchable
+    private long writes;
+    // number of invalidations so far, a read that raced with an invalidation doesn't track its conversation
+    private long invalidations;
+
+    /**
+     * Record an interaction written through this node.
+     * @param interaction the created interaction
+     */
+    synchronized void onCreated(Interaction interaction) {
+        ConversationEntry entry = conversations.computeIfAbsent(interaction.getConversationId(), id -> new ConversationEntry());
+        if (entry.pending.size() >= MAX_PENDING_INTERACTIONS) {
+            // the next read refreshes anyway, no need to hold on to pending interactions
+            invalidate(interaction.getConversationId());
+            return;
+        }
+        entry.pending.put(interaction.getId(), new PendingInteraction(interaction, ++writes));
+    }
+
+    /**
+     * Record an update of a conversation document made through this node.
+     * @param conversationId the updated conversation
+     * @param version version of the conversation after the update
+     */
+    synchronized void onConversationUpdated(String conversationId, long version) {
+        ConversationEntry entry = conversations.get(conversationId);
+        if (entry == null || !entry.tracked) {
+            return;
+        }
+        if (version == entry.version + 1) {
+            entry.version = version;
+        } else {
+            // updated through another node in between, its interactions may not be searchable yet
+            invalidate(conversationId);
+        }
+    }
+
+    /**
+     * @return the write generation to pass to {@link #onRefreshed} once a refresh started now completes
+     */
+    synchronized long writeGeneration() {
+        return writes;
+    }
+
+    /**
+     * Drop the pending interactions a completed refresh made searchable.
+     * @param generation write generation when the refresh started
+     */
+    synchronized void onRefreshed(long generation) {
+        Iterator<ConversationEntry> entries = conversations.values().iterator();
+        while (entries.hasNext()) {
+            ConversationEntry entry = entries.next();
+            entry.pending.values().removeIf(pending -> pending.generation <= generation);
+            if (!entry.tracked && entry.pending.isEmpty()) {
+                entries.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the invalidation generation to pass to {@link #track} once a read started now completes
+     */
+    synchronized long invalidationGeneration() {
+        return invalidations;
+    }
+
+    /**
+     * Mark a conversation as tracked after it was read following a refresh.
+     * @param conversationId the conversation that was read
+     * @param version version of the conversation read before the refresh
+     * @param generation invalidation generation when the read started
+     */
+    synchronized void track(String conversationId, long version, long generation) {
+        if (version < 0 || generation != invalidations) {
+            return;
+        }
+        ConversationEntry entry = conversations.computeIfAbsent(conversationId, id -> new ConversationEntry());
+        entry.tracked = true;
+        entry.version = version;
+    }
+
+    /**
+     * @param conversationId the conversation to read
+     * @param version current version of the conversation
+     * @return whether the conversation can be read without refreshing the index
+     */
+    synchronized boolean isTracked(String conversationId, long version) {
+        ConversationEntry entry = conversations.get(conversationId);
+        return entry != null && entry.tracked && entry.version == version;
+    }
+
+    /**
+     * @param conversationId the conversation to search
+     * @param version current version of the conversation
+     * @return whether every interaction written to the conversation is searchable
+     */
+    synchronized boolean isSearchable(String conversationId, long version) {
+        ConversationEntry entry = conversations.get(conversationId);
+        return entry != null && entry.tracked && entry.version == version && entry.pending.isEmpty();
+    }
+
+    /**
+     * @param conversationId the conversation to read
+     * @return pending interactions of the conversation, excluding traces
+     */
+    List<Interaction> getPendingInteractions(String conversationId) {
+        return getPending(conversationId, interaction -> interaction.getTraceNum() == null);
+    }
+
+    /**
+     * @param conversationId the conversation of the parent interaction
+     * @param parentInteractionId the parent interaction
+     * @return pending traces of the parent interaction
+     */
+    List<Interaction> getPendingTraces(String conversationId, String parentInteractionId) {
+        return getPending(
+            conversationId,
+            interaction -> interaction.getTraceNum() != null && parentInteractionId.equals(interaction.getParentInteractionId())
+        );
+    }
+
+    private synchronized List<Interaction> getPending(String conversationId, Predicate<Interaction> filter) {
+        ConversationEntry entry = conversations.get(conversationId);
+        if (entry == null || entry.pending.isEmpty()) {
+            return List.of();
+        }
+        return entry.pending.values().stream().map(pending -> pending.interaction).filter(filter).collect(Collectors.toList());
+    }
+
+    /**
+     * Drop the pending interactions that showed up in search results, they are searchable now.
+     * @param conversationId the conversation that was searched
+     * @param interactionIds ids of the search hits
+     */
+    synchronized void onSearched(String conversationId, Set<String> interactionIds) {
+        ConversationEntry entry = conversations.get(conversationId);
+        if (entry == null) {
+            return;
+        }
+        entry.pending.keySet().removeAll(interactionIds);
+    }
+
+    /**
+     * Stop tracking a conversation, the next read refreshes the index.
+     * @param conversationId the conversation that changed
+     */
+    synchronized void invalidate(String conversationId) {
+        invalidations++;
+        conversations.remove(conversationId);
+    }
+
+    synchronized int size() {
+        return conversations.size();
+    }
+
+    /**
+     * Merge search hits with pending interactions and take a page of the result.
+     * @param hits search hits from the start of the result
+     * @param pending pending interactions
+     * @param order order of the search
+     * @param from where the page starts
+     * @param maxResults page size
+     * @return the page of interactions
+     */
+    static List<Interaction> merge(
+        Collection<Interaction> hits,
+        Collection<Interaction> pending,
+        Comparator<Interaction> order,
+        int from,
+        int maxResults
+    ) {
+        Set<String> hitIds = hits.stream().map(Interaction::getId).collect(Collectors.toSet());
+        List<Interaction> merged = new ArrayList<>(hits);
+        pending.stream().filter(interaction -> !hitIds.contains(interaction.getId())).forEach(merged::add);
+        // stable, so ties keep the search order followed by the write order
+        merged.sort(order);
+        if (from >= merged.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(merged.subList(from, Math.min(merged.size(), from + maxResults)));
+    }
+
+    private static class ConversationEntry {
+        private boolean tracked;
+        private long version;
+        private final Map<String, PendingInteraction> pending = new LinkedHashMap<>();
+    }
+
+    private static class PendingInteraction {
+        private final Interaction interaction;
+        private final long generation;
+
+        private PendingInteraction(Interaction interaction, long generation) {
+            this.interaction = interaction;
+            this.generation = generation;
+        }
+    }
+}
@@ -22,9 +22,12 @@ import static org.opensearch.ml.common.utils.IndexUtils.DEFAULT_INDEX_SETTINGS;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.OpenSearchWrapperException;
@@ -32,6 +35,7 @@ import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
+import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.get.GetRequest;
@@ -46,6 +50,7 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.ConfigConstants;
@@ -82,6 +87,11 @@ public class InteractionsIndex {
     private ConversationMetaIndex conversationMetaIndex;
     // How big the steps should be when gathering *ALL* interactions in a conversation
     private final int resultsAtATime = 300;
+    // Interactions written through this node, so reads don't have to refresh the index
+    private final InteractionsCache cache = new InteractionsCache();
+    // Callers waiting for the next refresh of the index, guarded by itself
+    private final List<ActionListener<Void>> queuedRefreshes = new ArrayList<>();
+    private final AtomicBoolean refreshing = new AtomicBoolean();
 
     /**
      * 'PUT's the index in opensearch if it's not there already
@@ -187,6 +197,21 @@ public class InteractionsIndex {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                                 if (resp.status() == RestStatus.CREATED) {
+                                    cache
+                                        .onCreated(
+                                            new Interaction(
+                                                resp.getId(),
+                                                timestamp,
+                                                conversationId,
+                                                input,
+                                                promptTemplate,
+                                                response,
+                                                origin,
+                                                additionalInfo,
+                                                parintid,
+                                                traceNumber
+                                            )
+                                        );
                                     internalListener.onResponse(resp.getId());
                                     log.info("Successfully created the message with id : {}", resp.getId());
                                 } else {
@@ -268,9 +293,13 @@ public class InteractionsIndex {
             listener.onResponse(List.of());
             return;
         }
-        ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
-            if (access) {
-                innerGetInteractions(conversationId, from, maxResults, listener);
+        ActionListener<Long> accessListener = ActionListener.wrap(version -> {
+            if (version != null) {
+                if (cache.isTracked(conversationId, version)) {
+                    cachedGetInteractions(conversationId, from, maxResults, listener);
+                } else {
+                    innerGetInteractions(conversationId, version, from, maxResults, listener);
+                }
             } else {
                 String userstr = client
                     .threadPool()
@@ -283,11 +312,67 @@ public class InteractionsIndex {
                 );
             }
         }, e -> { listener.onFailure(e); });
-        conversationMetaIndex.checkAccess(conversationId, accessListener);
+        conversationMetaIndex.checkAccessAndGetVersion(conversationId, accessListener);
     }
 
     @VisibleForTesting
     void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        innerGetInteractions(conversationId, Versions.NOT_FOUND, from, maxResults, listener);
+    }
+
+    /**
+     * Gets a list of interactions belonging to a conversation after refreshing the index, and tracks the conversation
+     * so following reads of the same version don't have to refresh
+     * @param conversationId the conversation to read from
+     * @param version version of the conversation read before the refresh, -1 to not track the conversation
+     * @param from where to start in the reading
+     * @param maxResults how many interactions to return
+     * @param listener gets the list, sorted by recency, of interactions
+     */
+    private void innerGetInteractions(
+        String conversationId,
+        long version,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
+        long generation = cache.invalidationGeneration();
+        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<List<Interaction>> al = ActionListener.wrap(interactions -> {
+                cache.track(conversationId, version, generation);
+                internalListener.onResponse(interactions);
+            }, e -> { internalListener.onFailure(e); });
+            refreshInteractionsIndex(
+                ActionListener
+                    .wrap(r -> { searchConversationInteractions(conversationId, from, maxResults, al); }, e -> {
+                        internalListener.onFailure(e);
+                    })
+            );
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private void cachedGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            searchConversationInteractions(conversationId, from, maxResults, internalListener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    /**
+     * Search the interactions of a conversation without refreshing the index, merging in the interactions written
+     * through this node that may not be searchable yet
+     */
+    private void searchConversationInteractions(
+        String conversationId,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
         SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
 
         // Build the query
@@ -307,30 +392,30 @@ public class InteractionsIndex {
         searchSourceBuilder.query(boolQueryBuilder);
 
         request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
+        // Pending interactions can go anywhere in the page, so read everything up to its end and merge
+        List<Interaction> pending = cache.getPendingInteractions(conversationId);
+        if (pending.isEmpty()) {
+            request.source().from(from).size(maxResults);
+        } else {
+            request.source().from(0).size(from + maxResults);
+        }
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.ASC);
-        try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
-                List<Interaction> result = new LinkedList<Interaction>();
-                for (SearchHit hit : response.getHits()) {
-                    result.add(Interaction.fromSearchHit(hit));
-                }
-                internalListener.onResponse(result);
-                log.info("Successfully get the messages for memory {}", conversationId);
-            }, e -> {
-                internalListener.onFailure(e);
-                log.error("Failed to get the messages for memory {}", conversationId);
-            });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
-        } catch (Exception e) {
+        ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
+            List<Interaction> result = new LinkedList<Interaction>();
+            for (SearchHit hit : response.getHits()) {
+                result.add(Interaction.fromSearchHit(hit));
+            }
+            if (!pending.isEmpty()) {
+                cache.onSearched(conversationId, result.stream().map(Interaction::getId).collect(Collectors.toSet()));
+                result = InteractionsCache.merge(result, pending, InteractionsCache.CREATE_TIME_ORDER, from, maxResults);
+            }
+            listener.onResponse(result);
+            log.info("Successfully get the messages for memory {}", conversationId);
+        }, e -> {
             listener.onFailure(e);
-        }
+            log.error("Failed to get the messages for memory {}", conversationId);
+        });
+        client.search(request, al);
     }
 
     /**
@@ -356,39 +441,62 @@ public class InteractionsIndex {
                 }
                 Interaction interaction = Interaction.fromMap(interactionId, getResponse.getSourceAsMap());
                 // checks if the user has permission to access the conversation that the interaction belongs to
-                String conversationId = interaction.getConversationId();
-                ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
-                    if (access) {
-                        innerGetTraces(interactionId, from, maxResults, listener);
-                    } else {
-                        String userstr = client
-                            .threadPool()
-                            .getThreadContext()
-                            .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
-                        String user = User.parse(userstr) == null
-                            ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS
-                            : User.parse(userstr).getName();
-                        throw new OpenSearchStatusException(
-                            "User [" + user + "] does not have access to message " + interactionId,
-                            RestStatus.UNAUTHORIZED
-                        );
-                    }
-                }, e -> { listener.onFailure(e); });
-                conversationMetaIndex.checkAccess(conversationId, accessListener);
+                checkTracesPermission(interactionId, interaction, from, maxResults, listener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // a get by id is realtime, the index doesn't need a refresh
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    private void checkTracesPermission(
+        String interactionId,
+        Interaction interaction,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
+        String conversationId = interaction.getConversationId();
+        ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
+            if (access) {
+                innerGetTraces(conversationId, interactionId, from, maxResults, listener);
+            } else {
+                String userstr = client
+                    .threadPool()
+                    .getThreadContext()
+                    .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+                String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
+                throw new OpenSearchStatusException(
+                    "User [" + user + "] does not have access to message " + interactionId,
+                    RestStatus.UNAUTHORIZED
+                );
+            }
+        }, e -> { listener.onFailure(e); });
+        conversationMetaIndex.checkAccess(conversationId, accessListener);
+    }
+
     @VisibleForTesting
     void innerGetTraces(String interactionId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        innerGetTraces(null, interactionId, from, maxResults, listener);
+    }
+
+    /**
+     * Gets the traces of an interaction without refreshing the index, merging in the traces written through this node
+     * that may not be searchable yet
+     * @param conversationId the conversation of the interaction, null to only read searchable traces
+     * @param interactionId the interaction to read traces of
+     * @param from where to start in the reading
+     * @param maxResults how many traces to return
+     * @param listener gets the list of traces, sorted by trace number
+     */
+    private void innerGetTraces(
+        String conversationId,
+        String interactionId,
+        int from,
+        int maxResults,
+        ActionListener<List<Interaction>> listener
+    ) {
         SearchRequest request = Requests.searchRequest(INTERACTIONS_INDEX_NAME);
         // Build the query
         BoolQueryBuilder boolQueryBuilder = QueryBuilders.boolQuery();
@@ -405,7 +513,12 @@ public class InteractionsIndex {
         searchSourceBuilder.query(boolQueryBuilder);
 
         request.source(searchSourceBuilder);
-        request.source().from(from).size(maxResults);
+        List<Interaction> pending = conversationId == null ? List.of() : cache.getPendingTraces(conversationId, interactionId);
+        if (pending.isEmpty()) {
+            request.source().from(from).size(maxResults);
+        } else {
+            request.source().from(0).size(from + maxResults);
+        }
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_TRACE_NUMBER_FIELD, SortOrder.ASC);
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -414,6 +527,10 @@ public class InteractionsIndex {
                 for (SearchHit hit : response.getHits()) {
                     result.add(Interaction.fromSearchHit(hit));
                 }
+                if (!pending.isEmpty()) {
+                    cache.onSearched(conversationId, result.stream().map(Interaction::getId).collect(Collectors.toSet()));
+                    result = InteractionsCache.merge(result, pending, InteractionsCache.TRACE_NUMBER_ORDER, from, maxResults);
+                }
                 internalListener.onResponse(result);
                 log.info("Successfully get traces for the message {}", interactionId);
             }, e -> {
@@ -496,9 +613,10 @@ public class InteractionsIndex {
                     DeleteRequest delRequest = Requests.deleteRequest(INTERACTIONS_INDEX_NAME).id(interaction.getId());
                     request.add(delRequest);
                 }
+                ActionListener<Boolean> deleteListener = ActionListener.runBefore(internalListener, () -> cache.invalidate(conversationId));
                 client
-                    .bulk(request, ActionListener.wrap(bulkResponse -> { internalListener.onResponse(!bulkResponse.hasFailures()); }, e -> {
-                        internalListener.onFailure(e);
+                    .bulk(request, ActionListener.wrap(bulkResponse -> { deleteListener.onResponse(!bulkResponse.hasFailures()); }, e -> {
+                        deleteListener.onFailure(e);
                     }));
             }, e -> { internalListener.onFailure(e); });
             ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
@@ -526,8 +644,8 @@ public class InteractionsIndex {
      * @param listener receives the search response from this query
      */
     public void searchInteractions(String conversationId, SearchRequest request, ActionListener<SearchResponse> listener) {
-        conversationMetaIndex.checkAccess(conversationId, ActionListener.wrap(access -> {
-            if (access) {
+        conversationMetaIndex.checkAccessAndGetVersion(conversationId, ActionListener.wrap(version -> {
+            if (version != null) {
                 try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                     ActionListener<SearchResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     request.indices(INTERACTIONS_INDEX_NAME);
@@ -536,15 +654,14 @@ public class InteractionsIndex {
                     newQuery.must(originalQuery);
                     newQuery.must(new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId));
                     request.source().query(newQuery);
-                    client
-                        .admin()
-                        .indices()
-                        .refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                            client.search(request, internalListener);
-                        }, e -> {
-                            log.error("Failed to refresh messages index during search messages ", e);
-                            internalListener.onFailure(e);
-                        }));
+                    if (cache.isSearchable(conversationId, version)) {
+                        client.search(request, internalListener);
+                        return;
+                    }
+                    refreshInteractionsIndex(ActionListener.wrap(r -> { client.search(request, internalListener); }, e -> {
+                        log.error("Failed to refresh messages index during search messages ", e);
+                        internalListener.onFailure(e);
+                    }));
                 } catch (Exception e) {
                     listener.onFailure(e);
                 }
@@ -587,12 +704,8 @@ public class InteractionsIndex {
                 // checks if the user has permission to access the conversation that the interaction belongs to
                 checkInteractionPermission(interactionId, interaction, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh message index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // a get by id is realtime, the index doesn't need a refresh
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
@@ -623,37 +736,41 @@ public class InteractionsIndex {
                 }
                 Interaction interaction = Interaction.fromMap(interactionId, getResponse.getSourceAsMap());
                 // checks if the user has permission to access the conversation that the interaction belongs to
-                String conversationId = interaction.getConversationId();
-                ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
-                    if (access) {
-                        innerUpdateInteraction(updateRequest, internalListener);
-                    } else {
-                        String userstr = client
-                            .threadPool()
-                            .getThreadContext()
-                            .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
-                        String user = User.parse(userstr) == null
-                            ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS
-                            : User.parse(userstr).getName();
-                        throw new OpenSearchStatusException(
-                            "User [" + user + "] does not have access to message " + interactionId,
-                            RestStatus.UNAUTHORIZED
-                        );
-                    }
-                }, e -> { listener.onFailure(e); });
-                conversationMetaIndex.checkAccess(conversationId, accessListener);
+                checkUpdatePermission(interactionId, interaction, updateRequest, internalListener);
             }, e -> { internalListener.onFailure(e); });
-            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), ActionListener.wrap(refreshResponse -> {
-                client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
-            }, e -> {
-                log.error("Failed to refresh messages index during get message ", e);
-                internalListener.onFailure(e);
-            }));
+            // a get by id is realtime, the index doesn't need a refresh
+            client.get(request, ActionListener.runBefore(al, () -> threadContext.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    private void checkUpdatePermission(
+        String interactionId,
+        Interaction interaction,
+        UpdateRequest updateRequest,
+        ActionListener<UpdateResponse> listener
+    ) {
+        String conversationId = interaction.getConversationId();
+        ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
+            if (access) {
+                // the cached interactions of the conversation are stale after the update, read it from the index again
+                innerUpdateInteraction(updateRequest, ActionListener.runBefore(listener, () -> cache.invalidate(conversationId)));
+            } else {
+                String userstr = client
+                    .threadPool()
+                    .getThreadContext()
+                    .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+                String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
+                throw new OpenSearchStatusException(
+                    "User [" + user + "] does not have access to message " + interactionId,
+                    RestStatus.UNAUTHORIZED
+                );
+            }
+        }, e -> { listener.onFailure(e); });
+        conversationMetaIndex.checkAccess(conversationId, accessListener);
+    }
+
     private void innerUpdateInteraction(UpdateRequest updateRequest, ActionListener<UpdateResponse> listener) {
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<UpdateResponse> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
@@ -684,4 +801,70 @@ public class InteractionsIndex {
         }, e -> { internalListener.onFailure(e); });
         conversationMetaIndex.checkAccess(conversationId, accessListener);
     }
+
+    /**
+     * Record an update of a conversation made through this node, so the conversation stays tracked when the update
+     * comes from creating an interaction here
+     * @param conversationId the updated conversation
+     * @param version version of the conversation after the update
+     */
+    void onConversationUpdated(String conversationId, long version) {
+        cache.onConversationUpdated(conversationId, version);
+    }
+
+    /**
+     * Refresh the interactions index. Callers arriving while a refresh is running share the next one, which starts
+     * after their writes completed, so a burst of reads missing the cache doesn't refresh once per read
+     * @param listener notified once a refresh started after this call completed
+     */
+    @VisibleForTesting
+    void refreshInteractionsIndex(ActionListener<Void> listener) {
+        synchronized (queuedRefreshes) {
+            queuedRefreshes.add(listener);
+            if (!refreshing.compareAndSet(false, true)) {
+                return;
+            }
+        }
+        startRefresh();
+    }
+
+    private void startRefresh() {
+        List<ActionListener<Void>> listeners;
+        synchronized (queuedRefreshes) {
+            listeners = new ArrayList<>(queuedRefreshes);
+            queuedRefreshes.clear();
+        }
+        long generation = cache.writeGeneration();
+        ActionListener<RefreshResponse> al = ActionListener.wrap(r -> {
+            cache.onRefreshed(generation);
+            completeRefresh(listeners, null);
+        }, e -> { completeRefresh(listeners, e); });
+        try {
+            client.admin().indices().refresh(Requests.refreshRequest(INTERACTIONS_INDEX_NAME), al);
+        } catch (Exception e) {
+            al.onFailure(e);
+        }
+    }
+
+    private void completeRefresh(List<ActionListener<Void>> listeners, Exception failure) {
+        boolean refreshAgain;
+        synchronized (queuedRefreshes) {
+            refreshAgain = !queuedRefreshes.isEmpty();
+            refreshing.set(refreshAgain);
+        }
+        for (ActionListener<Void> listener : listeners) {
+            try {
+                if (failure == null) {
+                    listener.onResponse(null);
+                } else {
+                    listener.onFailure(failure);
+                }
+            } catch (Exception e) {
+                log.error("Failed to notify listener of messages index refresh", e);
+            }
+        }
+        if (refreshAgain) {
+            startRefresh();
+        }
+    }
 }
@@ -433,7 +433,10 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
         updateRequest.docAsUpsert(true);
         updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
 
-        conversationMetaIndex.updateConversation(conversationId, updateRequest, listener);
+        conversationMetaIndex.updateConversation(conversationId, updateRequest, ActionListener.wrap(updateResponse -> {
+            interactionsIndex.onConversationUpdated(conversationId, updateResponse.getVersion());
+            listener.onResponse(updateResponse);
+        }, listener::onFailure));
     }
 
     /**
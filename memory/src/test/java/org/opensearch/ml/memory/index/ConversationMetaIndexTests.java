@@ -23,6 +23,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,6 +40,7 @@ import org.opensearch.action.DocWriteResponse;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.delete.DeleteResponse;
+import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
@@ -489,9 +491,8 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testCheckAccess_ClientFails_ThenFail() {
         setupUser("user");
-        setupRefreshSuccess();
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Client Test Fail")).when(client).admin();
+        doThrow(new RuntimeException("Client Test Fail")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> accessListener = mock(ActionListener.class);
         conversationMetaIndex.checkAccess("test id", accessListener);
@@ -521,20 +522,26 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testCheckAccess_RefreshFails_ThenFail() {
-        setupUser("user");
+    public void testCheckAccessAndGetVersion_RealtimeGetWithoutRefresh() {
+        setupUser(null);
         doReturn(true).when(metadata).hasIndex(anyString());
+        final String id = "test_id";
+        GetResponse dummyGetResponse = mock(GetResponse.class);
+        doReturn(true).when(dummyGetResponse).isExists();
+        doReturn(id).when(dummyGetResponse).getId();
+        doReturn(3L).when(dummyGetResponse).getVersion();
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Refresh Exception"));
+            GetRequest request = invocation.getArgument(0);
+            assert (request.realtime());
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(dummyGetResponse);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
-        ActionListener<Boolean> accessListener = mock(ActionListener.class);
-        conversationMetaIndex.checkAccess("test id", accessListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(accessListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Exception"));
+        ActionListener<Long> versionListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccessAndGetVersion(id, versionListener);
+        verify(versionListener, times(1)).onResponse(3L);
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testSearchConversations_RefreshFails_ThenFail() {
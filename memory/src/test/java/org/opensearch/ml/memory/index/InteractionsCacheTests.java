@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.ml.memory.index;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class InteractionsCacheTests extends OpenSearchTestCase {
+
+    private static Interaction interaction(String id, String conversationId, long createTime) {
+        return new Interaction(id, Instant.ofEpochMilli(createTime), conversationId, "inp", "pt", "rsp", "ogn", Map.of());
+    }
+
+    private static Interaction trace(String id, String conversationId, String parentId, int traceNum) {
+        return new Interaction(id, Instant.ofEpochMilli(traceNum), conversationId, "inp", "pt", "rsp", "ogn", Map.of(), parentId, traceNum);
+    }
+
+    public void testPendingUntilRefreshed() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.onCreated(interaction("iid1", "cid", 1));
+        long generation = cache.writeGeneration();
+        cache.onCreated(interaction("iid2", "cid", 2));
+        cache.onCreated(trace("tid1", "cid", "iid2", 1));
+
+        assertEquals(2, cache.getPendingInteractions("cid").size());
+        assertEquals(1, cache.getPendingTraces("cid", "iid2").size());
+        assertFalse(cache.isTracked("cid", 1));
+
+        cache.onRefreshed(generation);
+        assertEquals(1, cache.getPendingInteractions("cid").size());
+        assertEquals("iid2", cache.getPendingInteractions("cid").get(0).getId());
+
+        cache.track("cid", 1, cache.invalidationGeneration());
+        assertTrue(cache.isTracked("cid", 1));
+        assertFalse(cache.isSearchable("cid", 1));
+        cache.onSearched("cid", Set.of("iid2", "tid1"));
+        assertTrue(cache.isSearchable("cid", 1));
+    }
+
+    public void testConversationUpdatedThroughThisNode_StaysTracked() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.track("cid", 1, cache.invalidationGeneration());
+        cache.onCreated(interaction("iid1", "cid", 1));
+        cache.onConversationUpdated("cid", 2);
+
+        assertTrue(cache.isTracked("cid", 2));
+        // updated through another node, its interactions may not be searchable
+        assertFalse(cache.isTracked("cid", 3));
+    }
+
+    public void testConversationUpdatedThroughOtherNodeInBetween_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.track("cid", 1, cache.invalidationGeneration());
+        cache.onCreated(interaction("iid1", "cid", 1));
+        cache.onConversationUpdated("cid", 3);
+
+        assertFalse(cache.isTracked("cid", 3));
+        assertTrue(cache.getPendingInteractions("cid").isEmpty());
+    }
+
+    public void testTrack_InvalidatedDuringRead_ThenNotTracked() {
+        InteractionsCache cache = new InteractionsCache();
+        long generation = cache.invalidationGeneration();
+        cache.invalidate("cid");
+        cache.track("cid", 1, generation);
+        assertFalse(cache.isTracked("cid", 1));
+
+        cache.track("cid", -1, cache.invalidationGeneration());
+        assertFalse(cache.isTracked("cid", -1));
+    }
+
+    public void testTooManyPendingInteractions_ThenInvalidate() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.track("cid", 1, cache.invalidationGeneration());
+        for (int i = 0; i <= InteractionsCache.MAX_PENDING_INTERACTIONS; i++) {
+            cache.onCreated(interaction("iid" + i, "cid", i));
+        }
+        assertFalse(cache.isTracked("cid", 1));
+        assertTrue(cache.getPendingInteractions("cid").isEmpty());
+    }
+
+    public void testEvictLeastRecentlyUsed() {
+        InteractionsCache cache = new InteractionsCache();
+        cache.onCreated(interaction("iid", "cid0", 0));
+        for (int i = 1; i <= InteractionsCache.MAX_CONVERSATIONS; i++) {
+            cache.track("cid" + i, 1, cache.invalidationGeneration());
+        }
+        assertEquals(InteractionsCache.MAX_CONVERSATIONS, cache.size());
+        assertTrue(cache.getPendingInteractions("cid0").isEmpty());
+        assertTrue(cache.isTracked("cid1", 1));
+    }
+
+    public void testMerge() {
+        List<Interaction> hits = List.of(interaction("iid1", "cid", 1), interaction("iid3", "cid", 3));
+        List<Interaction> pending = List.of(interaction("iid2", "cid", 2), interaction("iid3", "cid", 3), interaction("iid4", "cid", 4));
+
+        List<Interaction> merged = InteractionsCache.merge(hits, pending, InteractionsCache.CREATE_TIME_ORDER, 1, 2);
+        assertEquals(2, merged.size());
+        assertEquals("iid2", merged.get(0).getId());
+        assertEquals("iid3", merged.get(1).getId());
+        assertEquals(1, InteractionsCache.merge(hits, pending, InteractionsCache.CREATE_TIME_ORDER, 3, 10).size());
+        assertTrue(InteractionsCache.merge(hits, pending, InteractionsCache.CREATE_TIME_ORDER, 4, 10).isEmpty());
+    }
+}
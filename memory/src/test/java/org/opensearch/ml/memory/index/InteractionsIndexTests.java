@@ -25,11 +25,13 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -153,6 +155,15 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             al.onResponse(true);
             return null;
         }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        setupConversationVersion(1L);
+    }
+
+    private void setupConversationVersion(Long version) {
+        doAnswer(invocation -> {
+            ActionListener<Long> al = invocation.getArgument(1);
+            al.onResponse(version);
+            return null;
+        }).when(conversationMetaIndex).checkAccessAndGetVersion(anyString(), any());
     }
 
     private void setupDenyAccess(String user) {
@@ -162,6 +173,7 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             al.onResponse(false);
             return null;
         }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        setupConversationVersion(null);
         doAnswer(invocation -> {
             ThreadContext tc = new ThreadContext(Settings.EMPTY);
             tc.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, userstr);
@@ -795,26 +807,31 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Message [iid] not found"));
     }
 
-    public void testGetSg_RefreshFails_ThenFail() {
+    public void testGetSg_RealtimeGetWithoutRefresh() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        GetResponse response = setUpInteractionResponse("iid");
         doAnswer(invocation -> {
-            ActionListener<RefreshResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failed during Sg Get Refresh"));
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
             return null;
-        }).when(indicesAdminClient).refresh(any(), any());
+        }).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
-        ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(getListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failed during Sg Get Refresh"));
+        verify(getListener, times(1)).onResponse(any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> tracesListener = mock(ActionListener.class);
+        interactionsIndex.getTraces("iid", 0, 10, tracesListener);
+        verify(client, times(2)).get(any(), any());
+        verify(indicesAdminClient, never()).refresh(any(), any());
     }
 
     public void testGetSg_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).admin();
+        doThrow(new RuntimeException("Client Failure in Sg Get")).when(client).get(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Interaction> getListener = mock(ActionListener.class);
         interactionsIndex.getInteraction("iid", getListener);
@@ -919,6 +936,181 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         verify(updateListener, times(1)).onResponse(argCaptor.capture());
     }
 
+    public void testGet_AfterCreate_MergesPendingWithoutRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        setUpSearchTraceResponse();
+        setupCreateSuccess("iid2");
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> firstListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, firstListener);
+        verify(firstListener, times(1)).onResponse(any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createListener = mock(ActionListener.class);
+        interactionsIndex
+            .createInteraction(
+                "cid",
+                "inp",
+                "pt",
+                "rsp",
+                "ogn",
+                Collections.singletonMap("meta", "some meta"),
+                Instant.now().plusSeconds(60),
+                createListener
+            );
+        verify(createListener, times(1)).onResponse("iid2");
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> secondListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, secondListener);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
+        verify(secondListener, times(1)).onResponse(argCaptor.capture());
+        List<Interaction> result = argCaptor.getValue();
+        assert (result.size() == 2);
+        assert (result.get(0).getId().equals("iId"));
+        assert (result.get(1).getId().equals("iid2"));
+        verify(indicesAdminClient, times(1)).refresh(any(), any());
+    }
+
+    public void testGetSg_AfterCreate_ReadsFromIndex() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        setupCreateSuccess("iid2");
+        GetResponse response = setUpInteractionResponse("iid2");
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<String> createListener = mock(ActionListener.class);
+        interactionsIndex
+            .createInteraction("cid", "inp", "pt", "rsp", "ogn", Collections.singletonMap("meta", "some meta"), createListener);
+
+        // a pending interaction may have been updated or deleted through another node since, read it from the index
+        @SuppressWarnings("unchecked")
+        ActionListener<Interaction> getListener = mock(ActionListener.class);
+        interactionsIndex.getInteraction("iid2", getListener);
+        ArgumentCaptor<Interaction> argCaptor = ArgumentCaptor.forClass(Interaction.class);
+        verify(getListener, times(1)).onResponse(argCaptor.capture());
+        assert (argCaptor.getValue().getResponse().equals("answer1"));
+        verify(client, times(1)).get(any(), any());
+    }
+
+    public void testGet_ConversationUpdatedThroughOtherNode_ThenRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        setUpSearchTraceResponse();
+
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> firstListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, firstListener);
+        verify(firstListener, times(1)).onResponse(any());
+
+        // created through this node, the conversation stays tracked
+        interactionsIndex.onConversationUpdated("cid", 2L);
+        setupConversationVersion(2L);
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> secondListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, secondListener);
+        verify(secondListener, times(1)).onResponse(any());
+        verify(indicesAdminClient, times(1)).refresh(any(), any());
+
+        // created through another node, the interaction may not be searchable yet
+        setupConversationVersion(3L);
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> thirdListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, thirdListener);
+        verify(thirdListener, times(1)).onResponse(any());
+        verify(indicesAdminClient, times(2)).refresh(any(), any());
+    }
+
+    public void testUpdateInteraction_InvalidatesConversation() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        setUpSearchTraceResponse();
+        doAnswer(invocation -> {
+            ShardId shardId = new ShardId(new Index("indexName", "uuid"), 1);
+            UpdateResponse updateResponse = new UpdateResponse(shardId, "iid2", 1, 1, 1, DocWriteResponse.Result.UPDATED);
+            ActionListener<UpdateResponse> listener = invocation.getArgument(1);
+            listener.onResponse(updateResponse);
+            return null;
+        }).when(client).update(any(), any());
+        GetResponse response = setUpInteractionResponse("iid2");
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> firstListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("conversation test 1", 0, 10, firstListener);
+        verify(firstListener, times(1)).onResponse(any());
+
+        @SuppressWarnings("unchecked")
+        ActionListener<UpdateResponse> updateListener = mock(ActionListener.class);
+        interactionsIndex.updateInteraction("iid2", new UpdateRequest(), updateListener);
+        verify(updateListener, times(1)).onResponse(any());
+
+        // the conversation is read from the index again
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("conversation test 1", 0, 10, getListener);
+        verify(getListener, times(1)).onResponse(any());
+        // once for the first read, once for the read after the update, the get of the interaction is realtime
+        verify(indicesAdminClient, times(2)).refresh(any(), any());
+    }
+
+    public void testRefresh_ConcurrentCallersShareRefresh() {
+        List<ActionListener<RefreshResponse>> refreshListeners = new ArrayList<>();
+        doAnswer(invocation -> {
+            refreshListeners.add(invocation.getArgument(1));
+            return null;
+        }).when(indicesAdminClient).refresh(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Void> first = mock(ActionListener.class);
+        @SuppressWarnings("unchecked")
+        ActionListener<Void> second = mock(ActionListener.class);
+        @SuppressWarnings("unchecked")
+        ActionListener<Void> third = mock(ActionListener.class);
+        interactionsIndex.refreshInteractionsIndex(first);
+        interactionsIndex.refreshInteractionsIndex(second);
+        interactionsIndex.refreshInteractionsIndex(third);
+        assert (refreshListeners.size() == 1);
+
+        // callers arriving during a refresh wait for the next one
+        refreshListeners.get(0).onResponse(mock(RefreshResponse.class));
+        verify(first, times(1)).onResponse(any());
+        verify(second, never()).onResponse(any());
+        assert (refreshListeners.size() == 2);
+
+        refreshListeners.get(1).onFailure(new Exception("Failed to Refresh"));
+        verify(second, times(1)).onFailure(any());
+        verify(third, times(1)).onFailure(any());
+        assert (refreshListeners.size() == 2);
+
+        interactionsIndex.refreshInteractionsIndex(first);
+        assert (refreshListeners.size() == 3);
+    }
+
+    private void setupCreateSuccess(String interactionId) {
+        IndexResponse response = mock(IndexResponse.class);
+        doReturn(RestStatus.CREATED).when(response).status();
+        doReturn(interactionId).when(response).getId();
+        doAnswer(invocation -> {
+            ActionListener<IndexResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).index(any(), any());
+    }
+
     private GetResponse setUpInteractionResponse(String interactionId) {
         @SuppressWarnings("unchecked")
         GetResponse response = mock(GetResponse.class);
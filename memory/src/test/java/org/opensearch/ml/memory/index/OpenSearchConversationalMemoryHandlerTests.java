@@ -205,6 +205,7 @@ public class OpenSearchConversationalMemoryHandlerTests extends OpenSearchTestCa
         cmHandler.updateConversation("cId", new HashMap<>(), updateConversationListener);
         ArgumentCaptor<UpdateResponse> argCaptor = ArgumentCaptor.forClass(UpdateResponse.class);
         verify(updateConversationListener, times(1)).onResponse(argCaptor.capture());
+        verify(interactionsIndex, times(1)).onConversationUpdated("cId", 1L);
     }
 
     public void testDelete_NoAccess() {
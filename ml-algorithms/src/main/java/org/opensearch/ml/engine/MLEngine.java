@@ -47,12 +47,17 @@ public class MLEngine {
     private final Path mlCachePath;
     private final Path mlModelsCachePath;
 
+    @Getter
+    private final ModelArtifactCache modelArtifactCache;
+
     private Encryptor encryptor;
 
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
         this.mlConfigPath = mlCachePath.resolve("config");
+        // kept outside the model folders which are cleaned up when models are undeployed
+        this.modelArtifactCache = new ModelArtifactCache(mlModelsCachePath.resolve("artifacts"), 0);
         this.encryptor = encryptor;
     }
 
@@ -5,23 +5,27 @@
 
 package org.opensearch.ml.engine;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLClassIndex;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.annotation.Ingester;
-import org.reflections.Reflections;
 
 @SuppressWarnings("removal")
 public class MLEngineClassLoader {
@@ -39,6 +43,11 @@ public class MLEngineClassLoader {
      */
     private static Map<Enum<?>, Object> mlObjects = new HashMap<>();
 
+    /**
+     * This map contains the constructors "initInstance" resolved, by class and constructor parameter class.
+     */
+    private static final Map<List<Class<?>>, Constructor<?>> constructorCache = new ConcurrentHashMap<>();
+
     static {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
@@ -72,10 +81,12 @@ public class MLEngineClassLoader {
         return mlObjects.remove(functionName);
     }
 
-    private static void loadClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.engine.algorithms");
+    private static Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName) {
+        return MLClassIndex.getTypesAnnotatedWith(annotation, packageName, MLEngineClassLoader.class.getClassLoader());
+    }
 
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(Function.class);
+    private static void loadClassMapping() {
+        Set<Class<?>> classes = getTypesAnnotatedWith(Function.class, "org.opensearch.ml.engine.algorithms");
         // Load ML algorithm parameter class
         for (Class<?> clazz : classes) {
             Function function = clazz.getAnnotation(Function.class);
@@ -85,7 +96,7 @@ public class MLEngineClassLoader {
             }
         }
 
-        Set<Class<?>> connectorExecutorClasses = reflections.getTypesAnnotatedWith(ConnectorExecutor.class);
+        Set<Class<?>> connectorExecutorClasses = getTypesAnnotatedWith(ConnectorExecutor.class, "org.opensearch.ml.engine.algorithms");
         // Load connector class
         for (Class<?> clazz : connectorExecutorClasses) {
             ConnectorExecutor connectorExecutor = clazz.getAnnotation(ConnectorExecutor.class);
@@ -97,8 +108,7 @@ public class MLEngineClassLoader {
     }
 
     private static void loadIngestClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.engine.ingest");
-        Set<Class<?>> ingesterClasses = reflections.getTypesAnnotatedWith(Ingester.class);
+        Set<Class<?>> ingesterClasses = getTypesAnnotatedWith(Ingester.class, "org.opensearch.ml.engine.ingest");
         // Load ingester class
         for (Class<?> clazz : ingesterClasses) {
             Ingester ingester = clazz.getAnnotation(Ingester.class);
@@ -143,15 +153,8 @@ public class MLEngineClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor;
-            S instance;
-            try {
-                constructor = clazz.getConstructor(constructorParamClass);
-                instance = (S) constructor.newInstance(in);
-            } catch (NoSuchMethodException e) {
-                constructor = clazz.getConstructor();
-                instance = (S) constructor.newInstance();
-            }
+            Constructor<?> constructor = getConstructor(clazz, constructorParamClass);
+            S instance = constructor.getParameterCount() == 0 ? (S) constructor.newInstance() : (S) constructor.newInstance(in);
             BeanUtils.populate(instance, properties);
             return instance;
         } catch (Exception e) {
@@ -165,4 +168,20 @@ public class MLEngineClassLoader {
         }
     }
 
+    /**
+     * Get the constructor with "constructorParamClass", or the default constructor if there is none.
+     */
+    private static Constructor<?> getConstructor(Class<?> clazz, Class<?> constructorParamClass) throws NoSuchMethodException {
+        List<Class<?>> key = Arrays.asList(clazz, constructorParamClass);
+        Constructor<?> constructor = constructorCache.get(key);
+        if (constructor == null) {
+            try {
+                constructor = clazz.getConstructor(constructorParamClass);
+            } catch (NoSuchMethodException e) {
+                constructor = clazz.getConstructor();
+            }
+            constructorCache.put(key, constructor);
+        }
+        return constructor;
+    }
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Size bounded cache of unzipped model artifacts on local disk, keyed by model content hash value. Redeploying a
+ * model whose content is already cached skips retrieving the model chunks and unzipping the model file.
+ * <p>
+ * Artifacts in use by a deployed model are pinned with {@link #acquire} and {@link #release}. When the cache grows
+ * over its size limit, unpinned artifacts are evicted in least recently used order. The cache is disabled when the
+ * size limit is 0.
+ * <p>
+ * Artifacts are written into a temporary folder without holding the cache lock, then renamed into place, so a slow
+ * unzip doesn't block the other models. Concurrent misses of the same artifact wait for a single write.
+ */
+@Log4j2
+public class ModelArtifactCache {
+    static final String COMPLETE_MARKER = ".complete";
+    // has no complete marker, so partially written artifacts left by a node stop are deleted when the cache is loaded
+    static final String TEMP_FOLDER = ".tmp";
+
+    @FunctionalInterface
+    public interface ArtifactWriter {
+        /**
+         * Write the model artifact into the given empty folder.
+         * @param artifactPath artifact folder
+         * @throws Exception if failed to write the artifact
+         */
+        void write(Path artifactPath) throws Exception;
+    }
+
+    private static class CachedArtifact {
+        private final long sizeInBytes;
+        private int references;
+
+        CachedArtifact(long sizeInBytes) {
+            this.sizeInBytes = sizeInBytes;
+        }
+    }
+
+    @Getter
+    private final Path cacheRootPath;
+    @Getter
+    private volatile long maxSizeInBytes;
+    // access ordered, the first entry is the least recently used artifact
+    private final LinkedHashMap<String, CachedArtifact> artifacts = new LinkedHashMap<>(16, 0.75f, true);
+    // content hash as key, completed once the artifact is cached or failed to write
+    private final Map<String, CompletableFuture<Void>> pendingWrites = new HashMap<>();
+    private long totalSizeInBytes;
+    private boolean loaded;
+
+    public ModelArtifactCache(Path cacheRootPath, long maxSizeInBytes) {
+        this.cacheRootPath = cacheRootPath;
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    public boolean isEnabled() {
+        return maxSizeInBytes > 0;
+    }
+
+    public synchronized void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        if (loaded) {
+            evict();
+        }
+    }
+
+    public synchronized long getTotalSizeInBytes() {
+        return totalSizeInBytes;
+    }
+
+    /**
+     * Check if the artifact of the model content hash value is cached.
+     * @param contentHash model content hash value
+     * @return true if the artifact is cached
+     */
+    public synchronized boolean contains(String contentHash) {
+        if (!isEnabled() || contentHash == null) {
+            return false;
+        }
+        loadIfNeeded();
+        return artifacts.containsKey(contentHash);
+    }
+
+    /**
+     * Pin the artifact of the model content hash value if it is cached, so it can't be evicted until {@link #release}
+     * is called. A caller skipping the retrieval of a cached model must pin it, the artifact could be evicted before
+     * it is loaded otherwise.
+     * @param contentHash model content hash value
+     * @return artifact folder, null if the artifact is not cached
+     */
+    public synchronized Path tryAcquire(String contentHash) {
+        if (!isEnabled() || contentHash == null) {
+            return null;
+        }
+        loadIfNeeded();
+        CachedArtifact artifact = artifacts.get(contentHash);
+        return artifact == null ? null : pin(contentHash, artifact);
+    }
+
+    /**
+     * Get the artifact folder of the model content hash value and pin it until {@link #release} is called. On a
+     * cache miss, the artifact is written into the cache with the writer first, concurrent misses of the same artifact
+     * wait for that write.
+     * @param contentHash model content hash value
+     * @param writer writes the artifact on a cache miss, can be null if the artifact is known to be cached
+     * @return artifact folder
+     * @throws Exception if the artifact is not cached and failed to write it
+     */
+    public Path acquire(String contentHash, ArtifactWriter writer) throws Exception {
+        Path artifactPath = cacheRootPath.resolve(contentHash);
+        while (true) {
+            CompletableFuture<Void> pendingWrite;
+            boolean writeArtifact = false;
+            synchronized (this) {
+                loadIfNeeded();
+                CachedArtifact artifact = artifacts.get(contentHash);
+                if (artifact != null) {
+                    return pin(contentHash, artifact);
+                }
+                if (writer == null) {
+                    throw new IllegalArgumentException("Model artifact " + contentHash + " is not cached");
+                }
+                pendingWrite = pendingWrites.get(contentHash);
+                if (pendingWrite == null) {
+                    pendingWrite = new CompletableFuture<>();
+                    pendingWrites.put(contentHash, pendingWrite);
+                    writeArtifact = true;
+                }
+            }
+            if (writeArtifact) {
+                write(contentHash, artifactPath, writer, pendingWrite);
+                return artifactPath;
+            }
+            try {
+                pendingWrite.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+    }
+
+    private Path pin(String contentHash, CachedArtifact artifact) {
+        Path artifactPath = cacheRootPath.resolve(contentHash);
+        // keep the least recently used order across node restarts
+        artifactPath.resolve(COMPLETE_MARKER).toFile().setLastModified(System.currentTimeMillis());
+        artifact.references++;
+        evict();
+        return artifactPath;
+    }
+
+    private void write(String contentHash, Path artifactPath, ArtifactWriter writer, CompletableFuture<Void> pendingWrite)
+        throws Exception {
+        // the artifact folder keeps its final name, model files are named after it
+        Path tempParentPath = cacheRootPath.resolve(TEMP_FOLDER).resolve(UUID.randomUUID().toString());
+        Path tempPath = tempParentPath.resolve(contentHash);
+        try {
+            Files.createDirectories(tempPath);
+            writer.write(tempPath);
+            Files.createFile(tempPath.resolve(COMPLETE_MARKER));
+            long sizeInBytes = org.apache.commons.io.FileUtils.sizeOfDirectory(tempPath.toFile());
+            synchronized (this) {
+                deleteFileQuietly(artifactPath);
+                Files.move(tempPath, artifactPath, StandardCopyOption.ATOMIC_MOVE);
+                CachedArtifact artifact = new CachedArtifact(sizeInBytes);
+                artifact.references++;
+                artifacts.put(contentHash, artifact);
+                totalSizeInBytes += sizeInBytes;
+                pendingWrites.remove(contentHash);
+                pendingWrite.complete(null);
+                evict();
+            }
+            log.debug("Cached model artifact {} with {} bytes", contentHash, sizeInBytes);
+        } catch (Exception e) {
+            synchronized (this) {
+                pendingWrites.remove(contentHash);
+            }
+            pendingWrite.completeExceptionally(e);
+            throw e;
+        } finally {
+            deleteFileQuietly(tempParentPath);
+        }
+    }
+
+    /**
+     * Unpin the artifact of the model content hash value.
+     * @param contentHash model content hash value
+     */
+    public synchronized void release(String contentHash) {
+        CachedArtifact artifact = artifacts.get(contentHash);
+        if (artifact != null && artifact.references > 0) {
+            artifact.references--;
+        }
+        evict();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<String, CachedArtifact>> iterator = artifacts.entrySet().iterator();
+        while (totalSizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedArtifact> entry = iterator.next();
+            if (entry.getValue().references > 0) {
+                continue;
+            }
+            iterator.remove();
+            totalSizeInBytes -= entry.getValue().sizeInBytes;
+            deleteFileQuietly(cacheRootPath.resolve(entry.getKey()));
+            log.info("Evicted model artifact {} from local cache", entry.getKey());
+        }
+    }
+
+    @SuppressWarnings("removal")
+    private void loadIfNeeded() {
+        if (loaded) {
+            return;
+        }
+        loaded = true;
+        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+            File[] folders = cacheRootPath.toFile().listFiles(File::isDirectory);
+            if (folders == null) {
+                return null;
+            }
+            File[] completed = Arrays.stream(folders).filter(folder -> {
+                if (new File(folder, COMPLETE_MARKER).exists()) {
+                    return true;
+                }
+                // partially written artifact, the node stopped while caching it
+                deleteFileQuietly(folder);
+                return false;
+            }).sorted(Comparator.comparingLong(folder -> new File(folder, COMPLETE_MARKER).lastModified())).toArray(File[]::new);
+            for (File folder : completed) {
+                long size = org.apache.commons.io.FileUtils.sizeOfDirectory(folder);
+                artifacts.put(folder.getName(), new CachedArtifact(size));
+                totalSizeInBytes += size;
+            }
+            log.info("Loaded {} model artifacts with {} bytes from {}", artifacts.size(), totalSizeInBytes, cacheRootPath);
+            evict();
+            return null;
+        });
+    }
+}
@@ -33,6 +33,7 @@ import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelArtifactCache;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -45,6 +46,7 @@ import ai.djl.engine.Engine;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.ndarray.BytesSupplier;
 import ai.djl.repository.zoo.Criteria;
 import ai.djl.repository.zoo.ModelNotFoundException;
 import ai.djl.repository.zoo.ZooModel;
@@ -58,6 +60,8 @@ public abstract class DLModel implements Predictable {
     public static final String MODEL_ZIP_FILE = "model_zip_file";
     public static final String MODEL_HELPER = "model_helper";
     public static final String ML_ENGINE = "ml_engine";
+    public static final String INFERENCE_BATCH_SIZE = "inference_batch_size";
+    public static final String INFERENCE_BATCH_WINDOW_IN_MILLIS = "inference_batch_window_in_millis";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
     protected String modelId;
@@ -68,6 +72,14 @@ public abstract class DLModel implements Predictable {
     protected AtomicInteger nextDevice = new AtomicInteger(0);
 
     protected MLModelConfig modelConfig;
+    protected String engine;
+
+    protected int inferenceBatchSize = 1;
+    protected long inferenceBatchWindowInMillis = 0;
+
+    protected String modelContentHash;
+    // content hash of the model artifact pinned in the local artifact cache, null if the cache is not used
+    private String cachedArtifactHash;
 
     @Override
     public MLOutput predict(MLInput mlInput, MLModel model) {
@@ -123,7 +135,9 @@ public abstract class DLModel implements Predictable {
         File modelZipFile = (File) params.get(MODEL_ZIP_FILE);
         modelHelper = (ModelHelper) params.get(MODEL_HELPER);
         mlEngine = (MLEngine) params.get(ML_ENGINE);
-        if (modelZipFile == null) {
+        modelContentHash = model.getModelContentHash();
+        // the model file is not retrieved again if the model artifact is cached locally
+        if (modelZipFile == null && (mlEngine == null || !isArtifactCached())) {
             throw new IllegalArgumentException("model file is null");
         }
         if (modelHelper == null) {
@@ -139,6 +153,12 @@ public abstract class DLModel implements Predictable {
         if (!FunctionName.isDLModel(model.getAlgorithm())) {
             throw new IllegalArgumentException("wrong function name");
         }
+        if (params.get(INFERENCE_BATCH_SIZE) != null) {
+            inferenceBatchSize = Math.max(1, ((Number) params.get(INFERENCE_BATCH_SIZE)).intValue());
+        }
+        if (params.get(INFERENCE_BATCH_WINDOW_IN_MILLIS) != null) {
+            inferenceBatchWindowInMillis = Math.max(0, ((Number) params.get(INFERENCE_BATCH_WINDOW_IN_MILLIS)).longValue());
+        }
         loadModel(modelZipFile, modelId, model.getName(), model.getVersion(), model.getModelConfig(), engine);
     }
 
@@ -146,6 +166,10 @@ public abstract class DLModel implements Predictable {
     public void close() {
         if (modelHelper != null && modelId != null) {
             modelHelper.deleteFileCache(modelId);
+            if (cachedArtifactHash != null) {
+                mlEngine.getModelArtifactCache().release(cachedArtifactHash);
+                cachedArtifactHash = null;
+            }
             if (predictors != null) {
                 closePredictors(predictors);
                 predictors = null;
@@ -187,6 +211,7 @@ public abstract class DLModel implements Predictable {
         TranslateException {
         devices = Engine.getEngine(engine).getDevices();
         this.modelConfig = modelConfig;
+        this.engine = engine;
         for (int i = 0; i < devices.length; i++) {
             log.debug("load model {} to device {}: {}", modelId, i, devices[i]);
             ZooModel<Input, Output> model;
@@ -261,27 +286,19 @@ public abstract class DLModel implements Predictable {
                     System.setProperty("ai.djl.pytorch.num_interop_threads", "1");
                     System.setProperty("ai.djl.pytorch.num_threads", "1");
                     Thread.currentThread().setContextClassLoader(ai.djl.Model.class.getClassLoader());
-                    Path modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
-                    File pathFile = new File(modelPath.toUri());
-                    if (pathFile.exists()) {
-                        FileUtils.deleteDirectory(pathFile);
-                    }
-                    ZipUtils.unzip(modelZipFile, modelPath);
-                    boolean findModelFile = false;
-                    for (File file : pathFile.listFiles()) {
-                        String name = file.getName();
-                        if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
-                            if (findModelFile) {
-                                throw new IllegalArgumentException("found multiple models");
-                            }
-                            findModelFile = true;
-                            int dotIndex = name.lastIndexOf(".");
-                            String suffix = name.substring(dotIndex);
-                            String targetModelFileName = modelPath.getFileName().toString();
-                            if (!targetModelFileName.equals(name.substring(0, dotIndex))) {
-                                file.renameTo(new File(modelPath.resolve(targetModelFileName + suffix).toUri()));
-                            }
+                    Path modelPath;
+                    if (useArtifactCache()) {
+                        // without a model zip file, the caller pinned the cached artifact
+                        ModelArtifactCache.ArtifactWriter writer = modelZipFile == null ? null : path -> unzipModel(modelZipFile, path);
+                        modelPath = mlEngine.getModelArtifactCache().acquire(modelContentHash, writer);
+                        cachedArtifactHash = modelContentHash;
+                    } else {
+                        modelPath = mlEngine.getModelCachePath(modelId, modelName, version);
+                        File pathFile = new File(modelPath.toUri());
+                        if (pathFile.exists()) {
+                            FileUtils.deleteDirectory(pathFile);
                         }
+                        unzipModel(modelZipFile, modelPath);
                     }
                     doLoadModel(predictorList, modelList, engine, modelPath, modelConfig);
                     return null;
@@ -310,6 +327,42 @@ public abstract class DLModel implements Predictable {
         }
     }
 
+    private boolean useArtifactCache() {
+        return modelContentHash != null && mlEngine.getModelArtifactCache().isEnabled();
+    }
+
+    private boolean isArtifactCached() {
+        return useArtifactCache() && mlEngine.getModelArtifactCache().contains(modelContentHash);
+    }
+
+    /**
+     * Unzip model file and rename the model file to the folder name, which DJL looks up when loading the model.
+     * @param modelZipFile model zip file
+     * @param modelPath folder to unzip the model into
+     */
+    private void unzipModel(File modelZipFile, Path modelPath) {
+        if (modelZipFile == null) {
+            throw new IllegalArgumentException("model file is null");
+        }
+        ZipUtils.unzip(modelZipFile, modelPath);
+        boolean findModelFile = false;
+        for (File file : modelPath.toFile().listFiles()) {
+            String name = file.getName();
+            if (name.endsWith(PYTORCH_FILE_EXTENSION) || name.endsWith(ONNX_FILE_EXTENSION)) {
+                if (findModelFile) {
+                    throw new IllegalArgumentException("found multiple models");
+                }
+                findModelFile = true;
+                int dotIndex = name.lastIndexOf(".");
+                String suffix = name.substring(dotIndex);
+                String targetModelFileName = modelPath.getFileName().toString();
+                if (!targetModelFileName.equals(name.substring(0, dotIndex))) {
+                    file.renameTo(new File(modelPath.resolve(targetModelFileName + suffix).toUri()));
+                }
+            }
+        }
+    }
+
     protected void closePredictors(Predictor[] predictors) {
         log.debug("will close {} predictor for model {}", predictors.length, modelId);
         for (Predictor<Input, Output> predictor : predictors) {
@@ -334,8 +387,14 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
-        ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
+        BytesSupplier data = output.getData();
+        ModelTensors tensorOutput;
+        if (data instanceof ModelTensorsBytesSupplier) {
+            // translator handed over the tensors directly, no need to deserialize them
+            tensorOutput = ((ModelTensorsBytesSupplier) data).getModelTensors();
+        } else {
+            tensorOutput = ModelTensors.fromBytes(data.getAsBytes());
+        }
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
         }
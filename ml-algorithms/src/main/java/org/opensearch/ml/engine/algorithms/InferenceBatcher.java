@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Groups text documents into padded batches for local model inference.
+ * <p>
+ * Documents are sorted by length and split into buckets of at most {@code maxBatchSize} documents, so short documents
+ * are not padded up to the longest document of the request. When {@code windowInMillis} is positive, concurrent
+ * requests arriving within the window are merged before bucketing: the first caller collects the pending documents
+ * of every request, runs the batches and hands each caller its own outputs back in the original order.
+ */
+@Log4j2
+public class InferenceBatcher {
+    // A bucket is closed once a document is this many times longer than the shortest document in the bucket.
+    static final int MAX_LENGTH_RATIO = 2;
+
+    @FunctionalInterface
+    public interface BatchPredictor {
+        List<Output> batchPredict(List<Input> inputs) throws TranslateException;
+    }
+
+    @Getter
+    private final int maxBatchSize;
+    @Getter
+    private final long windowInMillis;
+    private final BatchPredictor batchPredictor;
+
+    private final Object lock = new Object();
+    private List<PendingRequest> pendingRequests = new ArrayList<>();
+    private int pendingDocs;
+    private boolean collecting;
+
+    public InferenceBatcher(int maxBatchSize, long windowInMillis, BatchPredictor batchPredictor) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("batch size must be positive");
+        }
+        this.maxBatchSize = maxBatchSize;
+        this.windowInMillis = Math.max(0, windowInMillis);
+        this.batchPredictor = batchPredictor;
+    }
+
+    /**
+     * Run inference for the given documents.
+     * @param docs documents to predict
+     * @return one output per document, in the same order as the documents
+     * @throws TranslateException if the model fails to translate any batch containing these documents
+     */
+    public List<Output> predict(List<String> docs) throws TranslateException {
+        if (windowInMillis == 0) {
+            return predictInBuckets(docs);
+        }
+        PendingRequest request = new PendingRequest(docs);
+        boolean leader;
+        synchronized (lock) {
+            pendingRequests.add(request);
+            pendingDocs += docs.size();
+            leader = !collecting;
+            if (leader) {
+                collecting = true;
+            } else if (pendingDocs >= maxBatchSize) {
+                lock.notifyAll();
+            }
+        }
+        if (leader) {
+            execute(collectPendingRequests());
+        }
+        return request.await();
+    }
+
+    private List<PendingRequest> collectPendingRequests() {
+        synchronized (lock) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(windowInMillis);
+            long remaining;
+            try {
+                while (pendingDocs < maxBatchSize && (remaining = deadline - System.nanoTime()) > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                }
+            } catch (InterruptedException e) {
+                // Still drain the queue, other callers are waiting for this thread to run their documents.
+                Thread.currentThread().interrupt();
+            }
+            List<PendingRequest> requests = pendingRequests;
+            pendingRequests = new ArrayList<>();
+            pendingDocs = 0;
+            collecting = false;
+            return requests;
+        }
+    }
+
+    private void execute(List<PendingRequest> requests) {
+        List<String> docs = new ArrayList<>();
+        for (PendingRequest request : requests) {
+            docs.addAll(request.docs);
+        }
+        log.debug("Running {} documents from {} requests in batches of up to {}", docs.size(), requests.size(), maxBatchSize);
+        try {
+            List<Output> outputs = predictInBuckets(docs);
+            int offset = 0;
+            for (PendingRequest request : requests) {
+                int size = request.docs.size();
+                request.future.complete(outputs.subList(offset, offset + size));
+                offset += size;
+            }
+        } catch (Throwable e) {
+            for (PendingRequest request : requests) {
+                request.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    List<Output> predictInBuckets(List<String> docs) throws TranslateException {
+        // Character length is used as a cheap proxy of the token count to keep similar sized documents together.
+        Integer[] order = IntStream.range(0, docs.size()).boxed().toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.comparingInt(i -> docs.get(i).length()));
+        Output[] outputs = new Output[docs.size()];
+        int start = 0;
+        while (start < order.length) {
+            long shortest = Math.max(1, docs.get(order[start]).length());
+            int end = start + 1;
+            while (end < order.length && end - start < maxBatchSize && docs.get(order[end]).length() <= shortest * MAX_LENGTH_RATIO) {
+                end++;
+            }
+            List<Input> inputs = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                Input input = new Input();
+                input.add(docs.get(order[i]));
+                inputs.add(input);
+            }
+            List<Output> batchOutputs = batchPredictor.batchPredict(inputs);
+            if (batchOutputs == null || batchOutputs.size() != inputs.size()) {
+                throw new MLException("Model returned a different number of outputs than inputs in batch");
+            }
+            for (int i = start; i < end; i++) {
+                outputs[order[i]] = batchOutputs.get(i - start);
+            }
+            start = end;
+        }
+        return Arrays.asList(outputs);
+    }
+
+    private static class PendingRequest {
+        private final List<String> docs;
+        private final CompletableFuture<List<Output>> future = new CompletableFuture<>();
+
+        PendingRequest(List<String> docs) {
+            this.docs = docs;
+        }
+
+        List<Output> await() throws TranslateException {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MLException("Interrupted while waiting for batched inference", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof TranslateException) {
+                    throw (TranslateException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new MLException("Failed to run batched inference", cause);
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import java.nio.ByteBuffer;
+
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+import ai.djl.ndarray.BytesSupplier;
+import lombok.Getter;
+
+/**
+ * Carries {@link ModelTensors} from a translator to {@link DLModel} inside a DJL output without serializing them.
+ * The tensors are only serialized if a consumer asks the output for its bytes.
+ */
+public class ModelTensorsBytesSupplier implements BytesSupplier {
+
+    @Getter
+    private final ModelTensors modelTensors;
+    private byte[] bytes;
+
+    public ModelTensorsBytesSupplier(ModelTensors modelTensors) {
+        this.modelTensors = modelTensors;
+    }
+
+    @Override
+    public byte[] getAsBytes() {
+        if (bytes == null) {
+            bytes = modelTensors.toBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public ByteBuffer toByteBuffer() {
+        return ByteBuffer.wrap(getAsBytes());
+    }
+
+    @Override
+    public Object getAsObject() {
+        return modelTensors;
+    }
+}
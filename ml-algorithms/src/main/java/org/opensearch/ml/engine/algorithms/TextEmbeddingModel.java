@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
@@ -17,14 +18,19 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.ModelResultFilter;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.encryptor.Encryptor;
 
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
+import lombok.extern.log4j.Log4j2;
 
+@Log4j2
 public abstract class TextEmbeddingModel extends DLModel {
 
+    protected InferenceBatcher inferenceBatcher;
+
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLAlgoParams mlParams = mlInput.getParameters();
@@ -37,6 +43,12 @@ public abstract class TextEmbeddingModel extends DLModel {
         Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
+        if (inferenceBatcher != null) {
+            for (Output batchOutput : inferenceBatcher.predict(textDocsInput.getDocs())) {
+                tensorOutputs.add(parseModelTensorOutput(batchOutput, resultFilter));
+            }
+            return new ModelTensorOutput(tensorOutputs);
+        }
         for (String doc : textDocsInput.getDocs()) {
             Input input = new Input();
             input.add(doc);
@@ -46,6 +58,33 @@ public abstract class TextEmbeddingModel extends DLModel {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    @Override
+    public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
+        super.initModel(model, params, encryptor);
+        if (inferenceBatchSize > 1 && supportsBatchInference()) {
+            inferenceBatcher = new InferenceBatcher(
+                inferenceBatchSize,
+                inferenceBatchWindowInMillis,
+                inputs -> getPredictor().batchPredict(inputs)
+            );
+            log.info("Batch inference enabled for model {} with batch size {}", modelId, inferenceBatchSize);
+        }
+    }
+
+    @Override
+    public void close() {
+        inferenceBatcher = null;
+        super.close();
+    }
+
+    /**
+     * Whether the translator of the deployed model can pad documents of different lengths into one batch.
+     * @return true if documents can be predicted with {@link Predictor#batchPredict}
+     */
+    protected boolean supportsBatchInference() {
+        return false;
+    }
+
     private boolean isAsymmetricModel(MLAlgoParams mlParams) {
         if (mlParams instanceof AsymmetricTextEmbeddingParameters) {
             // Check for the necessary prefixes in modelConfig
@@ -0,0 +1,55 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.Shape;
+import ai.djl.translate.Batchifier;
+
+/**
+ * Stack batchifier which first pads every input array with zeros along the first axis to the longest array of
+ * the batch. Zero is the padding token id and a masked attention position for the tokenizers we load, so padded
+ * token ids and attention masks of different documents can be stacked into one tensor.
+ */
+public class ZeroPaddingBatchifier implements Batchifier {
+
+    @Override
+    public NDList batchify(NDList[] inputs) {
+        if (inputs.length > 1) {
+            int numArrays = inputs[0].size();
+            for (int j = 0; j < numArrays; j++) {
+                long maxLength = 0;
+                for (NDList input : inputs) {
+                    maxLength = Math.max(maxLength, input.get(j).getShape().get(0));
+                }
+                for (NDList input : inputs) {
+                    NDArray array = input.get(j);
+                    long length = array.getShape().get(0);
+                    if (length < maxLength) {
+                        long[] paddingShape = array.getShape().getShape().clone();
+                        paddingShape[0] = maxLength - length;
+                        NDArray padding = array.getManager().zeros(new Shape(paddingShape), array.getDataType());
+                        NDArray padded = array.concat(padding, 0);
+                        padded.setName(array.getName());
+                        input.set(j, padded);
+                    }
+                }
+            }
+        }
+        return Batchifier.STACK.batchify(inputs);
+    }
+
+    @Override
+    public NDList[] unbatchify(NDList inputs) {
+        return Batchifier.STACK.unbatchify(inputs);
+    }
+
+    @Override
+    public NDList[] split(NDList list, int numOfSlices, boolean evenSplit) {
+        return Batchifier.STACK.split(list, numOfSlices, evenSplit);
+    }
+}
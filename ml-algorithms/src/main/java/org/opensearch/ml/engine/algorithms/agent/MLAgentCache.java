@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ml.common.agent.MLAgent;
+
+/**
+ * Node level cache of the parsed agents, so executing an agent doesn't read and parse it from the agent index every
+ * time.
+ * <p>
+ * Agents can't be updated, deleting an agent invalidates it on every node. Entries also expire after
+ * {@link #EXPIRE_AFTER_MILLIS}, in case the agent index is written to directly. Cached agents are shared by the
+ * concurrent executions, runners must not modify them.
+ */
+public class MLAgentCache {
+    static final int MAX_CACHED_AGENTS = 1000;
+    static final long EXPIRE_AFTER_MILLIS = 5 * 60 * 1000;
+
+    private final Map<String, CachedAgent> agents = new ConcurrentHashMap<>();
+    // bumped by every invalidation, an agent read before an invalidation is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final LongSupplier clock;
+
+    public MLAgentCache() {
+        this(System::currentTimeMillis);
+    }
+
+    MLAgentCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @return the current generation of the cache, to pass to {@link #put} once the agent is read
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @param agentId agent id
+     * @return the cached agent, null if it is not cached or expired
+     */
+    public MLAgent get(String agentId) {
+        CachedAgent cached = agents.get(agentId);
+        if (cached == null) {
+            return null;
+        }
+        if (clock.getAsLong() - cached.cachedAtMillis >= EXPIRE_AFTER_MILLIS) {
+            agents.remove(agentId, cached);
+            return null;
+        }
+        return cached.agent;
+    }
+
+    /**
+     * Cache an agent read from the agent index.
+     * @param agentId agent id
+     * @param agent the parsed agent
+     * @param readGeneration generation of the cache before the agent was read
+     */
+    public void put(String agentId, MLAgent agent, long readGeneration) {
+        if (agents.size() >= MAX_CACHED_AGENTS) {
+            // agents are few and long lived, overflowing means they are generated; start over rather than track usage
+            agents.clear();
+        }
+        agents.put(agentId, new CachedAgent(agent, clock.getAsLong()));
+        if (generation.get() != readGeneration) {
+            // invalidated while it was read, the read may be stale
+            agents.remove(agentId);
+        }
+    }
+
+    public void invalidate(String agentId) {
+        generation.incrementAndGet();
+        agents.remove(agentId);
+    }
+
+    public void clear() {
+        generation.incrementAndGet();
+        agents.clear();
+    }
+
+    private static class CachedAgent {
+        private final MLAgent agent;
+        private final long cachedAtMillis;
+
+        private CachedAgent(MLAgent agent, long cachedAtMillis) {
+            this.agent = agent;
+            this.cachedAtMillis = cachedAtMillis;
+        }
+    }
+}
@@ -75,6 +75,8 @@ public class MLAgentExecutor implements Executable {
     private NamedXContentRegistry xContentRegistry;
     private Map<String, Tool.Factory> toolFactories;
     private Map<String, Memory.Factory> memoryFactoryMap;
+    // null disables caching
+    private MLAgentCache agentCache;
 
     public MLAgentExecutor(
         Client client,
@@ -83,6 +85,18 @@ public class MLAgentExecutor implements Executable {
         NamedXContentRegistry xContentRegistry,
         Map<String, Tool.Factory> toolFactories,
         Map<String, Memory.Factory> memoryFactoryMap
+    ) {
+        this(client, settings, clusterService, xContentRegistry, toolFactories, memoryFactoryMap, null);
+    }
+
+    public MLAgentExecutor(
+        Client client,
+        Settings settings,
+        ClusterService clusterService,
+        NamedXContentRegistry xContentRegistry,
+        Map<String, Tool.Factory> toolFactories,
+        Map<String, Memory.Factory> memoryFactoryMap,
+        MLAgentCache agentCache
     ) {
         this.client = client;
         this.settings = settings;
@@ -90,6 +104,7 @@ public class MLAgentExecutor implements Executable {
         this.xContentRegistry = xContentRegistry;
         this.toolFactories = toolFactories;
         this.memoryFactoryMap = memoryFactoryMap;
+        this.agentCache = agentCache;
     }
 
     @Override
@@ -109,6 +124,16 @@ public class MLAgentExecutor implements Executable {
         outputs.add(ModelTensors.builder().mlModelTensors(modelTensors).build());
 
         if (clusterService.state().metadata().hasIndex(ML_AGENT_INDEX)) {
+            MLAgent cachedAgent = agentCache == null ? null : agentCache.get(agentId);
+            if (cachedAgent != null) {
+                try {
+                    runAgent(cachedAgent, inputDataSet, outputs, modelTensors, listener);
+                } catch (Exception e) {
+                    listener.onFailure(e);
+                }
+                return;
+            }
+            long cacheGeneration = agentCache == null ? 0 : agentCache.getGeneration();
             try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
                 GetRequest getRequest = new GetRequest(ML_AGENT_INDEX).id(agentId);
                 client.get(getRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
@@ -116,64 +141,10 @@ public class MLAgentExecutor implements Executable {
                         try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
                             ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
                             MLAgent mlAgent = MLAgent.parse(parser);
-                            MLMemorySpec memorySpec = mlAgent.getMemory();
-                            String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
-                            String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
-                            String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
-                            String appType = mlAgent.getAppType();
-                            String question = inputDataSet.getParameters().get(QUESTION);
-
-                            if (memoryId == null && regenerateInteractionId != null) {
-                                throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
-                            }
-
-                            if (memorySpec != null
-                                && memorySpec.getType() != null
-                                && memoryFactoryMap.containsKey(memorySpec.getType())
-                                && (memoryId == null || parentInteractionId == null)) {
-                                ConversationIndexMemory.Factory conversationIndexMemoryFactory =
-                                    (ConversationIndexMemory.Factory) memoryFactoryMap.get(memorySpec.getType());
-                                conversationIndexMemoryFactory.create(question, memoryId, appType, ActionListener.wrap(memory -> {
-                                    inputDataSet.getParameters().put(MEMORY_ID, memory.getConversationId());
-                                    ActionListener<Object> agentActionListener = createAgentActionListener(
-                                        listener,
-                                        outputs,
-                                        modelTensors,
-                                        mlAgent.getType()
-                                    );
-                                    // get question for regenerate
-                                    if (regenerateInteractionId != null) {
-                                        log.info("Regenerate for existing interaction {}", regenerateInteractionId);
-                                        client
-                                            .execute(
-                                                GetInteractionAction.INSTANCE,
-                                                new GetInteractionRequest(regenerateInteractionId),
-                                                ActionListener.wrap(interactionRes -> {
-                                                    inputDataSet
-                                                        .getParameters()
-                                                        .putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
-                                                    saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
-                                                }, e -> {
-                                                    log.error("Failed to get existing interaction for regeneration", e);
-                                                    listener.onFailure(e);
-                                                })
-                                            );
-                                    } else {
-                                        saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
-                                    }
-                                }, ex -> {
-                                    log.error("Failed to read conversation memory", ex);
-                                    listener.onFailure(ex);
-                                }));
-                            } else {
-                                ActionListener<Object> agentActionListener = createAgentActionListener(
-                                    listener,
-                                    outputs,
-                                    modelTensors,
-                                    mlAgent.getType()
-                                );
-                                executeAgent(inputDataSet, mlAgent, agentActionListener);
+                            if (agentCache != null) {
+                                agentCache.put(agentId, mlAgent, cacheGeneration);
                             }
+                            runAgent(mlAgent, inputDataSet, outputs, modelTensors, listener);
                         }
                     } else {
                         listener.onFailure(new ResourceNotFoundException("Agent not found"));
@@ -184,10 +155,68 @@ public class MLAgentExecutor implements Executable {
                 }), context::restore));
             }
         } else {
+            if (agentCache != null) {
+                agentCache.clear();
+            }
             listener.onFailure(new ResourceNotFoundException("Agent index not found"));
         }
     }
 
+    private void runAgent(
+        MLAgent mlAgent,
+        RemoteInferenceInputDataSet inputDataSet,
+        List<ModelTensors> outputs,
+        List<ModelTensor> modelTensors,
+        ActionListener<Output> listener
+    ) {
+        MLMemorySpec memorySpec = mlAgent.getMemory();
+        String memoryId = inputDataSet.getParameters().get(MEMORY_ID);
+        String parentInteractionId = inputDataSet.getParameters().get(PARENT_INTERACTION_ID);
+        String regenerateInteractionId = inputDataSet.getParameters().get(REGENERATE_INTERACTION_ID);
+        String appType = mlAgent.getAppType();
+        String question = inputDataSet.getParameters().get(QUESTION);
+
+        if (memoryId == null && regenerateInteractionId != null) {
+            throw new IllegalArgumentException("A memory ID must be provided to regenerate.");
+        }
+
+        if (memorySpec != null
+            && memorySpec.getType() != null
+            && memoryFactoryMap.containsKey(memorySpec.getType())
+            && (memoryId == null || parentInteractionId == null)) {
+            ConversationIndexMemory.Factory conversationIndexMemoryFactory =
+                (ConversationIndexMemory.Factory) memoryFactoryMap.get(memorySpec.getType());
+            conversationIndexMemoryFactory.create(question, memoryId, appType, ActionListener.wrap(memory -> {
+                inputDataSet.getParameters().put(MEMORY_ID, memory.getConversationId());
+                ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors, mlAgent.getType());
+                // get question for regenerate
+                if (regenerateInteractionId != null) {
+                    log.info("Regenerate for existing interaction {}", regenerateInteractionId);
+                    client
+                        .execute(
+                            GetInteractionAction.INSTANCE,
+                            new GetInteractionRequest(regenerateInteractionId),
+                            ActionListener.wrap(interactionRes -> {
+                                inputDataSet.getParameters().putIfAbsent(QUESTION, interactionRes.getInteraction().getInput());
+                                saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
+                            }, e -> {
+                                log.error("Failed to get existing interaction for regeneration", e);
+                                listener.onFailure(e);
+                            })
+                        );
+                } else {
+                    saveRootInteractionAndExecute(agentActionListener, memory, inputDataSet, mlAgent);
+                }
+            }, ex -> {
+                log.error("Failed to read conversation memory", ex);
+                listener.onFailure(ex);
+            }));
+        } else {
+            ActionListener<Object> agentActionListener = createAgentActionListener(listener, outputs, modelTensors, mlAgent.getType());
+            executeAgent(inputDataSet, mlAgent, agentActionListener);
+        }
+    }
+
     /**
      * save root interaction and start execute the agent
      * @param listener callback listener
@@ -17,6 +17,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.opensearch.action.StepListener;
@@ -49,6 +51,8 @@ import lombok.extern.log4j.Log4j2;
 @Data
 @NoArgsConstructor
 public class MLFlowAgentRunner implements MLAgentRunner {
+    // runs the tools which don't reference the output of each other concurrently
+    public static final String PARALLEL_EXECUTION = "parallel_execution";
 
     private Client client;
     private Settings settings;
@@ -92,6 +96,11 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         String memoryId = params.get(MLAgentExecutor.MEMORY_ID);
         String parentInteractionId = params.get(MLAgentExecutor.PARENT_INTERACTION_ID);
 
+        if (toolSpecs.size() > 1 && isParallelExecution(mlAgent, params)) {
+            new ParallelFlow(toolSpecs, params, memorySpec, memoryId, parentInteractionId, listener).start();
+            return;
+        }
+
         for (int i = 0; i <= toolSpecs.size(); i++) {
             if (i == 0) {
                 MLToolSpec toolSpec = toolSpecs.get(i);
@@ -162,6 +171,182 @@ public class MLFlowAgentRunner implements MLAgentRunner {
         }
     }
 
+    private boolean isParallelExecution(MLAgent mlAgent, Map<String, String> params) {
+        String parallelExecution = params.get(PARALLEL_EXECUTION);
+        if (parallelExecution == null && mlAgent.getParameters() != null) {
+            parallelExecution = mlAgent.getParameters().get(PARALLEL_EXECUTION);
+        }
+        return Boolean.parseBoolean(parallelExecution);
+    }
+
+    /**
+     * Find the earlier tools each tool depends on: the tools whose output its parameters reference, as
+     * ${parameters.&lt;tool name&gt;.output}. The request parameters are passed to every tool, so a reference there
+     * makes every later tool depend on the referenced one.
+     * @param toolSpecs tools of the flow, in order
+     * @param params request parameters
+     * @return for each tool, the indexes of the tools it depends on
+     */
+    @VisibleForTesting
+    static List<List<Integer>> getToolDependencies(List<MLToolSpec> toolSpecs, Map<String, String> params) {
+        List<List<Integer>> dependencies = new ArrayList<>(toolSpecs.size());
+        for (int i = 0; i < toolSpecs.size(); i++) {
+            MLToolSpec toolSpec = toolSpecs.get(i);
+            List<String> values = new ArrayList<>(params.values());
+            if (toolSpec.getParameters() != null) {
+                values.addAll(toolSpec.getParameters().values());
+            }
+            if (toolSpec.getConfigMap() != null) {
+                values.addAll(toolSpec.getConfigMap().values());
+            }
+            List<Integer> toolDependencies = new ArrayList<>();
+            for (int j = 0; j < i; j++) {
+                String outputKey = getToolName(toolSpecs.get(j)) + ".output";
+                if (values.stream().anyMatch(value -> value != null && value.contains(outputKey))) {
+                    toolDependencies.add(j);
+                }
+            }
+            dependencies.add(toolDependencies);
+        }
+        return dependencies;
+    }
+
+    /**
+     * Runs each tool of a flow once the tools it depends on completed, instead of one after the other.
+     * The output of the flow is the same as the sequential run: the outputs of the tools which include their output
+     * in the agent response and of the last tool, in the order of the tools.
+     */
+    private class ParallelFlow {
+        private final List<MLToolSpec> toolSpecs;
+        // shared by the tools running concurrently, guarded by itself
+        private final Map<String, String> params;
+        private final MLMemorySpec memorySpec;
+        private final String memoryId;
+        private final String parentInteractionId;
+        private final ActionListener<Object> listener;
+        private final List<List<Integer>> dependents = new ArrayList<>();
+        private final AtomicInteger[] pendingDependencies;
+        private final Object[] outputs;
+        private final AtomicInteger remainingTools;
+        private final AtomicBoolean failed = new AtomicBoolean();
+
+        private ParallelFlow(
+            List<MLToolSpec> toolSpecs,
+            Map<String, String> params,
+            MLMemorySpec memorySpec,
+            String memoryId,
+            String parentInteractionId,
+            ActionListener<Object> listener
+        ) {
+            this.toolSpecs = toolSpecs;
+            this.params = params;
+            this.memorySpec = memorySpec;
+            this.memoryId = memoryId;
+            this.parentInteractionId = parentInteractionId;
+            this.listener = listener;
+            this.pendingDependencies = new AtomicInteger[toolSpecs.size()];
+            this.outputs = new Object[toolSpecs.size()];
+            this.remainingTools = new AtomicInteger(toolSpecs.size());
+
+            List<List<Integer>> dependencies = getToolDependencies(toolSpecs, params);
+            for (int i = 0; i < toolSpecs.size(); i++) {
+                dependents.add(new ArrayList<>());
+            }
+            for (int i = 0; i < toolSpecs.size(); i++) {
+                pendingDependencies[i] = new AtomicInteger(dependencies.get(i).size());
+                for (int dependency : dependencies.get(i)) {
+                    dependents.get(dependency).add(i);
+                }
+            }
+        }
+
+        private void start() {
+            List<Integer> independentTools = new ArrayList<>();
+            for (int i = 0; i < toolSpecs.size(); i++) {
+                if (pendingDependencies[i].get() == 0) {
+                    independentTools.add(i);
+                }
+            }
+            independentTools.forEach(this::runTool);
+        }
+
+        private void runTool(int index) {
+            if (failed.get()) {
+                return;
+            }
+            try {
+                MLToolSpec toolSpec = toolSpecs.get(index);
+                Tool tool = createTool(toolSpec);
+                Map<String, String> executeParams;
+                synchronized (params) {
+                    executeParams = getToolExecuteParams(toolSpec, params);
+                }
+                tool.run(executeParams, ActionListener.wrap(output -> onToolCompleted(index, output), this::onFailure));
+            } catch (Exception e) {
+                onFailure(e);
+            }
+        }
+
+        private void onToolCompleted(int index, Object output) throws Exception {
+            String outputResponse = parseResponse(output);
+            synchronized (params) {
+                params.put(getToolName(toolSpecs.get(index)) + ".output", escapeJson(outputResponse));
+            }
+            outputs[index] = output;
+            for (int dependent : dependents.get(index)) {
+                if (pendingDependencies[dependent].decrementAndGet() == 0) {
+                    runTool(dependent);
+                }
+            }
+            if (remainingTools.decrementAndGet() == 0) {
+                complete();
+            }
+        }
+
+        @SuppressWarnings("removal")
+        private void complete() throws Exception {
+            List<ModelTensor> flowAgentOutput = new ArrayList<>();
+            Map<String, Object> additionalInfo = new ConcurrentHashMap<>();
+            for (int i = 0; i < toolSpecs.size(); i++) {
+                MLToolSpec toolSpec = toolSpecs.get(i);
+                if (!toolSpec.isIncludeOutputInAgentResponse() && i != toolSpecs.size() - 1) {
+                    continue;
+                }
+                Object output = outputs[i];
+                String key = getToolName(toolSpec);
+                if (output instanceof ModelTensorOutput) {
+                    flowAgentOutput.addAll(((ModelTensorOutput) output).getMlModelOutputs().get(0).getMlModelTensors());
+                } else {
+                    String result = output instanceof String
+                        ? (String) output
+                        : AccessController.doPrivileged((PrivilegedExceptionAction<String>) () -> StringUtils.toJson(output));
+                    flowAgentOutput.add(ModelTensor.builder().name(key).result(result).build());
+                }
+                additionalInfo.put(key + ".output", parseResponse(output));
+            }
+
+            if (memoryId == null || parentInteractionId == null || memorySpec == null || memorySpec.getType() == null) {
+                listener.onResponse(flowAgentOutput);
+            } else {
+                ActionListener updateListener = ActionListener.<UpdateResponse>wrap(updateResponse -> {
+                    log.info("Updated additional info for interaction ID: " + updateResponse.getId() + " in the flow agent.");
+                    listener.onResponse(flowAgentOutput);
+                }, e -> {
+                    log.error("Failed to update root interaction", e);
+                    listener.onResponse(flowAgentOutput);
+                });
+                updateMemoryWithListener(additionalInfo, memorySpec, memoryId, parentInteractionId, updateListener);
+            }
+        }
+
+        private void onFailure(Exception e) {
+            if (failed.compareAndSet(false, true)) {
+                log.error("Failed to run flow agent", e);
+                listener.onFailure(e);
+            }
+        }
+    }
+
     @VisibleForTesting
     void updateMemory(Map<String, Object> additionalInfo, MLMemorySpec memorySpec, String memoryId, String interactionId) {
         if (memoryId == null || interactionId == null || memorySpec == null || memorySpec.getType() == null) {
@@ -6,6 +6,7 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
+import static org.opensearch.ml.engine.httpclient.MLHttpClientFactory.HTTP_CLIENT_METRIC_COLLECTOR;
 import static software.amazon.awssdk.http.SdkHttpMethod.GET;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
@@ -38,6 +39,7 @@ import software.amazon.awssdk.core.internal.http.async.SimpleHttpContentPublishe
 import software.amazon.awssdk.http.SdkHttpFullRequest;
 import software.amazon.awssdk.http.async.AsyncExecuteRequest;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollector;
 
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
@@ -77,6 +79,13 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
         return log;
     }
 
+    @Override
+    public void close() {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+    }
+
     @SuppressWarnings("removal")
     @Override
     public void invokeRemoteService(
@@ -115,6 +124,7 @@ public class AwsConnectorExecutor extends AbstractConnectorExecutor {
                         action
                     )
                 )
+                .metricCollector(MetricCollector.create(HTTP_CLIENT_METRIC_COLLECTOR))
                 .build();
             AccessController.doPrivileged((PrivilegedExceptionAction<CompletableFuture<Void>>) () -> httpClient.execute(executeRequest));
         } catch (RuntimeException exception) {
@@ -42,10 +42,9 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLGuard;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.utils.JsonPathCache;
 import org.opensearch.script.ScriptService;
 
-import com.jayway.jsonpath.JsonPath;
-
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentials;
@@ -224,7 +223,7 @@ public class ConnectorUtils {
             if (StringUtils.isBlank(responseFilter))
                 responseFilter = MLPostProcessFunction.getResponseFilter(postProcessFunction);
 
-            Object filteredOutput = JsonPath.read(modelResponse, responseFilter);
+            Object filteredOutput = JsonPathCache.compile(responseFilter).read(modelResponse);
             List<ModelTensor> processedResponse = MLPostProcessFunction.get(postProcessFunction).apply(filteredOutput);
             return ModelTensors.builder().mlModelTensors(processedResponse).build();
         }
@@ -238,7 +237,7 @@ public class ConnectorUtils {
         if (responseFilter == null) {
             connector.parseResponse(response, modelTensors, scriptReturnModelTensor);
         } else {
-            Object filteredResponse = JsonPath.parse(response).read(parameters.get(RESPONSE_FILTER_FIELD));
+            Object filteredResponse = JsonPathCache.compile(responseFilter).read(response);
             connector.parseResponse(filteredResponse, modelTensors, scriptReturnModelTensor);
         }
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
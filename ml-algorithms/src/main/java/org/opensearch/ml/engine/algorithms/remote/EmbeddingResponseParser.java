@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.BEDROCK_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.COHERE_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.DEFAULT_EMBEDDING;
+import static org.opensearch.ml.common.connector.MLPostProcessFunction.OPENAI_EMBEDDING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+/**
+ * Streams embeddings out of remote model responses for the built-in embedding post process functions, without
+ * building the response string, the JsonPath document and boxed number lists.
+ * <p>
+ * Only responses in the exact shape the post process function expects are parsed, every embedding must be a non-empty
+ * array of numbers. For anything else {@link #parse} returns null and the caller falls back to the JsonPath based
+ * post processing, which reports the same errors as before.
+ */
+public class EmbeddingResponseParser {
+    static final Set<String> SUPPORTED_FUNCTIONS = Set.of(OPENAI_EMBEDDING, COHERE_EMBEDDING, BEDROCK_EMBEDDING, DEFAULT_EMBEDDING);
+
+    public static boolean isSupported(String postProcessFunction) {
+        return postProcessFunction != null && SUPPORTED_FUNCTIONS.contains(postProcessFunction);
+    }
+
+    /**
+     * Parse embeddings from the model response.
+     * @param postProcessFunction built-in embedding post process function
+     * @param response model response
+     * @return one model tensor per embedding, null if the response doesn't have the expected shape or isn't valid JSON
+     */
+    public static List<ModelTensor> parse(String postProcessFunction, InputStream response) {
+        try (
+            XContentParser parser = XContentType.JSON
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, response)
+        ) {
+            XContentParser.Token token = parser.nextToken();
+            List<ModelTensor> tensors;
+            switch (postProcessFunction) {
+                case OPENAI_EMBEDDING:
+                    // $.data[*].embedding
+                    tensors = token == XContentParser.Token.START_OBJECT ? parseOpenAIEmbeddings(parser) : null;
+                    break;
+                case COHERE_EMBEDDING:
+                    // $.embeddings
+                    tensors = token == XContentParser.Token.START_OBJECT ? parseField(parser, "embeddings", true) : null;
+                    break;
+                case BEDROCK_EMBEDDING:
+                    // $.embedding
+                    tensors = token == XContentParser.Token.START_OBJECT ? parseField(parser, "embedding", false) : null;
+                    break;
+                case DEFAULT_EMBEDDING:
+                    // $[*]
+                    tensors = token == XContentParser.Token.START_ARRAY ? parseEmbeddingList(parser) : null;
+                    break;
+                default:
+                    return null;
+            }
+            if (tensors == null || parser.nextToken() != null) {
+                return null;
+            }
+            return tensors;
+        } catch (Exception e) {
+            // malformed or duplicated content is left to the generic post processing to report
+            return null;
+        }
+    }
+
+    private static List<ModelTensor> parseOpenAIEmbeddings(XContentParser parser) throws IOException {
+        List<ModelTensor> tensors = null;
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            String field = parser.currentName();
+            XContentParser.Token token = parser.nextToken();
+            if (!"data".equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (tensors != null || token != XContentParser.Token.START_ARRAY) {
+                return null;
+            }
+            tensors = new ArrayList<>();
+            while (parser.nextToken() == XContentParser.Token.START_OBJECT) {
+                ModelTensor tensor = null;
+                while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                    String itemField = parser.currentName();
+                    XContentParser.Token itemToken = parser.nextToken();
+                    if (!"embedding".equals(itemField)) {
+                        parser.skipChildren();
+                        continue;
+                    }
+                    if (tensor != null || itemToken != XContentParser.Token.START_ARRAY) {
+                        return null;
+                    }
+                    tensor = parseEmbedding(parser);
+                    if (tensor == null) {
+                        return null;
+                    }
+                }
+                // items without embedding are skipped by the JsonPath expression too
+                if (tensor != null) {
+                    tensors.add(tensor);
+                }
+            }
+            if (parser.currentToken() != XContentParser.Token.END_ARRAY) {
+                return null;
+            }
+        }
+        return tensors;
+    }
+
+    private static List<ModelTensor> parseField(XContentParser parser, String fieldName, boolean embeddingList) throws IOException {
+        List<ModelTensor> tensors = null;
+        while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+            String field = parser.currentName();
+            XContentParser.Token token = parser.nextToken();
+            if (!fieldName.equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (tensors != null || token != XContentParser.Token.START_ARRAY) {
+                return null;
+            }
+            if (embeddingList) {
+                tensors = parseEmbeddingList(parser);
+            } else {
+                ModelTensor tensor = parseEmbedding(parser);
+                tensors = tensor == null ? null : new ArrayList<>(List.of(tensor));
+            }
+            if (tensors == null) {
+                return null;
+            }
+        }
+        return tensors;
+    }
+
+    private static List<ModelTensor> parseEmbeddingList(XContentParser parser) throws IOException {
+        List<ModelTensor> tensors = new ArrayList<>();
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) == XContentParser.Token.START_ARRAY) {
+            ModelTensor tensor = parseEmbedding(parser);
+            if (tensor == null) {
+                return null;
+            }
+            tensors.add(tensor);
+        }
+        return token == XContentParser.Token.END_ARRAY ? tensors : null;
+    }
+
+    private static ModelTensor parseEmbedding(XContentParser parser) throws IOException {
+        float[] embedding = new float[16];
+        int size = 0;
+        XContentParser.Token token;
+        while ((token = parser.nextToken()) == XContentParser.Token.VALUE_NUMBER) {
+            if (size == embedding.length) {
+                embedding = Arrays.copyOf(embedding, size * 2);
+            }
+            embedding[size++] = parser.floatValue();
+        }
+        if (token != XContentParser.Token.END_ARRAY || size == 0) {
+            return null;
+        }
+        return ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .dataType(MLResultDataType.FLOAT32)
+            .shape(new long[] { size })
+            .floatData(size == embedding.length ? embedding : Arrays.copyOf(embedding, size))
+            .build();
+    }
+}
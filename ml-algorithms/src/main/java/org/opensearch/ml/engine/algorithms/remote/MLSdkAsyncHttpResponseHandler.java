@@ -9,12 +9,14 @@ package org.opensearch.ml.engine.algorithms.remote;
 
 import static org.opensearch.ml.common.CommonValue.REMOTE_SERVICE_ERROR;
 import static org.opensearch.ml.common.connector.ConnectorAction.ActionType.CANCEL_BATCH_PREDICT;
+import static org.opensearch.ml.common.connector.HttpConnector.RESPONSE_FILTER_FIELD;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.commons.collections.MapUtils;
@@ -23,11 +25,16 @@ import org.apache.logging.log4j.util.Strings;
 import org.jetbrains.annotations.NotNull;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.connector.Connector;
+import org.opensearch.ml.common.connector.ConnectorAction;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.model.MLGuard;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
 import org.reactivestreams.Publisher;
@@ -45,8 +52,8 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     public static final String AMZ_ERROR_HEADER = "x-amzn-ErrorType";
     @Getter
     private Integer statusCode;
-    @Getter
-    private final StringBuilder responseBody = new StringBuilder();
+    // raw response bytes, only decoded to a string when the response isn't parsed as a stream
+    private final BytesStreamOutput responseBody = new BytesStreamOutput();
 
     private final ExecutionContext executionContext;
 
@@ -83,6 +90,10 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         this.action = action;
     }
 
+    public String getResponseBody() {
+        return responseBody.bytes().utf8ToString();
+    }
+
     @Override
     public void onHeaders(SdkHttpResponse response) {
         SdkHttpFullResponse sdkResponse = (SdkHttpFullResponse) response;
@@ -148,7 +159,14 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
         @Override
         public void onNext(ByteBuffer byteBuffer) {
-            responseBody.append(StandardCharsets.UTF_8.decode(byteBuffer));
+            // a multi-byte character can be split across buffers, so bytes are decoded only once the body is complete
+            if (byteBuffer.hasArray()) {
+                responseBody.writeBytes(byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
+            } else {
+                byte[] bytes = new byte[byteBuffer.remaining()];
+                byteBuffer.get(bytes);
+                responseBody.writeBytes(bytes);
+            }
             subscription.request(Long.MAX_VALUE);
         }
 
@@ -170,14 +188,14 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
     }
 
     private void response() {
-        String body = responseBody.toString();
+        BytesReference body = responseBody.bytes();
 
         if (exceptionHolder.get() != null) {
             actionListener.onFailure(exceptionHolder.get());
             return;
         }
 
-        if (Strings.isBlank(body) && !action.equals(CANCEL_BATCH_PREDICT.toString())) {
+        if (isBlank(body) && !action.equals(CANCEL_BATCH_PREDICT.toString())) {
             log.error("Remote model response body is empty!");
             actionListener.onFailure(new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST));
             return;
@@ -185,7 +203,8 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
 
         if (statusCode < HttpStatus.SC_OK || statusCode > HttpStatus.SC_MULTIPLE_CHOICES) {
             log.error("Remote server returned error code: {}", statusCode);
-            actionListener.onFailure(new OpenSearchStatusException(REMOTE_SERVICE_ERROR + body, RestStatus.fromCode(statusCode)));
+            actionListener
+                .onFailure(new OpenSearchStatusException(REMOTE_SERVICE_ERROR + body.utf8ToString(), RestStatus.fromCode(statusCode)));
             return;
         }
 
@@ -197,12 +216,54 @@ public class MLSdkAsyncHttpResponseHandler implements SdkAsyncHttpResponseHandle
         }
 
         try {
-            ModelTensors tensors = processOutput(action, body, connector, scriptService, parameters, mlGuard);
+            ModelTensors tensors = processEmbeddingOutput(body);
+            if (tensors == null) {
+                tensors = processOutput(action, body.utf8ToString(), connector, scriptService, parameters, mlGuard);
+            }
             tensors.setStatusCode(statusCode);
             actionListener.onResponse(new Tuple<>(executionContext.getSequence(), tensors));
         } catch (Exception e) {
-            log.error("Failed to process response body: {}", body, e);
+            log.error("Failed to process response body: {}", body.utf8ToString(), e);
             actionListener.onFailure(new MLException("Fail to execute " + action + " in aws connector", e));
         }
     }
+
+    /**
+     * Parse the response of the built-in embedding post process functions directly from the response bytes.
+     * @param body response body
+     * @return model tensors, null if the response has to be processed by {@link ConnectorUtils#processOutput}
+     */
+    private ModelTensors processEmbeddingOutput(BytesReference body) throws IOException {
+        if (mlGuard != null || parameters == null) {
+            return null;
+        }
+        Optional<ConnectorAction> connectorAction = connector.findAction(action);
+        if (connectorAction.isEmpty()) {
+            return null;
+        }
+        String postProcessFunction = connectorAction.get().getPostProcessFunction();
+        if (!EmbeddingResponseParser.isSupported(postProcessFunction)) {
+            return null;
+        }
+        String responseFilter = parameters.get(RESPONSE_FILTER_FIELD);
+        if (!Strings.isBlank(responseFilter) && !responseFilter.equals(MLPostProcessFunction.getResponseFilter(postProcessFunction))) {
+            return null;
+        }
+        List<ModelTensor> modelTensors = EmbeddingResponseParser.parse(postProcessFunction, body.streamInput());
+        return modelTensors == null ? null : ModelTensors.builder().mlModelTensors(modelTensors).build();
+    }
+
+    private static boolean isBlank(BytesReference body) {
+        for (int i = 0; i < body.length(); i++) {
+            byte b = body.get(i);
+            if (b < 0) {
+                // non-ASCII character, which could be a unicode whitespace
+                return Strings.isBlank(body.utf8ToString());
+            }
+            if (!Character.isWhitespace(b)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
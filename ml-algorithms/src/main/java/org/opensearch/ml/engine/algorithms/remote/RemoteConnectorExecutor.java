@@ -164,6 +164,11 @@ public interface RemoteConnectorExecutor {
 
     default void setMlGuard(MLGuard mlGuard) {}
 
+    /**
+     * Release the resources held by the executor, like its http client. The executor can't be used afterwards.
+     */
+    default void close() {}
+
     default void preparePayloadAndInvoke(
         String action,
         MLInput mlInput,
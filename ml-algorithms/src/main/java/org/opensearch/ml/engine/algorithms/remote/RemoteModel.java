@@ -89,6 +89,9 @@ public class RemoteModel implements Predictable {
 
     @Override
     public void close() {
+        if (this.connectorExecutor != null) {
+            this.connectorExecutor.close();
+        }
         this.connectorExecutor = null;
     }
 
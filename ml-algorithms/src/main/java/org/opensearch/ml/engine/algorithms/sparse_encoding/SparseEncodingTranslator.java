@@ -16,6 +16,7 @@ import java.util.Map;
 
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
 
 import ai.djl.modality.Output;
@@ -40,7 +41,7 @@ public class SparseEncodingTranslator extends SentenceTransformerTranslator {
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
         return output;
     }
 
@@ -17,6 +17,7 @@ import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
 
 import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
@@ -25,6 +26,7 @@ import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
@@ -120,13 +122,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             embeddings = embeddings.normalize(2, 0);
         }
 
-        Number[] data = embeddings.toArray();
+        float[] data = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
         List<ModelTensor> outputs = new ArrayList<>();
         long[] shape = embeddings.getShape().getShape();
         ModelTensor modelTensor = ModelTensor
             .builder()
             .name(SENTENCE_EMBEDDING)
-            .data(data)
+            .floatData(data)
             .shape(shape)
             .dataType(MLResultDataType.FLOAT32)
             .build();
@@ -134,7 +136,7 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
 
         Output output = new Output();
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
         return output;
     }
 
@@ -5,50 +5,95 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 
 import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.engine.algorithms.ModelTensorsBytesSupplier;
 import org.opensearch.ml.engine.algorithms.SentenceTransformerTranslator;
+import org.opensearch.ml.engine.algorithms.ZeroPaddingBatchifier;
 
+import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.types.DataType;
+import ai.djl.translate.Batchifier;
 import ai.djl.translate.TranslatorContext;
 
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
+    private static final String TOKEN_COUNTS = "token_counts";
+    private static final Batchifier BATCHIFIER = new ZeroPaddingBatchifier();
+
+    @Override
+    public Batchifier getBatchifier() {
+        return BATCHIFIER;
+    }
+
+    @Override
+    public NDList processInput(TranslatorContext ctx, Input input) {
+        NDList ndList = super.processInput(ctx, input);
+        // The predictor shares one context for a whole batch, outputs are processed in the same order as inputs.
+        @SuppressWarnings("unchecked")
+        Deque<Long> tokenCounts = (Deque<Long>) ctx.getAttachment(TOKEN_COUNTS);
+        if (tokenCounts == null) {
+            tokenCounts = new ArrayDeque<>();
+            ctx.setAttachment(TOKEN_COUNTS, tokenCounts);
+        }
+        tokenCounts.addLast(ndList.get(0).getShape().get(0));
+        return ndList;
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
 
+        @SuppressWarnings("unchecked")
+        Deque<Long> tokenCounts = (Deque<Long>) ctx.getAttachment(TOKEN_COUNTS);
+        Long tokenCount = tokenCounts == null ? null : tokenCounts.pollFirst();
         List<ModelTensor> outputs = new ArrayList<>();
         Iterator<NDArray> iterator = list.iterator();
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
-            Number[] data = ndArray.toArray();
+            if (tokenCount != null
+                && !SENTENCE_EMBEDDING.equals(name)
+                && !ndArray.getShape().isScalar()
+                && ndArray.getShape().get(0) > tokenCount) {
+                // drop the positions added by batch padding from token level outputs
+                ndArray = ndArray.get("0:" + tokenCount);
+            }
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
             MLResultDataType mlResultDataType = MLResultDataType.valueOf(dataType.name());
             ByteBuffer buffer = ndArray.toByteBuffer();
-            ModelTensor tensor = ModelTensor
+            ModelTensor.ModelTensorBuilder builder = ModelTensor
                 .builder()
                 .name(name)
-                .data(data)
                 .shape(shape)
                 .dataType(mlResultDataType)
-                .byteBuffer(buffer)
-                .build();
+                .byteBuffer(buffer);
+            if (dataType == DataType.FLOAT32) {
+                builder.floatData(ndArray.toFloatArray());
+            } else if (dataType == DataType.INT32) {
+                builder.intData(ndArray.toIntArray());
+            } else {
+                builder.data(ndArray.toArray());
+            }
+            ModelTensor tensor = builder.build();
             outputs.add(tensor);
         }
 
         ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
+        output.add(new ModelTensorsBytesSupplier(modelTensorOutput));
         return output;
     }
 }
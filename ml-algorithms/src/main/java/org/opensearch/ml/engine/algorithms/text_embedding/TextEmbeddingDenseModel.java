@@ -43,6 +43,15 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
         return null;
     }
 
+    @Override
+    protected boolean supportsBatchInference() {
+        // Only the pytorch sentence transformer translator pads token ids, other translators keep per document state.
+        TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
+        return PYTORCH_ENGINE.equals(engine)
+            && textEmbeddingModelConfig != null
+            && textEmbeddingModelConfig.getFrameworkType() == SENTENCE_TRANSFORMERS;
+    }
+
     @Override
     public TranslatorFactory getTranslatorFactory(String engine, MLModelConfig modelConfig) {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
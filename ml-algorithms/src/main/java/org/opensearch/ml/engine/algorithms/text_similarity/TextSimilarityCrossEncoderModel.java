@@ -51,8 +51,7 @@ public class TextSimilarityCrossEncoderModel extends DLModel {
             input.add(queryText);
             input.add(doc);
             output = getPredictor().predict(input);
-            ModelTensors outputTensors = ModelTensors.fromBytes(output.getData().getAsBytes());
-            tensorOutputs.add(outputTensors);
+            tensorOutputs.add(parseModelTensorOutput(output, null));
         }
         return new ModelTensorOutput(tensorOutputs);
     }
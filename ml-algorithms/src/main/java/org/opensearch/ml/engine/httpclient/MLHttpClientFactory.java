@@ -13,32 +13,118 @@ import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.extern.log4j.Log4j2;
 import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
 import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.http.nio.netty.SdkEventLoopGroup;
 
 @Log4j2
 public class MLHttpClientFactory {
+    // Requests with a metric collector report the connection pool metrics of their endpoint.
+    public static final String HTTP_CLIENT_METRIC_COLLECTOR = "MLHttpClient";
+    // Same as the networkaddress.cache.ttl which OpenSearch sets for the JVM DNS cache.
+    static final long HOST_CACHE_TTL_IN_NANOS = TimeUnit.SECONDS.toNanos(60);
+    static final int MAX_CACHED_HOSTS = 1000;
 
+    /**
+     * Whether each recently validated host resolves to a private ip address. The result doesn't depend on the
+     * connector private ip setting, which is checked on every validation.
+     */
+    private static final Map<String, CachedHost> hostCache = new ConcurrentHashMap<>();
+    private static final AtomicLong hostCacheHits = new AtomicLong();
+    private static final AtomicLong hostCacheMisses = new AtomicLong();
+
+    // Shared http clients keyed by client configuration, guarded by itself.
+    private static final Map<String, SharedAsyncHttpClient> httpClients = new HashMap<>();
+    private static SdkEventLoopGroup eventLoopGroup;
+
+    private static class CachedHost {
+        private final boolean hasPrivateIpAddress;
+        private final long expireAtNanos;
+
+        CachedHost(boolean hasPrivateIpAddress, long expireAtNanos) {
+            this.hasPrivateIpAddress = hasPrivateIpAddress;
+            this.expireAtNanos = expireAtNanos;
+        }
+    }
+
+    /**
+     * Get an async http client. Connectors with the same client configuration share one underlying client, and all
+     * clients share one event loop group. Close the returned client once the connector is no longer used.
+     * @param connectionTimeout connection timeout
+     * @param readTimeout read timeout
+     * @param maxConnections max connections per endpoint
+     * @return http client, null if the client can't be created
+     */
     public static SdkAsyncHttpClient getAsyncHttpClient(Duration connectionTimeout, Duration readTimeout, int maxConnections) {
-        try {
-            return AccessController
-                .doPrivileged(
-                    (PrivilegedExceptionAction<SdkAsyncHttpClient>) () -> NettyNioAsyncHttpClient
-                        .builder()
-                        .connectionTimeout(connectionTimeout)
-                        .readTimeout(readTimeout)
-                        .maxConcurrency(maxConnections)
-                        .build()
-                );
-        } catch (PrivilegedActionException e) {
-            return null;
+        String key = String
+            .format(
+                Locale.ROOT,
+                "connection_timeout_%dms_read_timeout_%dms_max_connections_%d",
+                connectionTimeout.toMillis(),
+                readTimeout.toMillis(),
+                maxConnections
+            );
+        synchronized (httpClients) {
+            SharedAsyncHttpClient httpClient = httpClients.get(key);
+            if (httpClient == null) {
+                try {
+                    SdkAsyncHttpClient client = AccessController
+                        .doPrivileged(
+                            (PrivilegedExceptionAction<SdkAsyncHttpClient>) () -> NettyNioAsyncHttpClient
+                                .builder()
+                                .connectionTimeout(connectionTimeout)
+                                .readTimeout(readTimeout)
+                                .maxConcurrency(maxConnections)
+                                .eventLoopGroup(getEventLoopGroup())
+                                .build()
+                        );
+                    httpClient = new SharedAsyncHttpClient(key, client);
+                } catch (PrivilegedActionException e) {
+                    return null;
+                }
+                httpClients.put(key, httpClient);
+            }
+            return httpClient.acquire();
+        }
+    }
+
+    private static SdkEventLoopGroup getEventLoopGroup() {
+        // Only called with the client registry locked. The group is not closed by the clients and lives with the node.
+        if (eventLoopGroup == null) {
+            eventLoopGroup = SdkEventLoopGroup.builder().numberOfThreads(Runtime.getRuntime().availableProcessors()).build();
+        }
+        return eventLoopGroup;
+    }
+
+    static void release(SharedAsyncHttpClient httpClient) {
+        synchronized (httpClients) {
+            if (httpClient.release()) {
+                httpClients.remove(httpClient.getKey());
+            }
         }
     }
 
+    /**
+     * Stats of the shared http clients, keyed by client configuration.
+     * @return references, in flight requests, request count and last reported connection pool metrics per endpoint
+     */
+    public static Map<String, Object> getHttpClientStats() {
+        Map<String, Object> stats = new HashMap<>();
+        synchronized (httpClients) {
+            httpClients.forEach((key, httpClient) -> stats.put(key, httpClient.getStats()));
+        }
+        return stats;
+    }
+
     /**
      * Validate the input parameters, such as protocol, host and port.
      * @param protocol The protocol supported in remote inference, currently only http and https are supported.
@@ -69,13 +155,49 @@ public class MLHttpClientFactory {
     }
 
     private static void validateIp(String hostName, AtomicBoolean connectorPrivateIpEnabled) throws UnknownHostException {
-        InetAddress[] addresses = InetAddress.getAllByName(hostName);
-        if ((connectorPrivateIpEnabled == null || !connectorPrivateIpEnabled.get()) && hasPrivateIpAddress(addresses)) {
+        if ((connectorPrivateIpEnabled == null || !connectorPrivateIpEnabled.get()) && hasPrivateIpAddress(hostName)) {
             log.error("Remote inference host name has private ip address: " + hostName);
             throw new IllegalArgumentException("Remote inference host name has private ip address: " + hostName);
         }
     }
 
+    private static boolean hasPrivateIpAddress(String hostName) throws UnknownHostException {
+        long now = System.nanoTime();
+        CachedHost cachedHost = hostName == null ? null : hostCache.get(hostName);
+        if (cachedHost != null && now - cachedHost.expireAtNanos < 0) {
+            hostCacheHits.incrementAndGet();
+            return cachedHost.hasPrivateIpAddress;
+        }
+        hostCacheMisses.incrementAndGet();
+        // Hosts which can't be resolved are not cached, the exception is thrown on every validation.
+        boolean hasPrivateIpAddress = hasPrivateIpAddress(InetAddress.getAllByName(hostName));
+        if (hostName != null) {
+            if (hostCache.size() >= MAX_CACHED_HOSTS) {
+                hostCache.values().removeIf(host -> now - host.expireAtNanos >= 0);
+                if (hostCache.size() >= MAX_CACHED_HOSTS) {
+                    hostCache.clear();
+                }
+            }
+            hostCache.put(hostName, new CachedHost(hasPrivateIpAddress, now + HOST_CACHE_TTL_IN_NANOS));
+        }
+        return hasPrivateIpAddress;
+    }
+
+    /**
+     * Clear the validated hosts, so the next validation of every host resolves its ip addresses again.
+     */
+    public static void clearHostCache() {
+        hostCache.clear();
+    }
+
+    public static long getHostCacheHitCount() {
+        return hostCacheHits.get();
+    }
+
+    public static long getHostCacheMissCount() {
+        return hostCacheMisses.get();
+    }
+
     private static boolean hasPrivateIpAddress(InetAddress[] ipAddress) {
         for (InetAddress ip : ipAddress) {
             if (ip instanceof Inet4Address) {
@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.httpclient;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.http.async.AsyncExecuteRequest;
+import software.amazon.awssdk.http.async.SdkAsyncHttpClient;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.SdkMetric;
+
+/**
+ * An async http client shared by all connectors with the same client configuration. Connectors get their own
+ * {@link SdkAsyncHttpClient} lease from {@link MLHttpClientFactory}, the underlying client is closed once all leases
+ * are closed and no request is in flight.
+ * <p>
+ * The underlying client keeps a connection pool per endpoint, the last connection pool metrics reported for
+ * requests with a metric collector are kept per endpoint host.
+ */
+@Log4j2
+class SharedAsyncHttpClient {
+    @Getter
+    private final String key;
+    private final SdkAsyncHttpClient delegate;
+    // guarded by the client registry of MLHttpClientFactory
+    private int references;
+    private volatile boolean released;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final AtomicLong inFlightRequests = new AtomicLong();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final Map<String, ConnectionPoolMetrics> endpointMetrics = new ConcurrentHashMap<>();
+
+    SharedAsyncHttpClient(String key, SdkAsyncHttpClient delegate) {
+        this.key = key;
+        this.delegate = delegate;
+    }
+
+    SdkAsyncHttpClient acquire() {
+        references++;
+        return new Lease();
+    }
+
+    /**
+     * Drop one reference.
+     * @return true if it was the last reference, the client will be closed after the in flight requests complete.
+     */
+    boolean release() {
+        if (--references > 0) {
+            return false;
+        }
+        released = true;
+        if (inFlightRequests.get() == 0) {
+            closeDelegate();
+        }
+        return true;
+    }
+
+    int getReferences() {
+        return references;
+    }
+
+    private CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+        inFlightRequests.incrementAndGet();
+        requestCount.incrementAndGet();
+        CompletableFuture<Void> future;
+        try {
+            future = delegate.execute(request);
+        } catch (RuntimeException e) {
+            completeRequest();
+            throw e;
+        }
+        future.whenComplete((r, e) -> {
+            request.metricCollector().ifPresent(collector -> recordMetrics(request.request().host(), collector.collect()));
+            completeRequest();
+        });
+        return future;
+    }
+
+    private void completeRequest() {
+        if (inFlightRequests.decrementAndGet() == 0 && released) {
+            closeDelegate();
+        }
+    }
+
+    private void closeDelegate() {
+        if (closed.compareAndSet(false, true)) {
+            try {
+                delegate.close();
+            } catch (Exception e) {
+                log.warn("Failed to close http client " + key, e);
+            }
+        }
+    }
+
+    private void recordMetrics(String host, MetricCollection metrics) {
+        if (host == null || metrics == null) {
+            return;
+        }
+        ConnectionPoolMetrics poolMetrics = endpointMetrics.computeIfAbsent(host, h -> new ConnectionPoolMetrics());
+        poolMetrics.leased = lastValue(metrics, HttpMetric.LEASED_CONCURRENCY, poolMetrics.leased);
+        poolMetrics.idle = lastValue(metrics, HttpMetric.AVAILABLE_CONCURRENCY, poolMetrics.idle);
+        poolMetrics.pending = lastValue(metrics, HttpMetric.PENDING_CONCURRENCY_ACQUIRES, poolMetrics.pending);
+    }
+
+    private static int lastValue(MetricCollection metrics, SdkMetric<Integer> metric, int defaultValue) {
+        List<Integer> values = metrics.metricValues(metric);
+        return values == null || values.isEmpty() ? defaultValue : values.get(values.size() - 1);
+    }
+
+    Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("references", references);
+        stats.put("in_flight_requests", inFlightRequests.get());
+        stats.put("request_count", requestCount.get());
+        Map<String, Object> endpoints = new HashMap<>();
+        endpointMetrics.forEach((host, metrics) -> {
+            Map<String, Object> endpointStats = new HashMap<>();
+            endpointStats.put("leased_connections", metrics.leased);
+            endpointStats.put("idle_connections", metrics.idle);
+            endpointStats.put("pending_connection_acquires", metrics.pending);
+            endpoints.put(host, endpointStats);
+        });
+        stats.put("endpoints", endpoints);
+        return stats;
+    }
+
+    private static class ConnectionPoolMetrics {
+        private volatile int leased;
+        private volatile int idle;
+        private volatile int pending;
+    }
+
+    private class Lease implements SdkAsyncHttpClient {
+        private final AtomicBoolean leaseClosed = new AtomicBoolean();
+
+        @Override
+        public CompletableFuture<Void> execute(AsyncExecuteRequest request) {
+            if (leaseClosed.get()) {
+                throw new IllegalStateException("Http client is closed");
+            }
+            return SharedAsyncHttpClient.this.execute(request);
+        }
+
+        @Override
+        public String clientName() {
+            return delegate.clientName();
+        }
+
+        @Override
+        public void close() {
+            if (leaseClosed.compareAndSet(false, true)) {
+                MLHttpClientFactory.release(SharedAsyncHttpClient.this);
+            }
+        }
+    }
+}
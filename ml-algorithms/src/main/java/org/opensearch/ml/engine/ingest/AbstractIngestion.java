@@ -8,18 +8,19 @@ package org.opensearch.ml.engine.ingest;
 import static org.opensearch.ml.common.utils.StringUtils.getJsonPath;
 import static org.opensearch.ml.common.utils.StringUtils.obtainFieldNameFromJsonPath;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
+import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
-import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.client.Client;
@@ -28,41 +29,23 @@ import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
 import org.opensearch.ml.common.utils.StringUtils;
 
-import com.jayway.jsonpath.JsonPath;
-
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class AbstractIngestion implements Ingestable {
 
+    private static final String EMPTY_BULK_ERROR = "the bulk ingestion is empty: please check your field mapping to match your sources";
+    // bulk requests rejected by the write thread pool are retried with an exponential backoff
+    private static final int MAX_BULK_RETRIES = 8;
+    private static final long BULK_RETRY_BASE_DELAY_MILLIS = 50;
+    private static final long BULK_RETRY_MAX_DELAY_MILLIS = 5_000;
+
     private final Client client;
 
     public AbstractIngestion(Client client) {
         this.client = client;
     }
 
-    protected ActionListener<BulkResponse> getBulkResponseListener(
-        AtomicInteger successfulBatches,
-        AtomicInteger failedBatches,
-        CompletableFuture<Void> future
-    ) {
-        return ActionListener.wrap(bulkResponse -> {
-            if (bulkResponse.hasFailures()) {
-                failedBatches.incrementAndGet();
-                future.completeExceptionally(new RuntimeException(bulkResponse.buildFailureMessage()));  // Mark the future as completed
-                // with an exception
-                return;
-            }
-            log.debug("Batch Ingestion successfully");
-            successfulBatches.incrementAndGet();
-            future.complete(null); // Mark the future as completed successfully
-        }, e -> {
-            log.error("Failed to Batch Ingestion", e);
-            failedBatches.incrementAndGet();
-            future.completeExceptionally(e);  // Mark the future as completed with an exception
-        });
-    }
-
     protected double calculateSuccessRate(List<Double> successRates) {
         return successRates
             .stream()
@@ -180,37 +163,209 @@ public class AbstractIngestion implements Ingestable {
      * @return A new map that contains all the fields and data for ingestion.
      */
     protected Map<String, Object> processFieldMapping(String jsonStr, Map<String, Object> fieldMapping) {
-        Map<String, Object> jsonMap = new HashMap<>();
-        if (fieldMapping == null || fieldMapping.isEmpty()) {
-            return jsonMap;
+        return new CompiledFieldMapping(fieldMapping).read(jsonStr);
+    }
+
+    /**
+     * Filter and compile the field mapping of a source, once for all its lines.
+     *
+     * @param mlBatchIngestionInput The MLBatchIngestionInput.
+     * @param sourceIndex index of the source
+     * @param isSoleSource whether it is the only source
+     * @return the compiled field mapping of the source
+     */
+    CompiledFieldMapping compileFieldMapping(MLBatchIngestionInput mlBatchIngestionInput, int sourceIndex, boolean isSoleSource) {
+        Map<String, Object> filteredMapping = isSoleSource
+            ? filterFieldMappingSoleSource(mlBatchIngestionInput)
+            : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
+        return new CompiledFieldMapping(filteredMapping);
+    }
+
+    /**
+     * Ingest the lines of a source with bulk requests, keeping a bounded window of bulk requests in flight.
+     *
+     * @param reader reader of the source, positioned at the checkpoint if {@code positioned}
+     * @param positioned whether the reader starts at the byte offset of the checkpoint, the lines before the
+     *                   checkpoint are skipped otherwise
+     * @param start checkpoint to resume from
+     * @param sourceBytes size of the source in bytes, -1 if unknown
+     * @param mlBatchIngestionInput The MLBatchIngestionInput.
+     * @param sourceIndex index of the source
+     * @param isSoleSource whether it is the only source
+     * @param bulkSize number of lines per bulk request
+     * @param progressListener listener of the checkpoints of the source
+     * @return success rate of the bulk requests (0 - 100)
+     */
+    protected double ingestSource(
+        LineReader reader,
+        boolean positioned,
+        IngestionCheckpoint start,
+        long sourceBytes,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int sourceIndex,
+        boolean isSoleSource,
+        int bulkSize,
+        IngestionProgressListener progressListener
+    ) throws IOException, InterruptedException {
+        long lineCount = 0;
+        if (!positioned) {
+            while (lineCount < start.getLines() && reader.readLine() != null) {
+                lineCount++;
+            }
+            start = new IngestionCheckpoint(lineCount, reader.getOffset());
+        } else {
+            lineCount = start.getLines();
         }
+        BulkWindow window = new BulkWindow(start);
+        AtomicInteger successfulBatches = new AtomicInteger(0);
+        AtomicInteger failedBatches = new AtomicInteger(0);
+        BulkSender sender = new BulkSender(window, successfulBatches, failedBatches, sourceIndex, sourceBytes, progressListener);
+        CompiledFieldMapping fieldMapping = compileFieldMapping(mlBatchIngestionInput, sourceIndex, isSoleSource);
 
-        fieldMapping.entrySet().stream().forEach(entry -> {
-            Object value = entry.getValue();
-            if (value instanceof String) {
-                String jsonPath = (String) value;
-                jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath));
-            } else if (value instanceof List) {
-                ((List<String>) value).stream().forEach(jsonPath -> { jsonMap.put(entry.getKey(), JsonPath.read(jsonStr, jsonPath)); });
+        List<String> linesBuffer = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            linesBuffer.add(line);
+            lineCount++;
+            if (linesBuffer.size() >= bulkSize) {
+                BulkRequest bulkRequest = buildBulkRequest(linesBuffer, mlBatchIngestionInput, fieldMapping, isSoleSource);
+                sender.submit(bulkRequest, lineCount, reader.getOffset());
+                linesBuffer.clear();
             }
-        });
+        }
+        // Process any remaining lines in the buffer
+        if (!linesBuffer.isEmpty()) {
+            BulkRequest bulkRequest = buildBulkRequest(linesBuffer, mlBatchIngestionInput, fieldMapping, isSoleSource);
+            sender.submit(bulkRequest, lineCount, reader.getOffset());
+        }
+        sender.awaitCompletion();
 
-        return jsonMap;
+        int totalBatches = successfulBatches.get() + failedBatches.get();
+        return (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
     }
 
-    protected void batchIngest(
+    /**
+     * Sends the bulk requests of a source through its window.
+     */
+    private class BulkSender {
+        private final BulkWindow window;
+        private final AtomicInteger successfulBatches;
+        private final AtomicInteger failedBatches;
+        private final int sourceIndex;
+        private final long sourceBytes;
+        private final IngestionProgressListener progressListener;
+
+        private BulkSender(
+            BulkWindow window,
+            AtomicInteger successfulBatches,
+            AtomicInteger failedBatches,
+            int sourceIndex,
+            long sourceBytes,
+            IngestionProgressListener progressListener
+        ) {
+            this.window = window;
+            this.successfulBatches = successfulBatches;
+            this.failedBatches = failedBatches;
+            this.sourceIndex = sourceIndex;
+            this.sourceBytes = sourceBytes;
+            this.progressListener = progressListener;
+        }
+
+        private void submit(BulkRequest bulkRequest, long lines, long bytes) throws InterruptedException {
+            BulkWindow.PendingBulk retry;
+            while ((retry = window.acquire()) != null) {
+                retry(retry);
+            }
+            BulkWindow.PendingBulk bulk = new BulkWindow.PendingBulk(
+                window.nextSequence(),
+                bulkRequest,
+                new IngestionCheckpoint(lines, bytes),
+                0
+            );
+            if (bulkRequest.numberOfActions() == 0) {
+                onFailure(bulk, new IllegalArgumentException(EMPTY_BULK_ERROR));
+                return;
+            }
+            send(bulk);
+        }
+
+        private void awaitCompletion() throws InterruptedException {
+            BulkWindow.PendingBulk retry;
+            while ((retry = window.awaitCompletion()) != null) {
+                retry(retry);
+            }
+        }
+
+        private void retry(BulkWindow.PendingBulk bulk) throws InterruptedException {
+            long delay = Math.min(BULK_RETRY_MAX_DELAY_MILLIS, BULK_RETRY_BASE_DELAY_MILLIS << Math.min(bulk.attempt - 1, 16));
+            Thread.sleep(delay);
+            send(bulk);
+        }
+
+        private void send(BulkWindow.PendingBulk bulk) {
+            client.bulk(bulk.request, ActionListener.wrap(bulkResponse -> {
+                if (!bulkResponse.hasFailures()) {
+                    log.debug("Batch Ingestion successfully");
+                    onSuccess(bulk);
+                    return;
+                }
+                BulkRequest rejected = new BulkRequest();
+                boolean onlyRejections = true;
+                for (BulkItemResponse item : bulkResponse.getItems()) {
+                    if (!item.isFailed()) {
+                        continue;
+                    }
+                    if (item.status() == RestStatus.TOO_MANY_REQUESTS) {
+                        rejected.add(bulk.request.requests().get(item.getItemId()));
+                    } else {
+                        onlyRejections = false;
+                    }
+                }
+                if (onlyRejections && bulk.attempt < MAX_BULK_RETRIES) {
+                    window.onRejected(new BulkWindow.PendingBulk(bulk.sequence, rejected, bulk.end, bulk.attempt + 1));
+                } else {
+                    onFailure(bulk, new RuntimeException(bulkResponse.buildFailureMessage()));
+                }
+            }, e -> {
+                if (ExceptionsHelper.status(e) == RestStatus.TOO_MANY_REQUESTS && bulk.attempt < MAX_BULK_RETRIES) {
+                    window.onRejected(new BulkWindow.PendingBulk(bulk.sequence, bulk.request, bulk.end, bulk.attempt + 1));
+                } else {
+                    onFailure(bulk, e);
+                }
+            }));
+        }
+
+        private void onSuccess(BulkWindow.PendingBulk bulk) {
+            successfulBatches.incrementAndGet();
+            IngestionCheckpoint checkpoint = window.onCompleted(bulk.sequence, bulk.end, true);
+            if (checkpoint != null) {
+                try {
+                    progressListener.onCheckpoint(sourceIndex, checkpoint, sourceBytes);
+                } catch (Exception e) {
+                    log.warn("Failed to report batch ingestion checkpoint", e);
+                }
+            }
+        }
+
+        private void onFailure(BulkWindow.PendingBulk bulk, Exception e) {
+            log.error("Failed to Batch Ingestion", e);
+            failedBatches.incrementAndGet();
+            window.onCompleted(bulk.sequence, bulk.end, false);
+        }
+    }
+
+    private BulkRequest buildBulkRequest(
         List<String> sourceLines,
         MLBatchIngestionInput mlBatchIngestionInput,
-        ActionListener<BulkResponse> bulkResponseListener,
-        int sourceIndex,
+        CompiledFieldMapping fieldMapping,
         boolean isSoleSource
     ) {
         BulkRequest bulkRequest = new BulkRequest();
+        if (fieldMapping.isEmpty()) {
+            return bulkRequest;
+        }
         sourceLines.stream().forEach(jsonStr -> {
-            Map<String, Object> filteredMapping = isSoleSource
-                ? filterFieldMappingSoleSource(mlBatchIngestionInput)
-                : filterFieldMapping(mlBatchIngestionInput, sourceIndex);
-            Map<String, Object> jsonMap = processFieldMapping(jsonStr, filteredMapping);
+            Map<String, Object> jsonMap = fieldMapping.read(jsonStr);
             if (jsonMap.isEmpty()) {
                 return;
             }
@@ -228,14 +383,7 @@ public class AbstractIngestion implements Ingestable {
                 bulkRequest.add(updateRequest);
             }
         });
-        if (bulkRequest.numberOfActions() == 0) {
-            bulkResponseListener
-                .onFailure(
-                    new IllegalArgumentException("the bulk ingestion is empty: please check your field mapping to match your sources")
-                );
-            return;
-        }
-        client.bulk(bulkRequest, bulkResponseListener);
+        return bulkRequest;
     }
 
     private void populateJsonMap(Map<String, Object> jsonMap, List<String> fieldNames, List<?> modelData) {
@@ -0,0 +1,144 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.TreeMap;
+
+import org.opensearch.action.bulk.BulkRequest;
+
+/**
+ * Window of the in flight bulk requests of a source.
+ * <p>
+ * The window limits how many bulk requests of a source are in flight, so reading a large source doesn't flood the
+ * write thread pool. The limit grows by one after a window of successful bulk requests and is halved when a bulk
+ * request is rejected, like TCP congestion control. Rejected bulk requests keep their place in the window and are
+ * sent again by the reading thread.
+ * <p>
+ * Bulk requests complete out of order, the window keeps the checkpoint of the source: the position after the last
+ * bulk request that succeeded along with every bulk request before it.
+ */
+class BulkWindow {
+    static final int INITIAL_LIMIT = 2;
+    static final int MAX_LIMIT = 16;
+
+    private final Deque<PendingBulk> retries = new ArrayDeque<>();
+    // succeeded bulk requests after the checkpoint, by sequence number
+    private final TreeMap<Long, IngestionCheckpoint> succeeded = new TreeMap<>();
+    private int limit = INITIAL_LIMIT;
+    private int inFlight;
+    private int successesSinceResize;
+    private long nextSequence;
+    private long checkpointSequence;
+    private long failedSequence = Long.MAX_VALUE;
+    private IngestionCheckpoint checkpoint;
+
+    BulkWindow(IngestionCheckpoint start) {
+        this.checkpoint = start;
+    }
+
+    /**
+     * Wait until a new bulk request fits in the window, or a rejected one has to be sent again.
+     * @return a rejected bulk request to send again, or null once the window has room for a new bulk request
+     */
+    synchronized PendingBulk acquire() throws InterruptedException {
+        while (retries.isEmpty() && inFlight >= limit) {
+            wait();
+        }
+        if (!retries.isEmpty()) {
+            return retries.poll();
+        }
+        inFlight++;
+        return null;
+    }
+
+    /**
+     * Wait until all bulk requests completed, or a rejected one has to be sent again.
+     * @return a rejected bulk request to send again, or null once all bulk requests completed
+     */
+    synchronized PendingBulk awaitCompletion() throws InterruptedException {
+        while (retries.isEmpty() && inFlight > 0) {
+            wait();
+        }
+        return retries.poll();
+    }
+
+    /**
+     * @return sequence number of a new bulk request, call after {@link #acquire()} made room for it
+     */
+    synchronized long nextSequence() {
+        return nextSequence++;
+    }
+
+    /**
+     * Queue a rejected bulk request to be sent again, and shrink the window.
+     */
+    synchronized void onRejected(PendingBulk bulk) {
+        limit = Math.max(1, limit / 2);
+        successesSinceResize = 0;
+        retries.add(bulk);
+        notifyAll();
+    }
+
+    /**
+     * Complete a bulk request.
+     * @param sequence sequence number of the bulk request
+     * @param end position in the source after the lines of the bulk request
+     * @param success whether the bulk request succeeded
+     * @return the new checkpoint if it moved forward, null otherwise
+     */
+    synchronized IngestionCheckpoint onCompleted(long sequence, IngestionCheckpoint end, boolean success) {
+        inFlight--;
+        notifyAll();
+        if (!success) {
+            // the checkpoint never moves past a failed bulk request, so resuming ingests it again
+            failedSequence = Math.min(failedSequence, sequence);
+            succeeded.tailMap(failedSequence).clear();
+            return null;
+        }
+        if (++successesSinceResize >= limit && limit < MAX_LIMIT) {
+            limit++;
+            successesSinceResize = 0;
+        }
+        if (sequence > failedSequence) {
+            return null;
+        }
+        succeeded.put(sequence, end);
+        boolean moved = false;
+        while (!succeeded.isEmpty() && succeeded.firstKey() == checkpointSequence) {
+            checkpoint = succeeded.pollFirstEntry().getValue();
+            checkpointSequence++;
+            moved = true;
+        }
+        return moved ? checkpoint : null;
+    }
+
+    synchronized int getLimit() {
+        return limit;
+    }
+
+    synchronized IngestionCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * A bulk request of a source, with the position in the source after its lines.
+     */
+    static class PendingBulk {
+        final long sequence;
+        final BulkRequest request;
+        final IngestionCheckpoint end;
+        final int attempt;
+
+        PendingBulk(long sequence, BulkRequest request, IngestionCheckpoint end, int attempt) {
+            this.sequence = sequence;
+            this.request = request;
+            this.end = end;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.ml.common.utils.JsonPathCache;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+
+/**
+ * Field mapping of a source with its JsonPaths compiled, built once per source and read against every line.
+ */
+class CompiledFieldMapping {
+    private final String[] fieldNames;
+    private final JsonPath[] jsonPaths;
+
+    /**
+     * @param fieldMapping filtered field mapping of a source, a JsonPath or a list of JsonPaths per field name; for a
+     *                     list, the last JsonPath sets the field
+     */
+    CompiledFieldMapping(Map<String, Object> fieldMapping) {
+        List<String> names = new ArrayList<>();
+        List<JsonPath> paths = new ArrayList<>();
+        if (fieldMapping != null) {
+            fieldMapping.forEach((fieldName, value) -> {
+                if (value instanceof String) {
+                    names.add(fieldName);
+                    paths.add(JsonPathCache.compile((String) value));
+                } else if (value instanceof List) {
+                    for (String jsonPath : (List<String>) value) {
+                        names.add(fieldName);
+                        paths.add(JsonPathCache.compile(jsonPath));
+                    }
+                }
+            });
+        }
+        this.fieldNames = names.toArray(new String[0]);
+        this.jsonPaths = paths.toArray(new JsonPath[0]);
+    }
+
+    boolean isEmpty() {
+        return fieldNames.length == 0;
+    }
+
+    /**
+     * Parse a line once and read all mapped fields from it.
+     * @param jsonStr line of the source
+     * @return the mapped fields of the line, empty if no field is mapped
+     */
+    Map<String, Object> read(String jsonStr) {
+        Map<String, Object> jsonMap = new HashMap<>();
+        if (isEmpty()) {
+            return jsonMap;
+        }
+        ReadContext document = JsonPath.parse(jsonStr);
+        for (int i = 0; i < fieldNames.length; i++) {
+            jsonMap.put(fieldNames[i], document.read(jsonPaths[i]));
+        }
+        return jsonMap;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.client.Client;
+import org.opensearch.common.io.PathUtils;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+import org.opensearch.ml.engine.annotation.Ingester;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Ingests files of the local file system, given as file:// URIs. The batch ingestion transport action only accepts
+ * files under the path.repo directories of the node.
+ */
+@Log4j2
+@Ingester("file")
+public class FileDataIngestion extends AbstractIngestion {
+    public static final String SOURCE = "source";
+
+    public FileDataIngestion(Client client) {
+        super(client);
+    }
+
+    @Override
+    public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
+        return ingest(mlBatchIngestionInput, bulkSize, IngestionProgressListener.NO_OP);
+    }
+
+    @Override
+    public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize, IngestionProgressListener progressListener) {
+        List<String> fileUris = (List<String>) mlBatchIngestionInput.getDataSources().get(SOURCE);
+        if (Objects.isNull(fileUris) || fileUris.isEmpty()) {
+            return 100;
+        }
+        List<IngestionCheckpoint> checkpoints = IngestionCheckpoint.parse(mlBatchIngestionInput.getDataSources(), fileUris.size());
+
+        boolean isSoleSource = fileUris.size() == 1;
+        List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
+        for (int sourceIndex = 0; sourceIndex < fileUris.size(); sourceIndex++) {
+            successRates
+                .add(
+                    ingestSingleSource(
+                        fileUris.get(sourceIndex),
+                        mlBatchIngestionInput,
+                        sourceIndex,
+                        isSoleSource,
+                        bulkSize,
+                        checkpoints.get(sourceIndex),
+                        progressListener
+                    )
+                );
+        }
+
+        return calculateSuccessRate(successRates);
+    }
+
+    private double ingestSingleSource(
+        String fileUri,
+        MLBatchIngestionInput mlBatchIngestionInput,
+        int sourceIndex,
+        boolean isSoleSource,
+        int bulkSize,
+        IngestionCheckpoint checkpoint,
+        IngestionProgressListener progressListener
+    ) {
+        Path path = PathUtils.get(URI.create(fileUri));
+        try (
+            FileChannel channel = AccessController
+                .doPrivileged((PrivilegedExceptionAction<FileChannel>) () -> FileChannel.open(path, StandardOpenOption.READ));
+            LineReader reader = new LineReader(Channels.newInputStream(channel.position(checkpoint.getBytes())), checkpoint.getBytes())
+        ) {
+            return ingestSource(
+                reader,
+                true,
+                checkpoint,
+                channel.size(),
+                mlBatchIngestionInput,
+                sourceIndex,
+                isSoleSource,
+                bulkSize,
+                progressListener
+            );
+        } catch (PrivilegedActionException e) {
+            throw new RuntimeException("Failed to read file: " + fileUri, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchStatusException("Batch ingestion was interrupted", RestStatus.INTERNAL_SERVER_ERROR);
+        } catch (Exception e) {
+            log.error(e.getMessage());
+            throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
@@ -16,4 +16,14 @@ public interface Ingestable {
     default double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
         throw new IllegalStateException("Ingest is not implemented");
     }
+
+    /**
+     * offline ingest data with given input, reporting the checkpoints of the sources.
+     * @param mlBatchIngestionInput batch ingestion input data
+     * @param progressListener listener of the ingestion progress
+     * @return successRate (0 - 100)
+     */
+    default double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize, IngestionProgressListener progressListener) {
+        return ingest(mlBatchIngestionInput, bulkSize);
+    }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Position in a source up to which every line was ingested successfully.
+ * <p>
+ * Checkpoints are written to the remote_job of the batch ingestion task. Passing them as the checkpoints of the
+ * data source of a new batch ingestion resumes each source after its checkpoint. Lines after the checkpoint may
+ * have been ingested already, so resumed sources should set the _id of their documents.
+ */
+@Getter
+@EqualsAndHashCode
+public class IngestionCheckpoint {
+    public static final String CHECKPOINTS_FIELD = "checkpoints";
+    public static final String LINES_FIELD = "lines";
+    public static final String BYTES_FIELD = "bytes";
+
+    public static final IngestionCheckpoint START = new IngestionCheckpoint(0, 0);
+
+    // number of lines ingested from the start of the source
+    private final long lines;
+    // byte offset after these lines
+    private final long bytes;
+
+    public IngestionCheckpoint(long lines, long bytes) {
+        this.lines = lines;
+        this.bytes = bytes;
+    }
+
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new HashMap<>();
+        map.put(LINES_FIELD, lines);
+        map.put(BYTES_FIELD, bytes);
+        return map;
+    }
+
+    /**
+     * Parse the checkpoints of the sources of a data source.
+     * @param dataSources data sources of the batch ingestion input
+     * @param sourceCount number of sources
+     * @return the checkpoint of each source, the start of the source if there is none
+     */
+    public static List<IngestionCheckpoint> parse(Map<String, Object> dataSources, int sourceCount) {
+        List<IngestionCheckpoint> checkpoints = new ArrayList<>(sourceCount);
+        Object value = dataSources == null ? null : dataSources.get(CHECKPOINTS_FIELD);
+        if (value != null && !(value instanceof List && ((List<?>) value).size() == sourceCount)) {
+            throw new IllegalArgumentException("The batch ingest checkpoints must have one checkpoint per source");
+        }
+        for (int i = 0; i < sourceCount; i++) {
+            Object checkpoint = value == null ? null : ((List<?>) value).get(i);
+            if (checkpoint == null) {
+                checkpoints.add(START);
+            } else if (checkpoint instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) checkpoint;
+                checkpoints.add(new IngestionCheckpoint(parseLong(map.get(LINES_FIELD)), parseLong(map.get(BYTES_FIELD))));
+            } else {
+                throw new IllegalArgumentException("Invalid batch ingest checkpoint: " + checkpoint);
+            }
+        }
+        return checkpoints;
+    }
+
+    private static long parseLong(Object value) {
+        long number;
+        if (value instanceof Number) {
+            number = ((Number) value).longValue();
+        } else if (value instanceof String) {
+            try {
+                number = Long.parseLong((String) value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid batch ingest checkpoint value: " + value);
+            }
+        } else {
+            throw new IllegalArgumentException("Invalid batch ingest checkpoint value: " + value);
+        }
+        if (number < 0) {
+            throw new IllegalArgumentException("Invalid batch ingest checkpoint value: " + value);
+        }
+        return number;
+    }
+}
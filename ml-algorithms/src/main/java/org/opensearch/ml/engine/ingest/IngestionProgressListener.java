@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+/**
+ * Listener of the progress of a batch ingestion.
+ */
+public interface IngestionProgressListener {
+    IngestionProgressListener NO_OP = (sourceIndex, checkpoint, sourceBytes) -> {};
+
+    /**
+     * Called when the checkpoint of a source moves forward, from the threads completing the bulk requests.
+     * @param sourceIndex index of the source
+     * @param checkpoint the new checkpoint of the source
+     * @param sourceBytes size of the source in bytes, -1 if unknown
+     */
+    void onCheckpoint(int sourceIndex, IngestionCheckpoint checkpoint, long sourceBytes);
+}
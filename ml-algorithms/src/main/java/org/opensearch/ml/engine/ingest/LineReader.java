@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Reads UTF-8 lines from a stream and keeps track of the byte offset after the last line read, so ingestion can
+ * resume from a line without reading the source from the start.
+ */
+class LineReader implements Closeable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream in;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+    private int position;
+    private int limit;
+    private long offset;
+
+    /**
+     * @param in the stream to read
+     * @param offset byte offset of the start of the stream in the source
+     */
+    LineReader(InputStream in, long offset) {
+        this.in = in;
+        this.offset = offset;
+    }
+
+    /**
+     * @return the next line without the line terminator, or null at the end of the stream
+     */
+    String readLine() throws IOException {
+        line.reset();
+        boolean read = false;
+        while (true) {
+            if (position == limit) {
+                limit = in.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return read ? toLine() : null;
+                }
+            }
+            read = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            line.write(buffer, start, position - start);
+            offset += position - start;
+            if (position < limit) {
+                // skip the line terminator
+                position++;
+                offset++;
+                return toLine();
+            }
+        }
+    }
+
+    /**
+     * @return byte offset in the source after the last line read
+     */
+    long getOffset() {
+        return offset;
+    }
+
+    private String toLine() {
+        int length = line.size();
+        byte[] bytes = line.toByteArray();
+        if (length > 0 && bytes[length - 1] == '\r') {
+            length--;
+        }
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
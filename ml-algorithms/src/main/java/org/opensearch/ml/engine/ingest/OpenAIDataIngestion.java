@@ -5,8 +5,7 @@
 
 package org.opensearch.ml.engine.ingest;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.security.AccessController;
@@ -16,8 +15,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
@@ -40,15 +37,32 @@ public class OpenAIDataIngestion extends AbstractIngestion {
 
     @Override
     public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
+        return ingest(mlBatchIngestionInput, bulkSize, IngestionProgressListener.NO_OP);
+    }
+
+    @Override
+    public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize, IngestionProgressListener progressListener) {
         List<String> sources = (List<String>) mlBatchIngestionInput.getDataSources().get(SOURCE);
         if (Objects.isNull(sources) || sources.isEmpty()) {
             return 100;
         }
+        List<IngestionCheckpoint> checkpoints = IngestionCheckpoint.parse(mlBatchIngestionInput.getDataSources(), sources.size());
 
         boolean isSoleSource = sources.size() == 1;
         List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
         for (int sourceIndex = 0; sourceIndex < sources.size(); sourceIndex++) {
-            successRates.add(ingestSingleSource(sources.get(sourceIndex), mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize));
+            successRates
+                .add(
+                    ingestSingleSource(
+                        sources.get(sourceIndex),
+                        mlBatchIngestionInput,
+                        sourceIndex,
+                        isSoleSource,
+                        bulkSize,
+                        checkpoints.get(sourceIndex),
+                        progressListener
+                    )
+                );
         }
 
         return calculateSuccessRate(successRates);
@@ -59,9 +73,10 @@ public class OpenAIDataIngestion extends AbstractIngestion {
         MLBatchIngestionInput mlBatchIngestionInput,
         int sourceIndex,
         boolean isSoleSource,
-        int bulkSize
+        int bulkSize,
+        IngestionCheckpoint checkpoint,
+        IngestionProgressListener progressListener
     ) {
-        double successRate = 0;
         try {
             String apiKey = mlBatchIngestionInput.getCredential().get(API_KEY);
             URL url = new URL(API_URL + fileId + "/content");
@@ -71,67 +86,31 @@ public class OpenAIDataIngestion extends AbstractIngestion {
             connection.setRequestProperty("Authorization", "Bearer " + apiKey);
 
             try (
-                InputStreamReader inputStreamReader = AccessController
-                    .doPrivileged((PrivilegedExceptionAction<InputStreamReader>) () -> new InputStreamReader(connection.getInputStream()));
-                BufferedReader reader = new BufferedReader(inputStreamReader)
+                InputStream inputStream = AccessController
+                    .doPrivileged((PrivilegedExceptionAction<InputStream>) () -> connection.getInputStream());
+                LineReader reader = new LineReader(inputStream, 0)
             ) {
-                List<String> linesBuffer = new ArrayList<>();
-                String line;
-                int lineCount = 0;
-                // Atomic counters for tracking success and failure
-                AtomicInteger successfulBatches = new AtomicInteger(0);
-                AtomicInteger failedBatches = new AtomicInteger(0);
-                // List of CompletableFutures to track batch ingestion operations
-                List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-                while ((line = reader.readLine()) != null) {
-                    linesBuffer.add(line);
-                    lineCount++;
-
-                    // Process every bulkSize lines
-                    if (lineCount % bulkSize == 0) {
-                        // Create a CompletableFuture that will be completed by the bulkResponseListener
-                        CompletableFuture<Void> future = new CompletableFuture<>();
-                        batchIngest(
-                            linesBuffer,
-                            mlBatchIngestionInput,
-                            getBulkResponseListener(successfulBatches, failedBatches, future),
-                            sourceIndex,
-                            isSoleSource
-                        );
-
-                        futures.add(future);
-                        linesBuffer.clear();
-                    }
-                }
-                // Process any remaining lines in the buffer
-                if (!linesBuffer.isEmpty()) {
-                    CompletableFuture<Void> future = new CompletableFuture<>();
-                    batchIngest(
-                        linesBuffer,
-                        mlBatchIngestionInput,
-                        getBulkResponseListener(successfulBatches, failedBatches, future),
-                        sourceIndex,
-                        isSoleSource
-                    );
-                    futures.add(future);
-                }
-
-                reader.close();
-                // Combine all futures and wait for completion
-                CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-                // Wait for all tasks to complete
-                allFutures.join();
-                int totalBatches = successfulBatches.get() + failedBatches.get();
-                successRate = (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
+                // the file content API doesn't support ranges, the lines before the checkpoint are skipped
+                return ingestSource(
+                    reader,
+                    false,
+                    checkpoint,
+                    connection.getContentLengthLong(),
+                    mlBatchIngestionInput,
+                    sourceIndex,
+                    isSoleSource,
+                    bulkSize,
+                    progressListener
+                );
             }
         } catch (PrivilegedActionException e) {
             throw new RuntimeException("Failed to read from OpenAI file API: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchStatusException("Batch ingestion was interrupted", RestStatus.INTERNAL_SERVER_ERROR);
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
         }
-
-        return successRate;
     }
 }
@@ -10,9 +10,6 @@ import static org.opensearch.ml.common.connector.AbstractConnector.SECRET_KEY_FI
 import static org.opensearch.ml.common.connector.AbstractConnector.SESSION_TOKEN_FIELD;
 import static org.opensearch.ml.common.connector.HttpConnector.REGION_FIELD;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
@@ -20,8 +17,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.client.Client;
@@ -47,6 +42,7 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 @Ingester("s3")
 public class S3DataIngestion extends AbstractIngestion {
     public static final String SOURCE = "source";
+    private static final int RANGE_NOT_SATISFIABLE = 416;
 
     public S3DataIngestion(Client client) {
         super(client);
@@ -54,16 +50,37 @@ public class S3DataIngestion extends AbstractIngestion {
 
     @Override
     public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize) {
-        S3Client s3 = initS3Client(mlBatchIngestionInput);
+        return ingest(mlBatchIngestionInput, bulkSize, IngestionProgressListener.NO_OP);
+    }
 
+    @Override
+    public double ingest(MLBatchIngestionInput mlBatchIngestionInput, int bulkSize, IngestionProgressListener progressListener) {
         List<String> s3Uris = (List<String>) mlBatchIngestionInput.getDataSources().get(SOURCE);
         if (Objects.isNull(s3Uris) || s3Uris.isEmpty()) {
             return 100;
         }
+        List<IngestionCheckpoint> checkpoints = IngestionCheckpoint.parse(mlBatchIngestionInput.getDataSources(), s3Uris.size());
         boolean isSoleSource = s3Uris.size() == 1;
         List<Double> successRates = Collections.synchronizedList(new ArrayList<>());
-        for (int sourceIndex = 0; sourceIndex < s3Uris.size(); sourceIndex++) {
-            successRates.add(ingestSingleSource(s3, s3Uris.get(sourceIndex), mlBatchIngestionInput, sourceIndex, isSoleSource, bulkSize));
+        S3Client s3 = initS3Client(mlBatchIngestionInput);
+        try {
+            for (int sourceIndex = 0; sourceIndex < s3Uris.size(); sourceIndex++) {
+                successRates
+                    .add(
+                        ingestSingleSource(
+                            s3,
+                            s3Uris.get(sourceIndex),
+                            mlBatchIngestionInput,
+                            sourceIndex,
+                            isSoleSource,
+                            bulkSize,
+                            checkpoints.get(sourceIndex),
+                            progressListener
+                        )
+                    );
+            }
+        } finally {
+            s3.close();
         }
 
         return calculateSuccessRate(successRates);
@@ -75,83 +92,54 @@ public class S3DataIngestion extends AbstractIngestion {
         MLBatchIngestionInput mlBatchIngestionInput,
         int sourceIndex,
         boolean isSoleSource,
-        int bulkSize
+        int bulkSize,
+        IngestionCheckpoint checkpoint,
+        IngestionProgressListener progressListener
     ) {
         String bucketName = getS3BucketName(s3Uri);
         String keyName = getS3KeyName(s3Uri);
-        GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(keyName).build();
-        double successRate = 0;
+        GetObjectRequest.Builder getObjectRequest = GetObjectRequest.builder().bucket(bucketName).key(keyName);
+        if (checkpoint.getBytes() > 0) {
+            // resume without downloading the lines before the checkpoint again
+            getObjectRequest.range("bytes=" + checkpoint.getBytes() + "-");
+        }
 
         try (
             ResponseInputStream<GetObjectResponse> s3is = AccessController
-                .doPrivileged((PrivilegedExceptionAction<ResponseInputStream<GetObjectResponse>>) () -> s3.getObject(getObjectRequest));
-            BufferedReader reader = new BufferedReader(new InputStreamReader(s3is, StandardCharsets.UTF_8))
-        ) {
-            List<String> linesBuffer = new ArrayList<>();
-            String line;
-            int lineCount = 0;
-            // Atomic counters for tracking success and failure
-            AtomicInteger successfulBatches = new AtomicInteger(0);
-            AtomicInteger failedBatches = new AtomicInteger(0);
-            // List of CompletableFutures to track batch ingestion operations
-            List<CompletableFuture<Void>> futures = new ArrayList<>();
-
-            while ((line = reader.readLine()) != null) {
-                linesBuffer.add(line);
-                lineCount++;
-
-                // Process every bulkSize lines
-                if (lineCount % bulkSize == 0) {
-                    // Create a CompletableFuture that will be completed by the bulkResponseListener
-                    CompletableFuture<Void> future = new CompletableFuture<>();
-                    batchIngest(
-                        linesBuffer,
-                        mlBatchIngestionInput,
-                        getBulkResponseListener(successfulBatches, failedBatches, future),
-                        sourceIndex,
-                        isSoleSource
-                    );
-
-                    futures.add(future);
-                    linesBuffer.clear();
-                }
-            }
-            // Process any remaining lines in the buffer
-            if (!linesBuffer.isEmpty()) {
-                CompletableFuture<Void> future = new CompletableFuture<>();
-                batchIngest(
-                    linesBuffer,
-                    mlBatchIngestionInput,
-                    getBulkResponseListener(successfulBatches, failedBatches, future),
-                    sourceIndex,
-                    isSoleSource
+                .doPrivileged(
+                    (PrivilegedExceptionAction<ResponseInputStream<GetObjectResponse>>) () -> s3.getObject(getObjectRequest.build())
                 );
-                futures.add(future);
-            }
-
-            reader.close();
-
-            // Combine all futures and wait for completion
-            CompletableFuture<Void> allFutures = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-
-            // Wait for all tasks to complete
-            allFutures.join();
-
-            int totalBatches = successfulBatches.get() + failedBatches.get();
-            successRate = (totalBatches == 0) ? 100 : (double) successfulBatches.get() / totalBatches * 100;
+            LineReader reader = new LineReader(s3is, checkpoint.getBytes())
+        ) {
+            Long contentLength = s3is.response().contentLength();
+            long sourceBytes = contentLength == null ? -1 : checkpoint.getBytes() + contentLength;
+            return ingestSource(
+                reader,
+                true,
+                checkpoint,
+                sourceBytes,
+                mlBatchIngestionInput,
+                sourceIndex,
+                isSoleSource,
+                bulkSize,
+                progressListener
+            );
+        } catch (PrivilegedActionException e) {
+            throw new RuntimeException("Failed to get S3 Object: ", e);
         } catch (S3Exception e) {
+            if (e.statusCode() == RANGE_NOT_SATISFIABLE && checkpoint.getBytes() > 0) {
+                // the checkpoint is at the end of the object, nothing left to ingest
+                return 100;
+            }
             log.error("Error reading from S3: " + e.awsErrorDetails().errorMessage());
             throw e;
-        } catch (PrivilegedActionException e) {
-            throw new RuntimeException("Failed to get S3 Object: ", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchStatusException("Batch ingestion was interrupted", RestStatus.INTERNAL_SERVER_ERROR);
         } catch (Exception e) {
             log.error(e.getMessage());
             throw new OpenSearchStatusException("Failed to batch ingest: " + e.getMessage(), RestStatus.INTERNAL_SERVER_ERROR);
-        } finally {
-            s3.close();
         }
-
-        return successRate;
     }
 
     private String getS3BucketName(String s3Uri) {
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import com.google.common.hash.HashCode;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Writes chunks that may arrive out of order into a single file in chunk order, and calculates the sha256 hash
+ * value of the file while writing. Chunks that arrive ahead of their turn are held in memory until the missing
+ * chunks before them are written. Callers fetch the chunks claimed by {@link #claimNextChunk()}, which hands out
+ * at most {@code window} chunks past the last written one, so a slow chunk holds back at most {@code window - 1}
+ * chunks in memory.
+ */
+@Log4j2
+public class OrderedChunkFileWriter {
+
+    @Getter
+    private final File file;
+    private final int totalChunks;
+    private final int window;
+    private final MessageDigest digest;
+    private final OutputStream output;
+    private final Map<Integer, byte[]> pendingChunks = new HashMap<>();
+    private int nextChunk;
+    private int nextClaimedChunk;
+    @Getter
+    private long bytesWritten;
+    private long writeTimeInNanos;
+    private boolean closed;
+
+    public OrderedChunkFileWriter(File file, int totalChunks) throws IOException {
+        this(file, totalChunks, totalChunks);
+    }
+
+    public OrderedChunkFileWriter(File file, int totalChunks, int window) throws IOException {
+        this.file = file;
+        this.totalChunks = totalChunks;
+        this.window = Math.max(1, window);
+        try {
+            this.digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new MLException("SHA-256 is not supported", e);
+        }
+        org.apache.commons.io.FileUtils.forceMkdir(file.getParentFile());
+        this.output = new BufferedOutputStream(new DigestOutputStream(new FileOutputStream(file), digest));
+    }
+
+    /**
+     * Claim the next chunk to fetch. Chunks are claimed in order, and only while the chunk is within the window after
+     * the last written chunk; writing the missing chunk opens the window again.
+     * @return the claimed chunk number, -1 if all chunks are claimed, the window is full or the writer is closed
+     */
+    public synchronized int claimNextChunk() {
+        if (closed || nextClaimedChunk >= totalChunks || nextClaimedChunk >= nextChunk + window) {
+            return -1;
+        }
+        return nextClaimedChunk++;
+    }
+
+    /**
+     * Add one chunk. The chunk and every pending chunk following it are written once all previous chunks are written.
+     * @param chunkNumber chunk number, starting from 0
+     * @param data chunk content
+     * @return true if all chunks are written
+     * @throws IOException if failed to write the file
+     */
+    public synchronized boolean write(int chunkNumber, byte[] data) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Chunk writer of " + file + " is closed");
+        }
+        if (chunkNumber < nextChunk || chunkNumber >= totalChunks || pendingChunks.containsKey(chunkNumber)) {
+            throw new IllegalArgumentException("Unexpected chunk " + chunkNumber + " for " + file);
+        }
+        pendingChunks.put(chunkNumber, data);
+        long startTime = System.nanoTime();
+        byte[] next;
+        while ((next = pendingChunks.remove(nextChunk)) != null) {
+            output.write(next);
+            bytesWritten += next.length;
+            nextChunk++;
+        }
+        writeTimeInNanos += System.nanoTime() - startTime;
+        return nextChunk == totalChunks;
+    }
+
+    /**
+     * Close the file after all chunks are written.
+     * @return sha256 hash value of the file
+     * @throws IOException if failed to close the file
+     */
+    public synchronized String finish() throws IOException {
+        if (nextChunk != totalChunks) {
+            throw new MLException("Only " + nextChunk + " of " + totalChunks + " chunks are written to " + file);
+        }
+        closed = true;
+        output.close();
+        return HashCode.fromBytes(digest.digest()).toString();
+    }
+
+    /**
+     * Close and delete the file, drop pending chunks.
+     */
+    public synchronized void abort() {
+        if (!closed) {
+            closed = true;
+            try {
+                output.close();
+            } catch (IOException e) {
+                log.debug("Failed to close " + file, e);
+            }
+        }
+        pendingChunks.clear();
+        FileUtils.deleteFileQuietly(file);
+    }
+
+    /**
+     * @return number of chunks held in memory until the chunks before them are written
+     */
+    public synchronized int getPendingChunkCount() {
+        return pendingChunks.size();
+    }
+
+    public synchronized long getWriteTimeInMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(writeTimeInNanos);
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class ModelArtifactCacheTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private Path cacheRootPath;
+
+    @Before
+    public void setUp() {
+        cacheRootPath = tempFolder.getRoot().toPath().resolve("artifacts");
+    }
+
+    private ModelArtifactCache.ArtifactWriter writer(int size) {
+        return path -> Files.write(path.resolve("model.pt"), new byte[size]);
+    }
+
+    @Test
+    public void testDisabled() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 0);
+        assertFalse(cache.isEnabled());
+        assertFalse(cache.contains("hash"));
+    }
+
+    @Test
+    public void testAcquireWritesOnce() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        Path path = cache.acquire("hash1", writer(10));
+        assertEquals(cacheRootPath.resolve("hash1"), path);
+        assertTrue(cache.contains("hash1"));
+        assertEquals(10, cache.getTotalSizeInBytes());
+
+        Path cachedPath = cache.acquire("hash1", artifactPath -> { throw new IllegalStateException("should not write again"); });
+        assertEquals(path, cachedPath);
+    }
+
+    @Test
+    public void testEvictLeastRecentlyUsed() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 25);
+        cache.acquire("hash1", writer(10));
+        cache.release("hash1");
+        cache.acquire("hash2", writer(10));
+        cache.release("hash2");
+        // use hash1 again so hash2 becomes the least recently used artifact
+        cache.acquire("hash1", null);
+        cache.release("hash1");
+        cache.acquire("hash3", writer(10));
+
+        assertTrue(cache.contains("hash1"));
+        assertFalse(cache.contains("hash2"));
+        assertTrue(cache.contains("hash3"));
+        assertFalse(Files.exists(cacheRootPath.resolve("hash2")));
+        assertEquals(20, cache.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void testDoNotEvictArtifactInUse() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 15);
+        cache.acquire("hash1", writer(10));
+        cache.acquire("hash2", writer(10));
+        assertTrue(cache.contains("hash1"));
+        assertTrue(cache.contains("hash2"));
+
+        cache.release("hash1");
+        assertFalse(cache.contains("hash1"));
+        assertTrue(cache.contains("hash2"));
+    }
+
+    @Test
+    public void testTryAcquirePinsCachedArtifact() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        assertNull(cache.tryAcquire("hash1"));
+        cache.acquire("hash1", writer(10));
+        cache.release("hash1");
+
+        assertEquals(cacheRootPath.resolve("hash1"), cache.tryAcquire("hash1"));
+        // pinned, the artifact can be loaded without its writer even if the cache shrinks meanwhile
+        cache.setMaxSizeInBytes(5);
+        assertEquals(cacheRootPath.resolve("hash1"), cache.acquire("hash1", null));
+        cache.release("hash1");
+        assertTrue(cache.contains("hash1"));
+
+        cache.release("hash1");
+        assertFalse(cache.contains("hash1"));
+    }
+
+    @Test
+    public void testFailedWriteIsNotCached() throws Exception {
+        exceptionRule.expect(IOException.class);
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        try {
+            cache.acquire("hash1", path -> { throw new IOException("failed to unzip"); });
+        } finally {
+            assertFalse(cache.contains("hash1"));
+            assertFalse(Files.exists(cacheRootPath.resolve("hash1")));
+            assertEquals(0, cacheRootPath.resolve(ModelArtifactCache.TEMP_FOLDER).toFile().list().length);
+        }
+    }
+
+    @Test
+    public void testLoadCachedArtifactsFromDisk() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        cache.acquire("hash1", writer(10));
+        // partially written artifact without the complete marker
+        Files.createDirectories(cacheRootPath.resolve("hash2"));
+
+        ModelArtifactCache reloaded = new ModelArtifactCache(cacheRootPath, 100);
+        assertTrue(reloaded.contains("hash1"));
+        assertFalse(reloaded.contains("hash2"));
+        assertFalse(Files.exists(cacheRootPath.resolve("hash2")));
+        assertEquals(10, reloaded.getTotalSizeInBytes());
+    }
+
+    @Test
+    public void testConcurrentMissesWriteOnce() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        AtomicInteger writes = new AtomicInteger();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finishWrite = new CountDownLatch(1);
+        ModelArtifactCache.ArtifactWriter slowWriter = path -> {
+            writes.incrementAndGet();
+            writing.countDown();
+            finishWrite.await();
+            writer(10).write(path);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Path> first = executor.submit(() -> cache.acquire("hash1", slowWriter));
+            writing.await();
+            Future<Path> second = executor.submit(() -> cache.acquire("hash1", slowWriter));
+            finishWrite.countDown();
+
+            assertEquals(cacheRootPath.resolve("hash1"), first.get(10, TimeUnit.SECONDS));
+            assertEquals(cacheRootPath.resolve("hash1"), second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, writes.get());
+            assertEquals(10, cache.getTotalSizeInBytes());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testWriteDoesNotBlockOtherArtifacts() throws Exception {
+        ModelArtifactCache cache = new ModelArtifactCache(cacheRootPath, 100);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finishWrite = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Path> slow = executor.submit(() -> cache.acquire("hash1", path -> {
+                writing.countDown();
+                finishWrite.await();
+                writer(10).write(path);
+            }));
+            writing.await();
+
+            // the artifact being written is not visible until it is renamed into place
+            assertFalse(cache.contains("hash1"));
+            assertFalse(Files.exists(cacheRootPath.resolve("hash1")));
+            assertEquals(cacheRootPath.resolve("hash2"), cache.acquire("hash2", writer(10)));
+
+            finishWrite.countDown();
+            assertEquals(cacheRootPath.resolve("hash1"), slow.get(10, TimeUnit.SECONDS));
+            assertTrue(cache.contains("hash1"));
+            assertEquals(20, cache.getTotalSizeInBytes());
+            assertEquals(0, cacheRootPath.resolve(ModelArtifactCache.TEMP_FOLDER).toFile().list().length);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
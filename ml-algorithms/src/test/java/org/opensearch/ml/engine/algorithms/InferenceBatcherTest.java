@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.exception.MLException;
+
+import ai.djl.modality.Input;
+import ai.djl.modality.Output;
+import ai.djl.translate.TranslateException;
+
+public class InferenceBatcherTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+    private List<Output> echo(List<Input> inputs) {
+        batchSizes.add(inputs.size());
+        List<Output> outputs = new ArrayList<>();
+        for (Input input : inputs) {
+            Output output = new Output();
+            output.add(input.getAsString(0));
+            outputs.add(output);
+        }
+        return outputs;
+    }
+
+    @Test
+    public void predict_KeepsDocumentOrder() throws TranslateException {
+        InferenceBatcher batcher = new InferenceBatcher(2, 0, this::echo);
+        List<String> docs = Arrays.asList("a long document", "b", "medium doc", "c");
+        List<Output> outputs = batcher.predict(docs);
+        assertEquals(docs.size(), outputs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            assertEquals(docs.get(i), outputs.get(i).getAsString(0));
+        }
+        for (int batchSize : batchSizes) {
+            assertTrue(batchSize <= 2);
+        }
+    }
+
+    @Test
+    public void predict_BucketsByLength() throws TranslateException {
+        InferenceBatcher batcher = new InferenceBatcher(8, 0, this::echo);
+        batcher.predict(Arrays.asList("aa", "bb", "cc", "a much longer document than the others"));
+        assertEquals(Arrays.asList(3, 1), batchSizes);
+    }
+
+    @Test
+    public void predict_CoalescesConcurrentRequests() throws Exception {
+        InferenceBatcher batcher = new InferenceBatcher(4, 1000, this::echo);
+        CompletableFuture<List<Output>> first = CompletableFuture.supplyAsync(() -> predictQuietly(batcher, Arrays.asList("aa", "bb")));
+        CompletableFuture<List<Output>> second = CompletableFuture.supplyAsync(() -> predictQuietly(batcher, Arrays.asList("cc", "dd")));
+        assertEquals("aa", first.get().get(0).getAsString(0));
+        assertEquals("bb", first.get().get(1).getAsString(0));
+        assertEquals("cc", second.get().get(0).getAsString(0));
+        assertEquals("dd", second.get().get(1).getAsString(0));
+        assertEquals(4, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    public void predict_OutputSizeMismatch() throws TranslateException {
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Model returned a different number of outputs than inputs in batch");
+        InferenceBatcher batcher = new InferenceBatcher(4, 0, inputs -> Collections.emptyList());
+        batcher.predict(Arrays.asList("aa", "bb"));
+    }
+
+    @Test
+    public void constructor_InvalidBatchSize() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("batch size must be positive");
+        new InferenceBatcher(0, 0, this::echo);
+    }
+
+    private List<Output> predictQuietly(InferenceBatcher batcher, List<String> docs) {
+        try {
+            return batcher.predict(docs);
+        } catch (TranslateException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
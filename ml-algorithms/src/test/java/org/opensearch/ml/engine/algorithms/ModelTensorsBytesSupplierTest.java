@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensors;
+
+public class ModelTensorsBytesSupplierTest {
+
+    private ModelTensors modelTensors;
+
+    @Before
+    public void setUp() {
+        ModelTensor tensor = ModelTensor
+            .builder()
+            .name("sentence_embedding")
+            .floatData(new float[] { 1.0f, 2.0f })
+            .dataType(MLResultDataType.FLOAT32)
+            .build();
+        modelTensors = new ModelTensors(List.of(tensor));
+    }
+
+    @Test
+    public void getModelTensors_NoSerialization() {
+        ModelTensorsBytesSupplier supplier = new ModelTensorsBytesSupplier(modelTensors);
+        assertSame(modelTensors, supplier.getModelTensors());
+        assertSame(modelTensors, supplier.getAsObject());
+    }
+
+    @Test
+    public void getAsBytes_FallbackToSerialization() {
+        ModelTensorsBytesSupplier supplier = new ModelTensorsBytesSupplier(modelTensors);
+        byte[] bytes = supplier.getAsBytes();
+        assertArrayEquals(bytes, supplier.toByteBuffer().array());
+        ModelTensors parsed = ModelTensors.fromBytes(bytes);
+        assertEquals(modelTensors.getMlModelTensors(), parsed.getMlModelTensors());
+    }
+}
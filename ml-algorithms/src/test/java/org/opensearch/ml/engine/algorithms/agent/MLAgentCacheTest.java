@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.agent;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.opensearch.ml.engine.algorithms.agent.MLAgentCache.EXPIRE_AFTER_MILLIS;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.agent.MLAgent;
+
+public class MLAgentCacheTest {
+    private AtomicLong clock;
+    private MLAgentCache agentCache;
+    private MLAgent mlAgent;
+
+    @Before
+    public void setup() {
+        clock = new AtomicLong();
+        agentCache = new MLAgentCache(clock::get);
+        mlAgent = MLAgent.builder().name("agent").type("flow").build();
+    }
+
+    @Test
+    public void testPutAndGet() {
+        agentCache.put("agentId", mlAgent, agentCache.getGeneration());
+
+        assertSame(mlAgent, agentCache.get("agentId"));
+        assertNull(agentCache.get("otherAgentId"));
+    }
+
+    @Test
+    public void testInvalidate() {
+        agentCache.put("agentId", mlAgent, agentCache.getGeneration());
+        agentCache.invalidate("agentId");
+
+        assertNull(agentCache.get("agentId"));
+    }
+
+    @Test
+    public void testPut_InvalidatedWhileRead() {
+        long generation = agentCache.getGeneration();
+        agentCache.invalidate("agentId");
+        agentCache.put("agentId", mlAgent, generation);
+
+        assertNull(agentCache.get("agentId"));
+    }
+
+    @Test
+    public void testGet_Expired() {
+        agentCache.put("agentId", mlAgent, agentCache.getGeneration());
+        clock.addAndGet(EXPIRE_AFTER_MILLIS - 1);
+        assertSame(mlAgent, agentCache.get("agentId"));
+
+        clock.addAndGet(1);
+        assertNull(agentCache.get("agentId"));
+    }
+
+    @Test
+    public void testClear() {
+        agentCache.put("agentId", mlAgent, agentCache.getGeneration());
+        agentCache.clear();
+
+        assertNull(agentCache.get("agentId"));
+    }
+}
@@ -216,6 +216,31 @@ public class MLAgentExecutorTest {
         Assert.assertEquals(modelTensor, output.getMlModelOutputs().get(0).getMlModelTensors().get(0));
     }
 
+    @Test
+    public void test_CachedAgent_ReadOnce() {
+        MLAgentCache agentCache = new MLAgentCache();
+        mlAgentExecutor = Mockito
+            .spy(new MLAgentExecutor(client, settings, clusterService, xContentRegistry, toolFactories, memoryMap, agentCache));
+        ModelTensor modelTensor = ModelTensor.builder().name("response").dataAsMap(ImmutableMap.of("test_key", "test_value")).build();
+        Mockito.doAnswer(invocation -> {
+            ActionListener<ModelTensor> listener = invocation.getArgument(2);
+            listener.onResponse(modelTensor);
+            return null;
+        }).when(mlAgentRunner).run(Mockito.any(), Mockito.any(), Mockito.any());
+        Mockito.doReturn(mlAgentRunner).when(mlAgentExecutor).getAgentRunner(Mockito.any());
+
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+
+        Mockito.verify(client, Mockito.times(1)).get(Mockito.any(), Mockito.any());
+        Mockito.verify(agentActionListener, Mockito.times(2)).onResponse(Mockito.any());
+        Assert.assertNotNull(agentCache.get("test"));
+
+        agentCache.invalidate("test");
+        mlAgentExecutor.execute(getAgentMLInput(), agentActionListener);
+        Mockito.verify(client, Mockito.times(2)).get(Mockito.any(), Mockito.any());
+    }
+
     @Test
     public void test_AgentRunnerReturnsListOfModelTensor_ReturnsResult() {
         ModelTensor modelTensor1 = ModelTensor.builder().name("response1").dataAsMap(ImmutableMap.of("test_key", "test_value")).build();
@@ -16,6 +16,7 @@ import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.APP_TYPE;
@@ -23,6 +24,7 @@ import static org.opensearch.ml.engine.memory.ConversationIndexMemory.MEMORY_ID;
 import static org.opensearch.ml.engine.memory.ConversationIndexMemory.MEMORY_NAME;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
@@ -159,6 +161,114 @@ public class MLFlowAgentRunnerTest {
         };
     }
 
+    @Test
+    public void testRunParallel_IndependentTools() {
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.PARALLEL_EXECUTION, "true");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).includeOutputInAgentResponse(true).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+        List<ActionListener<Object>> firstToolListeners = new ArrayList<>();
+        doAnswer(invocation -> firstToolListeners.add(invocation.getArgument(1))).when(firstTool).run(anyMap(), any());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        // the second tool doesn't wait for the first one
+        verify(secondTool).run(anyMap(), any());
+        verify(agentActionListener, never()).onResponse(any());
+
+        firstToolListeners.get(0).onResponse(FIRST_TOOL_RESPONSE);
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        assertEquals(2, agentOutput.size());
+        assertEquals(FIRST_TOOL, agentOutput.get(0).getName());
+        assertEquals(FIRST_TOOL_RESPONSE, agentOutput.get(0).getResult());
+        assertEquals(SECOND_TOOL, agentOutput.get(1).getName());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(1).getResult());
+    }
+
+    @Test
+    public void testRunParallel_DependentTool() {
+        final Map<String, String> params = new HashMap<>();
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec
+            .builder()
+            .name(SECOND_TOOL)
+            .type(SECOND_TOOL)
+            .parameters(Map.of("input", "${parameters.firstTool.output}"))
+            .build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .parameters(Map.of(MLFlowAgentRunner.PARALLEL_EXECUTION, "true"))
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+        List<ActionListener<Object>> firstToolListeners = new ArrayList<>();
+        doAnswer(invocation -> firstToolListeners.add(invocation.getArgument(1))).when(firstTool).run(anyMap(), any());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        verify(secondTool, never()).run(anyMap(), any());
+        firstToolListeners.get(0).onResponse(FIRST_TOOL_RESPONSE);
+
+        ArgumentCaptor<Map<String, String>> paramsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(secondTool).run(paramsCaptor.capture(), any());
+        assertEquals(FIRST_TOOL_RESPONSE, paramsCaptor.getValue().get("input"));
+        Mockito.verify(agentActionListener).onResponse(objectCaptor.capture());
+        List<ModelTensor> agentOutput = (List<ModelTensor>) objectCaptor.getValue();
+        assertEquals(1, agentOutput.size());
+        assertEquals(SECOND_TOOL_RESPONSE, agentOutput.get(0).getResult());
+    }
+
+    @Test
+    public void testRunParallel_ToolFailure() {
+        final Map<String, String> params = new HashMap<>();
+        params.put(MLFlowAgentRunner.PARALLEL_EXECUTION, "true");
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        final MLAgent mlAgent = MLAgent
+            .builder()
+            .name("TestAgent")
+            .type(MLAgentType.FLOW.name())
+            .tools(Arrays.asList(firstToolSpec, secondToolSpec))
+            .build();
+        doAnswer(invocation -> {
+            ActionListener<Object> listener = invocation.getArgument(1);
+            listener.onFailure(new IllegalArgumentException("tool failed"));
+            return null;
+        }).when(firstTool).run(anyMap(), any());
+
+        mlFlowAgentRunner.run(mlAgent, params, agentActionListener);
+
+        verify(agentActionListener).onFailure(any(IllegalArgumentException.class));
+        verify(agentActionListener, never()).onResponse(any());
+    }
+
+    @Test
+    public void testGetToolDependencies() {
+        MLToolSpec firstToolSpec = MLToolSpec.builder().name(FIRST_TOOL).type(FIRST_TOOL).build();
+        MLToolSpec secondToolSpec = MLToolSpec.builder().name(SECOND_TOOL).type(SECOND_TOOL).build();
+        MLToolSpec thirdToolSpec = MLToolSpec
+            .builder()
+            .type("thirdTool")
+            .configMap(Map.of("input", "${parameters.secondTool.output}"))
+            .build();
+        List<MLToolSpec> toolSpecs = Arrays.asList(firstToolSpec, secondToolSpec, thirdToolSpec);
+
+        List<List<Integer>> dependencies = MLFlowAgentRunner.getToolDependencies(toolSpecs, new HashMap<>());
+        assertEquals(Arrays.asList(List.of(), List.of(), List.of(1)), dependencies);
+
+        // request parameters are passed to every tool
+        dependencies = MLFlowAgentRunner.getToolDependencies(toolSpecs, Map.of("question", "${parameters.firstTool.output}"));
+        assertEquals(Arrays.asList(List.of(), List.of(0), List.of(0, 1)), dependencies);
+    }
+
     @Test
     public void testRunWithIncludeOutputNotSet() {
         final Map<String, String> params = new HashMap<>();
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.Test;
+import org.opensearch.ml.common.connector.MLPostProcessFunction;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+public class EmbeddingResponseParserTest {
+
+    private List<ModelTensor> parse(String postProcessFunction, String response) {
+        return EmbeddingResponseParser
+            .parse(postProcessFunction, new ByteArrayInputStream(response.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void parse_OpenAIEmbedding() {
+        String response = "{\"object\": \"list\", \"data\": [{\"object\": \"embedding\", \"index\": 0, \"embedding\": [-0.014555434, "
+            + "-0.0002135904, 0.0035105038]}, {\"object\": \"embedding\", \"index\": 1, \"embedding\": [1, 2]}], "
+            + "\"model\": \"text-embedding-ada-002\", \"usage\": {\"prompt_tokens\": 5, \"total_tokens\": 5}}";
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.OPENAI_EMBEDDING, response);
+        assertEquals(2, tensors.size());
+        assertEquals("sentence_embedding", tensors.get(0).getName());
+        assertEquals(MLResultDataType.FLOAT32, tensors.get(0).getDataType());
+        assertArrayEquals(new long[] { 3 }, tensors.get(0).getShape());
+        assertArrayEquals(new float[] { -0.014555434f, -0.0002135904f, 0.0035105038f }, tensors.get(0).getFloatData(), 0f);
+        assertArrayEquals(new float[] { 1f, 2f }, tensors.get(1).getFloatData(), 0f);
+    }
+
+    @Test
+    public void parse_CohereEmbedding() {
+        String response = "{\"id\": \"1\", \"texts\": [\"hello\", \"world\"], \"embeddings\": [[0.1, 0.2], [0.3, 0.4]]}";
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.COHERE_EMBEDDING, response);
+        assertEquals(2, tensors.size());
+        assertArrayEquals(new float[] { 0.3f, 0.4f }, tensors.get(1).getFloatData(), 0f);
+    }
+
+    @Test
+    public void parse_BedrockEmbedding() {
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [0.1, 0.2, 0.3], \"inputTextTokenCount\": 2}");
+        assertEquals(1, tensors.size());
+        assertArrayEquals(new long[] { 3 }, tensors.get(0).getShape());
+    }
+
+    @Test
+    public void parse_DefaultEmbedding() {
+        List<ModelTensor> tensors = parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[0.1, 0.2], [0.3, 0.4], [0.5, 0.6]]");
+        assertEquals(3, tensors.size());
+    }
+
+    @Test
+    public void parse_UnexpectedShape_ReturnNull() {
+        assertNull(parse(MLPostProcessFunction.OPENAI_EMBEDDING, "{\"error\": {\"message\": \"invalid input\"}}"));
+        assertNull(parse(MLPostProcessFunction.COHERE_EMBEDDING, "{\"embeddings\": {\"float\": [[0.1, 0.2]]}}"));
+        assertNull(parse(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": [\"0.1\", 0.2]}"));
+        assertNull(parse(MLPostProcessFunction.BEDROCK_EMBEDDING, "{\"embedding\": []}"));
+        assertNull(parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "{\"embedding\": [0.1]}"));
+        assertNull(parse(MLPostProcessFunction.DEFAULT_EMBEDDING, "[[0.1, 0.2]] trailing"));
+        assertNull(parse(MLPostProcessFunction.COHERE_RERANK, "{\"results\": []}"));
+    }
+}
@@ -5,9 +5,14 @@
 
 package org.opensearch.ml.engine.httpclient;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
 
 import java.time.Duration;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Rule;
@@ -27,6 +32,34 @@ public class MLHttpClientFactoryTests {
         assertNotNull(client);
     }
 
+    @Test
+    public void test_getSdkAsyncHttpClient_sharedBySameConfig() {
+        String key = "connection_timeout_11000ms_read_timeout_12000ms_max_connections_13";
+        SdkAsyncHttpClient client1 = MLHttpClientFactory.getAsyncHttpClient(Duration.ofSeconds(11), Duration.ofSeconds(12), 13);
+        SdkAsyncHttpClient client2 = MLHttpClientFactory.getAsyncHttpClient(Duration.ofSeconds(11), Duration.ofSeconds(12), 13);
+        SdkAsyncHttpClient client3 = MLHttpClientFactory.getAsyncHttpClient(Duration.ofSeconds(11), Duration.ofSeconds(12), 14);
+        assertNotSame(client1, client2);
+        assertEquals(2, ((Map<String, Object>) MLHttpClientFactory.getHttpClientStats().get(key)).get("references"));
+
+        client1.close();
+        // closing a client again doesn't release the shared client twice
+        client1.close();
+        assertEquals(1, ((Map<String, Object>) MLHttpClientFactory.getHttpClientStats().get(key)).get("references"));
+
+        client2.close();
+        assertFalse(MLHttpClientFactory.getHttpClientStats().containsKey(key));
+        assertTrue(MLHttpClientFactory.getHttpClientStats().containsKey(key.replace("max_connections_13", "max_connections_14")));
+        client3.close();
+    }
+
+    @Test
+    public void test_getSdkAsyncHttpClient_closedClient_throwException() {
+        SdkAsyncHttpClient client = MLHttpClientFactory.getAsyncHttpClient(Duration.ofSeconds(11), Duration.ofSeconds(12), 15);
+        client.close();
+        expectedException.expect(IllegalStateException.class);
+        client.execute(null);
+    }
+
     @Test
     public void test_validateIp_validIp_noException() throws Exception {
         AtomicBoolean privateIpEnabled = new AtomicBoolean(false);
@@ -91,6 +124,34 @@ public class MLHttpClientFactoryTests {
         MLHttpClientFactory.validate("http", "153.24.76.232", 80, privateIpEnabled);
     }
 
+    @Test
+    public void test_validateIp_cachedHost_hit() throws Exception {
+        MLHttpClientFactory.clearHostCache();
+        AtomicBoolean privateIpEnabled = new AtomicBoolean(false);
+        long hits = MLHttpClientFactory.getHostCacheHitCount();
+        long misses = MLHttpClientFactory.getHostCacheMissCount();
+        MLHttpClientFactory.validate("http", "153.24.76.232", 80, privateIpEnabled);
+        MLHttpClientFactory.validate("https", "153.24.76.232", 443, privateIpEnabled);
+        assertEquals(misses + 1, MLHttpClientFactory.getHostCacheMissCount());
+        assertEquals(hits + 1, MLHttpClientFactory.getHostCacheHitCount());
+
+        MLHttpClientFactory.clearHostCache();
+        MLHttpClientFactory.validate("http", "153.24.76.232", 80, privateIpEnabled);
+        assertEquals(misses + 2, MLHttpClientFactory.getHostCacheMissCount());
+    }
+
+    @Test
+    public void test_validateIp_cachedPrivateIp_respectsPrivateIpSetting() throws Exception {
+        MLHttpClientFactory.clearHostCache();
+        AtomicBoolean privateIpEnabled = new AtomicBoolean(true);
+        MLHttpClientFactory.validate("http", "10.0.0.1", 80, privateIpEnabled);
+
+        privateIpEnabled.set(false);
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Remote inference host name has private ip address: 10.0.0.1");
+        MLHttpClientFactory.validate("http", "10.0.0.1", 80, privateIpEnabled);
+    }
+
     @Test
     public void test_validateSchemaAndPort_success() throws Exception {
         MLHttpClientFactory.validate("http", "api.openai.com", 80, new AtomicBoolean(false));
@@ -7,23 +7,25 @@ package org.opensearch.ml.engine.ingest;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
-import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -32,6 +34,8 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.client.Client;
@@ -47,6 +51,9 @@ public class AbstractIngestionTests {
 
     S3DataIngestion s3DataIngestion = new S3DataIngestion(client);
 
+    private static final String SOURCE_LINE = "{\"SageMakerOutput\":[[-0.017166402, 0.055771016],[-0.004301484,-0.042826906]],"
+        + "\"content\":[\"this is chapter 1\",\"harry potter\"],\"id\":1}";
+
     Map<String, Object> fieldMap;
     String[] ingestFields;
 
@@ -65,73 +72,56 @@ public class AbstractIngestionTests {
     }
 
     @Test
-    public void testBulkResponseListener_Success() {
-        // Arrange
-        AtomicInteger successfulBatches = new AtomicInteger(0);
-        AtomicInteger failedBatches = new AtomicInteger(0);
-        CompletableFuture<Void> future = new CompletableFuture<>();
-
-        // Mock BulkResponse
-        BulkResponse bulkResponse = mock(BulkResponse.class);
-        when(bulkResponse.hasFailures()).thenReturn(false);
-
-        S3DataIngestion instance = new S3DataIngestion(client);
+    public void testIngestSource_Success() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> bulkResponseListener = invocation.getArgument(1);
+            bulkResponseListener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(any(), any());
+        IngestionProgressListener progressListener = mock(IngestionProgressListener.class);
 
-        // Act
-        ActionListener<BulkResponse> listener = instance.getBulkResponseListener(successfulBatches, failedBatches, future);
-        listener.onResponse(bulkResponse);
+        double successRate = ingestSource(SOURCE_LINE, true, progressListener);
 
-        // Assert
-        assertFalse(future.isCompletedExceptionally());
-        assertEquals(1, successfulBatches.get());
-        assertEquals(0, failedBatches.get());
+        assertEquals(100, successRate, 0);
+        long sourceBytes = SOURCE_LINE.getBytes(StandardCharsets.UTF_8).length;
+        verify(progressListener).onCheckpoint(0, new IngestionCheckpoint(1, sourceBytes), sourceBytes);
     }
 
     @Test
-    public void testBulkResponseListener_Failure() {
-        // Arrange
-        AtomicInteger successfulBatches = new AtomicInteger(0);
-        AtomicInteger failedBatches = new AtomicInteger(0);
-        CompletableFuture<Void> future = new CompletableFuture<>();
-
-        // Mock BulkResponse
-        BulkResponse bulkResponse = mock(BulkResponse.class);
-        when(bulkResponse.hasFailures()).thenReturn(true);
-        when(bulkResponse.buildFailureMessage()).thenReturn("Failure message");
-
-        S3DataIngestion instance = new S3DataIngestion(client);
+    public void testIngestSource_BulkFailures() throws Exception {
+        BulkItemResponse failedItem = new BulkItemResponse(
+            0,
+            DocWriteRequest.OpType.INDEX,
+            new BulkItemResponse.Failure("indexName", "1", new IllegalArgumentException("Failure message"))
+        );
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> bulkResponseListener = invocation.getArgument(1);
+            bulkResponseListener.onResponse(new BulkResponse(new BulkItemResponse[] { failedItem }, 1));
+            return null;
+        }).when(client).bulk(any(), any());
+        IngestionProgressListener progressListener = mock(IngestionProgressListener.class);
 
-        // Act
-        ActionListener<BulkResponse> listener = instance.getBulkResponseListener(successfulBatches, failedBatches, future);
-        listener.onResponse(bulkResponse);
+        double successRate = ingestSource(SOURCE_LINE, true, progressListener);
 
-        // Assert
-        assertTrue(future.isCompletedExceptionally());
-        assertEquals(0, successfulBatches.get());
-        assertEquals(1, failedBatches.get());
+        // failures other than rejections are not retried
+        assertEquals(0, successRate, 0);
+        verify(client, times(1)).bulk(any(), any());
+        verify(progressListener, never()).onCheckpoint(anyInt(), any(), anyLong());
     }
 
     @Test
-    public void testBulkResponseListener_Exception() {
-        // Arrange
-        AtomicInteger successfulBatches = new AtomicInteger(0);
-        AtomicInteger failedBatches = new AtomicInteger(0);
-        CompletableFuture<Void> future = new CompletableFuture<>();
-
-        // Create an exception
-        RuntimeException exception = new RuntimeException("Test exception");
-
-        S3DataIngestion instance = new S3DataIngestion(client);
+    public void testIngestSource_Exception() throws Exception {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> bulkResponseListener = invocation.getArgument(1);
+            bulkResponseListener.onFailure(new RuntimeException("Test exception"));
+            return null;
+        }).when(client).bulk(any(), any());
+        IngestionProgressListener progressListener = mock(IngestionProgressListener.class);
 
-        // Act
-        ActionListener<BulkResponse> listener = instance.getBulkResponseListener(successfulBatches, failedBatches, future);
-        listener.onFailure(exception);
+        double successRate = ingestSource(SOURCE_LINE, true, progressListener);
 
-        // Assert
-        assertTrue(future.isCompletedExceptionally());
-        assertEquals(0, successfulBatches.get());
-        assertEquals(1, failedBatches.get());
-        assertThrows(Exception.class, () -> future.join());  // Ensure that future throws exception
+        assertEquals(0, successRate, 0);
+        verify(progressListener, never()).onCheckpoint(anyInt(), any(), anyLong());
     }
 
     @Test
@@ -279,44 +269,75 @@ public class AbstractIngestionTests {
     }
 
     @Test
-    public void testBatchIngestSuccess_SoleSource() {
-        doAnswer(invocation -> {
-            ActionListener<BulkResponse> bulkResponseListener = invocation.getArgument(1);
-            bulkResponseListener.onResponse(mock(BulkResponse.class));
-            return null;
-        }).when(client).bulk(any(), any());
+    public void testCompileFieldMapping_ReadsEveryLine() {
+        Map<String, Object> fieldMap = new HashMap<>();
+        fieldMap.put("chapter", "source[1].$.content[0]");
+        fieldMap.put("chapter_embedding", "source[0].$.SageMakerOutput[0]");
+        fieldMap.put("_id", Arrays.asList("source[0].$.id", "source[1].$.id"));
+        MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
+            "indexName",
+            fieldMap,
+            null,
+            new HashMap<>(),
+            new HashMap<>(),
+            null
+        );
 
-        List<String> sourceLines = Arrays
-            .asList(
-                "{\"SageMakerOutput\":[[-0.017166402, 0.055771016],[-0.004301484,-0.042826906]],\"content\":[\"this is chapter 1\",\"harry potter\"],\"id\":1}"
-            );
+        CompiledFieldMapping fieldMapping = s3DataIngestion.compileFieldMapping(mlBatchIngestionInput, 1, false);
+
+        assertFalse(fieldMapping.isEmpty());
+        Map<String, Object> first = fieldMapping.read("{\"content\":[\"chapter 1\"],\"id\":1}");
+        Map<String, Object> second = fieldMapping.read("{\"content\":[\"chapter 2\"],\"id\":2}");
+        assertEquals(Map.of("chapter", "chapter 1", "_id", 1), first);
+        assertEquals(Map.of("chapter", "chapter 2", "_id", 2), second);
+    }
+
+    @Test
+    public void testCompileFieldMapping_NoFieldOfSource() {
+        Map<String, Object> fieldMap = new HashMap<>();
+        fieldMap.put("chapter", "source[1].$.content[0]");
         MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
             "indexName",
             fieldMap,
-            ingestFields,
+            null,
             new HashMap<>(),
             new HashMap<>(),
             null
         );
-        ActionListener<BulkResponse> bulkResponseListener = mock(ActionListener.class);
-        s3DataIngestion.batchIngest(sourceLines, mlBatchIngestionInput, bulkResponseListener, 0, true);
 
-        verify(client).bulk(isA(BulkRequest.class), isA(ActionListener.class));
-        verify(bulkResponseListener).onResponse(isA(BulkResponse.class));
+        CompiledFieldMapping fieldMapping = s3DataIngestion.compileFieldMapping(mlBatchIngestionInput, 0, false);
+
+        assertTrue(fieldMapping.isEmpty());
+        assertTrue(fieldMapping.read("{\"content\":[\"chapter 1\"]}").isEmpty());
     }
 
     @Test
-    public void testBatchIngestSuccess_returnForNullJasonMap() {
+    public void testIngestSource_SoleSource() throws Exception {
         doAnswer(invocation -> {
             ActionListener<BulkResponse> bulkResponseListener = invocation.getArgument(1);
-            bulkResponseListener.onResponse(mock(BulkResponse.class));
+            bulkResponseListener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
             return null;
         }).when(client).bulk(any(), any());
 
-        List<String> sourceLines = Arrays
-            .asList(
-                "{\"SageMakerOutput\":[[-0.017166402, 0.055771016],[-0.004301484,-0.042826906]],\"content\":[\"this is chapter 1\",\"harry potter\"],\"id\":1}"
-            );
+        double successRate = ingestSource(SOURCE_LINE, true, IngestionProgressListener.NO_OP);
+
+        assertEquals(100, successRate, 0);
+        ArgumentCaptor<BulkRequest> bulkRequestCaptor = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkRequestCaptor.capture(), isA(ActionListener.class));
+        assertEquals(1, bulkRequestCaptor.getValue().numberOfActions());
+        assertEquals("indexName", bulkRequestCaptor.getValue().requests().get(0).index());
+    }
+
+    @Test
+    public void testIngestSource_EmptyBulk() throws Exception {
+        double successRate = ingestSource(SOURCE_LINE, false, IngestionProgressListener.NO_OP);
+
+        // no field of the first source is mapped, the bulk request is empty
+        assertEquals(0, successRate, 0);
+        verify(client, never()).bulk(isA(BulkRequest.class), isA(ActionListener.class));
+    }
+
+    private double ingestSource(String sourceLine, boolean isSoleSource, IngestionProgressListener progressListener) throws Exception {
         MLBatchIngestionInput mlBatchIngestionInput = new MLBatchIngestionInput(
             "indexName",
             fieldMap,
@@ -325,15 +346,19 @@ public class AbstractIngestionTests {
             new HashMap<>(),
             null
         );
-        ActionListener<BulkResponse> bulkResponseListener = mock(ActionListener.class);
-        s3DataIngestion.batchIngest(sourceLines, mlBatchIngestionInput, bulkResponseListener, 0, false);
-
-        verify(client, never()).bulk(isA(BulkRequest.class), isA(ActionListener.class));
-        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
-        verify(bulkResponseListener).onFailure(argumentCaptor.capture());
-        assert (argumentCaptor
-            .getValue()
-            .getMessage()
-            .equals("the bulk ingestion is empty: please check your field mapping to match your sources"));
+        byte[] source = sourceLine.getBytes(StandardCharsets.UTF_8);
+        LineReader reader = new LineReader(new ByteArrayInputStream(source), 0);
+        return s3DataIngestion
+            .ingestSource(
+                reader,
+                true,
+                IngestionCheckpoint.START,
+                source.length,
+                mlBatchIngestionInput,
+                0,
+                isSoleSource,
+                10,
+                progressListener
+            );
     }
 }
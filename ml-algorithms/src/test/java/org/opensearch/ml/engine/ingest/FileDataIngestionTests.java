@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.ingest;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.concurrency.OpenSearchRejectedExecutionException;
+import org.opensearch.ml.common.transport.batch.MLBatchIngestionInput;
+
+public class FileDataIngestionTests {
+    @Mock
+    Client client;
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private FileDataIngestion fileDataIngestion;
+    private File file;
+    private Map<String, Object> dataSource;
+    private MLBatchIngestionInput mlBatchIngestionInput;
+    private final List<Map<String, Object>> checkpoints = new ArrayList<>();
+    private final IngestionProgressListener progressListener = (sourceIndex, checkpoint, sourceBytes) -> {
+        synchronized (checkpoints) {
+            checkpoints.add(Map.of("source", sourceIndex, "checkpoint", checkpoint, "bytes", sourceBytes));
+        }
+    };
+
+    @Before
+    public void setUp() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        fileDataIngestion = new FileDataIngestion(client);
+
+        file = temporaryFolder.newFile("input.jsonl");
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            content.append("{\"id\": \"").append(i).append("\", \"text\": \"café ").append(i).append("\"}\r\n");
+        }
+        Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+
+        dataSource = new HashMap<>();
+        dataSource.put("type", "file");
+        dataSource.put("source", List.of(file.toURI().toString()));
+        mlBatchIngestionInput = MLBatchIngestionInput
+            .builder()
+            .indexName("testIndex")
+            .fieldMapping(Map.of("text", "$.text"))
+            .dataSources(dataSource)
+            .build();
+    }
+
+    @Test
+    public void ingest_Success() {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(isA(BulkRequest.class), isA(ActionListener.class));
+
+        assertEquals(100, fileDataIngestion.ingest(mlBatchIngestionInput, 3, progressListener), 1e-9);
+
+        ArgumentCaptor<BulkRequest> bulkRequests = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client, times(4)).bulk(bulkRequests.capture(), any());
+        assertEquals(1, bulkRequests.getAllValues().get(3).numberOfActions());
+        Map<String, Object> last = checkpoints.get(checkpoints.size() - 1);
+        assertEquals(new IngestionCheckpoint(10, file.length()), last.get("checkpoint"));
+        assertEquals(file.length(), last.get("bytes"));
+    }
+
+    @Test
+    public void ingest_ResumeFromCheckpoint() throws IOException {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(isA(BulkRequest.class), isA(ActionListener.class));
+        long offset = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).get(0).getBytes(StandardCharsets.UTF_8).length + 2;
+        dataSource.put(IngestionCheckpoint.CHECKPOINTS_FIELD, List.of(Map.of("lines", 1, "bytes", offset)));
+
+        assertEquals(100, fileDataIngestion.ingest(mlBatchIngestionInput, 100, progressListener), 1e-9);
+
+        ArgumentCaptor<BulkRequest> bulkRequest = ArgumentCaptor.forClass(BulkRequest.class);
+        verify(client).bulk(bulkRequest.capture(), any());
+        assertEquals(9, bulkRequest.getValue().numberOfActions());
+        assertEquals(new IngestionCheckpoint(10, file.length()), checkpoints.get(0).get("checkpoint"));
+    }
+
+    @Test
+    public void ingest_RetryRejectedBulk() {
+        AtomicBoolean rejected = new AtomicBoolean();
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            if (rejected.compareAndSet(false, true)) {
+                listener.onFailure(new OpenSearchRejectedExecutionException("rejected"));
+            } else {
+                listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            }
+            return null;
+        }).when(client).bulk(isA(BulkRequest.class), isA(ActionListener.class));
+
+        assertEquals(100, fileDataIngestion.ingest(mlBatchIngestionInput, 5, progressListener), 1e-9);
+
+        verify(client, times(3)).bulk(any(BulkRequest.class), any());
+        assertEquals(new IngestionCheckpoint(10, file.length()), checkpoints.get(checkpoints.size() - 1).get("checkpoint"));
+    }
+
+    @Test
+    public void ingest_CheckpointStopsAtFailedBulk() {
+        AtomicBoolean failed = new AtomicBoolean();
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            if (failed.compareAndSet(false, true)) {
+                listener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            } else {
+                listener.onFailure(new IllegalStateException("failed"));
+            }
+            return null;
+        }).when(client).bulk(isA(BulkRequest.class), isA(ActionListener.class));
+
+        assertEquals(50, fileDataIngestion.ingest(mlBatchIngestionInput, 5, progressListener), 1e-9);
+
+        assertEquals(1, checkpoints.size());
+        assertEquals(5, ((IngestionCheckpoint) checkpoints.get(0).get("checkpoint")).getLines());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.ml.common.exception.MLException;
+
+public class OrderedChunkFileWriterTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testWriteOutOfOrder() throws IOException {
+        File file = new File(tempFolder.getRoot(), "model/model.zip");
+        OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 3);
+        assertFalse(writer.write(2, "c".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(writer.write(0, "a".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(writer.write(1, "b".getBytes(StandardCharsets.UTF_8)));
+        String hash = writer.finish();
+
+        assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), Files.readAllBytes(file.toPath()));
+        assertEquals(FileUtils.calculateFileHash(file), hash);
+        assertEquals(3, writer.getBytesWritten());
+    }
+
+    @Test
+    public void testWindowBoundsPendingChunksBehindSlowChunk() throws IOException {
+        File file = new File(tempFolder.getRoot(), "model.zip");
+        OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 10, 3);
+        Deque<Integer> inFlight = new ArrayDeque<>();
+        int chunk;
+        while ((chunk = writer.claimNextChunk()) >= 0) {
+            inFlight.add(chunk);
+        }
+        assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(inFlight));
+
+        // chunk 0 is slow, every other chunk arrives as soon as it is claimed
+        int slowChunk = inFlight.removeFirst();
+        int maxPending = 0;
+        while (!inFlight.isEmpty()) {
+            writer.write(inFlight.removeFirst(), new byte[] { 1 });
+            maxPending = Math.max(maxPending, writer.getPendingChunkCount());
+            while ((chunk = writer.claimNextChunk()) >= 0) {
+                inFlight.add(chunk);
+            }
+        }
+        assertEquals(2, maxPending);
+        assertEquals(-1, writer.claimNextChunk());
+
+        writer.write(slowChunk, new byte[] { 1 });
+        assertEquals(0, writer.getPendingChunkCount());
+        assertEquals(3, writer.claimNextChunk());
+    }
+
+    @Test
+    public void testFinishWithMissingChunk() throws IOException {
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("Only 0 of 2 chunks are written");
+        OrderedChunkFileWriter writer = new OrderedChunkFileWriter(new File(tempFolder.getRoot(), "model.zip"), 2);
+        writer.write(1, new byte[] { 1 });
+        writer.finish();
+    }
+
+    @Test
+    public void testDuplicateChunk() throws IOException {
+        exceptionRule.expect(IllegalArgumentException.class);
+        OrderedChunkFileWriter writer = new OrderedChunkFileWriter(new File(tempFolder.getRoot(), "model.zip"), 2);
+        writer.write(0, new byte[] { 1 });
+        writer.write(0, new byte[] { 1 });
+    }
+
+    @Test
+    public void testAbortDeletesFile() throws IOException {
+        File file = new File(tempFolder.getRoot(), "model.zip");
+        OrderedChunkFileWriter writer = new OrderedChunkFileWriter(file, 2);
+        writer.write(0, new byte[] { 1 });
+        writer.abort();
+        assertFalse(file.exists());
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.agents;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.agent.MLClearAgentCacheAction;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodeRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodeResponse;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ClearAgentCacheTransportAction extends
+    TransportNodesAction<MLClearCacheNodesRequest, MLClearCacheNodesResponse, MLClearCacheNodeRequest, MLClearCacheNodeResponse> {
+    private final ClusterService clusterService;
+    private final MLAgentCache agentCache;
+
+    @Inject
+    public ClearAgentCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLAgentCache agentCache
+    ) {
+        super(
+            MLClearAgentCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLClearCacheNodesRequest::new,
+            MLClearCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLClearCacheNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.agentCache = agentCache;
+    }
+
+    @Override
+    protected MLClearCacheNodesResponse newResponse(
+        MLClearCacheNodesRequest nodesRequest,
+        List<MLClearCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLClearCacheNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLClearCacheNodeRequest newNodeRequest(MLClearCacheNodesRequest request) {
+        return new MLClearCacheNodeRequest(request);
+    }
+
+    @Override
+    protected MLClearCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLClearCacheNodeResponse(in);
+    }
+
+    @Override
+    protected MLClearCacheNodeResponse nodeOperation(MLClearCacheNodeRequest request) {
+        String[] agentIds = request.getClearCacheNodesRequest().getIds();
+        if (agentIds == null || agentIds.length == 0) {
+            agentCache.clear();
+            log.debug("Cleared the agent cache");
+        } else {
+            for (String agentId : agentIds) {
+                agentCache.invalidate(agentId);
+            }
+            log.debug("Invalidated agents {} in the agent cache", Arrays.toString(agentIds));
+        }
+        return new MLClearCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -28,6 +28,8 @@ import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.agent.MLAgent;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
+import org.opensearch.ml.common.transport.agent.MLClearAgentCacheAction;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
@@ -84,7 +86,7 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
                             DeleteRequest deleteRequest = new DeleteRequest(ML_AGENT_INDEX, agentId).setRefreshPolicy(IMMEDIATE);
                             client.delete(deleteRequest, ActionListener.wrap(deleteResponse -> {
                                 log.debug("Completed Delete Agent Request, agent id:{} deleted", agentId);
-                                actionListener.onResponse(deleteResponse);
+                                clearAgentCache(agentId, deleteResponse, actionListener);
                             }, deleteException -> {
                                 log.error("Failed to delete ML Agent " + agentId, deleteException);
                                 actionListener.onFailure(deleteException);
@@ -113,6 +115,23 @@ public class DeleteAgentTransportAction extends HandledTransportAction<ActionReq
         }
     }
 
+    /**
+     * Invalidate the deleted agent in the agent cache of every node before responding, the deletion succeeded
+     * even if some nodes failed to invalidate it, their cached agent expires later.
+     */
+    private void clearAgentCache(String agentId, DeleteResponse deleteResponse, ActionListener<DeleteResponse> actionListener) {
+        MLClearCacheNodesRequest clearCacheRequest = new MLClearCacheNodesRequest(new String[0], new String[] { agentId });
+        client.execute(MLClearAgentCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(response -> {
+            if (response.hasFailures()) {
+                log.warn("Failed to invalidate agent {} in the agent cache of some nodes: {}", agentId, response.failures());
+            }
+            actionListener.onResponse(deleteResponse);
+        }, e -> {
+            log.warn("Failed to invalidate agent " + agentId + " in the agent cache", e);
+            actionListener.onResponse(deleteResponse);
+        }));
+    }
+
     @VisibleForTesting
     boolean isSuperAdminUserWrapper(ClusterService clusterService, Client client) {
         return RestActionUtils.isSuperAdminUser(clusterService, client);
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.REMOTE_JOB_FIELD;
+import static org.opensearch.ml.engine.ingest.IngestionCheckpoint.CHECKPOINTS_FIELD;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ml.engine.ingest.IngestionCheckpoint;
+import org.opensearch.ml.engine.ingest.IngestionProgressListener;
+import org.opensearch.ml.task.MLTaskManager;
+
+/**
+ * Writes the checkpoints and the progress of a batch ingestion to its ML task, at most once per checkpoint interval.
+ * <p>
+ * The checkpoints are written to the remote_job of the task, the progress is the fraction of the bytes of the
+ * sources ingested, counting sources of unknown size as not ingested.
+ */
+class BatchIngestionProgress implements IngestionProgressListener {
+    static final long CHECKPOINT_INTERVAL_MILLIS = 10_000;
+
+    private final MLTaskManager mlTaskManager;
+    private final String taskId;
+    private final LongSupplier clock;
+    private final IngestionCheckpoint[] checkpoints;
+    private final long[] sourceBytes;
+    private long lastUpdateMillis;
+
+    BatchIngestionProgress(MLTaskManager mlTaskManager, String taskId, List<IngestionCheckpoint> start, LongSupplier clock) {
+        this.mlTaskManager = mlTaskManager;
+        this.taskId = taskId;
+        this.clock = clock;
+        this.checkpoints = start.toArray(new IngestionCheckpoint[0]);
+        this.sourceBytes = new long[checkpoints.length];
+        Arrays.fill(sourceBytes, -1);
+        this.lastUpdateMillis = clock.getAsLong();
+    }
+
+    @Override
+    public void onCheckpoint(int sourceIndex, IngestionCheckpoint checkpoint, long sourceBytes) {
+        Map<String, Object> updatedFields;
+        synchronized (this) {
+            checkpoints[sourceIndex] = checkpoint;
+            this.sourceBytes[sourceIndex] = sourceBytes;
+            long now = clock.getAsLong();
+            if (now - lastUpdateMillis < CHECKPOINT_INTERVAL_MILLIS) {
+                return;
+            }
+            lastUpdateMillis = now;
+            updatedFields = getUpdatedFields();
+        }
+        // skipped if the task is being updated, the next checkpoint is written later
+        mlTaskManager.updateMLTask(taskId, updatedFields, 0, false);
+    }
+
+    /**
+     * Write the last checkpoints, once the ingestion completed or failed.
+     */
+    void flush() {
+        Map<String, Object> updatedFields;
+        synchronized (this) {
+            updatedFields = getUpdatedFields();
+        }
+        mlTaskManager.updateMLTask(taskId, updatedFields, TASK_SEMAPHORE_TIMEOUT, false);
+    }
+
+    private Map<String, Object> getUpdatedFields() {
+        List<Map<String, Object>> checkpointMaps = new ArrayList<>(checkpoints.length);
+        double progress = 0;
+        for (int i = 0; i < checkpoints.length; i++) {
+            checkpointMaps.add(checkpoints[i].toMap());
+            if (sourceBytes[i] > 0) {
+                progress += Math.min(1.0, (double) checkpoints[i].getBytes() / sourceBytes[i]);
+            } else if (sourceBytes[i] == 0) {
+                progress += 1;
+            }
+        }
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(REMOTE_JOB_FIELD, Map.of(CHECKPOINTS_FIELD, checkpointMaps));
+        updatedFields.put(PROGRESS_FIELD, (float) (progress / checkpoints.length));
+        return updatedFields;
+    }
+}
@@ -14,6 +14,12 @@ import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_BATCH_INGE
 import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.MLExceptionUtils.OFFLINE_BATCH_INGESTION_DISABLED_ERR_MSG;
 
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
+import java.security.PrivilegedExceptionAction;
 import java.time.Instant;
 import java.util.List;
 import java.util.Map;
@@ -27,9 +33,11 @@ import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
+import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.env.Environment;
 import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
@@ -39,6 +47,7 @@ import org.opensearch.ml.common.transport.batch.MLBatchIngestionRequest;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionResponse;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ingest.Ingestable;
+import org.opensearch.ml.engine.ingest.IngestionCheckpoint;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.task.MLTaskManager;
@@ -57,6 +66,7 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
     private static final Pattern S3_URI_PATTERN = Pattern.compile(S3_URI_REGEX);
     public static final String TYPE = "type";
     public static final String SOURCE = "source";
+    public static final String FILE_TYPE = "file";
     TransportService transportService;
     MLTaskManager mlTaskManager;
     MLModelManager mlModelManager;
@@ -64,6 +74,7 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
     private ThreadPool threadPool;
     private MLFeatureEnabledSetting mlFeatureEnabledSetting;
     private volatile Integer batchIngestionBulkSize;
+    private final List<Path> repoPaths;
 
     @Inject
     public TransportBatchIngestionAction(
@@ -86,6 +97,11 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
         this.mlFeatureEnabledSetting = mlFeatureEnabledSetting;
 
         batchIngestionBulkSize = ML_COMMONS_BATCH_INGESTION_BULK_SIZE.get(settings);
+        repoPaths = Environment.PATH_REPO_SETTING
+            .get(settings)
+            .stream()
+            .map(repoPath -> PathUtils.get(repoPath).toAbsolutePath().normalize())
+            .collect(Collectors.toList());
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_BATCH_INGESTION_BULK_SIZE, it -> batchIngestionBulkSize = it);
@@ -158,9 +174,21 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
                         listener.onResponse(new MLBatchIngestionResponse(taskId, MLTaskType.BATCH_INGEST, MLTaskState.CREATED.name()));
                         String ingestType = (String) mlBatchIngestionInput.getDataSources().get(TYPE);
                         Ingestable ingestable = MLEngineClassLoader.initInstance(ingestType.toLowerCase(), client, Client.class);
+                        List<?> sources = (List<?>) mlBatchIngestionInput.getDataSources().get(SOURCE);
+                        BatchIngestionProgress progress = new BatchIngestionProgress(
+                            mlTaskManager,
+                            taskId,
+                            IngestionCheckpoint.parse(mlBatchIngestionInput.getDataSources(), sources.size()),
+                            threadPool::relativeTimeInMillis
+                        );
                         threadPool.executor(INGEST_THREAD_POOL).execute(() -> {
                             executeWithErrorHandling(() -> {
-                                double successRate = ingestable.ingest(mlBatchIngestionInput, batchIngestionBulkSize);
+                                double successRate;
+                                try {
+                                    successRate = ingestable.ingest(mlBatchIngestionInput, batchIngestionBulkSize, progress);
+                                } finally {
+                                    progress.flush();
+                                }
                                 handleSuccessRate(successRate, taskId);
                             }, taskId);
                         });
@@ -238,13 +266,19 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
             || mlBatchIngestionInput.getDataSources().isEmpty()) {
             throw new IllegalArgumentException("The batch ingest input data source cannot be null");
         }
-        if (mlBatchIngestionInput.getCredential() == null && mlBatchIngestionInput.getConnectorId() == null) {
+        Map<String, Object> dataSources = mlBatchIngestionInput.getDataSources();
+        boolean isFileSource = FILE_TYPE.equalsIgnoreCase(String.valueOf(dataSources.get(TYPE)));
+        // local files don't need credentials
+        if (mlBatchIngestionInput.getCredential() == null && mlBatchIngestionInput.getConnectorId() == null && !isFileSource) {
             throw new IllegalArgumentException("The batch ingest credential or connector_id cannot be null");
         }
-        Map<String, Object> dataSources = mlBatchIngestionInput.getDataSources();
         if (dataSources.get(TYPE) == null || dataSources.get(SOURCE) == null) {
             throw new IllegalArgumentException("The batch ingest input data source is missing data type or source");
         }
+        IngestionCheckpoint.parse(dataSources, ((List<?>) dataSources.get(SOURCE)).size());
+        if (isFileSource) {
+            validateFileUris((List<String>) dataSources.get(SOURCE));
+        }
         if (((String) dataSources.get(TYPE)).equalsIgnoreCase("s3")) {
             List<String> s3Uris = (List<String>) dataSources.get(SOURCE);
             if (s3Uris == null || s3Uris.isEmpty()) {
@@ -263,4 +297,51 @@ public class TransportBatchIngestionAction extends HandledTransportAction<Action
             }
         }
     }
+
+    /**
+     * Local files can only be ingested from the path.repo directories of the node, like file system snapshot repositories.
+     * Symbolic links are resolved, a link in a path.repo directory can't point to a file outside of it.
+     */
+    private void validateFileUris(List<String> fileUris) {
+        if (fileUris.isEmpty()) {
+            throw new IllegalArgumentException("The batch ingest input file URIs are empty");
+        }
+        if (repoPaths.isEmpty()) {
+            throw new IllegalArgumentException("Batch ingestion from files requires the path.repo setting on the node");
+        }
+        for (String fileUri : fileUris) {
+            Path path;
+            try {
+                URI uri = new URI(fileUri);
+                if (!"file".equals(uri.getScheme())) {
+                    throw new IllegalArgumentException("The batch ingest input file URI is invalid: " + fileUri);
+                }
+                path = PathUtils.get(uri).toAbsolutePath().normalize();
+            } catch (URISyntaxException | RuntimeException e) {
+                throw new IllegalArgumentException("The batch ingest input file URI is invalid: " + fileUri);
+            }
+            if (repoPaths.stream().noneMatch(path::startsWith)) {
+                throw new IllegalArgumentException("The batch ingest input file is not under a path.repo directory: " + fileUri);
+            }
+            Path realPath = toRealPath(path);
+            if (realPath == null) {
+                throw new IllegalArgumentException("The batch ingest input file doesn't exist: " + fileUri);
+            }
+            if (repoPaths.stream().map(this::toRealPath).noneMatch(repoPath -> repoPath != null && realPath.startsWith(repoPath))) {
+                throw new IllegalArgumentException("The batch ingest input file is not under a path.repo directory: " + fileUri);
+            }
+        }
+    }
+
+    /**
+     * @return the path with its symbolic links resolved, null if the path doesn't exist
+     */
+    @SuppressWarnings("removal")
+    private Path toRealPath(Path path) {
+        try {
+            return AccessController.doPrivileged((PrivilegedExceptionAction<Path>) path::toRealPath);
+        } catch (PrivilegedActionException e) {
+            return null;
+        }
+    }
 }
@@ -81,9 +81,11 @@ public class ExecuteConnectorTransportAction extends HandledTransportAction<Acti
                     connectorExecutor.setClient(client);
                     connectorExecutor.setXContentRegistry(xContentRegistry);
                     connectorExecutor
-                        .executeAction(connectorAction, executeConnectorRequest.getMlInput(), ActionListener.wrap(taskResponse -> {
-                            actionListener.onResponse(taskResponse);
-                        }, e -> { actionListener.onFailure(e); }));
+                        .executeAction(
+                            connectorAction,
+                            executeConnectorRequest.getMlInput(),
+                            ActionListener.runAfter(actionListener, connectorExecutor::close)
+                        );
                 }
             }, e -> {
                 log.error("Failed to get connector " + connectorId, e);
@@ -36,10 +36,12 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupAction;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupResponse;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelGroupManager;
 import org.opensearch.ml.utils.MLNodeUtils;
@@ -136,6 +138,9 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
         User user
     ) {
         String modelGroupName = (String) source.get(MLModelGroup.MODEL_GROUP_NAME_FIELD);
+        boolean isAccessUpdate = updateModelGroupInput.getModelAccessMode() != null
+            || updateModelGroupInput.getBackendRoles() != null
+            || Boolean.TRUE.equals(updateModelGroupInput.getIsAddAllBackendRoles());
         if (updateModelGroupInput.getModelAccessMode() != null) {
             source.put(MLModelGroup.ACCESS, updateModelGroupInput.getModelAccessMode().getValue());
             if (AccessMode.RESTRICTED != updateModelGroupInput.getModelAccessMode()) {
@@ -173,19 +178,24 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
                     }
                 } else {
                     source.put(MLModelGroup.MODEL_GROUP_NAME_FIELD, updateModelGroupInput.getName());
-                    updateModelGroup(modelGroupId, source, listener);
+                    updateModelGroup(modelGroupId, source, isAccessUpdate, listener);
                 }
             }, e -> {
                 log.error("Failed to search model group index", e);
                 listener.onFailure(e);
             }));
         } else {
-            updateModelGroup(modelGroupId, source, listener);
+            updateModelGroup(modelGroupId, source, isAccessUpdate, listener);
         }
 
     }
 
-    private void updateModelGroup(String modelGroupId, Map<String, Object> source, ActionListener<MLUpdateModelGroupResponse> listener) {
+    private void updateModelGroup(
+        String modelGroupId,
+        Map<String, Object> source,
+        boolean isAccessUpdate,
+        ActionListener<MLUpdateModelGroupResponse> listener
+    ) {
         UpdateRequest updateModelGroupRequest = new UpdateRequest();
         updateModelGroupRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
         updateModelGroupRequest.index(ML_MODEL_GROUP_INDEX).id(modelGroupId).doc(source);
@@ -194,7 +204,13 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
             client
                 .update(
                     updateModelGroupRequest,
-                    ActionListener.wrap(r -> { wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated")); }, e -> {
+                    ActionListener.wrap(r -> {
+                        if (isAccessUpdate) {
+                            clearQueryCache(wrappedListener);
+                        } else {
+                            wrappedListener.onResponse(new MLUpdateModelGroupResponse("Updated"));
+                        }
+                    }, e -> {
                         if (e instanceof IndexNotFoundException) {
                             wrappedListener.onFailure(new MLResourceNotFoundException("Fail to find model group"));
                         } else {
@@ -209,6 +225,24 @@ public class TransportUpdateModelGroupAction extends HandledTransportAction<Acti
         }
     }
 
+    /**
+     * Clear the inference query cache of every node before responding, its outputs are scoped by user and the users
+     * allowed to use the models of the group changed. The update succeeded even if some nodes failed to clear it, their
+     * cached outputs expire later.
+     */
+    private void clearQueryCache(ActionListener<MLUpdateModelGroupResponse> listener) {
+        MLClearCacheNodesRequest clearCacheRequest = new MLClearCacheNodesRequest(new String[0], null);
+        client.execute(MLClearQueryCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to clear the inference query cache of some nodes: {}", r.failures());
+            }
+            listener.onResponse(new MLUpdateModelGroupResponse("Updated"));
+        }, e -> {
+            log.warn("Failed to clear the inference query cache", e);
+            listener.onResponse(new MLUpdateModelGroupResponse("Updated"));
+        }));
+    }
+
     private void validateRequestForAccessControl(MLUpdateModelGroupInput input, User user, MLModelGroup mlModelGroup) {
         if (hasAccessControlChange(input)) {
             if (!modelAccessControlHelper.isOwner(mlModelGroup.getOwner(), user) && !modelAccessControlHelper.isAdmin(user)) {
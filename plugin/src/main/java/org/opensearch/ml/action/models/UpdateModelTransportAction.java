@@ -48,9 +48,11 @@ import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.connector.Connector;
 import org.opensearch.ml.common.controller.MLRateLimiter;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
 import org.opensearch.ml.common.transport.model.MLUpdateModelAction;
 import org.opensearch.ml.common.transport.model.MLUpdateModelInput;
 import org.opensearch.ml.common.transport.model.MLUpdateModelRequest;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheAction;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesRequest;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesResponse;
@@ -519,7 +521,7 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         return ActionListener.wrap(updateResponse -> {
             if (updateResponse != null && updateResponse.getResult() == DocWriteResponse.Result.UPDATED) {
                 log.info("Successfully update ML model with model ID {}", modelId);
-                wrappedListener.onResponse(updateResponse);
+                clearQueryCache(modelId, updateResponse, wrappedListener);
             } else if (updateResponse != null && updateResponse.getResult() != DocWriteResponse.Result.UPDATED) {
                 log
                     .warn(
@@ -538,6 +540,24 @@ public class UpdateModelTransportAction extends HandledTransportAction<ActionReq
         });
     }
 
+    /**
+     * Invalidate the updated model in the inference query cache of every node before responding. Updates without a
+     * model cache update, like moving the model to another model group, still change who may use the cached outputs.
+     * The update succeeded even if some nodes failed to invalidate the model, their cached outputs expire later.
+     */
+    private void clearQueryCache(String modelId, UpdateResponse updateResponse, ActionListener<UpdateResponse> wrappedListener) {
+        MLClearCacheNodesRequest clearCacheRequest = new MLClearCacheNodesRequest(new String[0], new String[] { modelId });
+        client.execute(MLClearQueryCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to invalidate model {} in the inference query cache of some nodes: {}", modelId, r.failures());
+            }
+            wrappedListener.onResponse(updateResponse);
+        }, e -> {
+            log.warn("Failed to invalidate model " + modelId + " in the inference query cache", e);
+            wrappedListener.onResponse(updateResponse);
+        }));
+    }
+
     private String incrementLatestVersion(Map<String, Object> modelGroupSourceMap) {
         return Integer.toString((int) modelGroupSourceMap.get(MLModelGroup.LATEST_VERSION_FIELD) + 1);
     }
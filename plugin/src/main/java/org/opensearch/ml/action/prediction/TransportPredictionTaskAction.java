@@ -8,6 +8,8 @@ package org.opensearch.ml.action.prediction;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_AUTO_DEPLOY_ENABLE;
 import static org.opensearch.ml.utils.MLExceptionUtils.LOCAL_MODEL_DISABLED_ERR_MSG;
 
+import java.util.Map;
+
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.support.ActionFilters;
@@ -17,13 +19,11 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
@@ -42,6 +42,9 @@ import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.schema.JsonSchema;
+
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.log4j.Log4j2;
@@ -239,13 +242,18 @@ public class TransportPredictionTaskAction extends HandledTransportAction<Action
     }
 
     public void validateInputSchema(String modelId, MLInput mlInput) {
-        if (modelCacheHelper.getModelInterface(modelId) != null && modelCacheHelper.getModelInterface(modelId).get("input") != null) {
-            String inputSchemaString = modelCacheHelper.getModelInterface(modelId).get("input");
+        Map<String, String> modelInterface = modelCacheHelper.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("input") != null) {
+            String inputSchemaString = modelInterface.get("input");
             try {
-                String InputString = mlInput.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString();
+                JsonSchema inputSchema = modelCacheHelper.getModelInterfaceSchema(modelId, inputSchemaString);
+                if (inputSchema == null) {
+                    inputSchema = MLNodeUtils.compileSchema(inputSchemaString);
+                }
+                JsonNode input = MLNodeUtils.toJsonNode(mlInput);
                 // Process the parameters field in the input dataset to convert it back to its original datatype, instead of a string
-                String processedInputString = MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(InputString);
-                MLNodeUtils.validateSchema(inputSchemaString, processedInputString);
+                MLNodeUtils.processRemoteInferenceInputDataSetParametersValue(input);
+                MLNodeUtils.validateSchema(inputSchema, inputSchemaString, input);
             } catch (Exception e) {
                 throw new OpenSearchStatusException("Error validating input schema: " + e.getMessage(), RestStatus.BAD_REQUEST);
             }
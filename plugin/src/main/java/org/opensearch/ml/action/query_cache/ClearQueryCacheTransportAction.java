@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.query_cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodeRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodeResponse;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
+import org.opensearch.ml.processor.MLInferenceQueryCache;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.extern.log4j.Log4j2;
+
+@Log4j2
+public class ClearQueryCacheTransportAction extends
+    TransportNodesAction<MLClearCacheNodesRequest, MLClearCacheNodesResponse, MLClearCacheNodeRequest, MLClearCacheNodeResponse> {
+    private final ClusterService clusterService;
+    private final MLInferenceQueryCache queryCache;
+
+    @Inject
+    public ClearQueryCacheTransportAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        MLInferenceQueryCache queryCache
+    ) {
+        super(
+            MLClearQueryCacheAction.NAME,
+            threadPool,
+            clusterService,
+            transportService,
+            actionFilters,
+            MLClearCacheNodesRequest::new,
+            MLClearCacheNodeRequest::new,
+            ThreadPool.Names.MANAGEMENT,
+            MLClearCacheNodeResponse.class
+        );
+        this.clusterService = clusterService;
+        this.queryCache = queryCache;
+    }
+
+    @Override
+    protected MLClearCacheNodesResponse newResponse(
+        MLClearCacheNodesRequest nodesRequest,
+        List<MLClearCacheNodeResponse> responses,
+        List<FailedNodeException> failures
+    ) {
+        return new MLClearCacheNodesResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected MLClearCacheNodeRequest newNodeRequest(MLClearCacheNodesRequest request) {
+        return new MLClearCacheNodeRequest(request);
+    }
+
+    @Override
+    protected MLClearCacheNodeResponse newNodeResponse(StreamInput in) throws IOException {
+        return new MLClearCacheNodeResponse(in);
+    }
+
+    @Override
+    protected MLClearCacheNodeResponse nodeOperation(MLClearCacheNodeRequest request) {
+        String[] modelIds = request.getClearCacheNodesRequest().getIds();
+        if (modelIds == null || modelIds.length == 0) {
+            queryCache.clear();
+            log.debug("Cleared the inference query cache");
+        } else {
+            for (String modelId : modelIds) {
+                queryCache.invalidate(modelId);
+            }
+            log.debug("Invalidated models {} in the inference query cache", Arrays.toString(modelIds));
+        }
+        return new MLClearCacheNodeResponse(clusterService.localNode());
+    }
+}
@@ -243,9 +243,9 @@ public class CancelBatchJobTransportAction extends HandledTransportAction<Action
         connectorExecutor.setClusterService(clusterService);
         connectorExecutor.setClient(client);
         connectorExecutor.setXContentRegistry(xContentRegistry);
-        connectorExecutor.executeAction(CANCEL_BATCH_PREDICT.name(), mlInput, ActionListener.wrap(taskResponse -> {
+        connectorExecutor.executeAction(CANCEL_BATCH_PREDICT.name(), mlInput, ActionListener.runAfter(ActionListener.wrap(taskResponse -> {
             processTaskResponse(taskResponse, actionListener);
-        }, e -> { actionListener.onFailure(e); }));
+        }, e -> { actionListener.onFailure(e); }), connectorExecutor::close));
     }
 
     private void processTaskResponse(MLTaskResponse taskResponse, ActionListener<MLCancelBatchJobResponse> actionListener) {
@@ -312,9 +312,9 @@ public class GetTaskTransportAction extends HandledTransportAction<ActionRequest
         connectorExecutor.setClusterService(clusterService);
         connectorExecutor.setClient(client);
         connectorExecutor.setXContentRegistry(xContentRegistry);
-        connectorExecutor.executeAction(BATCH_PREDICT_STATUS.name(), mlInput, ActionListener.wrap(taskResponse -> {
+        connectorExecutor.executeAction(BATCH_PREDICT_STATUS.name(), mlInput, ActionListener.runAfter(ActionListener.wrap(taskResponse -> {
             processTaskResponse(mlTask, taskId, taskResponse, remoteJob, actionListener);
-        }, e -> { actionListener.onFailure(e); }));
+        }, e -> { actionListener.onFailure(e); }), connectorExecutor::close));
     }
 
     protected void processTaskResponse(
@@ -32,7 +32,9 @@ import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelNodesRequest;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsAction;
@@ -157,10 +159,27 @@ public class TransportUndeployModelsAction extends HandledTransportAction<Action
         MLUndeployModelNodesRequest mlUndeployModelNodesRequest = new MLUndeployModelNodesRequest(targetNodeIds, modelIds);
 
         client.execute(MLUndeployModelAction.INSTANCE, mlUndeployModelNodesRequest, ActionListener.wrap(r -> {
-            listener.onResponse(new MLUndeployModelsResponse(r));
+            clearQueryCache(modelIds, new MLUndeployModelsResponse(r), listener);
         }, listener::onFailure));
     }
 
+    /**
+     * Invalidate the undeployed models in the inference query cache of every node before responding, the undeployment
+     * succeeded even if some nodes failed to invalidate them, their cached outputs expire later.
+     */
+    private void clearQueryCache(String[] modelIds, MLUndeployModelsResponse response, ActionListener<MLUndeployModelsResponse> listener) {
+        MLClearCacheNodesRequest clearCacheRequest = new MLClearCacheNodesRequest(new String[0], modelIds);
+        client.execute(MLClearQueryCacheAction.INSTANCE, clearCacheRequest, ActionListener.wrap(r -> {
+            if (r.hasFailures()) {
+                log.warn("Failed to invalidate models in the inference query cache of some nodes: {}", r.failures());
+            }
+            listener.onResponse(response);
+        }, e -> {
+            log.warn("Failed to invalidate models in the inference query cache", e);
+            listener.onResponse(response);
+        }));
+    }
+
     private void validateAccess(String modelId, ActionListener<Boolean> listener) {
         User user = RestActionUtils.getUserContext(client);
         boolean isSuperAdmin = isSuperAdminUserWrapper(clusterService, client);
@@ -27,6 +27,7 @@ import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesRe
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesResponse;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.processor.MLInferenceQueryCache;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -44,6 +45,7 @@ public class UpdateModelCacheTransportAction extends
     private NamedXContentRegistry xContentRegistry;
 
     private ModelAccessControlHelper modelAccessControlHelper;
+    private final MLInferenceQueryCache queryCache;
 
     @Inject
     public UpdateModelCacheTransportAction(
@@ -56,7 +58,8 @@ public class UpdateModelCacheTransportAction extends
         DiscoveryNodeHelper nodeFilter,
         MLStats mlStats,
         NamedXContentRegistry xContentRegistry,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLInferenceQueryCache queryCache
     ) {
         super(
             MLUpdateModelCacheAction.NAME,
@@ -76,6 +79,7 @@ public class UpdateModelCacheTransportAction extends
         this.mlStats = mlStats;
         this.xContentRegistry = xContentRegistry;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.queryCache = queryCache;
     }
 
     @Override
@@ -112,9 +116,16 @@ public class UpdateModelCacheTransportAction extends
 
         String localNodeId = clusterService.localNode().getId();
 
+        // the request is sent to every node, the query cache is invalidated on nodes without the model deployed too
+        queryCache.invalidate(modelId);
         mlModelManager.updateModelCache(modelId, ActionListener.wrap(r -> {
+            // outputs predicted while the model was updated may come from the previous model
+            queryCache.invalidate(modelId);
             log.info("Successfully performing in-place update model {} on node {}", modelId, localNodeId);
-        }, e -> { log.error("Failed to perform in-place update model for model {} on node {}", modelId, localNodeId); }));
+        }, e -> {
+            queryCache.invalidate(modelId);
+            log.error("Failed to perform in-place update model for model {} on node {}", modelId, localNodeId);
+        }));
         return new MLUpdateModelCacheNodeResponse(clusterService.localNode(), modelUpdateStatus);
     }
 }
@@ -25,6 +25,8 @@ import org.opensearch.ml.common.exception.MLException;
 public class DiskCircuitBreaker extends ThresholdCircuitBreaker<ByteSizeValue> {
     private static final String ML_DISK_CB = "Disk Circuit Breaker";
     public static final ByteSizeValue DEFAULT_DISK_SHORTAGE_THRESHOLD = new ByteSizeValue(5, ByteSizeUnit.GB);
+    // an open breaker closes once free space is this fraction over the threshold
+    static final double FREE_SPACE_HYSTERESIS = 0.1;
     private final File diskDir;
 
     public DiskCircuitBreaker(Settings settings, ClusterService clusterService, File diskDir) {
@@ -42,9 +44,9 @@ public class DiskCircuitBreaker extends ThresholdCircuitBreaker<ByteSizeValue> {
     @Override
     public boolean isOpen() {
         try {
-            return AccessController.doPrivileged((PrivilegedExceptionAction<Boolean>) () -> {
-                return new ByteSizeValue(diskDir.getFreeSpace(), ByteSizeUnit.BYTES).compareTo(getThreshold()) < 0;  // in GB
-            });
+            long freeSpace = AccessController.doPrivileged((PrivilegedExceptionAction<Long>) diskDir::getFreeSpace);
+            long threshold = getThreshold().getBytes();
+            return trip(freeSpace < threshold, freeSpace >= threshold + (long) (threshold * FREE_SPACE_HYSTERESIS));
         } catch (PrivilegedActionException e) {
             throw new MLException("Failed to run disk circuit breaker");
         }
@@ -12,22 +12,33 @@ import java.util.concurrent.ConcurrentMap;
 
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * This service registers internal system breakers and provide API for users to register their own breakers.
+ * <p>
+ * Once sampling is started, the breakers are checked on a fixed interval and requests read the last result, instead
+ * of collecting JVM stats and disk space for every request.
  */
 @Log4j2
 public class MLCircuitBreakerService {
+    static final TimeValue SAMPLING_INTERVAL = TimeValue.timeValueMillis(500);
 
     private final ConcurrentMap<BreakerName, CircuitBreaker> breakers = new ConcurrentHashMap<>();
     private final JvmService jvmService;
     private final OsService osService;
     private final Settings settings;
     private final ClusterService clusterService;
+    private volatile boolean sampling;
+    private volatile Scheduler.Cancellable samplingTask;
+    // open breaker found by the last sample, null if none
+    private volatile ThresholdCircuitBreaker sampledOpenCB;
 
     /**
      * Constructor.
@@ -86,17 +97,53 @@ public class MLCircuitBreakerService {
         return this;
     }
 
+    /**
+     * Check the breakers on a fixed interval from now on.
+     * @param threadPool thread pool to schedule the checks on
+     */
+    public void startSampling(ThreadPool threadPool) {
+        sample();
+        sampling = true;
+        samplingTask = threadPool.scheduleWithFixedDelay(this::sample, SAMPLING_INTERVAL, ThreadPool.Names.GENERIC);
+    }
+
+    /**
+     * Stop the checks scheduled by {@link #startSampling(ThreadPool)}, requests check the breakers again afterwards.
+     */
+    public void stopSampling() {
+        sampling = false;
+        if (samplingTask != null) {
+            samplingTask.cancel();
+            samplingTask = null;
+        }
+    }
+
+    void sample() {
+        try {
+            sampledOpenCB = findOpenCB();
+        } catch (Exception e) {
+            // keep the last sample
+            log.error("Failed to check ML circuit breakers", e);
+        }
+    }
+
     /**
      *
      * @return any open circuit breaker; otherwise return null
      */
     public ThresholdCircuitBreaker checkOpenCB() {
+        return sampling ? sampledOpenCB : findOpenCB();
+    }
+
+    private ThresholdCircuitBreaker findOpenCB() {
+        ThresholdCircuitBreaker openCB = null;
+        // check every breaker, so that each one keeps its hysteresis state up to date
         for (CircuitBreaker breaker : breakers.values()) {
-            if (breaker.isOpen()) {
-                return (ThresholdCircuitBreaker) breaker;
+            if (breaker.isOpen() && openCB == null) {
+                openCB = (ThresholdCircuitBreaker) breaker;
             }
         }
 
-        return null;
+        return openCB;
     }
 }
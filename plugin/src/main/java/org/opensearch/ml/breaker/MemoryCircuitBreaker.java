@@ -19,6 +19,8 @@ import org.opensearch.monitor.jvm.JvmService;
 public class MemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
     private static final String ML_MEMORY_CB = "Memory Circuit Breaker";
     public static final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
+    // an open breaker closes once heap usage is this many percents under the threshold
+    static final short HEAP_USAGE_HYSTERESIS = 5;
     private final JvmService jvmService;
 
     public MemoryCircuitBreaker(JvmService jvmService) {
@@ -51,6 +53,11 @@ public class MemoryCircuitBreaker extends ThresholdCircuitBreaker<Short> {
 
     @Override
     public boolean isOpen() {
-        return getThreshold() < 100 && jvmService.stats().getMem().getHeapUsedPercent() > getThreshold();
+        short threshold = getThreshold();
+        if (threshold >= 100) {
+            return trip(false, true);
+        }
+        short heapUsedPercent = jvmService.stats().getMem().getHeapUsedPercent();
+        return trip(heapUsedPercent > threshold, heapUsedPercent <= threshold - HEAP_USAGE_HYSTERESIS);
     }
 }
@@ -5,7 +5,11 @@
 
 package org.opensearch.ml.breaker;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 
 /**
  * An abstract class for all breakers with threshold.
@@ -16,10 +20,35 @@ public abstract class ThresholdCircuitBreaker<T> implements CircuitBreaker {
 
     private volatile T threshold;
 
+    // whether the breaker was open at the last check
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    private volatile boolean tripped;
+
     public ThresholdCircuitBreaker(T threshold) {
         this.threshold = threshold;
     }
 
+    public void setThreshold(T threshold) {
+        this.threshold = threshold;
+        // the breaker is checked against the new threshold from scratch
+        this.tripped = false;
+    }
+
+    /**
+     * Open the breaker past the threshold, and keep it open until usage is back under a lower close threshold, so
+     * usage hovering around the threshold doesn't flip the breaker on every check.
+     * @param exceedsThreshold whether usage is past the threshold
+     * @param underCloseThreshold whether usage is under the close threshold
+     * @return whether the breaker is open
+     */
+    protected boolean trip(boolean exceedsThreshold, boolean underCloseThreshold) {
+        boolean open = tripped ? !underCloseThreshold : exceedsThreshold;
+        tripped = open;
+        return open;
+    }
+
     @Override
     public abstract boolean isOpen();
 }
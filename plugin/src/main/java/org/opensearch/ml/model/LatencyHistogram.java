@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.opensearch.ml.profile.MLPredictRequestStats;
+
+/**
+ * Lock free histogram of the durations of the last requests of a model.
+ * <p>
+ * The last {@code capacity} durations are kept in a ring buffer, and counted in log-linear buckets (like HdrHistogram)
+ * with a relative error of about 3%. Recording a duration overwrites the oldest one and moves the count from its
+ * bucket to the bucket of the new duration, so recording takes constant time and doesn't allocate. Count, min, max
+ * and average are computed exactly from the ring buffer, percentiles from the buckets, without copying the durations.
+ */
+class LatencyHistogram {
+    // durations are bucketed in microseconds, the first 2^(SUB_BUCKET_BITS + 1) microseconds exactly
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // longer durations are counted in the last bucket, 2^40 microseconds are more than 12 days
+    private static final int MAX_VALUE_BITS = 40;
+    private static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    static final int BUCKET_COUNT = 2 * SUB_BUCKET_COUNT + (MAX_VALUE_BITS - SUB_BUCKET_BITS - 1) * SUB_BUCKET_COUNT;
+    // raw bits of a NaN, durations are never NaN
+    private static final long EMPTY = -1L;
+
+    private final int capacity;
+    private final AtomicLongArray durations;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sequence = new AtomicLong();
+
+    LatencyHistogram(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Histogram capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.durations = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            durations.lazySet(i, EMPTY);
+        }
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Record a duration, evicting the oldest one if the histogram is full.
+     * @param duration duration in milliseconds
+     */
+    void record(double duration) {
+        long bits = Double.doubleToRawLongBits(duration);
+        if (bits == EMPTY) {
+            return;
+        }
+        int slot = (int) (sequence.getAndIncrement() % capacity);
+        long evicted = durations.getAndSet(slot, bits);
+        // every recorded duration is evicted exactly once, so the buckets count the durations in the ring buffer
+        if (evicted != EMPTY) {
+            buckets.decrementAndGet(bucketIndex(Double.longBitsToDouble(evicted)));
+        }
+        buckets.incrementAndGet(bucketIndex(duration));
+    }
+
+    /**
+     * Create a histogram with another capacity, keeping the most recent durations.
+     * @param newCapacity capacity of the new histogram
+     * @return the new histogram
+     */
+    LatencyHistogram resize(int newCapacity) {
+        LatencyHistogram histogram = new LatencyHistogram(newCapacity);
+        long end = sequence.get();
+        for (long i = Math.max(0, end - Math.min(capacity, newCapacity)); i < end; i++) {
+            long bits = durations.get((int) (i % capacity));
+            if (bits != EMPTY) {
+                histogram.record(Double.longBitsToDouble(bits));
+            }
+        }
+        return histogram;
+    }
+
+    /**
+     * @return stats of the recorded durations, or null if there are none
+     */
+    MLPredictRequestStats getStats() {
+        long count = 0;
+        double sum = 0;
+        double min = Double.MAX_VALUE;
+        double max = -Double.MAX_VALUE;
+        for (int i = 0; i < capacity; i++) {
+            long bits = durations.get(i);
+            if (bits != EMPTY) {
+                double duration = Double.longBitsToDouble(bits);
+                count++;
+                sum += duration;
+                min = Math.min(min, duration);
+                max = Math.max(max, duration);
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
+        double[] percentiles = percentiles(50, 90, 99);
+        return MLPredictRequestStats
+            .builder()
+            .count(count)
+            .min(min)
+            .max(max)
+            .average(sum / count)
+            .p50(clamp(percentiles[0], min, max))
+            .p90(clamp(percentiles[1], min, max))
+            .p99(clamp(percentiles[2], min, max))
+            .build();
+    }
+
+    /**
+     * @param percentiles ascending percentiles to compute
+     * @return nearest rank percentiles of the bucketed durations, in milliseconds
+     */
+    private double[] percentiles(double... percentiles) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += buckets.get(i);
+        }
+        double[] values = new double[percentiles.length];
+        long seen = 0;
+        int next = 0;
+        for (int i = 0; i < BUCKET_COUNT && next < percentiles.length; i++) {
+            seen += buckets.get(i);
+            while (next < percentiles.length && seen >= Math.max(1, (long) Math.ceil(percentiles[next] / 100 * total))) {
+                values[next++] = bucketValue(i);
+            }
+        }
+        // concurrent writes moved counts while the buckets were read
+        while (next < percentiles.length) {
+            values[next++] = Double.MAX_VALUE;
+        }
+        return values;
+    }
+
+    static int bucketIndex(double duration) {
+        long micros = Math.min(MAX_VALUE, Math.max(0, (long) (duration * 1000)));
+        if (micros < 2 * SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + (int) (micros >> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * @return middle of the bucket in milliseconds
+     */
+    static double bucketValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index / 1000.0;
+        }
+        int shift = (index - 2 * SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + 1;
+        long lowest = (long) (index - 2 * SUB_BUCKET_COUNT - (shift - 1) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return (lowest + (1L << shift) / 2.0) / 1000.0;
+    }
+
+    private static double clamp(double value, double min, double max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
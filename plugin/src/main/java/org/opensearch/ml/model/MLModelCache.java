@@ -6,14 +6,11 @@
 package org.opensearch.ml.model;
 
 import java.time.Instant;
-import java.util.DoubleSummaryStatistics;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.stream.DoubleStream;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.ml.common.FunctionName;
@@ -24,7 +21,7 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 
-import com.google.common.math.Quantiles;
+import com.networknt.schema.JsonSchema;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -43,12 +40,15 @@ public class MLModelCache {
     private final Set<String> targetWorkerNodes;
     private final Set<String> workerNodes;
     private MLModel modelInfo;
-    private final Queue<Double> modelInferenceDurationQueue;
-    private final Queue<Double> predictRequestDurationQueue;
+    // durations of the last requests, null until the first request or if monitoring is disabled
+    private final AtomicReference<LatencyHistogram> modelInferenceDurations;
+    private final AtomicReference<LatencyHistogram> predictRequestDurations;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLGuard mlGuard;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, String> modelInterface;
+    // compiled schemas of the model interface keyed by schema string
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Map<String, JsonSchema> modelInterfaceSchemas;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -59,8 +59,8 @@ public class MLModelCache {
     public MLModelCache() {
         targetWorkerNodes = ConcurrentHashMap.newKeySet();
         workerNodes = ConcurrentHashMap.newKeySet();
-        modelInferenceDurationQueue = new ConcurrentLinkedQueue<>();
-        predictRequestDurationQueue = new ConcurrentLinkedQueue<>();
+        modelInferenceDurations = new AtomicReference<>();
+        predictRequestDurations = new AtomicReference<>();
     }
 
     public void setTargetWorkerNodes(List<String> targetWorkerNodes) {
@@ -159,8 +159,8 @@ public class MLModelCache {
         functionName = null;
         workerNodes.clear();
         modelInfo = null;
-        modelInferenceDurationQueue.clear();
-        predictRequestDurationQueue.clear();
+        modelInferenceDurations.set(null);
+        predictRequestDurations.set(null);
         if (predictor != null) {
             predictor.close();
         }
@@ -177,55 +177,54 @@ public class MLModelCache {
     }
 
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, modelInferenceDurations);
     }
 
     public void addPredictRequestDuration(double duration, long maxRequestCount) {
-        addInferenceDuration(duration, maxRequestCount, predictRequestDurationQueue);
+        addInferenceDuration(duration, maxRequestCount, predictRequestDurations);
     }
 
-    private void addInferenceDuration(double duration, long maxRequestCount, Queue<Double> queue) {
-        resizeInferenceQueue(maxRequestCount, queue);
-        if (maxRequestCount > 0) {
-            queue.add(duration);
+    private void addInferenceDuration(double duration, long maxRequestCount, AtomicReference<LatencyHistogram> durations) {
+        if (maxRequestCount <= 0) {
+            durations.set(null);
+            return;
+        }
+        LatencyHistogram histogram = durations.get();
+        if (histogram == null) {
+            durations.compareAndSet(null, new LatencyHistogram((int) maxRequestCount));
+            histogram = durations.get();
+        }
+        if (histogram != null && histogram.getCapacity() != maxRequestCount) {
+            histogram = resizeHistogram(maxRequestCount, durations);
+        }
+        if (histogram != null) {
+            histogram.record(duration);
         }
     }
 
     public void resizeMonitoringQueue(long maxRequestCount) {
         log.debug("resize inference duration monitoring queue with size {}", maxRequestCount);
-        resizeInferenceQueue(maxRequestCount, predictRequestDurationQueue);
-        resizeInferenceQueue(maxRequestCount, modelInferenceDurationQueue);
+        resizeHistogram(maxRequestCount, predictRequestDurations);
+        resizeHistogram(maxRequestCount, modelInferenceDurations);
     }
 
-    private void resizeInferenceQueue(long maxRequestCount, Queue<Double> queue) {
+    private LatencyHistogram resizeHistogram(long maxRequestCount, AtomicReference<LatencyHistogram> durations) {
         if (maxRequestCount <= 0) {
-            queue.clear();
-        } else {
-            while (queue.size() >= maxRequestCount) {
-                queue.poll();
-            }
+            durations.set(null);
+            return null;
         }
+        // only replaced when the monitoring request count changes, a duration recorded concurrently may be lost
+        return durations.updateAndGet(histogram -> {
+            if (histogram == null || histogram.getCapacity() == maxRequestCount) {
+                return histogram;
+            }
+            return histogram.resize((int) maxRequestCount);
+        });
     }
 
     public MLPredictRequestStats getInferenceStats(boolean modelInference) {
-        Queue<Double> queue = modelInference ? modelInferenceDurationQueue : predictRequestDurationQueue;
-        if (queue.size() > 0) {
-            MLPredictRequestStats.MLPredictRequestStatsBuilder statsBuilder = MLPredictRequestStats.builder();
-            DoubleStream doubleStream = queue.stream().mapToDouble(v -> v);
-            DoubleSummaryStatistics doubleSummaryStatistics = doubleStream.summaryStatistics();
-            statsBuilder.count(doubleSummaryStatistics.getCount());
-            statsBuilder.max(doubleSummaryStatistics.getMax());
-            statsBuilder.min(doubleSummaryStatistics.getMin());
-            statsBuilder.average(doubleSummaryStatistics.getAverage());
-
-            Quantiles.Scale percentiles = Quantiles.percentiles();
-            statsBuilder.p50(percentiles.index(50).compute(queue));
-            statsBuilder.p90(percentiles.index(90).compute(queue));
-            statsBuilder.p99(percentiles.index(99).compute(queue));
-
-            return statsBuilder.build();
-        }
-        return null;
+        LatencyHistogram histogram = modelInference ? modelInferenceDurations.get() : predictRequestDurations.get();
+        return histogram == null ? null : histogram.getStats();
     }
 
     public boolean isValidCache() {
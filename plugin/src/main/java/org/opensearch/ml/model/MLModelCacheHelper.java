@@ -9,6 +9,7 @@ import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +31,9 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.profile.MLModelProfile;
+import org.opensearch.ml.utils.MLNodeUtils;
+
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -197,7 +201,28 @@ public class MLModelCacheHelper {
      */
     public synchronized void setModelInterface(String modelId, Map<String, String> modelInterface) {
         log.debug("Setting ML Interface {} for Model {}", modelInterface, modelId);
-        getExistingModelCache(modelId).setModelInterface(modelInterface);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(modelInterface);
+        modelCache.setModelInterfaceSchemas(compileModelInterfaceSchemas(modelId, modelInterface));
+    }
+
+    private Map<String, JsonSchema> compileModelInterfaceSchemas(String modelId, Map<String, String> modelInterface) {
+        Map<String, JsonSchema> schemas = new HashMap<>();
+        if (modelInterface == null) {
+            return schemas;
+        }
+        for (String schemaString : modelInterface.values()) {
+            if (schemaString == null || schemas.containsKey(schemaString)) {
+                continue;
+            }
+            try {
+                schemas.put(schemaString, MLNodeUtils.compileSchema(schemaString));
+            } catch (Exception e) {
+                // invalid schemas are compiled again by every request, which reports the error
+                log.warn("Failed to compile ML Interface schema for Model {}", modelId, e);
+            }
+        }
+        return schemas;
     }
 
     /**
@@ -213,6 +238,22 @@ public class MLModelCacheHelper {
         return modelCache.getModelInterface();
     }
 
+    /**
+     * Get the compiled schema of the ml interface for the model
+     *
+     * @param modelId model id
+     * @param schemaString schema from the current ml interface of the model
+     * @return compiled schema, null if the schema is not compiled
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String schemaString) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null || schemaString == null) {
+            return null;
+        }
+        Map<String, JsonSchema> schemas = modelCache.getModelInterfaceSchemas();
+        return schemas == null ? null : schemas.get(schemaString);
+    }
+
     /**
      * Remove the ml interface from cache
      *
@@ -220,7 +261,9 @@ public class MLModelCacheHelper {
      */
     public synchronized void removeModelInterface(String modelId) {
         log.debug("Removing the ML Interface from Model {}", modelId);
-        getExistingModelCache(modelId).setModelInterface(null);
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelInterface(null);
+        modelCache.setModelInterfaceSchemas(null);
     }
 
     /**
@@ -33,18 +33,23 @@ import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.RATE_LIMITE
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.SCRIPT_SERVICE;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.USER_RATE_LIMITER_MAP;
 import static org.opensearch.ml.engine.algorithms.remote.RemoteModel.XCONTENT_REGISTRY;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.INFERENCE_BATCH_SIZE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.INFERENCE_BATCH_WINDOW_IN_MILLIS;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.REGISTER_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WINDOW_IN_MILLIS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_MODELS_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_REGISTER_MODEL_TASKS_PER_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY;
 import static org.opensearch.ml.stats.ActionName.REGISTER;
 import static org.opensearch.ml.stats.MLActionLevelStat.ML_ACTION_REQUEST_COUNT;
 import static org.opensearch.ml.utils.MLExceptionUtils.CONTROLLER_DISABLED_ERR_MSG;
@@ -53,7 +58,7 @@ import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
 import java.io.File;
-import java.nio.file.Path;
+import java.io.IOException;
 import java.security.PrivilegedActionException;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -66,11 +71,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -89,6 +94,7 @@ import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.TokenBucket;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -131,7 +137,7 @@ import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
-import org.opensearch.ml.engine.utils.FileUtils;
+import org.opensearch.ml.engine.utils.OrderedChunkFileWriter;
 import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.settings.MLFeatureEnabledSetting;
 import org.opensearch.ml.stats.ActionName;
@@ -148,6 +154,7 @@ import org.opensearch.threadpool.ThreadPool;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.io.Files;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -182,6 +189,9 @@ public class MLModelManager {
     private volatile Integer maxDeployTasksPerNode;
     private volatile Integer maxBatchInferenceTasks;
     private volatile Integer maxBatchIngestionTasks;
+    private volatile Integer localModelInferenceBatchSize;
+    private volatile Integer localModelInferenceBatchWindowInMillis;
+    private volatile Integer modelChunkRetrievalConcurrency;
 
     public static final ImmutableSet MODEL_DONE_STATES = ImmutableSet
         .of(
@@ -247,6 +257,32 @@ public class MLModelManager {
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(ML_COMMONS_MAX_BATCH_INGESTION_TASKS, it -> maxBatchIngestionTasks = it);
+
+        localModelInferenceBatchSize = ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE, it -> localModelInferenceBatchSize = it);
+
+        localModelInferenceBatchWindowInMillis = ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WINDOW_IN_MILLIS.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WINDOW_IN_MILLIS,
+                it -> localModelInferenceBatchWindowInMillis = it
+            );
+
+        modelChunkRetrievalConcurrency = ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY.get(settings);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY, it -> modelChunkRetrievalConcurrency = it);
+
+        mlEngine.getModelArtifactCache().setMaxSizeInBytes(ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE.get(settings).getBytes());
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                it -> mlEngine.getModelArtifactCache().setMaxSizeInBytes(it.getBytes())
+            );
     }
 
     public void registerModelMeta(MLRegisterModelMetaInput mlRegisterModelMetaInput, ActionListener<String> listener) {
@@ -1096,8 +1132,9 @@ public class MLModelManager {
                 deployControllerWithDeployingModel(mlModel, eligibleNodeCount);
                 // check circuit breaker before deploying custom model chunks
                 checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
-                retrieveModelChunks(mlModel, ActionListener.wrap(modelZipFile -> {// read model chunks
-                    String hash = calculateFileHash(modelZipFile);
+                ActionListener<Tuple<File, String>> retrievedListener = ActionListener.wrap(retrievedModel -> {
+                    File modelZipFile = retrievedModel.v1();
+                    String hash = retrievedModel.v2();
                     if (modelContentHash != null && !modelContentHash.equals(hash)) {
                         log.error("Model content hash can't match original hash value");
                         removeModel(modelId);
@@ -1105,7 +1142,15 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
-                    Map<String, Object> params = Map.of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                    Map<String, Object> params = new HashMap<>();
+                    // no model zip file if the model artifact is cached locally
+                    if (modelZipFile != null) {
+                        params.put(MODEL_ZIP_FILE, modelZipFile);
+                    }
+                    params.put(MODEL_HELPER, modelHelper);
+                    params.put(ML_ENGINE, mlEngine);
+                    params.put(INFERENCE_BATCH_SIZE, localModelInferenceBatchSize);
+                    params.put(INFERENCE_BATCH_WINDOW_IN_MILLIS, localModelInferenceBatchWindowInMillis);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1141,7 +1186,18 @@ public class MLModelManager {
                 }, e -> {
                     log.error("Failed to retrieve model " + modelId, e);
                     handleDeployModelException(modelId, functionName, wrappedListener, e);
-                }));
+                });
+                // pinned until the model is loaded, so it can't be evicted once the model chunks are skipped
+                if (!FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())
+                    && mlEngine.getModelArtifactCache().tryAcquire(modelContentHash) != null) {
+                    log.info("Model artifact of model {} is cached locally, skip retrieving model chunks", modelId);
+                    ActionListener
+                        .runAfter(retrievedListener, () -> mlEngine.getModelArtifactCache().release(modelContentHash))
+                        .onResponse(new Tuple<>(null, modelContentHash));
+                } else {
+                    // read model chunks
+                    retrieveModelChunks(mlModel, retrievedListener);
+                }
             }, e -> {
                 log.error("Failed to deploy model " + modelId, e);
                 handleDeployModelException(modelId, functionName, wrappedListener, e);
@@ -1580,6 +1636,17 @@ public class MLModelManager {
         return modelCacheHelper.getModelInterface(modelId);
     }
 
+    /**
+     * Get compiled schema of the model interface with model id.
+     *
+     * @param modelId model id
+     * @param schemaString schema from the model interface
+     * @return compiled schema, null if it's not compiled yet
+     */
+    public JsonSchema getModelInterfaceSchema(String modelId, String schemaString) {
+        return modelCacheHelper.getModelInterfaceSchema(modelId, schemaString);
+    }
+
     /**
      * Set up ML guard with model id.
      *
@@ -1714,50 +1781,109 @@ public class MLModelManager {
     }
 
     /**
-     * Retreive a model's all chunks.
+     * Retrieve a model's all chunks. Chunks are fetched within a window of {@code modelChunkRetrievalConcurrency}
+     * chunks after the last written chunk, decoded chunks are streamed in order into the model zip file and the sha256
+     * hash value of the file is calculated while writing.
      *
      * @param mlModelMeta model meta
-     * @param listener    action listener
+     * @param listener    action listener of the model zip file and its sha256 hash value
      */
-    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<File> listener) throws InterruptedException {
-        String modelId = mlModelMeta.getModelId();
-        String modelName = mlModelMeta.getName();
-        Integer totalChunks = mlModelMeta.getTotalChunks();
-        GetRequest getRequest = new GetRequest();
-        getRequest.index(ML_MODEL_INDEX);
-        getRequest.id();
-        Semaphore semaphore = new Semaphore(1);
-        AtomicBoolean stopNow = new AtomicBoolean(false);
-        String modelZip = mlEngine.getDeployModelZipPath(modelId, modelName);
-        ConcurrentLinkedDeque<File> chunkFiles = new ConcurrentLinkedDeque();
-        AtomicInteger retrievedChunks = new AtomicInteger(0);
-        for (int i = 0; i < totalChunks; i++) {
-            semaphore.tryAcquire(10, TimeUnit.SECONDS);
-            if (stopNow.get()) {
-                throw new MLException("Failed to deploy model");
+    private void retrieveModelChunks(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) throws IOException {
+        new ModelChunkRetrieval(mlModelMeta, listener).start();
+    }
+
+    /**
+     * State of retrieving the chunks of one model.
+     */
+    private class ModelChunkRetrieval {
+        private final String modelId;
+        private final int totalChunks;
+        private final OrderedChunkFileWriter writer;
+        private final ActionListener<Tuple<File, String>> listener;
+        private final AtomicBoolean stopNow = new AtomicBoolean(false);
+        private final AtomicLong fetchTimeInNanos = new AtomicLong(0);
+        private final AtomicLong decodeTimeInNanos = new AtomicLong(0);
+        private final long startTime = System.nanoTime();
+
+        ModelChunkRetrieval(MLModel mlModelMeta, ActionListener<Tuple<File, String>> listener) throws IOException {
+            this.modelId = mlModelMeta.getModelId();
+            this.totalChunks = mlModelMeta.getTotalChunks();
+            this.listener = listener;
+            File modelZipFile = new File(mlEngine.getDeployModelZipPath(modelId, mlModelMeta.getName()));
+            this.writer = new OrderedChunkFileWriter(modelZipFile, totalChunks, modelChunkRetrievalConcurrency);
+        }
+
+        void start() {
+            retrieveNextChunks();
+        }
+
+        /**
+         * Fetch every chunk the writer's window allows. Called again after each written chunk, so a slow chunk stops
+         * the fetching once the window is full instead of buffering the whole model in memory.
+         */
+        private void retrieveNextChunks() {
+            int chunk;
+            while (!stopNow.get() && (chunk = writer.claimNextChunk()) >= 0) {
+                retrieveChunk(chunk);
             }
-            String modelChunkId = this.getModelChunkId(modelId, i);
-            int currentChunk = i;
-            this.getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
-                Path chunkPath = mlEngine.getDeployModelChunkPath(modelId, currentChunk);
-                FileUtils.write(Base64.getDecoder().decode(model.getContent()), chunkPath.toString());
-                chunkFiles.add(new File(chunkPath.toUri()));
-                retrievedChunks.getAndIncrement();
-                if (retrievedChunks.get() == totalChunks) {
-                    File modelZipFile = new File(modelZip);
-                    FileUtils.mergeFiles(chunkFiles, modelZipFile);
-                    listener.onResponse(modelZipFile);
+        }
+
+        private void retrieveChunk(int currentChunk) {
+            String modelChunkId = getModelChunkId(modelId, currentChunk);
+            long fetchStartTime = System.nanoTime();
+            getModel(modelChunkId, threadedActionListener(DEPLOY_THREAD_POOL, ActionListener.wrap(model -> {
+                fetchTimeInNanos.addAndGet(System.nanoTime() - fetchStartTime);
+                if (stopNow.get()) {
+                    return;
+                }
+                boolean allChunksWritten;
+                try {
+                    long decodeStartTime = System.nanoTime();
+                    byte[] content = Base64.getDecoder().decode(model.getContent());
+                    decodeTimeInNanos.addAndGet(System.nanoTime() - decodeStartTime);
+                    allChunksWritten = writer.write(currentChunk, content);
+                } catch (Exception e) {
+                    log.error("Failed to write model chunk " + modelChunkId, e);
+                    fail(e);
+                    return;
+                }
+                if (allChunksWritten) {
+                    complete();
+                } else {
+                    retrieveNextChunks();
                 }
-                semaphore.release();
             }, e -> {
-                stopNow.set(true);
-                semaphore.release();
                 log.error("Failed to retrieve model chunk " + modelChunkId, e);
-                if (retrievedChunks.get() == totalChunks - 1) {
-                    listener.onFailure(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
-                }
+                fail(new MLResourceNotFoundException("Fail to find model chunk " + modelChunkId));
             })));
         }
+
+        private void complete() {
+            try {
+                String hash = writer.finish();
+                log
+                    .info(
+                        "Retrieved {} chunks ({} bytes) of model {} in {} ms, fetch {} ms, decode {} ms, write {} ms",
+                        totalChunks,
+                        writer.getBytesWritten(),
+                        modelId,
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime),
+                        TimeUnit.NANOSECONDS.toMillis(fetchTimeInNanos.get()),
+                        TimeUnit.NANOSECONDS.toMillis(decodeTimeInNanos.get()),
+                        writer.getWriteTimeInMillis()
+                    );
+                listener.onResponse(new Tuple<>(writer.getFile(), hash));
+            } catch (Exception e) {
+                fail(e);
+            }
+        }
+
+        private void fail(Exception e) {
+            if (stopNow.compareAndSet(false, true)) {
+                writer.abort();
+                listener.onFailure(e);
+            }
+        }
     }
 
     /**
@@ -16,6 +16,7 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_STOP_WORDS_INDEX;
 import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -44,6 +45,7 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.indices.SystemIndexDescriptor;
+import org.opensearch.ml.action.agents.ClearAgentCacheTransportAction;
 import org.opensearch.ml.action.agents.DeleteAgentTransportAction;
 import org.opensearch.ml.action.agents.GetAgentTransportAction;
 import org.opensearch.ml.action.agents.TransportRegisterAgentAction;
@@ -79,6 +81,7 @@ import org.opensearch.ml.action.models.UpdateModelTransportAction;
 import org.opensearch.ml.action.prediction.TransportPredictionTaskAction;
 import org.opensearch.ml.action.profile.MLProfileAction;
 import org.opensearch.ml.action.profile.MLProfileTransportAction;
+import org.opensearch.ml.action.query_cache.ClearQueryCacheTransportAction;
 import org.opensearch.ml.action.register.TransportRegisterModelAction;
 import org.opensearch.ml.action.stats.MLStatsNodesAction;
 import org.opensearch.ml.action.stats.MLStatsNodesTransportAction;
@@ -120,6 +123,7 @@ import org.opensearch.ml.common.spi.tools.Tool;
 import org.opensearch.ml.common.spi.tools.ToolAnnotation;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteAction;
 import org.opensearch.ml.common.transport.agent.MLAgentGetAction;
+import org.opensearch.ml.common.transport.agent.MLClearAgentCacheAction;
 import org.opensearch.ml.common.transport.agent.MLRegisterAgentAction;
 import org.opensearch.ml.common.transport.agent.MLSearchAgentAction;
 import org.opensearch.ml.common.transport.batch.MLBatchIngestionAction;
@@ -150,6 +154,7 @@ import org.opensearch.ml.common.transport.model_group.MLModelGroupSearchAction;
 import org.opensearch.ml.common.transport.model_group.MLRegisterModelGroupAction;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
 import org.opensearch.ml.common.transport.task.MLCancelBatchJobAction;
@@ -168,12 +173,14 @@ import org.opensearch.ml.common.transport.upload_chunk.MLUploadModelChunkAction;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.MLEngineClassLoader;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.algorithms.agent.MLAgentCache;
 import org.opensearch.ml.engine.algorithms.agent.MLAgentExecutor;
 import org.opensearch.ml.engine.algorithms.anomalylocalization.AnomalyLocalizerImpl;
 import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelation;
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.ml.engine.indices.MLIndicesHandler;
 import org.opensearch.ml.engine.indices.MLInputDatasetHandler;
 import org.opensearch.ml.engine.memory.ConversationIndexMemory;
@@ -217,6 +224,7 @@ import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.processor.MLInferenceIngestProcessor;
+import org.opensearch.ml.processor.MLInferenceQueryCache;
 import org.opensearch.ml.processor.MLInferenceSearchRequestProcessor;
 import org.opensearch.ml.processor.MLInferenceSearchResponseProcessor;
 import org.opensearch.ml.repackage.com.google.common.collect.ImmutableList;
@@ -354,6 +362,7 @@ public class MachineLearningPlugin extends Plugin
 
     private MLModelChunkUploader mlModelChunkUploader;
     private MLEngine mlEngine;
+    private MLCircuitBreakerService mlCircuitBreakerService;
 
     private Client client;
     private ClusterService clusterService;
@@ -372,6 +381,8 @@ public class MachineLearningPlugin extends Plugin
     private ConversationalMemoryHandler cmHandler;
 
     private volatile boolean ragSearchPipelineEnabled;
+    // shared by the search request processors, which may be created before the components
+    private final MLInferenceQueryCache inferenceQueryCache = new MLInferenceQueryCache();
 
     @VisibleForTesting
     Map<String, Tool.Factory> externalToolFactories;
@@ -406,6 +417,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLDeployModelOnNodeAction.INSTANCE, TransportDeployModelOnNodeAction.class),
                 new ActionHandler<>(MLUndeployModelAction.INSTANCE, TransportUndeployModelAction.class),
                 new ActionHandler<>(MLUndeployModelsAction.INSTANCE, TransportUndeployModelsAction.class),
+                new ActionHandler<>(MLClearQueryCacheAction.INSTANCE, ClearQueryCacheTransportAction.class),
                 new ActionHandler<>(MLRegisterModelMetaAction.INSTANCE, TransportRegisterModelMetaAction.class),
                 new ActionHandler<>(MLUploadModelChunkAction.INSTANCE, TransportUploadModelChunkAction.class),
                 new ActionHandler<>(MLUpdateModelAction.INSTANCE, UpdateModelTransportAction.class),
@@ -442,6 +454,7 @@ public class MachineLearningPlugin extends Plugin
                 new ActionHandler<>(MLUndeployControllerAction.INSTANCE, UndeployControllerTransportAction.class),
                 new ActionHandler<>(MLAgentGetAction.INSTANCE, GetAgentTransportAction.class),
                 new ActionHandler<>(MLAgentDeleteAction.INSTANCE, DeleteAgentTransportAction.class),
+                new ActionHandler<>(MLClearAgentCacheAction.INSTANCE, ClearAgentCacheTransportAction.class),
                 new ActionHandler<>(UpdateConversationAction.INSTANCE, UpdateConversationTransportAction.class),
                 new ActionHandler<>(UpdateInteractionAction.INSTANCE, UpdateInteractionTransportAction.class),
                 new ActionHandler<>(GetTracesAction.INSTANCE, GetTracesTransportAction.class),
@@ -487,8 +500,8 @@ public class MachineLearningPlugin extends Plugin
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
-        MLCircuitBreakerService mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService)
-            .init(dataPath);
+        mlCircuitBreakerService = new MLCircuitBreakerService(jvmService, osService, settings, clusterService).init(dataPath);
+        mlCircuitBreakerService.startSampling(threadPool);
 
         Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
         // cluster level stats
@@ -510,6 +523,11 @@ public class MachineLearningPlugin extends Plugin
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_HOST_CACHE_HIT_COUNT, new MLStat<>(false, MLHttpClientFactory::getHostCacheHitCount));
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_HOST_CACHE_MISS_COUNT, new MLStat<>(false, MLHttpClientFactory::getHostCacheMissCount));
+        stats.put(MLNodeLevelStat.ML_CONNECTOR_HTTP_CLIENTS, new MLStat<>(false, MLHttpClientFactory::getHttpClientStats));
+        stats.put(MLNodeLevelStat.ML_INFERENCE_QUERY_CACHE_HIT_COUNT, new MLStat<>(false, inferenceQueryCache::getHitCount));
+        stats.put(MLNodeLevelStat.ML_INFERENCE_QUERY_CACHE_MISS_COUNT, new MLStat<>(false, inferenceQueryCache::getMissCount));
         this.mlStats = new MLStats(stats);
 
         mlTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler);
@@ -624,13 +642,15 @@ public class MachineLearningPlugin extends Plugin
         conversationIndexMemoryFactory.init(client, mlIndicesHandler, memoryManager);
         memoryFactoryMap.put(ConversationIndexMemory.TYPE, conversationIndexMemoryFactory);
 
+        MLAgentCache agentCache = new MLAgentCache();
         MLAgentExecutor agentExecutor = new MLAgentExecutor(
             client,
             settings,
             clusterService,
             xContentRegistry,
             toolFactories,
-            memoryFactoryMap
+            memoryFactoryMap,
+            agentCache
         );
         MLEngineClassLoader.register(FunctionName.LOCAL_SAMPLE_CALCULATOR, localSampleCalculator);
         MLEngineClassLoader.register(FunctionName.AGENT, agentExecutor);
@@ -672,6 +692,17 @@ public class MachineLearningPlugin extends Plugin
         clusterService
             .getClusterSettings()
             .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED, it -> ragSearchPipelineEnabled = it);
+        inferenceQueryCache.setMaxEntries(MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_SIZE.get(settings));
+        inferenceQueryCache.setExpireAfterMillis(MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_TTL_IN_SECONDS.get(settings) * 1000L);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_SIZE, inferenceQueryCache::setMaxEntries);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_TTL_IN_SECONDS,
+                it -> inferenceQueryCache.setExpireAfterMillis(it * 1000L)
+            );
 
         return ImmutableList
             .of(
@@ -699,7 +730,9 @@ public class MachineLearningPlugin extends Plugin
                 clusterManagerEventListener,
                 mlCircuitBreakerService,
                 mlModelAutoRedeployer,
-                cmHandler
+                cmHandler,
+                agentCache,
+                inferenceQueryCache
             );
     }
 
@@ -975,7 +1008,13 @@ public class MachineLearningPlugin extends Plugin
                 MLCommonsSettings.ML_COMMONS_OFFLINE_BATCH_INFERENCE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MAX_BATCH_INFERENCE_TASKS,
                 MLCommonsSettings.ML_COMMONS_MAX_BATCH_INGESTION_TASKS,
-                MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE
+                MLCommonsSettings.ML_COMMONS_BATCH_INGESTION_BULK_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE,
+                MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WINDOW_IN_MILLIS,
+                MLCommonsSettings.ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY,
+                MLCommonsSettings.ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_SIZE,
+                MLCommonsSettings.ML_COMMONS_INFERENCE_QUERY_CACHE_TTL_IN_SECONDS
             );
         return settings;
     }
@@ -1014,7 +1053,7 @@ public class MachineLearningPlugin extends Plugin
         requestProcessors
             .put(
                 MLInferenceSearchRequestProcessor.TYPE,
-                new MLInferenceSearchRequestProcessor.Factory(parameters.client, parameters.namedXContentRegistry)
+                new MLInferenceSearchRequestProcessor.Factory(parameters.client, parameters.namedXContentRegistry, inferenceQueryCache)
             );
         return requestProcessors;
     }
@@ -1085,4 +1124,12 @@ public class MachineLearningPlugin extends Plugin
         systemIndexDescriptors.add(new SystemIndexDescriptor(ML_STOP_WORDS_INDEX, "ML Commons Stop Words Index"));
         return systemIndexDescriptors;
     }
+
+    @Override
+    public void close() throws IOException {
+        if (mlCircuitBreakerService != null) {
+            mlCircuitBreakerService.stopSampling();
+        }
+        super.close();
+    }
 }
@@ -7,13 +7,19 @@ package org.opensearch.ml.processor;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,12 +32,14 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.AbstractProcessor;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ingest.Processor;
 import org.opensearch.ingest.ValueSource;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.utils.JsonPathCache;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.script.ScriptService;
 import org.opensearch.script.TemplateScript;
@@ -55,6 +63,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     private final boolean ignoreFailure;
     private final boolean override;
     private final String modelInput;
+    private final int batchSize;
     private final ScriptService scriptService;
     private static Client client;
     public static final String TYPE = "ml_inference";
@@ -66,6 +75,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     public static final String FUNCTION_NAME = "function_name";
     public static final String FULL_RESPONSE_PATH = "full_response_path";
     public static final String MODEL_INPUT = "model_input";
+    // documents of a bulk request are predicted in batches of batch_size documents, one prediction per input map of
+    // a batch. The default of 1 makes one prediction per input map of each document
+    public static final String BATCH_SIZE = "batch_size";
+    public static final int DEFAULT_BATCH_SIZE = 1;
     // At default, ml inference processor allows maximum 10 prediction tasks running in parallel
     // it can be overwritten using max_prediction_tasks when creating processor
     public static final int DEFAULT_MAX_PREDICTION_TASKS = 10;
@@ -86,6 +99,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         boolean ignoreFailure,
         boolean override,
         String modelInput,
+        int batchSize,
         ScriptService scriptService,
         Client client,
         NamedXContentRegistry xContentRegistry
@@ -104,6 +118,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         this.ignoreFailure = ignoreFailure;
         this.override = override;
         this.modelInput = modelInput;
+        this.batchSize = batchSize;
         this.scriptService = scriptService;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
@@ -161,6 +176,293 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         throw new UnsupportedOperationException("this method should not get executed.");
     }
 
+    /**
+     * This method is used to execute inference on the documents of a bulk request.
+     * With a batch_size larger than 1, the documents are split in batches of batch_size documents,
+     * and each input map makes one prediction per batch: every model input field is the array of
+     * the values of the documents, and every model output field is expected to be an array holding
+     * the result of each document, in the same order.
+     * Documents of a batch mapping different model input fields are predicted in separate groups, and the documents
+     * of a group fail when the model doesn't return one result per document.
+     * Without input_map or output_map, every document makes its own predictions.
+     *
+     * @param ingestDocumentWrappers The documents to be processed.
+     * @param handler                A consumer for handling the processed documents.
+     */
+    @Override
+    public void batchExecute(List<IngestDocumentWrapper> ingestDocumentWrappers, Consumer<List<IngestDocumentWrapper>> handler) {
+        List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
+        List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
+        if (batchSize <= 1
+            || ingestDocumentWrappers.isEmpty()
+            || processInputMap == null
+            || processInputMap.isEmpty()
+            || processOutputMap == null) {
+            super.batchExecute(ingestDocumentWrappers, handler);
+            return;
+        }
+
+        int size = ingestDocumentWrappers.size();
+        IngestDocumentWrapper[] results = new IngestDocumentWrapper[size];
+        AtomicInteger pendingBatches = new AtomicInteger((size + batchSize - 1) / batchSize);
+        for (int from = 0; from < size; from += batchSize) {
+            int batchStart = from;
+            List<IngestDocumentWrapper> batch = ingestDocumentWrappers.subList(from, Math.min(from + batchSize, size));
+            executeBatch(batch, processInputMap, processOutputMap, batchResults -> {
+                for (int i = 0; i < batchResults.size(); i++) {
+                    results[batchStart + i] = batchResults.get(i);
+                }
+                if (pendingBatches.decrementAndGet() == 0) {
+                    handler.accept(Arrays.asList(results));
+                }
+            });
+        }
+    }
+
+    /**
+     * Executes the predictions of every input map for a batch of documents, the input maps run in parallel.
+     *
+     * @param batch            The documents of the batch.
+     * @param processInputMap  A list of maps containing input field mappings.
+     * @param processOutputMap A list of maps containing output field mappings.
+     * @param handler          A consumer for handling the processed documents of the batch.
+     */
+    private void executeBatch(
+        List<IngestDocumentWrapper> batch,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        Consumer<List<IngestDocumentWrapper>> handler
+    ) {
+        // documents which failed in a previous processor are passed through
+        List<IngestDocument> documents = new ArrayList<>(batch.size());
+        for (IngestDocumentWrapper wrapper : batch) {
+            if (wrapper.getException() == null && wrapper.getIngestDocument() != null) {
+                documents.add(wrapper.getIngestDocument());
+            }
+        }
+        if (documents.isEmpty()) {
+            handler.accept(batch);
+            return;
+        }
+
+        // first failure of each document
+        AtomicReferenceArray<Exception> failures = new AtomicReferenceArray<>(documents.size());
+        AtomicInteger pendingInputMaps = new AtomicInteger(processInputMap.size());
+        Runnable onInputMapCompleted = () -> {
+            if (pendingInputMaps.decrementAndGet() != 0) {
+                return;
+            }
+            List<IngestDocumentWrapper> results = new ArrayList<>(batch.size());
+            int documentIndex = 0;
+            for (IngestDocumentWrapper wrapper : batch) {
+                if (wrapper.getException() != null || wrapper.getIngestDocument() == null) {
+                    results.add(wrapper);
+                    continue;
+                }
+                Exception failure = failures.get(documentIndex++);
+                if (failure == null || ignoreFailure) {
+                    results.add(new IngestDocumentWrapper(wrapper.getSlot(), wrapper.getIngestDocument(), null));
+                } else {
+                    results.add(new IngestDocumentWrapper(wrapper.getSlot(), null, failure));
+                }
+            }
+            handler.accept(results);
+        };
+
+        for (int inputMapIndex = 0; inputMapIndex < processInputMap.size(); inputMapIndex++) {
+            processBatchPredictions(documents, failures, processInputMap, processOutputMap, inputMapIndex, onInputMapCompleted);
+        }
+    }
+
+    /**
+     * process the prediction of one input map for a batch of documents,
+     * documents whose output fields all exist already are skipped unless override is true.
+     * The documents are grouped by the model input fields they map, so the model input arrays of a prediction line up,
+     * and each group makes one prediction.
+     *
+     * @param documents           The documents of the batch.
+     * @param failures            The first failure of each document.
+     * @param processInputMap     A list of maps containing input field mappings.
+     * @param processOutputMap    A list of maps containing output field mappings.
+     * @param inputMapIndex       The current index of the inputMap.
+     * @param onCompleted         Called once the documents of the batch are processed.
+     */
+    private void processBatchPredictions(
+        List<IngestDocument> documents,
+        AtomicReferenceArray<Exception> failures,
+        List<Map<String, String>> processInputMap,
+        List<Map<String, String>> processOutputMap,
+        int inputMapIndex,
+        Runnable onCompleted
+    ) {
+        Map<String, String> inputMapping = processInputMap.get(inputMapIndex);
+        Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
+
+        // model input fields as key, indices of the documents mapping them as value
+        Map<Set<String>, List<Integer>> documentGroups = new LinkedHashMap<>();
+        Map<Integer, Map<String, List<String>>> newOutputMappings = new HashMap<>();
+        Map<Integer, Map<String, Object>> modelInputValues = new HashMap<>();
+        for (int documentIndex = 0; documentIndex < documents.size(); documentIndex++) {
+            IngestDocument ingestDocument = documents.get(documentIndex);
+            try {
+                Map<String, List<String>> newOutputMapping = getNewOutputMapping(ingestDocument, outputMapping);
+                if (newOutputMapping.size() == 0) {
+                    continue;
+                }
+                Map<String, Object> documentModelInputValues = new HashMap<>();
+                for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
+                    // model field as key, document field as value
+                    getMappedModelInputFromDocuments(ingestDocument, entry.getValue(), entry.getKey(), documentModelInputValues::put);
+                }
+                documentGroups.computeIfAbsent(documentModelInputValues.keySet(), k -> new ArrayList<>()).add(documentIndex);
+                newOutputMappings.put(documentIndex, newOutputMapping);
+                modelInputValues.put(documentIndex, documentModelInputValues);
+            } catch (Exception e) {
+                failures.compareAndSet(documentIndex, null, e);
+            }
+        }
+
+        if (documentGroups.isEmpty()) {
+            onCompleted.run();
+            return;
+        }
+        AtomicInteger pendingGroups = new AtomicInteger(documentGroups.size());
+        Runnable onGroupCompleted = () -> {
+            if (pendingGroups.decrementAndGet() == 0) {
+                onCompleted.run();
+            }
+        };
+        for (Map.Entry<Set<String>, List<Integer>> documentGroup : documentGroups.entrySet()) {
+            predictDocumentGroup(
+                documents,
+                documentGroup.getValue(),
+                documentGroup.getKey(),
+                newOutputMappings,
+                modelInputValues,
+                failures,
+                outputMapping,
+                onGroupCompleted
+            );
+        }
+    }
+
+    /**
+     * Makes one prediction for a group of documents mapping the same model input fields: every model input field is
+     * the array of the values of the documents, and every model output field must hold one result per document.
+     * A group of one document is predicted the same way, as an array of one value.
+     *
+     * @param documents            The documents of the batch.
+     * @param groupDocuments       The indices of the documents of the group.
+     * @param modelInputFieldNames The model input fields mapped by the documents of the group.
+     * @param newOutputMappings    The document fields to write of each document.
+     * @param modelInputValues     The model input values of each document.
+     * @param failures             The first failure of each document.
+     * @param outputMapping        The output mapping of the current input map, document field as key.
+     * @param onCompleted          Called once the documents of the group are processed.
+     */
+    private void predictDocumentGroup(
+        List<IngestDocument> documents,
+        List<Integer> groupDocuments,
+        Set<String> modelInputFieldNames,
+        Map<Integer, Map<String, List<String>>> newOutputMappings,
+        Map<Integer, Map<String, Object>> modelInputValues,
+        AtomicReferenceArray<Exception> failures,
+        Map<String, String> outputMapping,
+        Runnable onCompleted
+    ) {
+        Consumer<Exception> failGroup = e -> {
+            for (int documentIndex : groupDocuments) {
+                failures.compareAndSet(documentIndex, null, e);
+            }
+            onCompleted.run();
+        };
+
+        ActionRequest request;
+        try {
+            Map<String, String> modelParameters = new HashMap<>();
+            Map<String, String> modelConfigs = new HashMap<>();
+            if (inferenceProcessorAttributes.getModelConfigMaps() != null) {
+                modelParameters.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+                modelConfigs.putAll(inferenceProcessorAttributes.getModelConfigMaps());
+            }
+            Map<String, String> inputMappings = new HashMap<>();
+            for (String modelInputFieldName : modelInputFieldNames) {
+                List<Object> modelInputFieldValues = new ArrayList<>(groupDocuments.size());
+                for (int documentIndex : groupDocuments) {
+                    modelInputFieldValues.add(modelInputValues.get(documentIndex).get(modelInputFieldName));
+                }
+                String modelInputFieldValuesAsString = toString(modelInputFieldValues);
+                modelParameters.put(modelInputFieldName, modelInputFieldValuesAsString);
+                if (!modelConfigs.containsKey(modelInputFieldName)) {
+                    inputMappings.put(modelInputFieldName, modelInputFieldValuesAsString);
+                }
+            }
+            request = getMLModelInferenceRequest(
+                xContentRegistry,
+                modelParameters,
+                modelConfigs,
+                inputMappings,
+                inferenceProcessorAttributes.getModelId(),
+                functionName,
+                modelInput
+            );
+        } catch (Exception e) {
+            failGroup.accept(e);
+            return;
+        }
+
+        client.execute(MLPredictionTaskAction.INSTANCE, request, ActionListener.wrap(mlTaskResponse -> {
+            MLOutput mlOutput = mlTaskResponse.getOutput();
+            if (mlOutput == null) {
+                failGroup.accept(new RuntimeException("model inference output is null"));
+                return;
+            }
+            // document field as key, model output array as value
+            Map<String, List<?>> modelOutputValues = new HashMap<>();
+            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+                Object modelOutputValue;
+                try {
+                    modelOutputValue = getModelOutputValue(mlOutput, entry.getValue(), ignoreMissing, fullResponsePath);
+                } catch (Exception e) {
+                    failGroup.accept(e);
+                    return;
+                }
+                if (!(modelOutputValue instanceof List) || ((List<?>) modelOutputValue).size() != groupDocuments.size()) {
+                    // fail the documents rather than predicting each of them again, which would double the cost of the batch
+                    failGroup
+                        .accept(
+                            new IllegalArgumentException(
+                                "model output "
+                                    + entry.getValue()
+                                    + " doesn't hold one result for each of the "
+                                    + groupDocuments.size()
+                                    + " documents of the batch"
+                            )
+                        );
+                    return;
+                }
+                modelOutputValues.put(entry.getKey(), (List<?>) modelOutputValue);
+            }
+
+            for (int i = 0; i < groupDocuments.size(); i++) {
+                int documentIndex = groupDocuments.get(i);
+                try {
+                    for (String newDocumentFieldName : newOutputMappings.get(documentIndex).keySet()) {
+                        appendFieldValue(
+                            modelOutputValues.get(newDocumentFieldName).get(i),
+                            outputMapping.get(newDocumentFieldName),
+                            newDocumentFieldName,
+                            documents.get(documentIndex)
+                        );
+                    }
+                } catch (Exception e) {
+                    failures.compareAndSet(documentIndex, null, e);
+                }
+            }
+            onCompleted.run();
+        }, failGroup::accept));
+    }
+
     /**
      * process predictions for one model for multiple rounds of predictions
      * ingest documents after prediction rounds are completed,
@@ -169,7 +471,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      * "inference_results" field (the same format as predict API)
      *
      * @param ingestDocument          The IngestDocument object containing the data to be processed.
-     * @param batchPredictionListener The GroupedActionListener for batch prediction.
+     * @param batchPredictionListener The listener for batch prediction.
      * @param processInputMap         A list of maps containing input field mappings.
      * @param processOutputMap        A list of maps containing output field mappings.
      * @param inputMapIndex           The current index of the inputMap.
@@ -177,7 +479,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
      */
     private void processPredictions(
         IngestDocument ingestDocument,
-        GroupedActionListener<Void> batchPredictionListener,
+        ActionListener<Void> batchPredictionListener,
         List<Map<String, String>> processInputMap,
         List<Map<String, String>> processOutputMap,
         int inputMapIndex,
@@ -191,45 +493,23 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
             modelConfigs.putAll(inferenceProcessorAttributes.getModelConfigMaps());
         }
 
-        Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
-        ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
-        ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
-
-        Map<String, List<String>> newOutputMapping = new HashMap<>();
-        if (processOutputMap != null) {
-
-            Map<String, String> outputMapping = processOutputMap.get(inputMapIndex);
-            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                String newDocumentFieldName = entry.getKey();
-                List<String> dotPathsInArray = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
-                newOutputMapping.put(newDocumentFieldName, dotPathsInArray);
-            }
-
-            for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
-                String newDocumentFieldName = entry.getKey();
-                List<String> dotPaths = newOutputMapping.get(newDocumentFieldName);
-
-                int existingFields = 0;
-                for (String path : dotPaths) {
-                    if (ingestDocument.hasField(path)) {
-                        existingFields++;
-                    }
-                }
-                if (!override && existingFields == dotPaths.size()) {
-                    logger.debug("{} already exists in the ingest document. Removing it from output mapping", newDocumentFieldName);
-                    newOutputMapping.remove(newDocumentFieldName);
-                }
-            }
-            if (newOutputMapping.size() == 0) {
-                batchPredictionListener.onResponse(null);
-                return;
-            }
+        Map<String, List<String>> newOutputMapping = processOutputMap == null
+            ? new HashMap<>()
+            : getNewOutputMapping(ingestDocument, processOutputMap.get(inputMapIndex));
+        if (processOutputMap != null && newOutputMapping.size() == 0) {
+            batchPredictionListener.onResponse(null);
+            return;
         }
         // when no input mapping is provided, default to read all fields from documents as model input
         if (inputMapSize == 0) {
             Set<String> documentFields = ingestDocument.getSourceAndMetadata().keySet();
             for (String field : documentFields) {
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, field, field);
+                getMappedModelInputFromDocuments(
+                    ingestDocument,
+                    field,
+                    field,
+                    (modelInputFieldName, value) -> updateModelParameters(modelInputFieldName, toString(value), modelParameters)
+                );
             }
 
         } else {
@@ -238,7 +518,12 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 // model field as key, document field as value
                 String modelInputFieldName = entry.getKey();
                 String documentFieldName = entry.getValue();
-                getMappedModelInputFromDocuments(ingestDocument, modelParameters, documentFieldName, modelInputFieldName);
+                getMappedModelInputFromDocuments(
+                    ingestDocument,
+                    documentFieldName,
+                    modelInputFieldName,
+                    (modelInputField, value) -> updateModelParameters(modelInputField, toString(value), modelParameters)
+                );
             }
         }
 
@@ -293,42 +578,77 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
     }
 
     /**
-     * Retrieves the mapped model input from the IngestDocument and updates the model parameters.
+     * Returns the documents fields whose prediction needs to be written, with their dot paths.
+     * A field is skipped when it already exists in the document and override is false.
+     *
+     * @param ingestDocument The IngestDocument object containing the data.
+     * @param outputMapping  The output mapping of the current input map, document field as key.
+     * @return the document fields to write as key, their dot paths as value
+     */
+    private Map<String, List<String>> getNewOutputMapping(IngestDocument ingestDocument, Map<String, String> outputMapping) {
+        Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
+        ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
+        ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
+
+        Map<String, List<String>> newOutputMapping = new HashMap<>();
+        for (Map.Entry<String, String> entry : outputMapping.entrySet()) {
+            String newDocumentFieldName = entry.getKey();
+            List<String> dotPaths = writeNewDotPathForNestedObject(ingestDocumentSourceAndMetaData, newDocumentFieldName);
+
+            int existingFields = 0;
+            for (String path : dotPaths) {
+                if (ingestDocument.hasField(path)) {
+                    existingFields++;
+                }
+            }
+            if (!override && existingFields == dotPaths.size()) {
+                logger.debug("{} already exists in the ingest document. Removing it from output mapping", newDocumentFieldName);
+                continue;
+            }
+            newOutputMapping.put(newDocumentFieldName, dotPaths);
+        }
+        return newOutputMapping;
+    }
+
+    /**
+     * Retrieves the mapped model input from the IngestDocument and passes it to the model input consumer.
      *
      * @param ingestDocument      The IngestDocument object containing the data.
-     * @param modelParameters     The map to store the model parameters.
      * @param documentFieldName   The name of the field in the IngestDocument.
      * @param modelInputFieldName The name of the model input field.
+     * @param modelInputConsumer  The consumer of the model input field name and its value.
      */
     private void getMappedModelInputFromDocuments(
         IngestDocument ingestDocument,
-        Map<String, String> modelParameters,
         String documentFieldName,
-        String modelInputFieldName
+        String modelInputFieldName,
+        BiConsumer<String, Object> modelInputConsumer
     ) {
         // if users used standard dot path, try getFieldPath from document
         String originalFieldPath = getFieldPath(ingestDocument, documentFieldName);
         if (originalFieldPath != null) {
             Object documentFieldValue = ingestDocument.getFieldValue(originalFieldPath, Object.class);
-            String documentFieldValueAsString = toString(documentFieldValue);
-            updateModelParameters(modelInputFieldName, documentFieldValueAsString, modelParameters);
+            modelInputConsumer.accept(modelInputFieldName, documentFieldValue);
             return;
         }
         // If the standard dot path fails, try to check for a nested array using JSON path
         if (StringUtils.isValidJSONPath(documentFieldName)) {
             Map<String, Object> sourceObject = ingestDocument.getSourceAndMetadata();
-            Object fieldValue = JsonPath.using(suppressExceptionConfiguration).parse(sourceObject).read(documentFieldName);
+            Object fieldValue = JsonPath
+                .using(suppressExceptionConfiguration)
+                .parse(sourceObject)
+                .read(JsonPathCache.compile(documentFieldName));
 
             if (fieldValue != null) {
                 if (fieldValue instanceof List) {
                     List<?> fieldValueList = (List<?>) fieldValue;
                     if (!fieldValueList.isEmpty()) {
-                        updateModelParameters(modelInputFieldName, toString(fieldValueList), modelParameters);
+                        modelInputConsumer.accept(modelInputFieldName, fieldValueList);
                     } else if (!ignoreMissing) {
                         throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
                     }
                 } else {
-                    updateModelParameters(modelInputFieldName, toString(fieldValue), modelParameters);
+                    modelInputConsumer.accept(modelInputFieldName, fieldValue);
                 }
             } else if (!ignoreMissing) {
                 throw new IllegalArgumentException("Cannot find field name defined from input map: " + documentFieldName);
@@ -396,7 +716,23 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
         }
 
         Object modelOutputValue = getModelOutputValue(mlOutput, modelOutputFieldName, ignoreMissing, fullResponsePath);
+        appendFieldValue(modelOutputValue, modelOutputFieldName, newDocumentFieldName, ingestDocument);
+    }
 
+    /**
+     * Appends a model output value to the specified field in the IngestDocument without modifying the source.
+     *
+     * @param modelOutputValue     the model output value
+     * @param modelOutputFieldName the name of the field in the model output
+     * @param newDocumentFieldName the name of the field in the IngestDocument to append the value to
+     * @param ingestDocument       the IngestDocument to append the value to
+     */
+    private void appendFieldValue(
+        Object modelOutputValue,
+        String modelOutputFieldName,
+        String newDocumentFieldName,
+        IngestDocument ingestDocument
+    ) {
         Map<String, Object> ingestDocumentSourceAndMetaData = new HashMap<>();
         ingestDocumentSourceAndMetaData.putAll(ingestDocument.getSourceAndMetadata());
         ingestDocumentSourceAndMetaData.put(IngestDocument.INGEST_KEY, ingestDocument.getIngestMetadata());
@@ -489,6 +825,10 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 .readStringProperty(TYPE, processorTag, config, FUNCTION_NAME, FunctionName.REMOTE.name());
 
             String modelInput = ConfigurationUtils.readOptionalStringProperty(TYPE, processorTag, config, MODEL_INPUT);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch_size of ML Inference Processor must be a positive integer.");
+            }
 
             // if model input is not provided for remote models, use default value
             if (functionName.equalsIgnoreCase("remote")) {
@@ -536,6 +876,7 @@ public class MLInferenceIngestProcessor extends AbstractProcessor implements Mod
                 ignoreFailure,
                 override,
                 modelInput,
+                batchSize,
                 scriptService,
                 client,
                 xContentRegistry
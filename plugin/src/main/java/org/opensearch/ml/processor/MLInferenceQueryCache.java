@@ -0,0 +1,172 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.processor;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.opensearch.ml.common.output.MLOutput;
+
+/**
+ * Node level cache of the model outputs of the ml_inference search request processors, so a query repeated by many
+ * searches, like a popular query text to embed, is predicted once.
+ * <p>
+ * Outputs are keyed by the model id and the canonical model input of the prediction, which includes the user and
+ * roles of the caller: a hit skips the access checks of the prediction, so a user only reuses outputs of predictions
+ * they were allowed to make. The cache holds at most {@link #setMaxEntries max entries}, evicting the least recently
+ * used first, and entries expire after {@link #setExpireAfterMillis the time to live}. Undeploying or updating a model
+ * invalidates its outputs on every node, and changing the access of a model group clears the cache. A max entries of 0
+ * disables the cache. Cached outputs are shared by the concurrent searches, processors must not modify them.
+ */
+public class MLInferenceQueryCache {
+    // access ordered, the eldest entry is the least recently used
+    private final LinkedHashMap<Key, CachedOutput> outputs = new LinkedHashMap<>(16, 0.75f, true);
+    // bumped by every invalidation, an output predicted before an invalidation is not cached
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final LongSupplier clock;
+    private volatile int maxEntries;
+    private volatile long expireAfterMillis;
+
+    public MLInferenceQueryCache() {
+        this(System::currentTimeMillis);
+    }
+
+    MLInferenceQueryCache(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public synchronized void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+        evict();
+    }
+
+    public void setExpireAfterMillis(long expireAfterMillis) {
+        this.expireAfterMillis = expireAfterMillis;
+    }
+
+    public boolean isEnabled() {
+        return maxEntries > 0;
+    }
+
+    /**
+     * @return the current generation of the cache, to pass to {@link #put} once the model output is predicted
+     */
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * @param modelId model id
+     * @param modelInput canonical model input
+     * @return the cached model output, null if it is not cached, expired or the cache is disabled
+     */
+    public synchronized MLOutput get(String modelId, String modelInput) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Key key = new Key(modelId, modelInput);
+        CachedOutput cached = outputs.get(key);
+        if (cached != null && clock.getAsLong() - cached.cachedAtMillis >= expireAfterMillis) {
+            outputs.remove(key);
+            cached = null;
+        }
+        if (cached == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return cached.output;
+    }
+
+    /**
+     * Cache the output of a prediction.
+     * @param modelId model id
+     * @param modelInput canonical model input
+     * @param output the model output
+     * @param predictGeneration generation of the cache before the prediction was sent
+     */
+    public synchronized void put(String modelId, String modelInput, MLOutput output, long predictGeneration) {
+        if (!isEnabled() || generation.get() != predictGeneration) {
+            // invalidated while it was predicted, the output may come from the previous model
+            return;
+        }
+        outputs.put(new Key(modelId, modelInput), new CachedOutput(output, clock.getAsLong()));
+        evict();
+    }
+
+    public synchronized void invalidate(String modelId) {
+        generation.incrementAndGet();
+        outputs.keySet().removeIf(key -> key.modelId.equals(modelId));
+    }
+
+    public synchronized void clear() {
+        generation.incrementAndGet();
+        outputs.clear();
+    }
+
+    public synchronized int size() {
+        return outputs.size();
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Key, CachedOutput>> iterator = outputs.entrySet().iterator();
+        while (outputs.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static class Key {
+        private final String modelId;
+        private final String modelInput;
+
+        private Key(String modelId, String modelInput) {
+            this.modelId = modelId;
+            this.modelInput = modelInput;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return modelId.equals(key.modelId) && modelInput.equals(key.modelInput);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(modelId, modelInput);
+        }
+    }
+
+    private static class CachedOutput {
+        private final MLOutput output;
+        private final long cachedAtMillis;
+
+        private CachedOutput(MLOutput output, long cachedAtMillis) {
+            this.output = output;
+            this.cachedAtMillis = cachedAtMillis;
+        }
+    }
+}
@@ -18,6 +18,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
 import org.apache.commons.text.StringSubstitutor;
 import org.apache.logging.log4j.LogManager;
@@ -28,6 +30,7 @@ import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
@@ -36,7 +39,9 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.utils.JsonPathCache;
 import org.opensearch.ml.common.utils.StringUtils;
+import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.AbstractProcessor;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
@@ -44,6 +49,7 @@ import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchRequestProcessor;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.ReadContext;
@@ -63,6 +69,7 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
     private final boolean fullResponsePath;
     private final boolean ignoreFailure;
     private final String modelInput;
+    private final MLInferenceQueryCache queryCache;
     private static Client client;
     public static final String TYPE = "ml_inference";
     // allow to ignore a field from mapping is not present in the query, and when the output field is not found in the
@@ -93,6 +100,44 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
         String modelInput,
         Client client,
         NamedXContentRegistry xContentRegistry
+    ) {
+        this(
+            modelId,
+            queryTemplate,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            modelInput,
+            client,
+            xContentRegistry,
+            new MLInferenceQueryCache()
+        );
+    }
+
+    protected MLInferenceSearchRequestProcessor(
+        String modelId,
+        String queryTemplate,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        String modelInput,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        MLInferenceQueryCache queryCache
     ) {
         super(tag, description, ignoreFailure);
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
@@ -110,6 +155,7 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
         this.modelInput = modelInput;
         this.client = client;
         this.xContentRegistry = xContentRegistry;
+        this.queryCache = queryCache;
     }
 
     /**
@@ -274,12 +320,13 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             }
 
             private void updateIncomeQueryObject(Object incomeQueryObject, Map<String, String> outputMapping, MLOutput mlOutput) {
+                DocumentContext incomeQueryContext = JsonPath.parse(incomeQueryObject);
                 for (Map.Entry<String, String> outputMapEntry : outputMapping.entrySet()) {
                     String newQueryField = outputMapEntry.getKey();
                     String modelOutputFieldName = outputMapEntry.getValue();
                     Object modelOutputValue = getModelOutputValue(mlOutput, modelOutputFieldName, ignoreMissing, fullResponsePath);
                     String jsonPathExpression = "$." + newQueryField;
-                    JsonPath.parse(incomeQueryObject).set(jsonPathExpression, modelOutputValue);
+                    incomeQueryContext.set(JsonPathCache.compile(jsonPathExpression), modelOutputValue);
                 }
             }
 
@@ -348,7 +395,7 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             for (Map.Entry<String, String> entry : inputMap.entrySet()) {
                 // the inputMap takes in model input as keys and query fields as value
                 String queryField = entry.getValue();
-                Object pathData = jsonData.read(queryField);
+                Object pathData = jsonData.read(JsonPathCache.compile(queryField));
                 if (pathData == null) {
                     throw new IllegalArgumentException("cannot find field: " + queryField + " in query string: " + jsonData.jsonString());
                 }
@@ -358,7 +405,7 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             for (Map<String, String> outputMap : processOutputMap) {
                 for (Map.Entry<String, String> entry : outputMap.entrySet()) {
                     String queryField = entry.getKey();
-                    Object pathData = jsonData.read(queryField);
+                    Object pathData = jsonData.read(JsonPathCache.compile(queryField));
                     if (pathData == null) {
                         throw new IllegalArgumentException(
                             "cannot find field: " + queryField + " in query string: " + jsonData.jsonString()
@@ -397,12 +444,12 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
 
         if (processInputMap != null) {
             inputMapping = processInputMap.get(inputMapIndex);
-            Object newQuery = JsonPath.parse(queryString).read("$");
+            ReadContext queryContext = JsonPath.parse(queryString);
             for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
                 // model field as key, query field name as value
                 String modelInputFieldName = entry.getKey();
                 String queryFieldName = entry.getValue();
-                String queryFieldValue = StringUtils.toJson(JsonPath.parse(newQuery).read(queryFieldName));
+                String queryFieldValue = StringUtils.toJson(queryContext.read(JsonPathCache.compile(queryFieldName)));
                 modelParameters.put(modelInputFieldName, queryFieldValue);
             }
         }
@@ -415,12 +462,25 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             inputMappings.put(k, modelParameters.get(k));
         }
 
+        String modelId = inferenceProcessorAttributes.getModelId();
+        String cacheKey = queryCache.isEnabled() ? getQueryCacheKey(modelParameters, modelConfigs) : null;
+        long cacheGeneration = queryCache.getGeneration();
+        if (cacheKey != null) {
+            MLOutput cachedOutput = queryCache.get(modelId, cacheKey);
+            if (cachedOutput != null) {
+                Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
+                mlOutputMap.put(inputMapIndex, cachedOutput);
+                batchPredictionListener.onResponse(mlOutputMap);
+                return;
+            }
+        }
+
         ActionRequest request = getMLModelInferenceRequest(
             xContentRegistry,
             modelParameters,
             modelConfigs,
             inputMappings,
-            inferenceProcessorAttributes.getModelId(),
+            modelId,
             functionName,
             modelInput
         );
@@ -430,6 +490,9 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
             @Override
             public void onResponse(MLTaskResponse mlTaskResponse) {
                 MLOutput mlOutput = mlTaskResponse.getOutput();
+                if (cacheKey != null && mlOutput != null) {
+                    queryCache.put(modelId, cacheKey, mlOutput, cacheGeneration);
+                }
                 Map<Integer, MLOutput> mlOutputMap = new HashMap<>();
                 mlOutputMap.put(inputMapIndex, mlOutput);
                 batchPredictionListener.onResponse(mlOutputMap);
@@ -443,6 +506,32 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
 
     }
 
+    /**
+     * Builds the canonical model input of a prediction, the same for every query that sends the same request to the
+     * model: the parameters are sorted by name and the query values are serialized to JSON.
+     * <p>
+     * A cache hit skips the access checks of the prediction, so the key is scoped by the user and their roles: a user
+     * only reuses outputs of predictions they were allowed to make.
+     *
+     * @param modelParameters the model config and the query values of the input map
+     * @param modelConfigs    the model config
+     * @return the key of the model output in the query cache
+     */
+    private String getQueryCacheKey(Map<String, String> modelParameters, Map<String, String> modelConfigs) {
+        Map<String, Object> cacheKey = new TreeMap<>();
+        User user = RestActionUtils.getUserContext(client);
+        if (user != null) {
+            cacheKey.put("user", user.getName());
+            cacheKey.put("backend_roles", new TreeSet<>(user.getBackendRoles()));
+            cacheKey.put("roles", new TreeSet<>(user.getRoles()));
+        }
+        cacheKey.put(FUNCTION_NAME, functionName);
+        cacheKey.put(MODEL_INPUT, modelInput);
+        cacheKey.put(MODEL_CONFIG, new TreeMap<>(modelConfigs));
+        cacheKey.put("parameters", new TreeMap<>(modelParameters));
+        return StringUtils.toJson(cacheKey);
+    }
+
     /**
      * Creates a SearchSourceBuilder instance from the given query string.
      *
@@ -481,16 +570,29 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
     public static class Factory implements Processor.Factory<SearchRequestProcessor> {
         private final Client client;
         private final NamedXContentRegistry xContentRegistry;
+        private final MLInferenceQueryCache queryCache;
 
         /**
-         * Constructs a new instance of the Factory class.
+         * Constructs a new instance of the Factory class, with the query cache disabled.
          *
          * @param client           the Client instance to be used by the Factory
          * @param xContentRegistry the xContentRegistry instance to be used by the Factory
          */
         public Factory(Client client, NamedXContentRegistry xContentRegistry) {
+            this(client, xContentRegistry, new MLInferenceQueryCache());
+        }
+
+        /**
+         * Constructs a new instance of the Factory class.
+         *
+         * @param client           the Client instance to be used by the Factory
+         * @param xContentRegistry the xContentRegistry instance to be used by the Factory
+         * @param queryCache       the node level cache of the model outputs shared by the processors
+         */
+        public Factory(Client client, NamedXContentRegistry xContentRegistry, MLInferenceQueryCache queryCache) {
             this.client = client;
             this.xContentRegistry = xContentRegistry;
+            this.queryCache = queryCache;
         }
 
         /**
@@ -571,7 +673,8 @@ public class MLInferenceSearchRequestProcessor extends AbstractProcessor impleme
                 ignoreFailure,
                 modelInput,
                 client,
-                xContentRegistry
+                xContentRegistry,
+                queryCache
             );
         }
     }
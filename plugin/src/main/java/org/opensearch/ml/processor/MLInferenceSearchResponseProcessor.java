@@ -12,10 +12,13 @@ import static org.opensearch.ml.processor.InferenceProcessorAttributes.MAX_PREDI
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_CONFIG;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_ID;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.OUTPUT_MAP;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.DEFAULT_BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.OVERRIDE;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -47,6 +50,7 @@ import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.utils.JsonPathCache;
 import org.opensearch.ml.common.utils.StringUtils;
 import org.opensearch.ml.utils.MapUtils;
 import org.opensearch.ml.utils.SearchResponseUtil;
@@ -57,6 +61,7 @@ import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
 
 public class MLInferenceSearchResponseProcessor extends AbstractProcessor implements SearchResponseProcessor, ModelExecutor {
 
@@ -69,6 +74,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
     private final boolean override;
     private final boolean fullResponsePath;
     private final boolean oneToOne;
+    private final int batchSize;
     private final boolean ignoreFailure;
     private final String modelInput;
     private static Client client;
@@ -106,9 +112,50 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         Client client,
         NamedXContentRegistry xContentRegistry,
         boolean oneToOne
+    ) {
+        this(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            maxPredictionTask,
+            tag,
+            description,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            client,
+            xContentRegistry,
+            oneToOne,
+            DEFAULT_BATCH_SIZE
+        );
+    }
+
+    protected MLInferenceSearchResponseProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        int maxPredictionTask,
+        String tag,
+        String description,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        Client client,
+        NamedXContentRegistry xContentRegistry,
+        boolean oneToOne,
+        int batchSize
     ) {
         super(tag, description, ignoreFailure);
         this.oneToOne = oneToOne;
+        this.batchSize = batchSize;
         this.inferenceProcessorAttributes = new InferenceProcessorAttributes(
             modelId,
             inputMaps,
@@ -139,6 +186,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * executes the same rewriteResponseDocument method for each one-hit search response,
      * and after receiving N one-hit search responses with inference results,
      * it combines them back into a single N-hits search response.
+     * With a batch_size larger than 1, one document per inference runs in batches of batch_size hits instead,
+     * see rewriteResponseDocumentsInBatches.
      *
      * @param request          the search request
      * @param response         the search response
@@ -186,26 +235,12 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 }
 
                 rewriteResponseDocuments(mlInferenceSearchResponse, responseListener, queryString);
+            } else if (batchSize > 1) {
+                // if one to one in batches, make one search response per batch of hits and run rewriteResponseDocuments
+                rewriteResponseDocumentsInBatches(response, responseListener, hits, queryString);
             } else {
                 // if one to one, make one hit search response and run rewriteResponseDocuments
-                GroupedActionListener<SearchResponse> combineResponseListener = getCombineResponseGroupedActionListener(
-                    response,
-                    responseListener,
-                    hits
-                );
-                AtomicBoolean isOneHitListenerFailed = new AtomicBoolean(false);
-                ;
-                for (SearchHit hit : hits) {
-                    SearchHit[] newHits = new SearchHit[1];
-                    newHits[0] = hit;
-                    SearchResponse oneHitResponse = SearchResponseUtil.replaceHits(newHits, response);
-                    ActionListener<SearchResponse> oneHitListener = getOneHitListener(combineResponseListener, isOneHitListenerFailed);
-                    rewriteResponseDocuments(oneHitResponse, oneHitListener, queryString);
-                    // if any OneHitListener failure, try stop the rest of the predictions
-                    if (isOneHitListenerFailed.get()) {
-                        break;
-                    }
-                }
+                rewriteEachResponseDocument(response, responseListener, hits, queryString);
             }
 
         } catch (Exception e) {
@@ -231,6 +266,100 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         }
     }
 
+    /**
+     * Rewrites each hit of the search response with its own predictions, by running rewriteResponseDocuments
+     * on one-hit search responses and combining them back into a single search response.
+     *
+     * @param response         the search response
+     * @param responseListener the listener to be notified when the response is processed
+     * @param hits             the hits of the search response
+     * @param queryString      the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @throws IOException if an I/O error occurs during the rewriting process
+     */
+    private void rewriteEachResponseDocument(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        SearchHit[] hits,
+        String queryString
+    ) throws IOException {
+        GroupedActionListener<SearchResponse> combineResponseListener = getCombineResponseGroupedActionListener(
+            response,
+            responseListener,
+            hits
+        );
+        AtomicBoolean isOneHitListenerFailed = new AtomicBoolean(false);
+        for (SearchHit hit : hits) {
+            SearchHit[] newHits = new SearchHit[1];
+            newHits[0] = hit;
+            SearchResponse oneHitResponse = SearchResponseUtil.replaceHits(newHits, response);
+            ActionListener<SearchResponse> oneHitListener = getOneHitListener(combineResponseListener, isOneHitListenerFailed);
+            rewriteResponseDocuments(oneHitResponse, oneHitListener, queryString);
+            // if any OneHitListener failure, try stop the rest of the predictions
+            if (isOneHitListenerFailed.get()) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Rewrites the hits of the search response in batches of batch_size hits, when processing one document per inference.
+     * Every input map makes one prediction per batch, where the document fields of the hits are collected into arrays
+     * as in many to one inference, and the model output arrays are mapped back to the hits by position.
+     * A batch falls back to one prediction per hit when the model returns fewer or more results than hits.
+     *
+     * @param response         the search response
+     * @param responseListener the listener to be notified when the response is processed
+     * @param hits             the hits of the search response
+     * @param queryString      the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @throws IOException if an I/O error occurs during the rewriting process
+     */
+    private void rewriteResponseDocumentsInBatches(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        SearchHit[] hits,
+        String queryString
+    ) throws IOException {
+        SearchHit[] combinedHits = new SearchHit[hits.length];
+        GroupedActionListener<Void> combineBatchListener = new GroupedActionListener<>(ActionListener.wrap(voids -> {
+            SearchResponse oneToOneInferenceSearchResponse = SearchResponseUtil.replaceHits(combinedHits, response);
+            responseListener.onResponse(oneToOneInferenceSearchResponse);
+        }, e -> {
+            if (ignoreFailure) {
+                responseListener.onResponse(response);
+            } else {
+                responseListener.onFailure(e);
+            }
+        }), (hits.length + batchSize - 1) / batchSize);
+        AtomicBoolean isBatchListenerFailed = new AtomicBoolean(false);
+
+        for (int from = 0; from < hits.length; from += batchSize) {
+            int batchStart = from;
+            SearchHit[] batchHits = Arrays.copyOfRange(hits, from, Math.min(from + batchSize, hits.length));
+            SearchResponse batchResponse = SearchResponseUtil.replaceHits(batchHits, response);
+            // keep the hits of each batch at their position, batches complete in any order
+            ActionListener<SearchResponse> batchListener = ActionListener.wrap(batchResponseAfterInference -> {
+                SearchHit[] hitsAfterInference = batchResponseAfterInference.getHits().getHits();
+                System.arraycopy(hitsAfterInference, 0, combinedHits, batchStart, hitsAfterInference.length);
+                combineBatchListener.onResponse(null);
+            }, e -> {
+                // if any batch failure, try stop the rest of the predictions and return
+                isBatchListenerFailed.compareAndSet(false, true);
+                combineBatchListener.onFailure(e);
+            });
+            rewriteResponseDocuments(batchResponse, batchListener, queryString, () -> {
+                logger.debug("The model returned fewer results than hits, predicting each hit of the batch");
+                try {
+                    rewriteEachResponseDocument(batchResponse, batchListener, batchHits, queryString);
+                } catch (Exception e) {
+                    batchListener.onFailure(e);
+                }
+            });
+            if (isBatchListenerFailed.get()) {
+                break;
+            }
+        }
+    }
+
     /**
      * Creates an ActionListener for a single SearchResponse that delegates its
      * onResponse and onFailure callbacks to a GroupedActionListener.
@@ -312,6 +441,27 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      */
     private void rewriteResponseDocuments(SearchResponse response, ActionListener<SearchResponse> responseListener, String queryString)
         throws IOException {
+        rewriteResponseDocuments(response, responseListener, queryString, null);
+    }
+
+    /**
+     * Rewrite the documents in the search response with the inference results.
+     * When onResultCountMismatch is set, the document fields of the hits are collected into arrays, and
+     * onResultCountMismatch is called instead of rewriting the documents if a model output is not an array
+     * holding one result per hit.
+     *
+     * @param response              the search response
+     * @param responseListener      the listener to be notified when the response is processed
+     * @param queryString           the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @param onResultCountMismatch called when the model doesn't return one result per hit, null to rewrite the documents anyway
+     * @throws IOException if an I/O error occurs during the rewriting process
+     */
+    private void rewriteResponseDocuments(
+        SearchResponse response,
+        ActionListener<SearchResponse> responseListener,
+        String queryString,
+        Runnable onResultCountMismatch
+    ) throws IOException {
         List<Map<String, String>> processInputMap = inferenceProcessorAttributes.getInputMaps();
         List<Map<String, String>> processOutputMap = inferenceProcessorAttributes.getOutputMaps();
         int inputMapSize = (processInputMap == null) ? 0 : processInputMap.size();
@@ -324,7 +474,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
             responseListener,
             processInputMap,
             processOutputMap,
-            hitCountInPredictions
+            hitCountInPredictions,
+            onResultCountMismatch
         );
 
         GroupedActionListener<Map<Integer, MLOutput>> batchPredictionListener = createBatchPredictionListener(
@@ -333,7 +484,15 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         );
         SearchHit[] hits = response.getHits().getHits();
         for (int inputMapIndex = 0; inputMapIndex < max(inputMapSize, 1); inputMapIndex++) {
-            processPredictions(hits, processInputMap, inputMapIndex, batchPredictionListener, hitCountInPredictions, queryString);
+            processPredictions(
+                hits,
+                processInputMap,
+                inputMapIndex,
+                batchPredictionListener,
+                hitCountInPredictions,
+                queryString,
+                onResultCountMismatch != null
+            );
         }
     }
 
@@ -346,6 +505,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * @param batchPredictionListener the listener to be notified when the predictions are processed
      * @param hitCountInPredictions   a map to keep track of the count of hits that have the required input fields for each round of prediction
      * @param queryString             the query body in string format, for example, "{ \"query\": { \"match_all\": {} } }\n"
+     * @param batched                 whether the hits are one to one inference in a batch
      * @throws IOException if an I/O error occurs during the prediction process
      */
     private void processPredictions(
@@ -354,7 +514,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         int inputMapIndex,
         GroupedActionListener<Map<Integer, MLOutput>> batchPredictionListener,
         Map<Integer, Integer> hitCountInPredictions,
-        String queryString
+        String queryString,
+        boolean batched
     ) throws IOException {
 
         Map<String, String> modelParameters = new HashMap<>();
@@ -382,11 +543,14 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 }
             }
 
+            // parse the query once for all hits, documents are maps and only wrapped for reading
+            ReadContext queryContext = null;
             for (SearchHit hit : hits) {
                 Map<String, Object> document = hit.getSourceAsMap();
                 boolean isDocumentFieldMissing = checkIsDocumentFieldMissing(document, inputMapping);
                 if (!isDocumentFieldMissing) {
                     MapUtils.incrementCounter(hitCountInPredictions, inputMapIndex);
+                    ReadContext documentContext = JsonPath.using(suppressExceptionConfiguration).parse(document);
                     for (Map.Entry<String, String> entry : inputMapping.entrySet()) {
                         // model field as key, document field name as value
                         String modelInputFieldName = entry.getKey();
@@ -398,15 +562,18 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                             && !modelInputParameters.containsKey(modelInputFieldName)) {
                             String requestFieldName = documentFieldName.replaceFirst(REQUEST_PREFIX, "");
 
-                            Object queryText = JsonPath.using(suppressExceptionConfiguration).parse(queryString).read(requestFieldName);
+                            if (queryContext == null) {
+                                queryContext = JsonPath.using(suppressExceptionConfiguration).parse(queryString);
+                            }
+                            Object queryText = queryContext.read(JsonPathCache.compile(requestFieldName));
                             if (queryText != null) {
                                 modelInputParameters.put(modelInputFieldName, toJson(queryText));
                             }
                         } else {
-                            Object documentValue = JsonPath.using(suppressExceptionConfiguration).parse(document).read(documentFieldName);
+                            Object documentValue = documentContext.read(JsonPathCache.compile(documentFieldName));
                             if (documentValue != null) {
                                 // when not existed in the map, add into the modelInputParameters map
-                                updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
+                                updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue, batched);
                             }
                         }
                     }
@@ -433,7 +600,7 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                     Object documentValue = entry.getValue();
 
                     // when not existed in the map, add into the modelInputParameters map
-                    updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue);
+                    updateModelInputParameters(modelInputParameters, modelInputFieldName, documentValue, batched);
                 }
             }
         }
@@ -479,14 +646,20 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * Updates the model input parameters map with the given document value.
      * If the setting is one-to-one,
      * simply put the document value in the map
-     * If the setting is many-to-one,
+     * If the setting is many-to-one, or one-to-one in batches,
      * create a new list and add the document value
      * @param modelInputParameters The map containing the model input parameters.
      * @param modelInputFieldName The name of the model input field.
      * @param documentValue The value from the document that needs to be added to the model input parameters.
+     * @param batched Whether the hits are one to one inference in a batch.
      */
-    private void updateModelInputParameters(Map<String, Object> modelInputParameters, String modelInputFieldName, Object documentValue) {
-        if (!this.oneToOne) {
+    private void updateModelInputParameters(
+        Map<String, Object> modelInputParameters,
+        String modelInputFieldName,
+        Object documentValue,
+        boolean batched
+    ) {
+        if (!this.oneToOne || batched) {
             if (!modelInputParameters.containsKey(modelInputFieldName)) {
                 List<Object> documentValueList = new ArrayList<>();
                 documentValueList.add(documentValue);
@@ -537,6 +710,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
      * @param processInputMap       the list of input mappings
      * @param processOutputMap      the list of output mappings
      * @param hitCountInPredictions a map to keep track of the count of hits that have the required input fields for each round of prediction
+     * @param onResultCountMismatch called instead of rewriting the response when a model output holds fewer results than hits,
+     *                              null to rewrite the response anyway
      * @return an action listener for rewriting the response with the inference results
      */
     private ActionListener<Map<Integer, MLOutput>> createRewriteResponseListener(
@@ -544,11 +719,25 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         ActionListener<SearchResponse> responseListener,
         List<Map<String, String>> processInputMap,
         List<Map<String, String>> processOutputMap,
-        Map<Integer, Integer> hitCountInPredictions
+        Map<Integer, Integer> hitCountInPredictions,
+        Runnable onResultCountMismatch
     ) {
         return new ActionListener<>() {
             @Override
             public void onResponse(Map<Integer, MLOutput> multipleMLOutputs) {
+                if (onResultCountMismatch != null) {
+                    boolean hasOneResultPerHit;
+                    try {
+                        hasOneResultPerHit = hasOneResultPerHit(multipleMLOutputs, processOutputMap, hitCountInPredictions);
+                    } catch (Exception e) {
+                        onFailure(e);
+                        return;
+                    }
+                    if (!hasOneResultPerHit) {
+                        onResultCountMismatch.run();
+                        return;
+                    }
+                }
                 try {
                     Map<Integer, Map<String, Integer>> writeOutputMapDocCounter = new HashMap<>();
 
@@ -663,6 +852,49 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
         };
     }
 
+    /**
+     * Checks if every model output mapped to the hits is an array holding one result per hit of its prediction.
+     *
+     * @param multipleMLOutputs     the model output of each input map
+     * @param processOutputMap      the list of output mappings
+     * @param hitCountInPredictions the count of hits that have the required input fields for each round of prediction
+     * @return true if every model output holds one result per hit, false if a model output holds fewer results than hits
+     * @throws IllegalArgumentException if a model output holds more results than hits
+     */
+    private boolean hasOneResultPerHit(
+        Map<Integer, MLOutput> multipleMLOutputs,
+        List<Map<String, String>> processOutputMap,
+        Map<Integer, Integer> hitCountInPredictions
+    ) {
+        for (Map.Entry<Integer, MLOutput> entry : multipleMLOutputs.entrySet()) {
+            Integer mappingIndex = entry.getKey();
+            Integer hitCount = hitCountInPredictions.get(mappingIndex);
+            if (hitCount == null) {
+                // no hit has the input fields of this prediction, nothing to write
+                continue;
+            }
+            Map<String, String> outputMapping = getDefaultOutputMapping(mappingIndex, processOutputMap);
+            for (String modelOutputFieldName : outputMapping.values()) {
+                Object modelOutputValue = getModelOutputValue(entry.getValue(), modelOutputFieldName, ignoreMissing, fullResponsePath);
+                if (!(modelOutputValue instanceof List) || ((List) modelOutputValue).size() < hitCount) {
+                    return false;
+                }
+                if (((List) modelOutputValue).size() > hitCount) {
+                    throw new IllegalArgumentException(
+                        "model output "
+                            + modelOutputFieldName
+                            + " holds "
+                            + ((List) modelOutputValue).size()
+                            + " results for the "
+                            + hitCount
+                            + " hits of the batch"
+                    );
+                }
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if the document is missing any of the required input fields specified in the input mapping.
      * When model config contains the default model_input value, it's not considered as missing model input.
@@ -824,6 +1056,10 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 .readStringProperty(TYPE, processorTag, config, FUNCTION_NAME, FunctionName.REMOTE.name());
             boolean override = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, OVERRIDE, false);
             boolean oneToOne = ConfigurationUtils.readBooleanProperty(TYPE, processorTag, config, ONE_TO_ONE, false);
+            int batchSize = ConfigurationUtils.readIntProperty(TYPE, processorTag, config, BATCH_SIZE, DEFAULT_BATCH_SIZE);
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("The batch_size of ML Inference Processor must be a positive integer.");
+            }
 
             String modelInput = ConfigurationUtils.readOptionalStringProperty(TYPE, processorTag, config, MODEL_INPUT);
 
@@ -895,7 +1131,8 @@ public class MLInferenceSearchResponseProcessor extends AbstractProcessor implem
                 modelInput,
                 client,
                 xContentRegistry,
-                oneToOne
+                oneToOne,
+                batchSize
             );
         }
     }
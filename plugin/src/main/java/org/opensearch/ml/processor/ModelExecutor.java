@@ -32,6 +32,7 @@ import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.ml.common.utils.JsonPathCache;
 import org.opensearch.ml.common.utils.StringUtils;
 
 import com.jayway.jsonpath.Configuration;
@@ -189,7 +190,7 @@ public interface ModelExecutor {
                 return modelTensorOutputMap;
             } else {
                 try {
-                    Object modelOutputValue = JsonPath.parse(modelTensorOutputMap).read(modelOutputFieldName);
+                    Object modelOutputValue = JsonPath.parse(modelTensorOutputMap).read(JsonPathCache.compile(modelOutputFieldName));
                     if (modelOutputValue == null) {
                         throw new IllegalArgumentException(
                             "model inference output cannot find such json path: " + modelOutputFieldName + " in " + modelTensorOutputMap
@@ -260,7 +261,7 @@ public interface ModelExecutor {
             return modelTensorOutputMap.get(fieldName);
         }
         try {
-            return JsonPath.parse(modelTensorOutputMap).read(fieldName);
+            return JsonPath.parse(modelTensorOutputMap).read(JsonPathCache.compile(fieldName));
         } catch (Exception e) {
             if (ignoreMissing) {
                 return modelTensorOutputMap;
@@ -284,9 +285,9 @@ public interface ModelExecutor {
     default boolean hasField(Object json, String path) {
         Object value;
         if (json instanceof String) {
-            value = JsonPath.using(suppressExceptionConfiguration).parse((String) json).read(path);
+            value = JsonPath.using(suppressExceptionConfiguration).parse((String) json).read(JsonPathCache.compile(path));
         } else {
-            value = JsonPath.using(suppressExceptionConfiguration).parse(json).read(path);
+            value = JsonPath.using(suppressExceptionConfiguration).parse(json).read(JsonPathCache.compile(path));
         }
         if (value != null) {
             return true;
@@ -313,7 +314,7 @@ public interface ModelExecutor {
                 .options(Option.ALWAYS_RETURN_LIST, Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS, Option.DEFAULT_PATH_LEAF_TO_NULL)
                 .build();
 
-            List<String> resultPaths = JsonPath.using(configuration).parse(json).read(leadingDotPath);
+            List<String> resultPaths = JsonPath.using(configuration).parse(json).read(JsonPathCache.compile(leadingDotPath));
             for (String path : resultPaths) {
                 dotPaths.add(convertToDotPath(path) + "." + lastLeave);
             }
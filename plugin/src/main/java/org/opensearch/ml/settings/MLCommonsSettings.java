@@ -43,6 +43,40 @@ public final class MLCommonsSettings {
 
     public static final Setting<Integer> ML_COMMONS_BATCH_INGESTION_BULK_SIZE = Setting
         .intSetting("plugins.ml_commons.batch_ingestion_bulk_size", 500, 100, 100000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // Batch size and coalescing window of local text embedding inference, applied when a model is deployed.
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_SIZE = Setting
+        .intSetting("plugins.ml_commons.local_model_inference_batch_size", 1, 1, 256, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> ML_COMMONS_LOCAL_MODEL_INFERENCE_BATCH_WINDOW_IN_MILLIS = Setting
+        .intSetting(
+            "plugins.ml_commons.local_model_inference_batch_window_in_millis",
+            0,
+            0,
+            1000,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    public static final Setting<Integer> ML_COMMONS_MODEL_CHUNK_RETRIEVAL_CONCURRENCY = Setting
+        .intSetting("plugins.ml_commons.model_chunk_retrieval_concurrency", 4, 1, 16, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    // 0 disables the local model artifact cache
+    public static final Setting<ByteSizeValue> ML_COMMONS_MODEL_ARTIFACT_CACHE_SIZE = Setting
+        .byteSizeSetting(
+            "plugins.ml_commons.model_artifact_cache_size",
+            new ByteSizeValue(0),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+    // Size and time to live of the model outputs cached by the ml_inference search request processors, 0 disables the cache
+    public static final Setting<Integer> ML_COMMONS_INFERENCE_QUERY_CACHE_SIZE = Setting
+        .intSetting("plugins.ml_commons.inference_query_cache_size", 0, 0, 100000, Setting.Property.NodeScope, Setting.Property.Dynamic);
+    public static final Setting<Integer> ML_COMMONS_INFERENCE_QUERY_CACHE_TTL_IN_SECONDS = Setting
+        .intSetting(
+            "plugins.ml_commons.inference_query_cache_ttl_in_seconds",
+            600,
+            1,
+            86400,
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
     public static final Setting<Integer> ML_COMMONS_MAX_DEPLOY_MODEL_TASKS_PER_NODE = Setting
         .intSetting("plugins.ml_commons.max_deploy_model_tasks_per_node", 10, 0, 10, Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Integer> ML_COMMONS_MAX_ML_TASK_PER_NODE = Setting
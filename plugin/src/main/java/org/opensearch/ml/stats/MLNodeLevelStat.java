@@ -16,7 +16,12 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_CONNECTOR_HOST_CACHE_HIT_COUNT, // How many connector host validations reused a recent result without resolving the host.
+    ML_CONNECTOR_HOST_CACHE_MISS_COUNT,
+    ML_CONNECTOR_HTTP_CLIENTS, // Shared connector http clients with their references and connection pool metrics per endpoint.
+    ML_INFERENCE_QUERY_CACHE_HIT_COUNT, // How many ml_inference search request predictions reused a cached model output.
+    ML_INFERENCE_QUERY_CACHE_MISS_COUNT;
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -35,13 +35,11 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
-import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
-import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
@@ -79,6 +77,7 @@ import org.opensearch.transport.TransportResponseHandler;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
+import com.networknt.schema.JsonSchema;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -554,14 +553,15 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     }
 
     public void validateOutputSchema(String modelId, ModelTensorOutput output) {
-        if (mlModelManager.getModelInterface(modelId) != null && mlModelManager.getModelInterface(modelId).get("output") != null) {
-            String outputSchemaString = mlModelManager.getModelInterface(modelId).get("output");
+        Map<String, String> modelInterface = mlModelManager.getModelInterface(modelId);
+        if (modelInterface != null && modelInterface.get("output") != null) {
+            String outputSchemaString = modelInterface.get("output");
             try {
-                MLNodeUtils
-                    .validateSchema(
-                        outputSchemaString,
-                        output.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS).toString()
-                    );
+                JsonSchema outputSchema = mlModelManager.getModelInterfaceSchema(modelId, outputSchemaString);
+                if (outputSchema == null) {
+                    outputSchema = MLNodeUtils.compileSchema(outputSchemaString);
+                }
+                MLNodeUtils.validateSchema(outputSchema, outputSchemaString, output);
             } catch (Exception e) {
                 throw new OpenSearchStatusException("Error validating output schema: " + e.getMessage(), RestStatus.BAD_REQUEST);
             }
@@ -8,15 +8,24 @@ package org.opensearch.ml.task;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 import javax.naming.LimitExceededException;
 
+import org.opensearch.action.FailedNodeException;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
@@ -27,12 +36,18 @@ import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.stats.MLNodeLevelStat;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
 
 import lombok.extern.log4j.Log4j2;
 
 /**
  * MLTaskDispatcher is responsible for dispatching the ml tasks.
+ * <p>
+ * The least load policy dispatches against a node-local table of the load of the nodes, so a task doesn't wait for
+ * the stats of every eligible node. The table is refreshed in the background once it is older than
+ * {@link #LOAD_REFRESH_INTERVAL_MILLIS}, and the stats are fetched before dispatching when a node is missing or its
+ * load is older than {@link #LOAD_MAX_STALENESS_MILLIS}.
  * TODO: Add more test
  */
 @Log4j2
@@ -41,16 +56,27 @@ public class MLTaskDispatcher {
     private final short DEFAULT_JVM_HEAP_USAGE_THRESHOLD = 85;
     private final String ROUND_ROBIN = "round_robin";
     private final String LEAST_LOAD = "least_load";
+    static final long LOAD_REFRESH_INTERVAL_MILLIS = 1000;
+    static final long LOAD_MAX_STALENESS_MILLIS = 5000;
     private final ClusterService clusterService;
     private final Client client;
+    private final LongSupplier clock;
+    private final Map<String, NodeLoad> nodeLoads = new ConcurrentHashMap<>();
+    private final AtomicBoolean refreshingLoads = new AtomicBoolean(false);
     private AtomicInteger nextNode;
     private volatile Integer maxMLBatchTaskPerNode;
     private volatile String dispatchPolicy;
     private DiscoveryNodeHelper nodeHelper;
 
     public MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper) {
+        this(clusterService, client, settings, nodeHelper, System::currentTimeMillis);
+    }
+
+    @VisibleForTesting
+    MLTaskDispatcher(ClusterService clusterService, Client client, Settings settings, DiscoveryNodeHelper nodeHelper, LongSupplier clock) {
         this.clusterService = clusterService;
         this.client = client;
+        this.clock = clock;
         this.nodeHelper = nodeHelper;
         this.maxMLBatchTaskPerNode = ML_COMMONS_MAX_ML_TASK_PER_NODE.get(settings);
         this.nextNode = new AtomicInteger(0);
@@ -105,58 +131,106 @@ public class MLTaskDispatcher {
     }
 
     private void dispatchTaskWithLeastLoad(DiscoveryNode[] nodes, ActionListener<DiscoveryNode> listener) {
+        long now = clock.getAsLong();
+        long oldestUpdateMillis = now;
+        List<NodeLoad> loads = new ArrayList<>(nodes.length);
+        for (DiscoveryNode node : nodes) {
+            NodeLoad load = nodeLoads.get(node.getId());
+            if (load == null || now - load.updateMillis > LOAD_MAX_STALENESS_MILLIS) {
+                fetchNodeLoads(nodes, ActionListener.wrap(fetchedLoads -> dispatchTaskWithLeastLoad(fetchedLoads, listener), exception -> {
+                    log.error("Failed to get node's task stats", exception);
+                    listener.onFailure(exception);
+                }));
+                return;
+            }
+            oldestUpdateMillis = Math.min(oldestUpdateMillis, load.updateMillis);
+            if (load.node != null) {
+                loads.add(load);
+            }
+        }
+        if (now - oldestUpdateMillis > LOAD_REFRESH_INTERVAL_MILLIS && refreshingLoads.compareAndSet(false, true)) {
+            fetchNodeLoads(nodes, ActionListener.wrap(fetchedLoads -> refreshingLoads.set(false), exception -> {
+                refreshingLoads.set(false);
+                log.warn("Failed to refresh node's task stats", exception);
+            }));
+        }
+        dispatchTaskWithLeastLoad(loads, listener);
+    }
+
+    private void dispatchTaskWithLeastLoad(List<NodeLoad> loads, ActionListener<DiscoveryNode> listener) {
+        // Check JVM pressure
+        List<NodeLoad> candidateNodeLoads = loads
+            .stream()
+            .filter(load -> load.jvmHeapUsage < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
+            .collect(Collectors.toList());
+
+        if (candidateNodeLoads.size() == 0) {
+            String errorMessage = "All nodes' memory usage exceeds limitation "
+                + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
+                + ". No eligible node available to run ml jobs ";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // Check # of executing ML task
+        candidateNodeLoads = candidateNodeLoads
+            .stream()
+            .filter(load -> load.executingTaskCount.get() < maxMLBatchTaskPerNode)
+            .collect(Collectors.toList());
+        if (candidateNodeLoads.size() == 0) {
+            String errorMessage = "All nodes' executing ML task count reach limitation.";
+            log.warn(errorMessage);
+            listener.onFailure(new LimitExceededException(errorMessage));
+            return;
+        }
+
+        // choose the node with the least executing ML tasks, if multiple nodes have same running task count, choose the
+        // one with least JVM heap usage.
+        Optional<NodeLoad> targetNode = candidateNodeLoads
+            .stream()
+            .min(Comparator.comparingLong((NodeLoad load) -> load.executingTaskCount.get()).thenComparingLong(load -> load.jvmHeapUsage));
+        // count the task until the next refresh, so tasks dispatched in between don't all go to the same node
+        targetNode.get().executingTaskCount.incrementAndGet();
+        listener.onResponse(targetNode.get().node);
+    }
+
+    /**
+     * Fetch the load of the nodes and update the load table with it.
+     * @param nodes nodes to fetch the load of
+     * @param listener listener of the load of the nodes which returned their stats
+     */
+    private void fetchNodeLoads(DiscoveryNode[] nodes, ActionListener<List<NodeLoad>> listener) {
         MLStatsNodesRequest MLStatsNodesRequest = new MLStatsNodesRequest(nodes);
         MLStatsNodesRequest.addNodeLevelStats(ImmutableSet.of(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, MLNodeLevelStat.ML_JVM_HEAP_USAGE));
 
         client.execute(MLStatsNodesAction.INSTANCE, MLStatsNodesRequest, ActionListener.wrap(mlStatsResponse -> {
-            // Check JVM pressure
-            List<MLStatsNodeResponse> candidateNodeResponse = mlStatsResponse
-                .getNodes()
-                .stream()
-                .filter(stat -> (long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE) < DEFAULT_JVM_HEAP_USAGE_THRESHOLD)
-                .collect(Collectors.toList());
-
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' memory usage exceeds limitation "
-                    + DEFAULT_JVM_HEAP_USAGE_THRESHOLD
-                    + ". No eligible node available to run ml jobs ";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+            long updateMillis = clock.getAsLong();
+            List<NodeLoad> loads = new ArrayList<>(mlStatsResponse.getNodes().size());
+            for (MLStatsNodeResponse stat : mlStatsResponse.getNodes()) {
+                NodeLoad load = new NodeLoad(
+                    stat.getNode(),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT),
+                    (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE),
+                    updateMillis
+                );
+                nodeLoads.put(stat.getNode().getId(), load);
+                loads.add(load);
             }
-
-            // Check # of executing ML task
-            candidateNodeResponse = candidateNodeResponse
-                .stream()
-                .filter(stat -> (Long) stat.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT) < maxMLBatchTaskPerNode)
-                .collect(Collectors.toList());
-            if (candidateNodeResponse.size() == 0) {
-                String errorMessage = "All nodes' executing ML task count reach limitation.";
-                log.warn(errorMessage);
-                listener.onFailure(new LimitExceededException(errorMessage));
-                return;
+            // remember the nodes which failed to return their stats, so they don't force a fetch on every task
+            for (FailedNodeException failure : mlStatsResponse.failures()) {
+                nodeLoads.put(failure.nodeId(), new NodeLoad(null, 0, 0, updateMillis));
             }
+            // forget the nodes which left the cluster, tasks are dispatched to different sets of nodes so only the cluster knows them all
+            DiscoveryNodes clusterNodes = clusterService.state().nodes();
+            nodeLoads.keySet().removeIf(nodeId -> !clusterNodes.nodeExists(nodeId));
+            listener.onResponse(loads);
+        }, listener::onFailure));
+    }
 
-            // sort nodes by JVM usage percentage and # of executing ML task
-            Optional<MLStatsNodeResponse> targetNode = candidateNodeResponse
-                .stream()
-                .sorted((MLStatsNodeResponse r1, MLStatsNodeResponse r2) -> {
-                    int result = ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT))
-                        .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT));
-                    if (result == 0) {
-                        // if multiple nodes have same running task count, choose the one with least
-                        // JVM heap usage.
-                        return ((Long) r1.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE))
-                            .compareTo((Long) r2.getNodeLevelStat(MLNodeLevelStat.ML_JVM_HEAP_USAGE));
-                    }
-                    return result;
-                })
-                .findFirst();
-            listener.onResponse(targetNode.get().getNode());
-        }, exception -> {
-            log.error("Failed to get node's task stats", exception);
-            listener.onFailure(exception);
-        }));
+    @VisibleForTesting
+    boolean hasNodeLoad(String nodeId) {
+        return nodeLoads.containsKey(nodeId);
     }
 
     private void dispatchTaskWithLeastLoad(FunctionName functionName, ActionListener<DiscoveryNode> listener) {
@@ -177,4 +251,20 @@ public class MLTaskDispatcher {
         dispatchTaskWithRoundRobin(eligibleNodes, listener);
     }
 
+    /**
+     * Load of a node, as of its last stats. The node is null if the node failed to return its stats.
+     */
+    private static class NodeLoad {
+        private final DiscoveryNode node;
+        private final AtomicLong executingTaskCount;
+        private final long jvmHeapUsage;
+        private final long updateMillis;
+
+        NodeLoad(DiscoveryNode node, long executingTaskCount, long jvmHeapUsage, long updateMillis) {
+            this.node = node;
+            this.executingTaskCount = new AtomicLong(executingTaskCount);
+            this.jvmHeapUsage = jvmHeapUsage;
+            this.updateMillis = updateMillis;
+        }
+    }
 }
@@ -16,12 +16,16 @@ import java.util.function.Function;
 import org.opensearch.OpenSearchParseException;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
@@ -40,6 +44,10 @@ import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class MLNodeUtils {
+    // Both are thread safe once configured, and expensive to create.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory SCHEMA_FACTORY = JsonSchemaFactory.getInstance(VersionFlag.V202012);
+
     public boolean isMLNode(DiscoveryNode node) {
         return node.getRoles().stream().anyMatch(role -> role.roleName().equalsIgnoreCase(ML_ROLE_NAME));
     }
@@ -67,38 +75,69 @@ public class MLNodeUtils {
         }
     }
 
+    /**
+     * Compile a JSON schema, the compiled schema can be reused to validate any number of instances.
+     * @param schemaString JSON schema
+     * @return compiled schema
+     */
+    public static JsonSchema compileSchema(String schemaString) throws IOException {
+        return SCHEMA_FACTORY.getSchema(OBJECT_MAPPER.readTree(schemaString));
+    }
+
     public static void validateSchema(String schemaString, String instanceString) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        // parse the schema JSON as string
-        JsonNode schemaNode = mapper.readTree(schemaString);
-        JsonSchema schema = JsonSchemaFactory.getInstance(VersionFlag.V202012).getSchema(schemaNode);
+        validateSchema(compileSchema(schemaString), schemaString, OBJECT_MAPPER.readTree(instanceString));
+    }
 
-        // JSON data to validate
-        JsonNode jsonNode = mapper.readTree(instanceString);
+    /**
+     * Validate the JSON representation of an instance against a compiled schema.
+     * @param schema compiled schema
+     * @param schemaString JSON schema, only used in the error message
+     * @param instance instance to validate
+     */
+    public static void validateSchema(JsonSchema schema, String schemaString, ToXContentObject instance) throws IOException {
+        validateSchema(schema, schemaString, toJsonNode(instance));
+    }
 
-        // Validate JSON node against the schema
-        Set<ValidationMessage> errors = schema.validate(jsonNode);
+    public static void validateSchema(JsonSchema schema, String schemaString, JsonNode instance) {
+        Set<ValidationMessage> errors = schema.validate(instance);
         if (!errors.isEmpty()) {
             throw new OpenSearchParseException(
                 "Validation failed: "
                     + Arrays.toString(errors.toArray(new ValidationMessage[0]))
                     + " for instance: "
-                    + instanceString
+                    + instance
                     + " with schema: "
                     + schemaString
             );
         }
     }
 
+    /**
+     * Read the XContent of an object into a JSON tree without building the JSON string.
+     */
+    public static JsonNode toJsonNode(ToXContentObject object) throws IOException {
+        try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+            object.toXContent(builder, ToXContent.EMPTY_PARAMS);
+            return OBJECT_MAPPER.readTree(BytesReference.bytes(builder).streamInput());
+        }
+    }
+
     /**
      * This method processes the input JSON string and replaces the string values of the parameters with JSON objects if the string is a valid JSON.
      * @param inputJson The input JSON string
      * @return The processed JSON string
      */
     public static String processRemoteInferenceInputDataSetParametersValue(String inputJson) throws IOException {
-        ObjectMapper mapper = new ObjectMapper();
-        JsonNode rootNode = mapper.readTree(inputJson);
+        JsonNode rootNode = OBJECT_MAPPER.readTree(inputJson);
+        processRemoteInferenceInputDataSetParametersValue(rootNode);
+        return OBJECT_MAPPER.writeValueAsString(rootNode);
+    }
 
+    /**
+     * Replace the string values of the parameters in the input JSON tree with JSON nodes if the string is a valid JSON.
+     * @param rootNode The input JSON tree, updated in place
+     */
+    public static void processRemoteInferenceInputDataSetParametersValue(JsonNode rootNode) {
         if (rootNode.has("parameters") && rootNode.get("parameters").isObject()) {
             ObjectNode parametersNode = (ObjectNode) rootNode.get("parameters");
 
@@ -110,7 +149,7 @@ public class MLNodeUtils {
                     String textValue = value.asText();
                     try {
                         // Try to parse the string as JSON
-                        JsonNode parsedValue = mapper.readTree(textValue);
+                        JsonNode parsedValue = OBJECT_MAPPER.readTree(textValue);
                         // If successful, replace the string with the parsed JSON
                         parametersNode.set(key, parsedValue);
                     } catch (IOException e) {
@@ -120,7 +159,6 @@ public class MLNodeUtils {
                 }
             });
         }
-        return mapper.writeValueAsString(rootNode);
     }
 
     public static void checkOpenCircuitBreaker(MLCircuitBreakerService mlCircuitBreakerService, MLStats mlStats) {
@@ -4,10 +4,14 @@
  */
 package org.opensearch.ml.action.agents;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -20,6 +24,7 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -28,6 +33,9 @@ import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.transport.agent.MLAgentDeleteRequest;
+import org.opensearch.ml.common.transport.agent.MLClearAgentCacheAction;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
@@ -66,6 +74,11 @@ public class DeleteAgentTransportActionTests {
         when(client.threadPool()).thenReturn(threadPool);
         when(clusterService.getSettings()).thenReturn(settings);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        doAnswer(invocation -> {
+            ActionListener<MLClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLClearCacheNodesResponse(ClusterName.DEFAULT, List.of(), List.of()));
+            return null;
+        }).when(client).execute(eq(MLClearAgentCacheAction.INSTANCE), any(), any());
     }
 
     @Test
@@ -110,6 +123,41 @@ public class DeleteAgentTransportActionTests {
         verify(actionListener).onResponse(argumentCaptor.capture());
     }
 
+    @Test
+    public void testDoExecute_ClearAgentCacheFails() {
+        String agentId = "test-agent-id";
+        DeleteResponse deleteResponse = mock(DeleteResponse.class);
+        GetResponse getResponse = mock(GetResponse.class);
+        ActionListener<DeleteResponse> actionListener = mock(ActionListener.class);
+        MLAgentDeleteRequest deleteRequest = new MLAgentDeleteRequest(agentId);
+        Task task = mock(Task.class);
+
+        when(getResponse.isExists()).thenReturn(true);
+        when(getResponse.getSourceAsBytesRef()).thenReturn(new BytesArray("{\"name\":\"agent\", \"type\":\"flow\"}"));
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(getResponse);
+            return null;
+        }).when(client).get(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<DeleteResponse> listener = invocation.getArgument(1);
+            listener.onResponse(deleteResponse);
+            return null;
+        }).when(client).delete(any(), any());
+        doAnswer(invocation -> {
+            ActionListener<MLClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("node left"));
+            return null;
+        }).when(client).execute(eq(MLClearAgentCacheAction.INSTANCE), any(), any());
+
+        deleteAgentTransportAction.doExecute(task, deleteRequest, actionListener);
+
+        ArgumentCaptor<MLClearCacheNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLClearCacheNodesRequest.class);
+        verify(client).execute(eq(MLClearAgentCacheAction.INSTANCE), requestCaptor.capture(), any());
+        assertArrayEquals(new String[] { agentId }, requestCaptor.getValue().getIds());
+        verify(actionListener).onResponse(deleteResponse);
+    }
+
     @Test
     public void testDoExecute_Failure() {
         String agentId = "test-non-existed-agent-id";
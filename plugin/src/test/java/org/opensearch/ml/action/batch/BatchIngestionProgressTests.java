@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.opensearch.ml.action.batch.BatchIngestionProgress.CHECKPOINT_INTERVAL_MILLIS;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.REMOTE_JOB_FIELD;
+import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.ml.engine.ingest.IngestionCheckpoint;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class BatchIngestionProgressTests extends OpenSearchTestCase {
+    @Mock
+    MLTaskManager mlTaskManager;
+
+    private AtomicLong clock;
+    private BatchIngestionProgress progress;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        clock = new AtomicLong(1000);
+        progress = new BatchIngestionProgress(
+            mlTaskManager,
+            "taskId",
+            Arrays.asList(IngestionCheckpoint.START, new IngestionCheckpoint(5, 50)),
+            clock::get
+        );
+    }
+
+    public void testOnCheckpoint_Throttled() {
+        progress.onCheckpoint(0, new IngestionCheckpoint(10, 100), 400);
+        clock.addAndGet(CHECKPOINT_INTERVAL_MILLIS - 1);
+        progress.onCheckpoint(0, new IngestionCheckpoint(20, 200), 400);
+
+        verify(mlTaskManager, never()).updateMLTask(any(), any(), anyLong(), anyBoolean());
+    }
+
+    public void testOnCheckpoint_UpdatesTask() {
+        progress.onCheckpoint(0, new IngestionCheckpoint(10, 100), 400);
+        clock.addAndGet(CHECKPOINT_INTERVAL_MILLIS);
+        progress.onCheckpoint(1, new IngestionCheckpoint(10, 100), 100);
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("taskId"), captor.capture(), eq(0L), eq(false));
+        Map<String, Object> remoteJob = (Map<String, Object>) captor.getValue().get(REMOTE_JOB_FIELD);
+        List<Map<String, Object>> checkpoints = (List<Map<String, Object>>) remoteJob.get(IngestionCheckpoint.CHECKPOINTS_FIELD);
+        assertEquals(Arrays.asList(new IngestionCheckpoint(10, 100).toMap(), new IngestionCheckpoint(10, 100).toMap()), checkpoints);
+        // a quarter of the first source and all of the second one
+        assertEquals(0.625f, (float) captor.getValue().get(PROGRESS_FIELD), 0.0001f);
+    }
+
+    public void testFlush_UnknownSourceSize() {
+        progress.onCheckpoint(0, new IngestionCheckpoint(10, 100), -1);
+        progress.flush();
+
+        ArgumentCaptor<Map<String, Object>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mlTaskManager).updateMLTask(eq("taskId"), captor.capture(), eq((long) TASK_SEMAPHORE_TIMEOUT), eq(false));
+        Map<String, Object> remoteJob = (Map<String, Object>) captor.getValue().get(REMOTE_JOB_FIELD);
+        List<Map<String, Object>> checkpoints = (List<Map<String, Object>>) remoteJob.get(IngestionCheckpoint.CHECKPOINTS_FIELD);
+        assertEquals(new IngestionCheckpoint(5, 50).toMap(), checkpoints.get(1));
+        assertEquals(0f, (float) captor.getValue().get(PROGRESS_FIELD), 0.0001f);
+    }
+}
@@ -27,6 +27,9 @@ import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_BATCH_
 import static org.opensearch.ml.task.MLTaskManager.TASK_SEMAPHORE_TIMEOUT;
 import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -303,6 +306,126 @@ public class TransportBatchIngestionActionTests extends OpenSearchTestCase {
         );
     }
 
+    public void test_doExecute_fileDataSourceWithoutRepoPath() {
+        Map<String, Object> dataSource = new HashMap<>();
+        dataSource.put("type", "file");
+        dataSource.put(SOURCE, Arrays.asList("file:///tmp/batch_input.jsonl"));
+
+        MLBatchIngestionInput batchInput = MLBatchIngestionInput
+            .builder()
+            .indexName("testIndex")
+            .fieldMapping(new HashMap<>())
+            .dataSources(dataSource)
+            .build();
+        when(mlBatchIngestionRequest.getMlBatchIngestionInput()).thenReturn(batchInput);
+        batchAction.doExecute(task, mlBatchIngestionRequest, actionListener);
+
+        ArgumentCaptor<OpenSearchStatusException> argumentCaptor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "IllegalArgumentException in the batch ingestion input: Batch ingestion from files requires the path.repo setting on the node",
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
+    public void test_doExecute_fileDataSourceOutsideRepoPath() {
+        Settings repoSettings = Settings.builder().put(settings).putList("path.repo", "/tmp/repo").build();
+        TransportBatchIngestionAction action = new TransportBatchIngestionAction(
+            clusterService,
+            transportService,
+            actionFilters,
+            client,
+            mlTaskManager,
+            threadPool,
+            mlModelManager,
+            mlFeatureEnabledSetting,
+            repoSettings
+        );
+        Map<String, Object> dataSource = new HashMap<>();
+        dataSource.put("type", "file");
+        dataSource.put(SOURCE, Arrays.asList("file:///tmp/repo/../batch_input.jsonl"));
+
+        MLBatchIngestionInput batchInput = MLBatchIngestionInput
+            .builder()
+            .indexName("testIndex")
+            .fieldMapping(new HashMap<>())
+            .dataSources(dataSource)
+            .build();
+        when(mlBatchIngestionRequest.getMlBatchIngestionInput()).thenReturn(batchInput);
+        action.doExecute(task, mlBatchIngestionRequest, actionListener);
+
+        ArgumentCaptor<OpenSearchStatusException> argumentCaptor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "IllegalArgumentException in the batch ingestion input: "
+                + "The batch ingest input file is not under a path.repo directory: file:///tmp/repo/../batch_input.jsonl",
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
+    public void test_doExecute_fileDataSourceLinkedOutsideRepoPath() throws IOException {
+        Path repoPath = createTempDir();
+        Path outsideFile = Files.createFile(createTempDir().resolve("batch_input.jsonl"));
+        Path linkedFile = Files.createSymbolicLink(repoPath.resolve("batch_input.jsonl"), outsideFile);
+        Settings repoSettings = Settings.builder().put(settings).putList("path.repo", repoPath.toString()).build();
+        TransportBatchIngestionAction action = new TransportBatchIngestionAction(
+            clusterService,
+            transportService,
+            actionFilters,
+            client,
+            mlTaskManager,
+            threadPool,
+            mlModelManager,
+            mlFeatureEnabledSetting,
+            repoSettings
+        );
+        String fileUri = linkedFile.toUri().toString();
+        Map<String, Object> dataSource = new HashMap<>();
+        dataSource.put("type", "file");
+        dataSource.put(SOURCE, Arrays.asList(fileUri));
+
+        MLBatchIngestionInput batchInput = MLBatchIngestionInput
+            .builder()
+            .indexName("testIndex")
+            .fieldMapping(new HashMap<>())
+            .dataSources(dataSource)
+            .build();
+        when(mlBatchIngestionRequest.getMlBatchIngestionInput()).thenReturn(batchInput);
+        action.doExecute(task, mlBatchIngestionRequest, actionListener);
+
+        ArgumentCaptor<OpenSearchStatusException> argumentCaptor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "IllegalArgumentException in the batch ingestion input: The batch ingest input file is not under a path.repo directory: "
+                + fileUri,
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
+    public void test_doExecute_invalidCheckpoints() {
+        Map<String, Object> dataSource = new HashMap<>();
+        dataSource.put("type", "s3");
+        dataSource.put(SOURCE, Arrays.asList("s3://offlinebatch/output/sagemaker_djl_batch_input.json.out"));
+        dataSource.put("checkpoints", Arrays.asList(Map.of("lines", 1, "bytes", 10), Map.of("lines", 2, "bytes", 20)));
+
+        MLBatchIngestionInput batchInput = MLBatchIngestionInput
+            .builder()
+            .indexName("testIndex")
+            .fieldMapping(new HashMap<>())
+            .credential(new HashMap<>())
+            .dataSources(dataSource)
+            .build();
+        when(mlBatchIngestionRequest.getMlBatchIngestionInput()).thenReturn(batchInput);
+        batchAction.doExecute(task, mlBatchIngestionRequest, actionListener);
+
+        ArgumentCaptor<OpenSearchStatusException> argumentCaptor = ArgumentCaptor.forClass(OpenSearchStatusException.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(
+            "IllegalArgumentException in the batch ingestion input: The batch ingest checkpoints must have one checkpoint per source",
+            argumentCaptor.getValue().getMessage()
+        );
+    }
+
     public void test_doExecute_emptyS3DataSource() {
         Map<String, Object> dataSource = new HashMap<>();
         dataSource.put("type", "s3");
@@ -6,8 +6,10 @@
 package org.opensearch.ml.action.model_group;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -44,9 +46,12 @@ import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.MLModelGroup;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupInput;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupRequest;
 import org.opensearch.ml.common.transport.model_group.MLUpdateModelGroupResponse;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelGroupManager;
 import org.opensearch.ml.utils.TestHelper;
@@ -122,6 +127,12 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
             return null;
         }).when(client).update(any(), any());
 
+        doAnswer(invocation -> {
+            ActionListener<MLClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(mock(MLClearCacheNodesResponse.class));
+            return null;
+        }).when(client).execute(eq(MLClearQueryCacheAction.INSTANCE), any(), any());
+
         MLModelGroup mlModelGroup = MLModelGroup
             .builder()
             .modelGroupId("testModelGroupId")
@@ -326,6 +337,9 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
         transportUpdateModelGroupAction.doExecute(task, actionRequest, actionListener);
         ArgumentCaptor<MLUpdateModelGroupResponse> argumentCaptor = ArgumentCaptor.forClass(MLUpdateModelGroupResponse.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
+        ArgumentCaptor<MLClearCacheNodesRequest> clearCacheCaptor = ArgumentCaptor.forClass(MLClearCacheNodesRequest.class);
+        verify(client).execute(eq(MLClearQueryCacheAction.INSTANCE), clearCacheCaptor.capture(), any());
+        assertNull(clearCacheCaptor.getValue().getIds());
     }
 
     public void test_SuccessNonOwnerUpdatingWithNoAccessContent() {
@@ -338,6 +352,7 @@ public class TransportUpdateModelGroupActionTests extends OpenSearchTestCase {
         transportUpdateModelGroupAction.doExecute(task, actionRequest, actionListener);
         ArgumentCaptor<MLUpdateModelGroupResponse> argumentCaptor = ArgumentCaptor.forClass(MLUpdateModelGroupResponse.class);
         verify(actionListener).onResponse(argumentCaptor.capture());
+        verify(client, never()).execute(eq(MLClearQueryCacheAction.INSTANCE), any(), any());
     }
 
     public void test_FailedToFindModelGroupException() {
@@ -44,6 +44,7 @@ import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.action.update.UpdateResponse;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterName;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
@@ -71,9 +72,12 @@ import org.opensearch.ml.common.connector.HttpConnector;
 import org.opensearch.ml.common.controller.MLRateLimiter;
 import org.opensearch.ml.common.exception.MLResourceNotFoundException;
 import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
 import org.opensearch.ml.common.transport.connector.MLCreateConnectorInput;
 import org.opensearch.ml.common.transport.model.MLUpdateModelInput;
 import org.opensearch.ml.common.transport.model.MLUpdateModelRequest;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
@@ -318,12 +322,22 @@ public class UpdateModelTransportActionTests extends OpenSearchTestCase {
             listener.onResponse(getResponse);
             return null;
         }).when(mlModelGroupManager).getModelGroupResponse(eq("updated_test_model_group_id"), isA(ActionListener.class));
+
+        doAnswer(invocation -> {
+            ActionListener<MLClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLClearCacheNodesResponse(new ClusterName("test"), new ArrayList<>(), new ArrayList<>()));
+            return null;
+        }).when(client).execute(eq(MLClearQueryCacheAction.INSTANCE), any(), isA(ActionListener.class));
     }
 
     @Test
     public void testUpdateLocalModelSuccess() {
         transportUpdateModelAction.doExecute(task, updateLocalModelRequest, actionListener);
         verify(actionListener).onResponse(updateResponse);
+        // moved to another model group without a model cache update
+        ArgumentCaptor<MLClearCacheNodesRequest> clearCacheCaptor = ArgumentCaptor.forClass(MLClearCacheNodesRequest.class);
+        verify(client).execute(eq(MLClearQueryCacheAction.INSTANCE), clearCacheCaptor.capture(), any());
+        assertArrayEquals(new String[] { "test_model_id" }, clearCacheCaptor.getValue().getIds());
     }
 
     @Test
@@ -8,6 +8,7 @@
 package org.opensearch.ml.action.undeploy;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
@@ -42,6 +43,10 @@ import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesRequest;
+import org.opensearch.ml.common.transport.clear_cache.MLClearCacheNodesResponse;
+import org.opensearch.ml.common.transport.query_cache.MLClearQueryCacheAction;
+import org.opensearch.ml.common.transport.undeploy.MLUndeployModelAction;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelNodeResponse;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelNodesResponse;
 import org.opensearch.ml.common.transport.undeploy.MLUndeployModelsRequest;
@@ -254,6 +259,35 @@ public class TransportUndeployModelsActionTests extends OpenSearchTestCase {
         verify(actionListener).onResponse(any(MLUndeployModelsResponse.class));
     }
 
+    public void testDoExecute_clearQueryCache() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(3);
+            listener.onResponse(true);
+            return null;
+        }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), isA(ActionListener.class));
+
+        MLUndeployModelNodesResponse response = new MLUndeployModelNodesResponse(clusterName, new ArrayList<>(), new ArrayList<>());
+        doAnswer(invocation -> {
+            ActionListener<MLUndeployModelNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(response);
+            return null;
+        }).when(client).execute(eq(MLUndeployModelAction.INSTANCE), any(), isA(ActionListener.class));
+        doAnswer(invocation -> {
+            ActionListener<MLClearCacheNodesResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new MLClearCacheNodesResponse(clusterName, new ArrayList<>(), new ArrayList<>()));
+            return null;
+        }).when(client).execute(eq(MLClearQueryCacheAction.INSTANCE), any(), isA(ActionListener.class));
+
+        MLUndeployModelsRequest request = new MLUndeployModelsRequest(modelIds, nodeIds);
+        transportUndeployModelsAction.doExecute(task, request, actionListener);
+
+        ArgumentCaptor<MLClearCacheNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLClearCacheNodesRequest.class);
+        verify(client).execute(eq(MLClearQueryCacheAction.INSTANCE), requestCaptor.capture(), any());
+        assertArrayEquals(modelIds, requestCaptor.getValue().getIds());
+        assertEquals(0, requestCaptor.getValue().nodesIds().length);
+        verify(actionListener).onResponse(any(MLUndeployModelsResponse.class));
+    }
+
     public void testDoExecute_modelAccessControl_notEnabled() {
         when(modelAccessControlHelper.isModelAccessControlEnabled()).thenReturn(false);
         doAnswer(invocation -> {
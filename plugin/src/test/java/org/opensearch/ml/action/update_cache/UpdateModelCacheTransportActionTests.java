@@ -8,6 +8,8 @@ package org.opensearch.ml.action.update_cache;
 import static org.junit.Assert.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
 
@@ -42,6 +44,7 @@ import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesRe
 import org.opensearch.ml.common.transport.update_cache.MLUpdateModelCacheNodesResponse;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.processor.MLInferenceQueryCache;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.transport.TransportService;
 
@@ -79,6 +82,9 @@ public class UpdateModelCacheTransportActionTests {
     @Mock
     private ModelAccessControlHelper modelAccessControlHelper;
 
+    @Mock
+    private MLInferenceQueryCache queryCache;
+
     @Before
     public void setUp() throws Exception {
         action = new UpdateModelCacheTransportAction(
@@ -91,7 +97,8 @@ public class UpdateModelCacheTransportActionTests {
             nodeFilter,
             mlStats,
             xContentRegistry,
-            modelAccessControlHelper
+            modelAccessControlHelper,
+            queryCache
         );
 
         localNode = new DiscoveryNode(
@@ -155,6 +162,7 @@ public class UpdateModelCacheTransportActionTests {
         );
         final MLUpdateModelCacheNodeResponse response = action.nodeOperation(new MLUpdateModelCacheNodeRequest(request));
         assertNotNull(response);
+        verify(queryCache).invalidate("testModelId");
     }
 
     @Test
@@ -170,6 +178,7 @@ public class UpdateModelCacheTransportActionTests {
         );
         final MLUpdateModelCacheNodeResponse response = action.nodeOperation(new MLUpdateModelCacheNodeRequest(request));
         assertNotNull(response);
+        verify(queryCache, times(2)).invalidate("testModelId");
     }
 
 }
@@ -75,4 +75,22 @@ public class DiskCircuitBreakerTests {
         CircuitBreaker breaker = new DiskCircuitBreaker(Settings.EMPTY, clusterService, file);
         Assert.assertEquals("Disk Circuit Breaker", breaker.getName());
     }
+
+    @Test
+    public void test_isOpen_hysteresis() {
+        CircuitBreaker breaker = new DiskCircuitBreaker(
+            Settings.builder().put(ML_COMMONS_DISK_FREE_SPACE_THRESHOLD.getKey(), new ByteSizeValue(10L, ByteSizeUnit.GB)).build(),
+            clusterService,
+            file
+        );
+        when(file.getFreeSpace()).thenReturn(9 * 1024 * 1024 * 1024L);
+        Assert.assertTrue(breaker.isOpen());
+
+        // stays open until free space is back over the threshold plus the hysteresis
+        when(file.getFreeSpace()).thenReturn(10 * 1024 * 1024 * 1024L);
+        Assert.assertTrue(breaker.isOpen());
+
+        when(file.getFreeSpace()).thenReturn(11 * 1024 * 1024 * 1024L);
+        Assert.assertFalse(breaker.isOpen());
+    }
 }
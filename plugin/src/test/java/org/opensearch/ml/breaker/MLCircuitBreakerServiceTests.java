@@ -5,6 +5,11 @@
 
 package org.opensearch.ml.breaker;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_DISK_FREE_SPACE_THRESHOLD;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
@@ -26,6 +31,8 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.monitor.jvm.JvmService;
 import org.opensearch.monitor.jvm.JvmStats;
 import org.opensearch.monitor.os.OsService;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class MLCircuitBreakerServiceTests {
 
@@ -126,4 +133,56 @@ public class MLCircuitBreakerServiceTests {
         Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
     }
 
+    @Test
+    public void testCheckOpenCB_Sampled() {
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        ThreadPool threadPool = mock(ThreadPool.class);
+
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        verify(threadPool).scheduleWithFixedDelay(any(), eq(MLCircuitBreakerService.SAMPLING_INTERVAL), eq(ThreadPool.Names.GENERIC));
+
+        // requests read the last sample
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        Assert.assertNull(mlCircuitBreakerService.checkOpenCB());
+
+        mlCircuitBreakerService.sample();
+        Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+        verify(jvmService, times(2)).stats();
+    }
+
+    @Test
+    public void testStopSampling() {
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(mem);
+        when(mem.getHeapUsedPercent()).thenReturn((short) 50);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.Cancellable samplingTask = mock(Scheduler.Cancellable.class);
+        when(threadPool.scheduleWithFixedDelay(any(), any(), any())).thenReturn(samplingTask);
+
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, new MemoryCircuitBreaker(jvmService));
+        mlCircuitBreakerService.startSampling(threadPool);
+        mlCircuitBreakerService.stopSampling();
+        verify(samplingTask).cancel();
+
+        // requests check the breakers again
+        when(mem.getHeapUsedPercent()).thenReturn((short) 90);
+        Assert.assertEquals("Memory Circuit Breaker", mlCircuitBreakerService.checkOpenCB().getName());
+    }
+
+    @Test
+    public void testSample_ChecksEveryBreaker() {
+        ThresholdCircuitBreaker memoryBreaker = mock(ThresholdCircuitBreaker.class);
+        ThresholdCircuitBreaker diskBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryBreaker.isOpen()).thenReturn(true);
+        when(diskBreaker.isOpen()).thenReturn(true);
+
+        mlCircuitBreakerService.registerBreaker(BreakerName.MEMORY, memoryBreaker);
+        mlCircuitBreakerService.registerBreaker(BreakerName.DISK, diskBreaker);
+        mlCircuitBreakerService.sample();
+        verify(memoryBreaker).isOpen();
+        verify(diskBreaker).isOpen();
+    }
 }
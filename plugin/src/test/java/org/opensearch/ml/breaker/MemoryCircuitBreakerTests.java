@@ -102,4 +102,23 @@ public class MemoryCircuitBreakerTests {
         settingsService.applySettings(newSettingsBuilder.build());
         Assert.assertFalse(breaker.isOpen());
     }
+
+    @Test
+    public void testIsOpen_Hysteresis() {
+        CircuitBreaker breaker = new MemoryCircuitBreaker(jvmService);
+
+        when(mem.getHeapUsedPercent()).thenReturn((short) 86);
+        Assert.assertTrue(breaker.isOpen());
+
+        // stays open until usage is back under the threshold minus the hysteresis
+        when(mem.getHeapUsedPercent()).thenReturn((short) 84);
+        Assert.assertTrue(breaker.isOpen());
+
+        when(mem.getHeapUsedPercent()).thenReturn((short) 80);
+        Assert.assertFalse(breaker.isOpen());
+
+        // closed breakers open past the threshold only
+        when(mem.getHeapUsedPercent()).thenReturn((short) 84);
+        Assert.assertFalse(breaker.isOpen());
+    }
 }
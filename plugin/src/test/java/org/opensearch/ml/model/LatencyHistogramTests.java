@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import org.opensearch.ml.profile.MLPredictRequestStats;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class LatencyHistogramTests extends OpenSearchTestCase {
+
+    public void testGetStats_Empty() {
+        assertNull(new LatencyHistogram(10).getStats());
+    }
+
+    public void testGetStats_KeepsLastDurations() {
+        LatencyHistogram histogram = new LatencyHistogram(1000);
+        for (int i = 1; i <= 5000; i++) {
+            histogram.record(i);
+        }
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(1000, stats.getCount().longValue());
+        assertEquals(4001, stats.getMin(), 1e-9);
+        assertEquals(5000, stats.getMax(), 1e-9);
+        assertEquals(4500.5, stats.getAverage(), 1e-9);
+        // percentiles are bucketed with a relative error of about 3%
+        assertEquals(4500, stats.getP50(), 4500 * 0.03);
+        assertEquals(4900, stats.getP90(), 4900 * 0.03);
+        assertEquals(4990, stats.getP99(), 4990 * 0.03);
+        assertTrue(stats.getP99() <= stats.getMax());
+    }
+
+    public void testGetStats_SmallDurations() {
+        LatencyHistogram histogram = new LatencyHistogram(100);
+        for (int i = 0; i < 100; i++) {
+            histogram.record(0.001 * (i % 10));
+        }
+        MLPredictRequestStats stats = histogram.getStats();
+        assertEquals(0.004, stats.getP50(), 1e-9);
+        assertEquals(0.009, stats.getP99(), 1e-9);
+    }
+
+    public void testResize() {
+        LatencyHistogram histogram = new LatencyHistogram(10);
+        for (int i = 1; i <= 25; i++) {
+            histogram.record(i);
+        }
+        MLPredictRequestStats stats = histogram.resize(5).getStats();
+        assertEquals(5, stats.getCount().longValue());
+        assertEquals(21, stats.getMin(), 1e-9);
+
+        stats = histogram.resize(100).getStats();
+        assertEquals(10, stats.getCount().longValue());
+        assertEquals(16, stats.getMin(), 1e-9);
+        assertEquals(25, stats.getMax(), 1e-9);
+    }
+
+    public void testBucketIndex() {
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            assertEquals(i, LatencyHistogram.bucketIndex(LatencyHistogram.bucketValue(i)));
+        }
+        assertEquals(0, LatencyHistogram.bucketIndex(-1));
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Double.MAX_VALUE));
+    }
+}
@@ -400,4 +400,21 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals("mockId", cacheHelper.getModelInfo(modelId).getModelId());
     }
 
+    public void test_setModelInterface_compileSchemas() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.REMOTE, targetWorkerNodes, true);
+        String inputSchema = "{\"type\": \"object\", \"properties\": {\"parameters\": {\"type\": \"object\"}}}";
+        String outputSchema = "{\"type\": \"object\", \"properties\": {\"inference_results\": {\"type\": [}}}";
+        cacheHelper.setModelInterface(modelId, Map.of("input", inputSchema, "output", outputSchema));
+
+        assertNotNull(cacheHelper.getModelInterfaceSchema(modelId, inputSchema));
+        // invalid schema is not cached, it's reported by the validation of each request
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, outputSchema));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, "{}"));
+        assertNull(cacheHelper.getModelInterfaceSchema("unknown_model", inputSchema));
+
+        cacheHelper.removeModelInterface(modelId);
+        assertNull(cacheHelper.getModelInterface(modelId));
+        assertNull(cacheHelper.getModelInterfaceSchema(modelId, inputSchema));
+    }
+
 }
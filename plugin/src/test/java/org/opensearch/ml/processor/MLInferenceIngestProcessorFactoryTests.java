@@ -5,6 +5,7 @@
 package org.opensearch.ml.processor;
 
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.*;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FULL_RESPONSE_PATH;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.FUNCTION_NAME;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.MODEL_INPUT;
@@ -230,4 +231,19 @@ public class MLInferenceIngestProcessorFactoryTests extends OpenSearchTestCase {
             assertEquals(e.getMessage(), ("Please provide model input when using a local model in ML Inference Processor"));
         }
     }
+
+    public void testInvalidBatchSize() throws Exception {
+        Map<String, Processor.Factory> registry = new HashMap<>();
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model2");
+        config.put(BATCH_SIZE, 0);
+        String processorTag = randomAlphaOfLength(10);
+
+        try {
+            factory.create(registry, processorTag, null, config);
+            fail("factory create should have failed");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), ("The batch_size of ML Inference Processor must be a positive integer."));
+        }
+    }
 }
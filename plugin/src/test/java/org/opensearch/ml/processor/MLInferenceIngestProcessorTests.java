@@ -7,6 +7,7 @@ package org.opensearch.ml.processor;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.MLInferenceIngestProcessor.DEFAULT_OUTPUT_FIELD_NAME;
 
@@ -20,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -31,6 +33,7 @@ import org.opensearch.client.Client;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ingest.IngestDocument;
+import org.opensearch.ingest.IngestDocumentWrapper;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.model.MLResultDataType;
@@ -93,6 +96,34 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         boolean ignoreFailure,
         boolean override,
         String modelInput
+    ) {
+        return createMLInferenceProcessor(
+            modelId,
+            inputMaps,
+            outputMaps,
+            modelConfigMaps,
+            ignoreMissing,
+            functionName,
+            fullResponsePath,
+            ignoreFailure,
+            override,
+            modelInput,
+            MLInferenceIngestProcessor.DEFAULT_BATCH_SIZE
+        );
+    }
+
+    private MLInferenceIngestProcessor createMLInferenceProcessor(
+        String modelId,
+        List<Map<String, String>> inputMaps,
+        List<Map<String, String>> outputMaps,
+        Map<String, String> modelConfigMaps,
+        boolean ignoreMissing,
+        String functionName,
+        boolean fullResponsePath,
+        boolean ignoreFailure,
+        boolean override,
+        String modelInput,
+        int batchSize
     ) {
         functionName = functionName != null ? functionName : "remote";
         modelInput = modelInput != null ? modelInput : "{ \"parameters\": ${ml_inference.parameters} }";
@@ -111,12 +142,235 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
             ignoreFailure,
             override,
             modelInput,
+            batchSize,
             scriptService,
             client,
             xContentRegistry
         );
     }
 
+    public void testBatchExecute_BatchedPredictions() {
+        List<Map<String, String>> inputMap = getInputMapsForNestedObjectChunks("key1");
+        List<Map<String, String>> outputMap = getOutputMapsForBatch("embedding", "response");
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            2
+        );
+
+        // the model returns the length of each input
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+            List<String> inputs = gson.fromJson(inputDataSet.getParameters().get("inputs"), List.class);
+            List<Integer> lengths = new ArrayList<>();
+            for (String input : inputs) {
+                lengths.add(input.length());
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", lengths)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> ingestDocumentWrappers = Arrays
+            .asList(
+                new IngestDocumentWrapper(0, getBatchIngestDocument("a"), null),
+                new IngestDocumentWrapper(1, getBatchIngestDocument("bb"), null),
+                new IngestDocumentWrapper(2, getBatchIngestDocument("ccc"), null)
+            );
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        // one prediction per batch of 2 documents
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        MLInput mlInput = argCaptor.getAllValues().get(0).getMlInput();
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        assertEquals("[\"a\",\"bb\"]", inputDataSet.getParameters().get("inputs"));
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        List<IngestDocumentWrapper> results = resultCaptor.getValue();
+        assertEquals(3, results.size());
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).getSlot());
+            assertNull(results.get(i).getException());
+            assertEquals(i + 1, results.get(i).getIngestDocument().getFieldValue("embedding", Integer.class).intValue());
+        }
+    }
+
+    public void testBatchExecute_FailWhenModelReturnsFewerResults() {
+        List<Map<String, String>> inputMap = getInputMapsForNestedObjectChunks("key1");
+        List<Map<String, String>> outputMap = getOutputMapsForBatch("embedding", "response");
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            2
+        );
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", Arrays.asList(1))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<IngestDocumentWrapper> ingestDocumentWrappers = Arrays
+            .asList(
+                new IngestDocumentWrapper(0, getBatchIngestDocument("a"), null),
+                new IngestDocumentWrapper(1, getBatchIngestDocument("bb"), null)
+            );
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        // the documents are not predicted again one by one
+        verify(client, times(1)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        for (IngestDocumentWrapper result : resultCaptor.getValue()) {
+            assertNull(result.getIngestDocument());
+            assertEquals(
+                "model output response doesn't hold one result for each of the 2 documents of the batch",
+                result.getException().getMessage()
+            );
+        }
+    }
+
+    public void testBatchExecute_GroupDocumentsByModelInputFields() {
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", "key1");
+        input.put("context", "$.key2");
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = getOutputMapsForBatch("embedding", "response");
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            true,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            3
+        );
+
+        // the model returns the length of each input
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest request = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) request.getMlInput().getInputDataset();
+            List<String> inputs = gson.fromJson(inputDataSet.getParameters().get("inputs"), List.class);
+            List<Integer> lengths = new ArrayList<>();
+            for (String value : inputs) {
+                lengths.add(value.length());
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", lengths)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        IngestDocument withoutContext = getBatchIngestDocument("bb");
+        IngestDocument withContext1 = getBatchIngestDocument("a");
+        withContext1.setFieldValue("key2", "context");
+        IngestDocument withContext2 = getBatchIngestDocument("ccc");
+        withContext2.setFieldValue("key2", "context");
+        List<IngestDocumentWrapper> ingestDocumentWrappers = Arrays
+            .asList(
+                new IngestDocumentWrapper(0, withContext1, null),
+                new IngestDocumentWrapper(1, withoutContext, null),
+                new IngestDocumentWrapper(2, withContext2, null)
+            );
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        // one prediction per group of documents, a group of one document is still predicted as an array
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        List<String> inputs = new ArrayList<>();
+        for (MLPredictionTaskRequest request : argCaptor.getAllValues()) {
+            inputs.add(((RemoteInferenceInputDataSet) request.getMlInput().getInputDataset()).getParameters().get("inputs"));
+        }
+        assertTrue(inputs.contains("[\"a\",\"ccc\"]"));
+        assertTrue(inputs.contains("[\"bb\"]"));
+
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        List<IngestDocumentWrapper> results = resultCaptor.getValue();
+        assertEquals(3, results.size());
+        assertEquals(1, results.get(0).getIngestDocument().getFieldValue("embedding", Integer.class).intValue());
+        assertEquals(2, results.get(1).getIngestDocument().getFieldValue("embedding", Integer.class).intValue());
+        assertEquals(3, results.get(2).getIngestDocument().getFieldValue("embedding", Integer.class).intValue());
+    }
+
+    public void testBatchExecute_PredictionFailure() {
+        List<Map<String, String>> inputMap = getInputMapsForNestedObjectChunks("key1");
+        List<Map<String, String>> outputMap = getOutputMapsForBatch("embedding", "response");
+        MLInferenceIngestProcessor processor = createMLInferenceProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            null,
+            2
+        );
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onFailure(new RuntimeException("Prediction Failed"));
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        RuntimeException previousFailure = new RuntimeException("Previous processor failed");
+        List<IngestDocumentWrapper> ingestDocumentWrappers = Arrays
+            .asList(
+                new IngestDocumentWrapper(0, getBatchIngestDocument("a"), null),
+                new IngestDocumentWrapper(1, null, previousFailure),
+                new IngestDocumentWrapper(2, getBatchIngestDocument("ccc"), null)
+            );
+        Consumer<List<IngestDocumentWrapper>> batchHandler = mock(Consumer.class);
+        processor.batchExecute(ingestDocumentWrappers, batchHandler);
+
+        verify(client, times(2)).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        ArgumentCaptor<List<IngestDocumentWrapper>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(batchHandler).accept(resultCaptor.capture());
+        List<IngestDocumentWrapper> results = resultCaptor.getValue();
+        assertEquals("Prediction Failed", results.get(0).getException().getMessage());
+        assertNull(results.get(0).getIngestDocument());
+        assertSame(previousFailure, results.get(1).getException());
+        assertEquals("Prediction Failed", results.get(2).getException().getMessage());
+    }
+
     public void testExecute_Exception() throws Exception {
         MLInferenceIngestProcessor processor = createMLInferenceProcessor(
             "model1",
@@ -2036,4 +2290,18 @@ public class MLInferenceIngestProcessorTests extends OpenSearchTestCase {
         inputMap.add(input);
         return inputMap;
     }
+
+    private List<Map<String, String>> getOutputMapsForBatch(String documentFieldName, String modelOutputFieldName) {
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(documentFieldName, modelOutputFieldName);
+        outputMap.add(output);
+        return outputMap;
+    }
+
+    private IngestDocument getBatchIngestDocument(String value) {
+        Map<String, Object> sourceAndMetadata = new HashMap<>();
+        sourceAndMetadata.put("key1", value);
+        return new IngestDocument(sourceAndMetadata, new HashMap<>());
+    }
 }
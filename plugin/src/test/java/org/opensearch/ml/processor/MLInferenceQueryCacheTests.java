@@ -0,0 +1,110 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.processor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLInferenceQueryCacheTests extends OpenSearchTestCase {
+    private static final long EXPIRE_AFTER_MILLIS = 60_000;
+
+    private AtomicLong clock;
+    private MLInferenceQueryCache queryCache;
+    private ModelTensorOutput output;
+
+    @Before
+    public void setup() {
+        clock = new AtomicLong();
+        queryCache = new MLInferenceQueryCache(clock::get);
+        queryCache.setMaxEntries(2);
+        queryCache.setExpireAfterMillis(EXPIRE_AFTER_MILLIS);
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(Map.of("response", List.of(0.1, 0.2))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(List.of(modelTensor)).build();
+        output = ModelTensorOutput.builder().mlModelOutputs(List.of(modelTensors)).build();
+    }
+
+    public void testPutAndGet() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+
+        assertSame(output, queryCache.get("model1", "input1"));
+        assertNull(queryCache.get("model1", "input2"));
+        assertNull(queryCache.get("model2", "input1"));
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+    }
+
+    public void testGet_Disabled() {
+        queryCache.setMaxEntries(0);
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+
+        assertFalse(queryCache.isEnabled());
+        assertNull(queryCache.get("model1", "input1"));
+        assertEquals(0, queryCache.getMissCount());
+    }
+
+    public void testGet_Expired() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+        clock.addAndGet(EXPIRE_AFTER_MILLIS - 1);
+        assertSame(output, queryCache.get("model1", "input1"));
+
+        clock.incrementAndGet();
+        assertNull(queryCache.get("model1", "input1"));
+        assertEquals(0, queryCache.size());
+    }
+
+    public void testPut_EvictsLeastRecentlyUsed() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+        queryCache.put("model1", "input2", output, queryCache.getGeneration());
+        queryCache.get("model1", "input1");
+        queryCache.put("model1", "input3", output, queryCache.getGeneration());
+
+        assertEquals(2, queryCache.size());
+        assertSame(output, queryCache.get("model1", "input1"));
+        assertNull(queryCache.get("model1", "input2"));
+        assertSame(output, queryCache.get("model1", "input3"));
+    }
+
+    public void testSetMaxEntries_Evicts() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+        queryCache.put("model1", "input2", output, queryCache.getGeneration());
+        queryCache.setMaxEntries(1);
+
+        assertEquals(1, queryCache.size());
+        assertSame(output, queryCache.get("model1", "input2"));
+    }
+
+    public void testInvalidate() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+        queryCache.put("model2", "input1", output, queryCache.getGeneration());
+        queryCache.invalidate("model1");
+
+        assertNull(queryCache.get("model1", "input1"));
+        assertSame(output, queryCache.get("model2", "input1"));
+    }
+
+    public void testClear() {
+        queryCache.put("model1", "input1", output, queryCache.getGeneration());
+        queryCache.put("model2", "input1", output, queryCache.getGeneration());
+        queryCache.clear();
+
+        assertEquals(0, queryCache.size());
+    }
+
+    public void testPut_InvalidatedWhilePredicted() {
+        long generation = queryCache.getGeneration();
+        queryCache.invalidate("model1");
+        queryCache.put("model1", "input1", output, generation);
+
+        assertNull(queryCache.get("model1", "input1"));
+    }
+}
@@ -18,11 +18,15 @@ import org.junit.Before;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opensearch.OpenSearchParseException;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.client.Client;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.query.QueryBuilder;
@@ -39,6 +43,7 @@ import org.opensearch.search.SearchModule;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.test.AbstractBuilderTestCase;
+import org.opensearch.threadpool.ThreadPool;
 
 public class MLInferenceSearchRequestProcessorTests extends AbstractBuilderTestCase {
 
@@ -586,6 +591,140 @@ public class MLInferenceSearchRequestProcessorTests extends AbstractBuilderTestC
         requestProcessor.processRequestAsync(request, requestContext, Listener);
     }
 
+    /**
+     * Tests that a repeated query reuses the model output cached by the query cache, and a different query
+     * predicts again.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testExecute_rewriteTermQueryFromQueryCache() throws Exception {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "query.term.text.value"));
+        List<Map<String, String>> outputMap = List.of(Map.of("query.term.text.value", "response"));
+        MLInferenceQueryCache queryCache = new MLInferenceQueryCache();
+        queryCache.setMaxEntries(10);
+        queryCache.setExpireAfterMillis(60_000);
+        mockThreadContext();
+        MLInferenceSearchRequestProcessor requestProcessor = new MLInferenceSearchRequestProcessor(
+            "model1",
+            null,
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            queryCache
+        );
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "eng")).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        QueryBuilder expectedQuery = new TermQueryBuilder("text", "eng");
+        List<SearchRequest> rewrittenRequests = new ArrayList<>();
+        ActionListener<SearchRequest> listener = ActionListener
+            .wrap(rewrittenRequests::add, e -> { throw new RuntimeException("Failed in executing processRequestAsync.", e); });
+
+        for (String text : List.of("foo", "foo", "bar")) {
+            SearchRequest request = new SearchRequest().source(new SearchSourceBuilder().query(new TermQueryBuilder("text", text)));
+            requestProcessor.processRequestAsync(request, requestContext, listener);
+        }
+
+        assertEquals(3, rewrittenRequests.size());
+        for (SearchRequest rewrittenRequest : rewrittenRequests) {
+            assertEquals(expectedQuery, rewrittenRequest.source().query());
+        }
+        verify(client, times(2)).execute(any(), any(), any());
+        assertEquals(1, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+    }
+
+    /**
+     * Tests that a model output cached for a user is not served to another user, whose prediction is denied
+     * by the access control of the model.
+     *
+     * @throws Exception if an error occurs during the test
+     */
+    public void testExecute_queryCacheScopedByUser() throws Exception {
+        List<Map<String, String>> inputMap = List.of(Map.of("inputs", "query.term.text.value"));
+        List<Map<String, String>> outputMap = List.of(Map.of("query.term.text.value", "response"));
+        MLInferenceQueryCache queryCache = new MLInferenceQueryCache();
+        queryCache.setMaxEntries(10);
+        queryCache.setExpireAfterMillis(60_000);
+        ThreadContext threadContext = mockThreadContext();
+        MLInferenceSearchRequestProcessor requestProcessor = new MLInferenceSearchRequestProcessor(
+            "model1",
+            null,
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            queryCache
+        );
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of("response", "eng")).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            String user = threadContext.getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+            if (user.startsWith("alice")) {
+                actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            } else {
+                actionListener.onFailure(new OpenSearchStatusException("User doesn't have privilege", RestStatus.FORBIDDEN));
+            }
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        List<SearchRequest> rewrittenRequests = new ArrayList<>();
+        List<Exception> failures = new ArrayList<>();
+        ActionListener<SearchRequest> listener = ActionListener.wrap(rewrittenRequests::add, failures::add);
+
+        for (String user : List.of("alice|model_group_role|", "bob|other_role|")) {
+            try (ThreadContext.StoredContext ignored = threadContext.stashContext()) {
+                threadContext.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, user);
+                SearchRequest request = new SearchRequest().source(new SearchSourceBuilder().query(new TermQueryBuilder("text", "foo")));
+                requestProcessor.processRequestAsync(request, requestContext, listener);
+            }
+        }
+
+        assertEquals(1, rewrittenRequests.size());
+        assertEquals(new TermQueryBuilder("text", "eng"), rewrittenRequests.get(0).source().query());
+        assertEquals(1, failures.size());
+        verify(client, times(2)).execute(any(), any(), any());
+        assertEquals(0, queryCache.getHitCount());
+        assertEquals(2, queryCache.getMissCount());
+    }
+
+    private ThreadContext mockThreadContext() {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(threadContext);
+        return threadContext;
+    }
+
     /**
      * Tests the scenario where an exception occurs during the model inference process.
      * The test sets up a mock client that simulates a failure during the model execution,
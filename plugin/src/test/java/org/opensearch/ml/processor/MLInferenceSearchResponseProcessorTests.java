@@ -12,12 +12,14 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.utils.StringUtils.gson;
 import static org.opensearch.ml.common.utils.StringUtils.toJson;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.INPUT_MAP;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MAX_PREDICTION_TASKS;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_CONFIG;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.MODEL_ID;
 import static org.opensearch.ml.processor.InferenceProcessorAttributes.OUTPUT_MAP;
+import static org.opensearch.ml.processor.MLInferenceIngestProcessor.BATCH_SIZE;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEFAULT_MAX_PREDICTION_TASKS;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.DEFAULT_OUTPUT_FIELD_NAME;
 import static org.opensearch.ml.processor.MLInferenceSearchResponseProcessor.FULL_RESPONSE_PATH;
@@ -1196,6 +1198,324 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
         verify(client, times(5)).execute(any(), any(), any());
     }
 
+    /**
+     * Tests create processor with one_to_one is true and batch_size of 2
+     * with input_maps and output_maps
+     * expect to run one prediction task per batch of two documents,
+     * and to write the model output array to the documents by position
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneInBatches() throws Exception {
+        String documentField = "text";
+        String modelInputField = "inputs";
+        String newDocumentField = "text_embedding";
+        String modelOutputField = "response";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put(modelInputField, documentField);
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, modelOutputField);
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            2
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(5, true, documentField);
+
+        // the model returns one result per input
+        doAnswer(invocation -> {
+            MLPredictionTaskRequest predictionRequest = invocation.getArgument(1);
+            RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) predictionRequest.getMlInput().getInputDataset();
+            List<String> inputs = gson.fromJson(inputDataSet.getParameters().get(modelInputField), List.class);
+            List<String> results = new ArrayList<>();
+            for (String modelInput : inputs) {
+                results.add(modelInput + " embedding");
+            }
+            ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of(modelOutputField, results)).build();
+            ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+            ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        AtomicInteger responseCount = new AtomicInteger();
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                responseCount.incrementAndGet();
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                assertEquals(5, hits.length);
+                for (int i = 0; i < hits.length; i++) {
+                    assertEquals("doc " + i, hits[i].getId());
+                    assertEquals("value " + i + " embedding", hits[i].getSourceAsMap().get(newDocumentField));
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        assertEquals(1, responseCount.get());
+        ArgumentCaptor<MLPredictionTaskRequest> argCaptor = ArgumentCaptor.forClass(MLPredictionTaskRequest.class);
+        verify(client, times(3)).execute(eq(MLPredictionTaskAction.INSTANCE), argCaptor.capture(), any());
+        MLInput mlInput = argCaptor.getAllValues().get(0).getMlInput();
+        RemoteInferenceInputDataSet inputDataSet = (RemoteInferenceInputDataSet) mlInput.getInputDataset();
+        assertEquals("[\"value 0\",\"value 1\"]", inputDataSet.getParameters().get(modelInputField));
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size of 2
+     * with input_maps and output_maps
+     * when the model returns fewer results than documents in a batch,
+     * expect to predict each document of the batch on its own
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneInBatchesFallbackToEachHit() throws Exception {
+        String documentField = "text";
+        String newDocumentField = "text_embedding";
+        String modelOutputField = "response";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", documentField);
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, modelOutputField);
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            2
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(3, true, documentField);
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of(modelOutputField, Arrays.asList(0.0))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        AtomicInteger responseCount = new AtomicInteger();
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                responseCount.incrementAndGet();
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                assertEquals(3, hits.length);
+                for (int i = 0; i < hits.length; i++) {
+                    assertEquals("doc " + i, hits[i].getId());
+                    assertEquals(0.0, hits[i].getSourceAsMap().get(newDocumentField));
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        assertEquals(1, responseCount.get());
+        // one prediction per batch, then one per document of the first batch
+        verify(client, times(4)).execute(any(), any(), any());
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size of 2
+     * with input_maps and output_maps
+     * when the model returns more results than documents in a batch,
+     * expect to fail the response instead of predicting each document
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneInBatchesMoreResultsThanHitsFail() throws Exception {
+        String documentField = "text";
+        String newDocumentField = "text_embedding";
+        String modelOutputField = "response";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", documentField);
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, modelOutputField);
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            false,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            2
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(2, true, documentField);
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of(modelOutputField, Arrays.asList(0.0, 1.0, 2.0))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                throw new RuntimeException("error handling not properly.");
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                assertEquals("model output response holds 3 results for the 2 hits of the batch", e.getMessage());
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+
+        // no prediction per document
+        verify(client, times(1)).execute(any(), any(), any());
+    }
+
+    /**
+     * Tests create processor with one_to_one is true and batch_size of 2
+     * with input_maps and output_maps
+     * when the model returns more results than documents in a batch,
+     * with ignore_failure, expect to return the documents without the model output
+     * @throws Exception if an error occurs during the test
+     */
+    @Test
+    public void testProcessResponseOneToOneInBatchesMoreResultsThanHitsIgnoreFailure() throws Exception {
+        String documentField = "text";
+        String newDocumentField = "text_embedding";
+        String modelOutputField = "response";
+        List<Map<String, String>> inputMap = new ArrayList<>();
+        Map<String, String> input = new HashMap<>();
+        input.put("inputs", documentField);
+        inputMap.add(input);
+        List<Map<String, String>> outputMap = new ArrayList<>();
+        Map<String, String> output = new HashMap<>();
+        output.put(newDocumentField, modelOutputField);
+        outputMap.add(output);
+
+        MLInferenceSearchResponseProcessor responseProcessor = new MLInferenceSearchResponseProcessor(
+            "model1",
+            inputMap,
+            outputMap,
+            null,
+            DEFAULT_MAX_PREDICTION_TASKS,
+            PROCESSOR_TAG,
+            DESCRIPTION,
+            false,
+            "remote",
+            false,
+            true,
+            false,
+            "{ \"parameters\": ${ml_inference.parameters} }",
+            client,
+            TEST_XCONTENT_REGISTRY_FOR_QUERY,
+            true,
+            2
+        );
+
+        SearchRequest request = getSearchRequest();
+        SearchResponse response = getSearchResponse(2, true, documentField);
+
+        ModelTensor modelTensor = ModelTensor.builder().dataAsMap(ImmutableMap.of(modelOutputField, Arrays.asList(0.0, 1.0, 2.0))).build();
+        ModelTensors modelTensors = ModelTensors.builder().mlModelTensors(Arrays.asList(modelTensor)).build();
+        ModelTensorOutput mlModelTensorOutput = ModelTensorOutput.builder().mlModelOutputs(Arrays.asList(modelTensors)).build();
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> actionListener = invocation.getArgument(2);
+            actionListener.onResponse(MLTaskResponse.builder().output(mlModelTensorOutput).build());
+            return null;
+        }).when(client).execute(any(), any(), any());
+
+        AtomicInteger responseCount = new AtomicInteger();
+        ActionListener<SearchResponse> listener = new ActionListener<>() {
+            @Override
+            public void onResponse(SearchResponse newSearchResponse) {
+                responseCount.incrementAndGet();
+                SearchHit[] hits = newSearchResponse.getHits().getHits();
+                assertEquals(2, hits.length);
+                for (int i = 0; i < hits.length; i++) {
+                    assertEquals("doc " + i, hits[i].getId());
+                    assertNull(hits[i].getSourceAsMap().get(newDocumentField));
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                throw new RuntimeException(e);
+            }
+
+        };
+        responseProcessor.processResponseAsync(request, response, responseContext, listener);
+        assertEquals(1, responseCount.get());
+
+        // no prediction per document
+        verify(client, times(1)).execute(any(), any(), any());
+    }
+
     /**
      * Tests create processor with one_to_one is true
      * with output_maps
@@ -4348,4 +4668,19 @@ public class MLInferenceSearchResponseProcessorTests extends AbstractBuilderTest
 
         }
     }
+
+    public void testInvalidBatchSize() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(MODEL_ID, "model2");
+        config.put(ONE_TO_ONE, true);
+        config.put(BATCH_SIZE, 0);
+        String processorTag = randomAlphaOfLength(10);
+
+        try {
+            factory.create(Collections.emptyMap(), processorTag, null, false, config, null);
+            fail("factory create should have failed");
+        } catch (IllegalArgumentException e) {
+            assertEquals(e.getMessage(), "The batch_size of ML Inference Processor must be a positive integer.");
+        }
+    }
 }
@@ -8,18 +8,23 @@ package org.opensearch.ml.task;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.breaker.MemoryCircuitBreaker.DEFAULT_JVM_HEAP_USAGE_THRESHOLD;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_ROLE_NAME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MAX_ML_TASK_PER_NODE;
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_ONLY_RUN_ON_ML_NODE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_TASK_DISPATCH_POLICY;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -34,6 +39,7 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.action.stats.MLStatsNodeResponse;
@@ -73,6 +79,11 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
     public void setup() {
         settings = Settings.builder().put(ML_COMMONS_ONLY_RUN_ON_ML_NODE.getKey(), false).build();
         MockitoAnnotations.openMocks(this);
+        ClusterSettings clusterSettings = new ClusterSettings(
+            settings,
+            new HashSet<>(Arrays.asList(ML_COMMONS_TASK_DISPATCH_POLICY, ML_COMMONS_MAX_ML_TASK_PER_NODE))
+        );
+        when(clusterService.getClusterSettings()).thenReturn(clusterSettings);
 
         taskDispatcher = spy(new MLTaskDispatcher(clusterService, client, settings, nodeHelper));
         nodeHelper = spy(new DiscoveryNodeHelper(clusterService, settings));
@@ -134,6 +145,81 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
     }
 
+    public void testDispatchTask_LeastLoad_UsesLoadTable() {
+        AtomicLong clock = new AtomicLong(0);
+        MLTaskDispatcher leastLoadDispatcher = getLeastLoadDispatcher(clock);
+        mlStatsNodesResponse = getNodesResponse_LeastLoad();
+
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        clock.addAndGet(MLTaskDispatcher.LOAD_REFRESH_INTERVAL_MILLIS);
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+
+        // dispatched against the load table after the first task, counting the dispatched tasks
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        ArgumentCaptor<DiscoveryNode> argumentCaptor = ArgumentCaptor.forClass(DiscoveryNode.class);
+        verify(listener, times(3)).onResponse(argumentCaptor.capture());
+        assertEquals(Arrays.asList(dataNode2, dataNode2, dataNode1), argumentCaptor.getAllValues());
+    }
+
+    public void testDispatchTask_LeastLoad_RefreshesStaleLoadTable() {
+        AtomicLong clock = new AtomicLong(0);
+        MLTaskDispatcher leastLoadDispatcher = getLeastLoadDispatcher(clock);
+        mlStatsNodesResponse = getNodesResponse_LeastLoad();
+
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        // older than the refresh interval: dispatched against the load table, refreshed in the background
+        clock.addAndGet(MLTaskDispatcher.LOAD_REFRESH_INTERVAL_MILLIS + 1);
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+
+        // older than the max staleness: fetched before dispatching
+        clock.addAndGet(MLTaskDispatcher.LOAD_MAX_STALENESS_MILLIS + 1);
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        verify(client, times(3)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        ArgumentCaptor<DiscoveryNode> argumentCaptor = ArgumentCaptor.forClass(DiscoveryNode.class);
+        verify(listener, times(3)).onResponse(argumentCaptor.capture());
+        assertEquals(Arrays.asList(dataNode2, dataNode2, dataNode2), argumentCaptor.getAllValues());
+    }
+
+    public void testDispatchTask_LeastLoad_TaskCountExceedLimitFromLoadTable() {
+        AtomicLong clock = new AtomicLong(0);
+        MLTaskDispatcher leastLoadDispatcher = getLeastLoadDispatcher(clock);
+        mlStatsNodesResponse = getNodesResponse_LeastLoad();
+
+        // node1 runs 5 tasks and node2 runs 3 tasks, 12 tasks fill both nodes up to the limit of 10
+        for (int i = 0; i < 12; i++) {
+            leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        }
+        verify(client, times(1)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        verify(listener, times(12)).onResponse(any());
+
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("All nodes' executing ML task count reach limitation.", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testDispatchTask_LeastLoad_PrunesNodesLeftTheCluster() {
+        AtomicLong clock = new AtomicLong(0);
+        MLTaskDispatcher leastLoadDispatcher = getLeastLoadDispatcher(clock);
+        mlStatsNodesResponse = getNodesResponse_LeastLoad();
+
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+        assertTrue(leastLoadDispatcher.hasNodeLoad(dataNode1.getId()));
+
+        // node1 leaves the cluster, the next refresh forgets its load
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(dataNode2).build();
+        testState = new ClusterState(new ClusterName(clusterName), 123l, "111111", null, null, nodes, null, Map.of(), 0, false);
+        when(clusterService.state()).thenReturn(testState);
+        clock.addAndGet(MLTaskDispatcher.LOAD_REFRESH_INTERVAL_MILLIS + 1);
+        leastLoadDispatcher.dispatch(FunctionName.REMOTE, listener);
+
+        verify(client, times(2)).execute(any(MLStatsNodesAction.class), any(MLStatsNodesRequest.class), any());
+        assertFalse(leastLoadDispatcher.hasNodeLoad(dataNode1.getId()));
+        assertTrue(leastLoadDispatcher.hasNodeLoad(dataNode2.getId()));
+    }
+
     @Ignore
     public void testGetEligibleNodes_DataNodeOnly() {
         DiscoveryNode[] eligibleNodes = nodeHelper.getEligibleNodes(FunctionName.REMOTE);
@@ -171,6 +257,28 @@ public class MLTaskDispatcherTests extends OpenSearchTestCase {
         );
     }
 
+    private MLTaskDispatcher getLeastLoadDispatcher(AtomicLong clock) {
+        Settings leastLoadSettings = Settings.builder().put(settings).put(ML_COMMONS_TASK_DISPATCH_POLICY.getKey(), "least_load").build();
+        when(nodeHelper.getEligibleNodes(FunctionName.REMOTE)).thenReturn(new DiscoveryNode[] { dataNode1, dataNode2 });
+        return new MLTaskDispatcher(clusterService, client, leastLoadSettings, nodeHelper, clock::get);
+    }
+
+    private MLStatsNodesResponse getNodesResponse_LeastLoad() {
+        Map<MLNodeLevelStat, Object> nodeStats1 = new HashMap<>();
+        nodeStats1.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
+        nodeStats1.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 5l);
+        Map<MLNodeLevelStat, Object> nodeStats2 = new HashMap<>();
+        nodeStats2.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 60l);
+        nodeStats2.put(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT, 3l);
+        MLStatsNodeResponse mlStatsNodeResponse1 = new MLStatsNodeResponse(dataNode1, nodeStats1);
+        MLStatsNodeResponse mlStatsNodeResponse2 = new MLStatsNodeResponse(dataNode2, nodeStats2);
+        return new MLStatsNodesResponse(
+            new ClusterName(clusterName),
+            Arrays.asList(mlStatsNodeResponse1, mlStatsNodeResponse2),
+            new ArrayList<>()
+        );
+    }
+
     private MLStatsNodesResponse getNodesResponse_NoTaskCounts() {
         Map<MLNodeLevelStat, Object> nodeStats = new HashMap<>();
         nodeStats.put(MLNodeLevelStat.ML_JVM_HEAP_USAGE, 50l);
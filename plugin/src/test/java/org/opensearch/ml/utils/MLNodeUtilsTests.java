@@ -14,6 +14,7 @@ import java.util.Set;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -27,6 +28,7 @@ import org.opensearch.ml.common.MLTask;
 import org.opensearch.test.OpenSearchTestCase;
 
 import com.fasterxml.jackson.core.JsonParseException;
+import com.networknt.schema.JsonSchema;
 
 public class MLNodeUtilsTests extends OpenSearchTestCase {
 
@@ -66,6 +68,21 @@ public class MLNodeUtilsTests extends OpenSearchTestCase {
         MLNodeUtils.validateSchema(schema, json);
     }
 
+    @Test
+    public void testValidateSchema_CompiledSchema() throws IOException {
+        String schema = "{\"type\": \"object\", \"properties\": {\"task_id\": {\"type\": \"integer\"}}}";
+        JsonSchema compiledSchema = MLNodeUtils.compileSchema(schema);
+        MLTask mlTask = MLTask.builder().taskId("taskId").modelId("modelId").build();
+        OpenSearchParseException e = expectThrows(
+            OpenSearchParseException.class,
+            () -> MLNodeUtils.validateSchema(compiledSchema, schema, mlTask)
+        );
+        assertTrue(e.getMessage().contains("for instance: {\"task_id\":\"taskId\",\"model_id\":\"modelId\""));
+        assertTrue(e.getMessage().endsWith("with schema: " + schema));
+
+        MLNodeUtils.validateSchema(compiledSchema, schema, MLTask.builder().modelId("modelId").build());
+    }
+
     @Test
     public void testProcessRemoteInferenceInputDataSetParametersValueNoParameters() throws IOException {
         String json = "{\"key1\":\"foo\",\"key2\":123,\"key3\":true}";